@@ -0,0 +1,70 @@
+package com.lottery.lottery_service.lotto;
+
+import com.lottery.lottery_service.lotto.dto.LottoSet;
+import com.lottery.lottery_service.lotto.generation.LottoCombinations;
+import com.lottery.lottery_service.lotto.validation.cache.LottoWinnerDataCache;
+import com.lottery.lottery_service.lotto.validation.pipeline.LottoValidationPipeline;
+import com.lottery.lottery_service.lotto.validation.rule.ArithmeticComplexityMax6Rule;
+import com.lottery.lottery_service.lotto.validation.rule.EndDigitDuplicateGte4Rule;
+import com.lottery.lottery_service.lotto.validation.rule.EndDigitSumRule;
+import com.lottery.lottery_service.lotto.validation.rule.LottoValidationRule;
+import com.lottery.lottery_service.lotto.validation.rule.LowHighZeroSixRule;
+import com.lottery.lottery_service.lotto.validation.rule.NearMissPastFirstPrizeRule;
+import com.lottery.lottery_service.lotto.validation.rule.NotEqualToPastFirstPrizeRule;
+import com.lottery.lottery_service.lotto.validation.rule.OddEvenZeroSixRule;
+import com.lottery.lottery_service.lotto.validation.rule.ThreeZoneSuperExtremeRule;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/** 벤치마크 공용 입력: 고정 시드 무작위 조합, 운영 규모의 당첨 캐시, 전체 룰 파이프라인. */
+public final class BenchmarkFixtures {
+
+  /** 운영 데이터 규모(회차 수)에 맞춘 당첨 조합 수 */
+  public static final int WINNER_ROUNDS = 1_200;
+
+  /** 입력 배열 길이(2의 거듭제곱: 인덱스를 마스크로 순환) */
+  public static final int INPUT_SIZE = 4_096;
+
+  private BenchmarkFixtures() {}
+
+  /** 고정 시드로 뽑은 조합 {@value #INPUT_SIZE}개. 분기 예측이 한 입력에 고정되지 않도록 순환하며 쓴다. */
+  public static LottoSet[] randomSets(long seed) {
+    SplittableRandom random = new SplittableRandom(seed);
+    LottoSet[] sets = new LottoSet[INPUT_SIZE];
+    for (int i = 0; i < sets.length; i++) {
+      sets[i] = LottoSet.ofMask(LottoCombinations.randomCombination(random));
+    }
+    return sets;
+  }
+
+  /** DB 없이 고정 시드 조합 앞쪽 {@value #WINNER_ROUNDS}개를 당첨 조합으로 채운 캐시 */
+  public static LottoWinnerDataCache winnerCache(long seed) {
+    return winnerCache(randomSets(seed));
+  }
+
+  /** 주어진 조합 앞쪽 {@value #WINNER_ROUNDS}개를 당첨 조합으로 채운 캐시 */
+  public static LottoWinnerDataCache winnerCache(LottoSet[] sets) {
+    LottoWinnerDataCache cache = new LottoWinnerDataCache(null);
+    for (int i = 0; i < WINNER_ROUNDS; i++) {
+      cache.add(sets[i]);
+    }
+    return cache;
+  }
+
+  /** 운영과 같은 룰 구성(@Order 정렬은 파이프라인이 한다) */
+  public static List<LottoValidationRule> allRules(LottoWinnerDataCache cache) {
+    return List.of(
+        new NotEqualToPastFirstPrizeRule(cache),
+        new NearMissPastFirstPrizeRule(cache),
+        new EndDigitSumRule(),
+        new EndDigitDuplicateGte4Rule(),
+        new LowHighZeroSixRule(),
+        new OddEvenZeroSixRule(),
+        new ArithmeticComplexityMax6Rule(),
+        new ThreeZoneSuperExtremeRule());
+  }
+
+  public static LottoValidationPipeline pipeline(LottoWinnerDataCache cache) {
+    return new LottoValidationPipeline(allRules(cache));
+  }
+}
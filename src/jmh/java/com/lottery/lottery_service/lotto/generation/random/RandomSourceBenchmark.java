@@ -0,0 +1,47 @@
+package com.lottery.lottery_service.lotto.generation.random;
+
+import com.lottery.lottery_service.lotto.generation.LottoCombinations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 난수원 모드별 처리량: 요청 1건 = 생성기 획득 + 조합 1개 추출.
+ *
+ * <p>요청 스레드 여러 개가 동시에 부르는 상황을 보기 위해 4스레드로 돈다(secure 모드의 버퍼 보충 경합 확인용).
+ */
+@State(Scope.Benchmark)
+@Threads(4)
+public class RandomSourceBenchmark {
+
+  @Param({"FAST", "SECURE", "SEEDED"})
+  public RandomSource.Mode mode;
+
+  private RandomSource source;
+
+  @Setup
+  public void setUp() {
+    source =
+        switch (mode) {
+          case FAST -> new FastRandomSource();
+          case SECURE -> new SecureBufferedRandomSource(16);
+          case SEEDED -> new SeededRandomSource(42L);
+        };
+  }
+
+  @TearDown
+  public void tearDown() {
+    if (source instanceof SecureBufferedRandomSource secure) {
+      secure.close();
+    }
+  }
+
+  @Benchmark
+  public long drawOneCombination() {
+    return LottoCombinations.randomCombination(source.generator(1L));
+  }
+}
@@ -0,0 +1,72 @@
+package com.lottery.lottery_service.lotto.generation.weighted;
+
+import com.lottery.lottery_service.lotto.BenchmarkFixtures;
+import com.lottery.lottery_service.lotto.dto.LottoSet;
+import com.lottery.lottery_service.lotto.generation.PassingCombinationIndex;
+import com.lottery.lottery_service.lotto.validation.pipeline.LottoValidationPipeline;
+import java.util.SplittableRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 가중(STATS) 추출과 균등 추출의 처리량 비교: 조합 1개 = 검증 통과까지.
+ *
+ * <ul>
+ *   <li>uniformIndexed: 통과 조합 인덱스 select(BASIC 등 균등 출처)
+ *   <li>weightedValidated: 별칭 테이블 비복원 추출 + 파이프라인 확인(상한 내 재추출)
+ * </ul>
+ *
+ * <p>가중치는 운영 규모({@value BenchmarkFixtures#WINNER_ROUNDS}회차)의 고정 시드 당첨 조합 출현 횟수로 만든다.
+ */
+@State(Scope.Thread)
+public class WeightedSamplingBenchmark {
+
+  @Param({"HOT", "COLD"})
+  public StatisticsWeightedSampler.Bias bias;
+
+  private LottoValidationPipeline pipeline;
+  private PassingCombinationIndex index;
+  private AliasTable table;
+  private SplittableRandom random;
+
+  @Setup
+  public void setUp() {
+    LottoSet[] winners = BenchmarkFixtures.randomSets(1L);
+    pipeline = BenchmarkFixtures.pipeline(BenchmarkFixtures.winnerCache(winners));
+    index = PassingCombinationIndex.build(mask -> pipeline.test(LottoSet.ofMask(mask)));
+
+    int[] hits = new int[LottoSet.MAX_NUMBER];
+    for (int i = 0; i < BenchmarkFixtures.WINNER_ROUNDS; i++) {
+      for (int n : winners[i].toArray()) {
+        hits[n - 1]++;
+      }
+    }
+    double[] weights = new double[hits.length];
+    for (int i = 0; i < hits.length; i++) {
+      double smoothed = hits[i] + 1.0;
+      weights[i] = bias == StatisticsWeightedSampler.Bias.HOT ? smoothed : 1.0 / smoothed;
+    }
+    table = AliasTable.of(weights);
+    random = new SplittableRandom(3L);
+  }
+
+  @Benchmark
+  public long uniformIndexed() {
+    return index.sample(random);
+  }
+
+  @Benchmark
+  public long weightedValidated() {
+    long mask = 0L;
+    for (int attempt = 0; attempt < StatisticsWeightedSampler.VALIDATION_ATTEMPTS; attempt++) {
+      mask = StatisticsWeightedSampler.drawMask(table, random);
+      if (pipeline.test(LottoSet.ofMask(mask))) {
+        break;
+      }
+    }
+    return mask;
+  }
+}
@@ -0,0 +1,136 @@
+package com.lottery.lottery_service.lotto.repository;
+
+import com.lottery.lottery_service.lotto.BenchmarkFixtures;
+import com.lottery.lottery_service.lotto.dto.LottoSet;
+import com.lottery.lottery_service.lotto.entity.LottoRecord;
+import com.lottery.lottery_service.member.entity.Member;
+import com.lottery.lottery_service.member.oauth.entity.MemberOAuthAccount;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.h2.jdbcx.JdbcDataSource;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 추천 기록 저장 벤치마크: Hibernate persist(IDENTITY) vs {@link LottoRecordJdbcWriter}(multi-row INSERT).
+ *
+ * <p>H2 메모리 DB(MySQL 모드)에 {@code rows}건을 한 트랜잭션으로 넣는다. 5건은 회원/비회원 추천 1번, 1000건은 대량 추천 두 청크에 해당한다.
+ * Hibernate 쪽은 batch_size를 켜 두었지만 IDENTITY 키라 행마다 INSERT가 나간다. 점수는 저장 호출/초이므로 행/초는 점수 ×
+ * {@code rows}로 본다.
+ *
+ * <p>실행: {@code ./gradlew jmh -PjmhIncludes=LottoRecordInsert}
+ */
+@State(Scope.Benchmark)
+public class LottoRecordInsertBenchmark {
+
+  /** 한 번에 저장하는 행 수 */
+  @Param({"5", "1000"})
+  public int rows;
+
+  private SessionFactory sessionFactory;
+  private JdbcTemplate jdbcTemplate;
+  private TransactionTemplate transactionTemplate;
+  private LottoRecordJdbcWriter writer;
+  private Long memberId;
+  private List<LottoSet> sets;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    String url = "jdbc:h2:mem:lotto-insert-" + rows + ";MODE=MySQL;DB_CLOSE_DELAY=-1";
+    sessionFactory =
+        new Configuration()
+            .addAnnotatedClass(Member.class)
+            .addAnnotatedClass(MemberOAuthAccount.class)
+            .addAnnotatedClass(LottoRecord.class)
+            .setProperty(AvailableSettings.URL, url)
+            .setProperty(AvailableSettings.USER, "sa")
+            .setProperty(AvailableSettings.PASS, "")
+            .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+            .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, "500")
+            .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+            .setProperty(
+                AvailableSettings.PHYSICAL_NAMING_STRATEGY,
+                CamelCaseToUnderscoresNamingStrategy.class.getName())
+            .buildSessionFactory();
+
+    JdbcDataSource dataSource = new JdbcDataSource();
+    dataSource.setURL(url);
+    dataSource.setUser("sa");
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    writer = new LottoRecordJdbcWriter(jdbcTemplate);
+
+    try (Session session = sessionFactory.openSession()) {
+      Transaction tx = session.beginTransaction();
+      Member member = Member.newMember("bench@example.com", "bench", null);
+      session.persist(member);
+      tx.commit();
+      memberId = member.getId();
+    }
+
+    LottoSet[] fixtures = BenchmarkFixtures.randomSets(11L);
+    sets = new ArrayList<>(rows);
+    for (int i = 0; i < rows; i++) {
+      sets.add(fixtures[i]);
+    }
+  }
+
+  /** 반복마다 테이블을 비워 인덱스 크기가 측정 구간 사이에 달라지지 않게 한다. */
+  @TearDown(Level.Iteration)
+  public void truncate() {
+    jdbcTemplate.execute("TRUNCATE TABLE lotto_record");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    sessionFactory.close();
+  }
+
+  /** 기존 방식: 엔티티를 만들어 persist, 커밋 시 flush */
+  @Benchmark
+  public int hibernatePersist() {
+    LocalDateTime now = LocalDateTime.now();
+    try (Session session = sessionFactory.openSession()) {
+      Transaction tx = session.beginTransaction();
+      Member member = session.getReference(Member.class, memberId);
+      for (LottoSet set : sets) {
+        session.persist(
+            LottoRecord.builder()
+                .member(member)
+                .guest(false)
+                .numbers(set.toCanonicalString())
+                .round(1112)
+                .recommendedAt(now)
+                .manual(false)
+                .purchased(false)
+                .source("BASIC")
+                .build());
+      }
+      tx.commit();
+    }
+    return sets.size();
+  }
+
+  /** 현재 방식: 엔티티 없이 multi-row INSERT */
+  @Benchmark
+  public int jdbcMultiRow() {
+    return transactionTemplate.execute(
+        status ->
+            writer.insertRecommendations(memberId, 1112, "BASIC", sets, LocalDateTime.now()));
+  }
+}
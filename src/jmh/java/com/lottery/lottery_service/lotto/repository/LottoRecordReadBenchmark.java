@@ -0,0 +1,185 @@
+package com.lottery.lottery_service.lotto.repository;
+
+import com.lottery.lottery_service.lotto.BenchmarkFixtures;
+import com.lottery.lottery_service.lotto.dto.LottoSet;
+import com.lottery.lottery_service.lotto.dto.response.LottoRecordResponse;
+import com.lottery.lottery_service.lotto.entity.LottoRecord;
+import com.lottery.lottery_service.member.entity.Member;
+import com.lottery.lottery_service.member.oauth.entity.MemberOAuthAccount;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 회원 추천 내역 조회 벤치마크: 엔티티 로딩(읽기/쓰기 트랜잭션) vs 엔티티 로딩(읽기 전용) vs 생성자 projection(읽기 전용).
+ *
+ * <p>H2 메모리 DB에 회원 1명의 내역 {@code historySize}건과 다른 회원 내역을 채운 뒤, 요청 1건과 같은 단위(세션 열기 → 조회 → 응답 DTO
+ * 변환 → 닫기)로 잰다. 세 경로 모두 같은 응답을 만들므로 차이는 엔티티 생성, 스냅샷 복사, 커밋 시 더티 체크, Member 프록시 비용이다. B/op(할당)는
+ * gc 프로파일러 결과로 본다.
+ *
+ * <p>실행: {@code ./gradlew jmh -PjmhIncludes=LottoRecordRead}
+ */
+@State(Scope.Benchmark)
+public class LottoRecordReadBenchmark {
+
+  /** 다른 회원 내역(인덱스가 회원 범위만 읽는지 보기 위한 잡음) */
+  private static final int OTHER_MEMBERS = 50;
+
+  private static final String ENTITY_QUERY =
+      "SELECT r FROM LottoRecord r WHERE r.member.id = :memberId"
+          + " ORDER BY r.round DESC, r.id DESC";
+
+  private static final String VIEW_QUERY =
+      LottoRecordView.SELECT + " WHERE r.member.id = :memberId ORDER BY r.round DESC, r.id DESC";
+
+  private static final String INSERT =
+      "INSERT INTO lotto_record"
+          + " (member_id, guest, numbers, round, recommended_at, manual, purchased, source)"
+          + " VALUES (?, false, ?, ?, ?, false, false, 'BASIC')";
+
+  /** 회원 1명의 내역 건수(주 5세트 × 몇 년치) */
+  @Param({"100", "1500"})
+  public int historySize;
+
+  private SessionFactory sessionFactory;
+  private Long memberId;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    sessionFactory =
+        new Configuration()
+            .addAnnotatedClass(Member.class)
+            .addAnnotatedClass(MemberOAuthAccount.class)
+            .addAnnotatedClass(LottoRecord.class)
+            .setProperty(
+                AvailableSettings.URL,
+                "jdbc:h2:mem:lotto-read-" + historySize + ";MODE=MySQL;DB_CLOSE_DELAY=-1")
+            .setProperty(AvailableSettings.USER, "sa")
+            .setProperty(AvailableSettings.PASS, "")
+            .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+            .setProperty(
+                AvailableSettings.PHYSICAL_NAMING_STRATEGY,
+                CamelCaseToUnderscoresNamingStrategy.class.getName())
+            .buildSessionFactory();
+    memberId = seed();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    sessionFactory.close();
+  }
+
+  /** 기존 방식: 클래스 전체의 읽기/쓰기 트랜잭션 안에서 엔티티를 읽고 변환한다. */
+  @Benchmark
+  public List<LottoRecordResponse> entityReadWrite() {
+    try (Session session = sessionFactory.openSession()) {
+      Transaction tx = session.beginTransaction();
+      List<LottoRecordResponse> result = toResponses(loadEntities(session));
+      tx.commit();
+      return result;
+    }
+  }
+
+  /** 엔티티는 그대로 두고 읽기 전용 트랜잭션만 적용한 경우 */
+  @Benchmark
+  public List<LottoRecordResponse> entityReadOnly() {
+    try (Session session = sessionFactory.openSession()) {
+      session.setDefaultReadOnly(true);
+      session.setHibernateFlushMode(FlushMode.MANUAL);
+      Transaction tx = session.beginTransaction();
+      List<LottoRecordResponse> result = toResponses(loadEntities(session));
+      tx.commit();
+      return result;
+    }
+  }
+
+  /** 현재 방식: 읽기 전용 트랜잭션 + 생성자 projection */
+  @Benchmark
+  public List<LottoRecordResponse> projectionReadOnly() {
+    try (Session session = sessionFactory.openSession()) {
+      session.setDefaultReadOnly(true);
+      session.setHibernateFlushMode(FlushMode.MANUAL);
+      Transaction tx = session.beginTransaction();
+      List<LottoRecordView> views =
+          session
+              .createQuery(VIEW_QUERY, LottoRecordView.class)
+              .setParameter("memberId", memberId)
+              .getResultList();
+      List<LottoRecordResponse> result = new ArrayList<>(views.size());
+      for (LottoRecordView view : views) {
+        result.add(LottoRecordResponse.from(view, null));
+      }
+      tx.commit();
+      return result;
+    }
+  }
+
+  private List<LottoRecord> loadEntities(Session session) {
+    return session
+        .createQuery(ENTITY_QUERY, LottoRecord.class)
+        .setParameter("memberId", memberId)
+        .getResultList();
+  }
+
+  private static List<LottoRecordResponse> toResponses(List<LottoRecord> records) {
+    List<LottoRecordResponse> result = new ArrayList<>(records.size());
+    for (LottoRecord record : records) {
+      result.add(LottoRecordResponse.from(record));
+    }
+    return result;
+  }
+
+  /** 측정 대상 회원과 잡음 회원들의 내역을 JDBC 배치로 채우고, 측정 대상 회원 ID를 돌려준다. */
+  private Long seed() {
+    List<Long> members = new ArrayList<>();
+    try (Session session = sessionFactory.openSession()) {
+      Transaction tx = session.beginTransaction();
+      for (int i = 0; i <= OTHER_MEMBERS; i++) {
+        Member member = Member.newMember("bench" + i + "@example.com", "bench" + i, null);
+        session.persist(member);
+        members.add(member.getId());
+      }
+      tx.commit();
+    }
+
+    LottoSet[] sets = BenchmarkFixtures.randomSets(7L);
+    LocalDateTime base = LocalDateTime.of(2020, 1, 4, 21, 0);
+    try (Session session = sessionFactory.openSession()) {
+      Transaction tx = session.beginTransaction();
+      session.doWork(
+          connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT)) {
+              int n = 0;
+              for (Long member : members) {
+                for (int i = 0; i < historySize; i++, n++) {
+                  ps.setLong(1, member);
+                  ps.setString(2, sets[n & (sets.length - 1)].toCanonicalString());
+                  ps.setInt(3, 900 + i / 5);
+                  ps.setTimestamp(4, Timestamp.valueOf(base.plusWeeks(i / 5)));
+                  ps.addBatch();
+                }
+                ps.executeBatch();
+              }
+            }
+          });
+      tx.commit();
+    }
+    return members.get(0);
+  }
+}
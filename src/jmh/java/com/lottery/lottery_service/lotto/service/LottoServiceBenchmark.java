@@ -0,0 +1,52 @@
+package com.lottery.lottery_service.lotto.service;
+
+import com.lottery.lottery_service.lotto.dto.LottoSet;
+import com.lottery.lottery_service.lotto.generation.random.FastRandomSource;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * LottoService 핫패스 벤치마크: 검증 없는 번호 생성과 구매 번호 정규화.
+ *
+ * <p>저장소 의존성은 쓰지 않는 경로만 재므로 null로 둔다.
+ */
+@State(Scope.Thread)
+public class LottoServiceBenchmark {
+
+  /** 구매 요청에 실제로 들어오는 입력 형태(길이는 2의 거듭제곱) */
+  private static final String[] PURCHASE_INPUTS = {
+    "1, 2, 3, 4, 5, 6", "45 7 23 11 38 2", "03,14,15,26,35,41", " 9 ,10 , 27,33 ,40, 44 "
+  };
+
+  private LottoService lottoService;
+  private int cursor;
+
+  @Setup
+  public void setUp() {
+    lottoService =
+        new LottoService(
+            null, null, null, new FastRandomSource(), null, null, null, null, null, null);
+  }
+
+  /** 생성 세트 수 파라미터(정규화 벤치마크에는 적용하지 않기 위해 별도 상태로 둔다) */
+  @State(Scope.Benchmark)
+  public static class GenerateParams {
+    @Param({"5", "100"})
+    public int count;
+  }
+
+  @Benchmark
+  public List<LottoSet> generateLottoNumbersSet(GenerateParams params) {
+    return lottoService.generateLottoNumbersSet(params.count);
+  }
+
+  @Benchmark
+  public String normalizeNumbers() {
+    String raw = PURCHASE_INPUTS[cursor++ & (PURCHASE_INPUTS.length - 1)];
+    return LottoService.normalizeNumbers(raw);
+  }
+}
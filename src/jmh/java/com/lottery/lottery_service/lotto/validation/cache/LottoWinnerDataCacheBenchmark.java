@@ -0,0 +1,43 @@
+package com.lottery.lottery_service.lotto.validation.cache;
+
+import com.lottery.lottery_service.lotto.BenchmarkFixtures;
+import com.lottery.lottery_service.lotto.dto.LottoSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 당첨 캐시 포함 여부 조회 벤치마크(운영 규모 {@value BenchmarkFixtures#WINNER_ROUNDS}건).
+ *
+ * <p>실제 요청은 거의 모두 miss이므로 miss를 기본으로 보고, hit은 같은 캐시에 들어 있는 조합으로 따로 잰다.
+ */
+@State(Scope.Thread)
+public class LottoWinnerDataCacheBenchmark {
+
+  private LottoWinnerDataCache cache;
+  private LottoSet[] misses;
+  private LottoSet[] hits;
+  private int cursor;
+
+  @Setup
+  public void setUp() {
+    LottoSet[] winners = BenchmarkFixtures.randomSets(1L);
+    cache = BenchmarkFixtures.winnerCache(winners);
+    misses = BenchmarkFixtures.randomSets(2L);
+    hits = new LottoSet[BenchmarkFixtures.INPUT_SIZE];
+    for (int i = 0; i < hits.length; i++) {
+      hits[i] = winners[i % BenchmarkFixtures.WINNER_ROUNDS];
+    }
+  }
+
+  @Benchmark
+  public boolean containsMiss() {
+    return cache.contains(misses[cursor++ & (misses.length - 1)]);
+  }
+
+  @Benchmark
+  public boolean containsHit() {
+    return cache.contains(hits[cursor++ & (hits.length - 1)]);
+  }
+}
@@ -0,0 +1,44 @@
+package com.lottery.lottery_service.lotto.validation.pipeline;
+
+import com.lottery.lottery_service.lotto.BenchmarkFixtures;
+import com.lottery.lottery_service.lotto.dto.LottoSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 전체 룰(운영 구성)을 켠 파이프라인 벤치마크.
+ *
+ * <ul>
+ *   <li>validate: @Order 순서 + 결과 객체 생성(요청 경로)
+ *   <li>test: 적응형 순서 + 결과 객체 없음(인덱스 빌드/풀 보충 경로)
+ * </ul>
+ */
+@State(Scope.Thread)
+public class LottoValidationPipelineBenchmark {
+
+  private LottoValidationPipeline pipeline;
+  private LottoSet[] sets;
+  private int cursor;
+
+  @Setup
+  public void setUp() {
+    pipeline = BenchmarkFixtures.pipeline(BenchmarkFixtures.winnerCache(1L));
+    sets = BenchmarkFixtures.randomSets(2L);
+  }
+
+  @Benchmark
+  public LottoValidationResult validate() {
+    return pipeline.validate(next());
+  }
+
+  @Benchmark
+  public boolean test() {
+    return pipeline.test(next());
+  }
+
+  private LottoSet next() {
+    return sets[cursor++ & (sets.length - 1)];
+  }
+}
@@ -0,0 +1,45 @@
+package com.lottery.lottery_service.lotto.validation.rule;
+
+import com.lottery.lottery_service.lotto.BenchmarkFixtures;
+import com.lottery.lottery_service.lotto.dto.LottoSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** 룰 하나씩의 validate 비용(파이프라인 컴파일 없이 인터페이스 호출 그대로). 룰은 ID로 고른다. */
+@State(Scope.Thread)
+public class LottoValidationRuleBenchmark {
+
+  @Param({
+    "NOT_EQUAL_TO_PAST_FIRST_PRIZE",
+    "NEAR_MISS_PAST_FIRST_PRIZE",
+    "EndDigitSum",
+    "EndDigitDupGte4",
+    "LowHighZeroSix",
+    "OddEvenZeroSix",
+    "ArithmeticComplexityMax6",
+    "ThreeZoneSuperExtreme"
+  })
+  public String ruleId;
+
+  private LottoValidationRule rule;
+  private LottoSet[] sets;
+  private int cursor;
+
+  @Setup
+  public void setUp() {
+    rule =
+        BenchmarkFixtures.allRules(BenchmarkFixtures.winnerCache(1L)).stream()
+            .filter(r -> r.id().equals(ruleId))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("unknown rule id: " + ruleId));
+    sets = BenchmarkFixtures.randomSets(2L);
+  }
+
+  @Benchmark
+  public boolean validate() {
+    return rule.validate(sets[cursor++ & (sets.length - 1)]);
+  }
+}
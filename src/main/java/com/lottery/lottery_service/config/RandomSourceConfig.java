@@ -0,0 +1,40 @@
+package com.lottery.lottery_service.config;
+
+import com.lottery.lottery_service.lotto.generation.random.FastRandomSource;
+import com.lottery.lottery_service.lotto.generation.random.RandomSource;
+import com.lottery.lottery_service.lotto.generation.random.SecureBufferedRandomSource;
+import com.lottery.lottery_service.lotto.generation.random.SeededRandomSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 추천 난수원({@link RandomSource}) 선택 설정.
+ *
+ * <ul>
+ *   <li>lotto.random.mode: fast(기본) | secure | seeded
+ *   <li>lotto.random.seed: seeded 모드의 기본 시드(기본 0)
+ *   <li>lotto.random.secure-buffer-blocks: secure 모드에서 미리 채워 둘 4KB 블록 수(기본 16)
+ * </ul>
+ */
+@Slf4j
+@Configuration
+public class RandomSourceConfig {
+
+  /** SecureBufferedRandomSource는 AutoCloseable이므로 컨텍스트 종료 시 close()로 보충 스레드가 멈춘다. */
+  @Bean
+  public RandomSource randomSource(
+      @Value("${lotto.random.mode:fast}") String mode,
+      @Value("${lotto.random.seed:0}") long seed,
+      @Value("${lotto.random.secure-buffer-blocks:16}") int secureBufferBlocks) {
+    RandomSource source =
+        switch (RandomSource.Mode.from(mode)) {
+          case FAST -> new FastRandomSource();
+          case SECURE -> new SecureBufferedRandomSource(secureBufferBlocks);
+          case SEEDED -> new SeededRandomSource(seed);
+        };
+    log.info("Lotto random source: {}", source.mode());
+    return source;
+  }
+}
@@ -1,13 +1,19 @@
 package com.lottery.lottery_service.config;
 
 import com.lottery.lottery_service.auth.CustomOAuth2UserService;
+import java.util.Arrays;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
 
 /**
  * Spring Security 설정 클래스 - OAuth2 기반 소셜 로그인(Google, Kakao, Naver) 설정 - H2 콘솔 접근 허용 - 정적 리소스 및 비로그인
@@ -22,6 +28,9 @@ import org.springframework.security.web.SecurityFilterChain;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+  /** 메트릭 스크레이프 허용 네트워크 기본값(같은 호스트의 수집기만) */
+  static final String DEFAULT_SCRAPE_CIDRS = "127.0.0.1/32,::1/128";
+
   private final CustomOAuth2UserService customOAuth2UserService;
   private final Environment env;
 
@@ -60,9 +69,17 @@ public class SecurityConfig {
                         "/webjars/**",
                         "/h2-console/**", // 개발용
                         "/api/me", // 비로그인 상태에서도 호출
-                        "/api/lotto/guests/recommendations" // 비회원용 추천 서비스
-                        )
+                        "/api/lotto/guests/recommendations", // 비회원용 추천 서비스
+                        "/api/lotto/statistics/**", // 당첨 통계(읽기 전용)
+                        "/api/lotto/rounds/*/check", // 당첨 결과 확인(회원/비회원 공통)
+                        "/actuator/health")
                     .permitAll()
+                    // 메트릭 수집기(스크레이프)는 로그인 대신 허용된 네트워크에서만
+                    .requestMatchers("/actuator/prometheus")
+                    .access(
+                        scrapeNetworkAccess(
+                            env.getProperty(
+                                "lotto.metrics.scrape-allowed-cidrs", DEFAULT_SCRAPE_CIDRS)))
                     .anyRequest()
                     .authenticated())
 
@@ -92,6 +109,24 @@ public class SecurityConfig {
     return http.build();
   }
 
+  /**
+   * 요청 IP가 허용 네트워크(쉼표 구분 CIDR, lotto.metrics.scrape-allowed-cidrs) 안이면 허용한다.
+   *
+   * <p>IP는 {@code getRemoteAddr()}만 본다. 프록시 뒤라면 X-Forwarded-For 해석은
+   * server.forward-headers-strategy에 맡긴다. 비어 있으면 아무도 수집할 수 없다.
+   */
+  static AuthorizationManager<RequestAuthorizationContext> scrapeNetworkAccess(String cidrs) {
+    List<IpAddressMatcher> networks =
+        Arrays.stream(cidrs.split(","))
+            .map(String::trim)
+            .filter(cidr -> !cidr.isEmpty())
+            .map(IpAddressMatcher::new)
+            .toList();
+    return (authentication, context) ->
+        new AuthorizationDecision(
+            networks.stream().anyMatch(network -> network.matches(context.getRequest())));
+  }
+
   //    private static final class CsrfCookieFilter extends OncePerRequestFilter {
   //        @Override
   //        protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res,
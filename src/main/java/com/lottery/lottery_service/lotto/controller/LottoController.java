@@ -2,25 +2,49 @@ package com.lottery.lottery_service.lotto.controller;
 
 import com.lottery.lottery_service.lotto.dto.LottoSet;
 import com.lottery.lottery_service.lotto.dto.request.PurchaseLottoRequest;
+import com.lottery.lottery_service.lotto.dto.response.LottoRecordPageResponse;
 import com.lottery.lottery_service.lotto.dto.response.LottoRecordResponse;
+import com.lottery.lottery_service.lotto.dto.response.RecommendationQuotaResponse;
+import com.lottery.lottery_service.lotto.quota.InvalidAdRewardTokenException;
+import com.lottery.lottery_service.lotto.quota.QuotaExceededException;
+import com.lottery.lottery_service.lotto.service.LottoBulkRecommendationService;
 import com.lottery.lottery_service.lotto.service.LottoService;
 import com.lottery.lottery_service.member.repository.MemberRepository;
 import jakarta.validation.Valid;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
-@RequiredArgsConstructor
 @RequestMapping("/api/lotto")
 public class LottoController {
 
   private final LottoService lottoService;
+  private final LottoBulkRecommendationService lottoBulkRecommendationService;
   private final MemberRepository memberRepository;
 
+  /** 대량 추천을 호출할 수 있는 제휴 회원 ID. 비어 있으면 아무도 호출할 수 없다. */
+  private final Set<Long> bulkPartnerMemberIds;
+
+  public LottoController(
+      LottoService lottoService,
+      LottoBulkRecommendationService lottoBulkRecommendationService,
+      MemberRepository memberRepository,
+      @Value("${lotto.bulk.partner-member-ids:}") Set<Long> bulkPartnerMemberIds) {
+    this.lottoService = lottoService;
+    this.lottoBulkRecommendationService = lottoBulkRecommendationService;
+    this.memberRepository = memberRepository;
+    this.bulkPartnerMemberIds = Set.copyOf(bulkPartnerMemberIds);
+  }
+
   /**
    * 로또 번호 추천 API
    *
@@ -29,8 +53,8 @@ public class LottoController {
    * <p>source 파라미터를 통해 추천 방식(BASIC, AD 등)을 구분하여 저장 시 이를 기록함으로써 추천 제한 및 분석에 활용할 수 있다.
    *
    * @param principal OAuth2User (로그인된 사용자)
-   * @param source 추천 요청 출처(BASIC/AD/EVENT)
-   * @return 추천 결과 목록
+   * @param source 추천 요청 출처(BASIC/AD/EVENT/STATS/STATS_COLD)
+   * @return 추천 결과 목록. 추천 한도를 넘으면 429
    * @throws IllegalArgumentException 로그인 상태가 아니거나 memberId 속성이 없는 경우
    */
   @PostMapping("/recommendations")
@@ -51,6 +75,41 @@ public class LottoController {
     return ResponseEntity.ok(sets);
   }
 
+  /**
+   * 대량 추천 API(제휴/캠페인용)
+   *
+   * <p>검증 룰을 통과하는 세트를 count개 만들어 저장하면서, 만들어지는 대로 NDJSON(한 줄에 세트 하나)으로 흘려보낸다. 결과 전체를 메모리에
+   * 모으지 않으므로 count와 무관하게 메모리 사용량이 일정하다.
+   *
+   * <p>제휴 회원(lotto.bulk.partner-member-ids, 쉼표 구분 회원 ID)만 호출할 수 있다. 대량 추천은 회원 추천 한도를 쓰지 않는다.
+   *
+   * @param principal OAuth2User (로그인된 제휴 회원)
+   * @param count 생성할 세트 수(최대 {@value LottoBulkRecommendationService#MAX_BULK_COUNT})
+   * @param source 추천 요청 출처(BASIC/AD/EVENT/STATS/STATS_COLD)
+   * @return NDJSON 스트림, 제휴 회원이 아니면 403, count가 범위를 벗어나면 400
+   */
+  @PostMapping(value = "/recommendations/bulk", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> recommendBulkForMember(
+      @AuthenticationPrincipal OAuth2User principal,
+      @RequestParam(name = "count") int count,
+      @RequestParam(name = "source", defaultValue = "BASIC") String source) {
+    if (principal == null || principal.getAttribute("memberId") == null) {
+      throw new IllegalArgumentException("로그인 상태가 아니거나 memberId를 확인할 수 없습니다.");
+    }
+    Long memberId = principal.getAttribute("memberId");
+    if (memberId == null) {
+      throw new IllegalArgumentException("memberId 속성을 확인할 수 없습니다.");
+    }
+    if (!bulkPartnerMemberIds.contains(memberId)) {
+      return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+    }
+
+    // 검증은 여기서 끝나고, 추출/저장/출력은 응답을 쓰는 동안 청크 단위로 진행된다
+    StreamingResponseBody body =
+        lottoBulkRecommendationService.openMemberStream(memberId, source, count);
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+  }
+
   /**
    * 비회원에게 로또 번호를 추천하고 저장합니다.
    *
@@ -88,6 +147,85 @@ public class LottoController {
     return ResponseEntity.ok(result);
   }
 
+  /**
+   * 회원의 추천 내역을 최신 회차부터 페이지 단위로 조회합니다.
+   *
+   * <p>첫 요청은 cursor 없이 보내고, 다음 페이지는 응답의 nextCursor를 그대로 넘깁니다. nextCursor가 null이면 마지막 페이지입니다.
+   *
+   * @param principal OAuth2User (로그인된 사용자)
+   * @param cursor 직전 응답의 nextCursor
+   * @param size 페이지 크기(기본 10, 최대 {@value LottoService#MAX_HISTORY_PAGE_SIZE})
+   * @return 추천 내역 한 페이지, cursor 형식이 틀리거나 size가 범위를 벗어나면 400
+   */
+  @GetMapping("/members/me/recommendations/page")
+  public ResponseEntity<LottoRecordPageResponse> getMyRecommendationPage(
+      @AuthenticationPrincipal OAuth2User principal,
+      @RequestParam(name = "cursor", required = false) String cursor,
+      @RequestParam(name = "size", defaultValue = "10") int size) {
+    if (principal == null || principal.getAttribute("memberId") == null) {
+      throw new IllegalArgumentException("로그인 상태가 아니거나 memberId를 확인할 수 없습니다.");
+    }
+    Long memberId = principal.getAttribute("memberId");
+    return ResponseEntity.ok(lottoService.getRecommendationPageForMember(memberId, cursor, size));
+  }
+
+  /**
+   * 회원의 현재 회차 추천 사용량을 조회합니다.
+   *
+   * @param principal OAuth2User (로그인된 사용자)
+   * @return 오늘/회차 사용량과 남은 횟수
+   */
+  @GetMapping("/members/me/quota")
+  public ResponseEntity<RecommendationQuotaResponse> getMyQuota(
+      @AuthenticationPrincipal OAuth2User principal) {
+    if (principal == null || principal.getAttribute("memberId") == null) {
+      throw new IllegalArgumentException("로그인 상태가 아니거나 memberId를 확인할 수 없습니다.");
+    }
+    Long memberId = principal.getAttribute("memberId");
+    return ResponseEntity.ok(lottoService.getQuotaForMember(memberId));
+  }
+
+  /**
+   * 광고 시청 보상 API. 오늘 추천 횟수를 5번 늘린다(하루 3회까지).
+   *
+   * @param principal OAuth2User (로그인된 사용자)
+   * @param token 광고 보상 검증 서버가 발급한 시청 완료 토큰
+   * @return 보상 반영 후 사용량. 토큰이 검증되지 않거나 이미 쓴 토큰이면 403, 하루 상한을 넘으면 429
+   */
+  @PostMapping("/members/me/quota/ad-reward")
+  public ResponseEntity<RecommendationQuotaResponse> grantAdReward(
+      @AuthenticationPrincipal OAuth2User principal, @RequestParam(name = "token") String token) {
+    if (principal == null || principal.getAttribute("memberId") == null) {
+      throw new IllegalArgumentException("로그인 상태가 아니거나 memberId를 확인할 수 없습니다.");
+    }
+    Long memberId = principal.getAttribute("memberId");
+    return ResponseEntity.ok(lottoService.grantAdRewardForMember(memberId, token));
+  }
+
+  /** 추천 한도 초과는 429와 사유/현재 사용량으로 응답한다. */
+  @ExceptionHandler(QuotaExceededException.class)
+  public ResponseEntity<Map<String, Object>> handleQuotaExceeded(QuotaExceededException e) {
+    return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+        .body(
+            Map.of(
+                "message", e.getMessage(),
+                "limit", e.getLimit().name(),
+                "quota", RecommendationQuotaResponse.from(e.getStatus())));
+  }
+
+  /** 잘못된 요청 값(대량 추천 count, 내역 cursor/size, 번호 형식 등)은 500이 아니라 400과 사유로 응답한다. */
+  @ExceptionHandler(IllegalArgumentException.class)
+  public ResponseEntity<Map<String, Object>> handleIllegalArgument(IllegalArgumentException e) {
+    return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+  }
+
+  /** 검증되지 않은 광고 보상 토큰은 403과 사유로 응답한다. */
+  @ExceptionHandler(InvalidAdRewardTokenException.class)
+  public ResponseEntity<Map<String, Object>> handleInvalidAdRewardToken(
+      InvalidAdRewardTokenException e) {
+    return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("message", e.getMessage()));
+  }
+
   /**
    * 회원의 구매 번호를 저장하는 API
    *
@@ -0,0 +1,74 @@
+package com.lottery.lottery_service.lotto.controller;
+
+import com.lottery.lottery_service.lotto.service.LottoRuleAdminService;
+import com.lottery.lottery_service.lotto.validation.config.LottoRuleSettings;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 검증 룰 설정 관리자 API.
+ *
+ * <p>관리자는 lotto.admin.member-ids(쉼표 구분 회원 ID)로 지정한다. 비어 있으면 아무도 호출할 수 없다.
+ */
+@RestController
+@RequestMapping("/api/admin/lotto/rules")
+public class LottoRuleAdminController {
+
+  private final LottoRuleAdminService lottoRuleAdminService;
+  private final Set<Long> adminMemberIds;
+
+  public LottoRuleAdminController(
+      LottoRuleAdminService lottoRuleAdminService,
+      @Value("${lotto.admin.member-ids:}") Set<Long> adminMemberIds) {
+    this.lottoRuleAdminService = lottoRuleAdminService;
+    this.adminMemberIds = Set.copyOf(adminMemberIds);
+  }
+
+  /**
+   * 현재 룰 설정 조회
+   *
+   * @param principal OAuth2User (로그인된 관리자)
+   * @return 현재 설정, 관리자가 아니면 403
+   */
+  @GetMapping
+  public ResponseEntity<LottoRuleSettings> getSettings(
+      @AuthenticationPrincipal OAuth2User principal) {
+    if (!isAdmin(principal)) {
+      return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+    }
+    return ResponseEntity.ok(lottoRuleAdminService.currentSettings());
+  }
+
+  /**
+   * 룰 설정 변경. 모든 값을 한 번에 바꾸며(부분 변경 없음), 추천 인덱스/풀은 백그라운드로 다시 만들어진다.
+   *
+   * @param principal OAuth2User (로그인된 관리자)
+   * @param settings 새 설정 전체
+   * @return 적용된 설정, 값이 잘못되면 400(사유), 관리자가 아니면 403
+   */
+  @PutMapping
+  public ResponseEntity<?> updateSettings(
+      @AuthenticationPrincipal OAuth2User principal, @RequestBody LottoRuleSettings settings) {
+    if (!isAdmin(principal)) {
+      return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+    }
+    try {
+      return ResponseEntity.ok(lottoRuleAdminService.update(settings));
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body(e.getMessage());
+    }
+  }
+
+  private boolean isAdmin(OAuth2User principal) {
+    if (principal == null) {
+      return false;
+    }
+    Long memberId = principal.getAttribute("memberId");
+    return memberId != null && adminMemberIds.contains(memberId);
+  }
+}
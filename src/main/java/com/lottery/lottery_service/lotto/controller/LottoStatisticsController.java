@@ -0,0 +1,51 @@
+package com.lottery.lottery_service.lotto.controller;
+
+import com.lottery.lottery_service.lotto.dto.LottoSet;
+import com.lottery.lottery_service.lotto.dto.response.DrawStatisticsResponse;
+import com.lottery.lottery_service.lotto.statistics.DrawStatistics;
+import com.lottery.lottery_service.lotto.statistics.DrawStatisticsEngine;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 과거 당첨 번호 통계 조회 API(읽기 전용, 비로그인 허용).
+ *
+ * <p>메모리 스냅샷만 읽으므로 DB를 거치지 않는다.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/lotto/statistics")
+public class LottoStatisticsController {
+
+  private final DrawStatisticsEngine drawStatisticsEngine;
+
+  /**
+   * 번호별 출현/보너스/미출현 간격과 합·AC·홀짝 분포
+   *
+   * @return 통계 요약
+   */
+  @GetMapping
+  public ResponseEntity<DrawStatisticsResponse> getSummary() {
+    return ResponseEntity.ok(DrawStatisticsResponse.from(drawStatisticsEngine.current()));
+  }
+
+  /**
+   * 번호 쌍 동시 출현 행렬
+   *
+   * @return latestRound와 45×45 행렬(pairs[a-1][b-1] = a, b가 함께 나온 회차 수)
+   */
+  @GetMapping("/pairs")
+  public ResponseEntity<Map<String, Object>> getPairs() {
+    DrawStatistics stats = drawStatisticsEngine.current();
+    int size = LottoSet.MAX_NUMBER;
+    int[][] pairs = new int[size][size];
+    for (int a = 1; a <= size; a++) {
+      for (int b = 1; b <= size; b++) {
+        pairs[a - 1][b - 1] = stats.pairCount(a, b);
+      }
+    }
+    return ResponseEntity.ok(Map.of("latestRound", stats.latestRound(), "pairs", pairs));
+  }
+}
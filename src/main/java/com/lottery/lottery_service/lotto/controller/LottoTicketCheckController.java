@@ -0,0 +1,65 @@
+package com.lottery.lottery_service.lotto.controller;
+
+import com.lottery.lottery_service.lotto.dto.LottoSet;
+import com.lottery.lottery_service.lotto.dto.request.TicketCheckRequest;
+import com.lottery.lottery_service.lotto.dto.response.TicketCheckResponse;
+import com.lottery.lottery_service.lotto.service.LottoTicketCheckService;
+import jakarta.validation.Valid;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 당첨 결과 확인 API(회원/비회원 공통, 로그인 불필요).
+ *
+ * <p>당첨 번호는 메모리에서만 읽는다. 아직 발표되지 않은 회차는 404, 번호 형식이 잘못되면 400(사유)을 돌려준다.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/lotto/rounds/{round}/check")
+public class LottoTicketCheckController {
+
+  private final LottoTicketCheckService lottoTicketCheckService;
+
+  /**
+   * 번호 세트 1개 확인 (QR/수동 입력)
+   *
+   * @param round 회차
+   * @param numbers 쉼표로 구분한 번호 6개 (예: 3,8,14,22,33,41)
+   * @return 확인 결과
+   */
+  @GetMapping
+  public ResponseEntity<?> checkOne(
+      @PathVariable("round") int round, @RequestParam("numbers") List<Integer> numbers) {
+    try {
+      return toResponse(lottoTicketCheckService.check(round, List.of(new LottoSet(numbers))));
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body(e.getMessage());
+    }
+  }
+
+  /**
+   * 번호 세트 여러 개 확인
+   *
+   * @param round 회차
+   * @param request 번호 세트 목록(최대 {@value LottoTicketCheckService#MAX_BATCH_SIZE}개)
+   * @return 요청 순서대로의 확인 결과
+   */
+  @PostMapping
+  public ResponseEntity<?> checkBatch(
+      @PathVariable("round") int round, @Valid @RequestBody TicketCheckRequest request) {
+    try {
+      return toResponse(lottoTicketCheckService.check(round, request.getTickets()));
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body(e.getMessage());
+    }
+  }
+
+  private static ResponseEntity<?> toResponse(Optional<TicketCheckResponse> result) {
+    return result
+        .<ResponseEntity<?>>map(ResponseEntity::ok)
+        .orElseGet(() -> ResponseEntity.notFound().build());
+  }
+}
@@ -0,0 +1,46 @@
+package com.lottery.lottery_service.lotto.dto;
+
+/**
+ * 추천 내역 페이지 커서. 직전 페이지 마지막 기록의 (회차, ID)다.
+ *
+ * <p>내역은 (round DESC, id DESC)로 정렬되므로 다음 페이지는 "이 위치보다 뒤"인 기록만 읽으면 된다. OFFSET 없이 인덱스에서 바로 이어 읽으므로
+ * 몇 번째 페이지든 읽는 행 수가 페이지 크기와 같다.
+ *
+ * <p>문자열 형식은 {@code "<round>.<id>"}이다(예: {@code "1111.98765"}).
+ *
+ * @param round 마지막 기록의 회차
+ * @param id 마지막 기록의 ID
+ */
+public record HistoryCursor(int round, long id) {
+
+  /**
+   * 커서 문자열을 읽는다.
+   *
+   * @param token 커서 문자열. null/빈 문자열이면 첫 페이지
+   * @return 커서, 첫 페이지면 null
+   * @throws IllegalArgumentException 형식이 틀린 경우
+   */
+  public static HistoryCursor parse(String token) {
+    if (token == null || token.isBlank()) {
+      return null;
+    }
+    int dot = token.indexOf('.');
+    try {
+      if (dot > 0) {
+        int round = Integer.parseInt(token.substring(0, dot));
+        long id = Long.parseLong(token.substring(dot + 1));
+        if (round > 0 && id > 0) {
+          return new HistoryCursor(round, id);
+        }
+      }
+    } catch (NumberFormatException e) {
+      // 아래에서 같은 예외로 바꾼다
+    }
+    throw new IllegalArgumentException("커서 형식이 올바르지 않습니다: " + token);
+  }
+
+  /** 커서 문자열 */
+  public String toToken() {
+    return round + "." + id;
+  }
+}
@@ -0,0 +1,64 @@
+package com.lottery.lottery_service.lotto.dto;
+
+/**
+ * 로또 당첨 등수.
+ *
+ * <p>본번호 일치 개수는 두 마스크의 AND popcount 한 번으로 구하고, 5개 일치일 때만 보너스 번호 비트를 더 본다.
+ */
+public enum LottoRank {
+  FIRST(1),
+  SECOND(2),
+  THIRD(3),
+  FOURTH(4),
+  FIFTH(5),
+  /** 낙첨 */
+  NONE(0);
+
+  private static final LottoRank[] BY_MATCH = {NONE, NONE, NONE, FIFTH, FOURTH, THIRD, FIRST};
+
+  private final int rank;
+
+  LottoRank(int rank) {
+    this.rank = rank;
+  }
+
+  /** 등수 숫자(1~5), 낙첨이면 0 */
+  public int rank() {
+    return rank;
+  }
+
+  public boolean isWinning() {
+    return this != NONE;
+  }
+
+  /**
+   * 티켓 등수를 계산한다.
+   *
+   * @param ticketMask 티켓 번호 6개 마스크
+   * @param winningMask 당첨 번호 6개 마스크
+   * @param bonusBit 보너스 번호 비트({@link LottoSet#bit(int)})
+   * @return 등수
+   */
+  public static LottoRank of(long ticketMask, long winningMask, long bonusBit) {
+    int matched = Long.bitCount(ticketMask & winningMask);
+    if (matched == 5 && (ticketMask & bonusBit) != 0) {
+      return SECOND;
+    }
+    return BY_MATCH[matched];
+  }
+
+  /**
+   * 등수 숫자로 찾는다.
+   *
+   * @param rank 1~5, 0이면 낙첨
+   * @throws IllegalArgumentException 범위를 벗어난 경우
+   */
+  public static LottoRank fromRank(int rank) {
+    for (LottoRank value : values()) {
+      if (value.rank == rank) {
+        return value;
+      }
+    }
+    throw new IllegalArgumentException("rank must be 0~5: " + rank);
+  }
+}
@@ -1,15 +1,222 @@
 package com.lottery.lottery_service.lotto.dto;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import lombok.AllArgsConstructor;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
-
-@Getter
-@Setter
-@NoArgsConstructor
-@AllArgsConstructor
-public class LottoSet {
-  private List<Integer> numbers;
+
+/**
+ * 로또 번호 조합을 표현하는 불변 값 타입.
+ *
+ * <p>설계 포인트:
+ *
+ * <ul>
+ *   <li>번호 n(1~45)을 {@code long}의 (n-1)번째 비트로 표현한다 → 45비트 한 개로 조합 전체를 담는다.
+ *   <li>포함 여부 {@link #contains(int)}, 개수 {@link #size()}는 비트 연산 1회(O(1))로 끝난다.
+ *   <li>비트를 낮은 자리부터 훑으면 자연스럽게 오름차순이 되므로 별도 정렬이 필요 없다.
+ *   <li>생성기/룰/캐시는 {@link #mask()}만 주고받고, {@code List<Integer>}는 JSON 경계({@link
+ *       #getNumbers()})에서만 만든다.
+ * </ul>
+ *
+ * <p>개수 제약: 이 타입은 "몇 개가 들어 있는가"를 강제하지 않는다(6개 판정은 룰/파서의 책임). 범위(1~45)와 중복만 생성 시점에 막는다.
+ */
+public final class LottoSet {
+
+  /** 로또 번호 최솟값 */
+  public static final int MIN_NUMBER = 1;
+
+  /** 로또 번호 최댓값 */
+  public static final int MAX_NUMBER = 45;
+
+  /** 한 세트의 번호 개수 */
+  public static final int PICK_COUNT = 6;
+
+  /** 1~45 전체 비트 */
+  public static final long FULL_MASK = (1L << MAX_NUMBER) - 1;
+
+  /** 비트 (n-1) = 번호 n 포함 */
+  private final long mask;
+
+  private LottoSet(long mask) {
+    this.mask = mask;
+  }
+
+  /**
+   * JSON/테스트 호환용 생성자. 리스트의 순서는 의미가 없다(내부적으로 항상 오름차순).
+   *
+   * @param numbers 1~45 범위의 중복 없는 번호 목록
+   * @throws IllegalArgumentException null, 범위 밖, 중복 번호가 있는 경우
+   */
+  @JsonCreator
+  public LottoSet(@JsonProperty("numbers") Collection<Integer> numbers) {
+    this(toMask(numbers));
+  }
+
+  /** 번호 가변 인자로 생성한다(범위/중복 검증 포함). */
+  public static LottoSet of(int... numbers) {
+    long m = 0L;
+    for (int n : numbers) {
+      m = addChecked(m, n);
+    }
+    return new LottoSet(m);
+  }
+
+  /**
+   * 이미 패킹된 비트마스크로 생성한다(할당 1회, 검증은 범위 비트만).
+   *
+   * @throws IllegalArgumentException 1~45 밖의 비트가 켜져 있는 경우
+   */
+  public static LottoSet ofMask(long mask) {
+    if ((mask & ~FULL_MASK) != 0) {
+      throw new IllegalArgumentException("mask has bits outside 1..45: " + Long.toHexString(mask));
+    }
+    return new LottoSet(mask);
+  }
+
+  /**
+   * 저장 포맷("1 2 3 4 5 6", 공백 구분)을 파싱한다. DB의 LottoRecord.numbers / LottoWinnerData.winnerData 포맷과 동일.
+   *
+   * <p>정규식/split 없이 한 글자씩 읽으므로 중간 객체를 만들지 않는다.
+   *
+   * @throws IllegalArgumentException 숫자가 아니거나 범위/중복 위반인 경우
+   */
+  public static LottoSet parse(String canonical) {
+    return new LottoSet(parseMask(canonical));
+  }
+
+  /** {@link #parse(String)}의 마스크 버전(객체 생성 없음). */
+  public static long parseMask(String canonical) {
+    if (canonical == null) {
+      throw new IllegalArgumentException("numbers cannot be null");
+    }
+    long m = 0L;
+    int cur = -1;
+    for (int i = 0, len = canonical.length(); i < len; i++) {
+      char c = canonical.charAt(i);
+      if (c >= '0' && c <= '9') {
+        cur = (cur < 0 ? 0 : cur * 10) + (c - '0');
+        if (cur > MAX_NUMBER) {
+          throw new IllegalArgumentException("로또 번호는 1~45 사이여야 합니다. 입력: " + canonical);
+        }
+      } else if (c == ' ') {
+        if (cur >= 0) {
+          m = addChecked(m, cur);
+          cur = -1;
+        }
+      } else {
+        throw new IllegalArgumentException("숫자 형식이 올바르지 않습니다: " + canonical);
+      }
+    }
+    if (cur >= 0) {
+      m = addChecked(m, cur);
+    }
+    return m;
+  }
+
+  /** 번호 n에 해당하는 단일 비트. */
+  public static long bit(int n) {
+    return 1L << (n - 1);
+  }
+
+  /** 마스크에서 가장 작은 번호. 빈 마스크(0)에는 의미 없는 값(65)을 돌려주므로 호출 전에 확인할 것. */
+  public static int lowestNumber(long mask) {
+    return Long.numberOfTrailingZeros(mask) + 1;
+  }
+
+  /** 패킹된 비트마스크(비트 n-1 = 번호 n). */
+  public long mask() {
+    return mask;
+  }
+
+  /** 번호 포함 여부(O(1)). 범위 밖 번호는 false. */
+  public boolean contains(int n) {
+    return n >= MIN_NUMBER && n <= MAX_NUMBER && (mask & bit(n)) != 0;
+  }
+
+  /** 포함된 번호 개수(popcount). */
+  public int size() {
+    return Long.bitCount(mask);
+  }
+
+  /** 다른 조합과 겹치는 번호 개수(popcount). */
+  public int matchCount(LottoSet other) {
+    return Long.bitCount(mask & other.mask);
+  }
+
+  /** 오름차순 번호 배열. */
+  public int[] toArray() {
+    int[] out = new int[Long.bitCount(mask)];
+    int i = 0;
+    for (long m = mask; m != 0; m &= m - 1) {
+      out[i++] = lowestNumber(m);
+    }
+    return out;
+  }
+
+  /**
+   * JSON 경계 전용: 오름차순 번호 리스트. 응답 포맷({@code {"numbers":[...]}})을 유지하기 위해 남겨둔 getter.
+   *
+   * @return 새로 만든 가변 리스트(호출자 소유)
+   */
+  @JsonProperty("numbers")
+  public List<Integer> getNumbers() {
+    List<Integer> out = new ArrayList<>(Long.bitCount(mask));
+    for (long m = mask; m != 0; m &= m - 1) {
+      out.add(lowestNumber(m));
+    }
+    return out;
+  }
+
+  /** 저장 포맷("오름차순 + 공백 조인") 문자열. 예: "1 3 12 25 34 41" */
+  public String toCanonicalString() {
+    StringBuilder sb = new StringBuilder(17);
+    for (long m = mask; m != 0; m &= m - 1) {
+      if (sb.length() > 0) {
+        sb.append(' ');
+      }
+      sb.append(lowestNumber(m));
+    }
+    return sb.toString();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return this == o || (o instanceof LottoSet other && other.mask == mask);
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(mask);
+  }
+
+  @Override
+  public String toString() {
+    return "LottoSet[" + toCanonicalString() + "]";
+  }
+
+  private static long toMask(Collection<Integer> numbers) {
+    if (numbers == null) {
+      throw new IllegalArgumentException("numbers cannot be null");
+    }
+    long m = 0L;
+    for (Integer n : numbers) {
+      if (n == null) {
+        throw new IllegalArgumentException("numbers cannot contain null");
+      }
+      m = addChecked(m, n);
+    }
+    return m;
+  }
+
+  private static long addChecked(long m, int n) {
+    if (n < MIN_NUMBER || n > MAX_NUMBER) {
+      throw new IllegalArgumentException("로또 번호는 1~45 사이여야 합니다: " + n);
+    }
+    long b = bit(n);
+    if ((m & b) != 0) {
+      throw new IllegalArgumentException("로또 번호에 중복이 있습니다: " + n);
+    }
+    return m | b;
+  }
 }
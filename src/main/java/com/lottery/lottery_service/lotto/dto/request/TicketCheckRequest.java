@@ -0,0 +1,24 @@
+package com.lottery.lottery_service.lotto.dto.request;
+
+import com.lottery.lottery_service.lotto.dto.LottoSet;
+import com.lottery.lottery_service.lotto.service.LottoTicketCheckService;
+import jakarta.validation.constraints.*;
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** 당첨 결과 일괄 확인 요청 DTO (수동 입력 또는 QR 기반) */
+@Getter
+@Setter
+@NoArgsConstructor
+public class TicketCheckRequest {
+
+  /** 확인할 번호 세트 목록 (예: [{"numbers":[3,8,14,22,33,41]}]) */
+  @NotNull(message = "번호 세트 목록은 비어 있을 수 없습니다.")
+  @Size(
+      min = 1,
+      max = LottoTicketCheckService.MAX_BATCH_SIZE,
+      message = "번호 세트는 1~" + LottoTicketCheckService.MAX_BATCH_SIZE + "개까지 확인할 수 있습니다.")
+  private List<LottoSet> tickets;
+}
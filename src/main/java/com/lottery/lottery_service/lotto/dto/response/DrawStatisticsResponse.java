@@ -0,0 +1,71 @@
+package com.lottery.lottery_service.lotto.dto.response;
+
+import com.lottery.lottery_service.lotto.dto.LottoSet;
+import com.lottery.lottery_service.lotto.statistics.DrawStatistics;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.IntUnaryOperator;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** 과거 당첨 번호 통계 요약 응답 */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DrawStatisticsResponse {
+
+  private int rounds;
+  private int latestRound;
+  private List<NumberStat> numbers;
+
+  /** 6개 번호 합 → 회차 수(0인 값 제외) */
+  private Map<Integer, Integer> sumDistribution;
+
+  /** AC → 회차 수(0인 값 제외) */
+  private Map<Integer, Integer> acDistribution;
+
+  /** 홀수 개수(0~6) → 회차 수 */
+  private Map<Integer, Integer> oddCountDistribution;
+
+  /** 번호 1개의 통계 */
+  @Getter
+  @AllArgsConstructor
+  public static class NumberStat {
+    private int number;
+    private int hits;
+    private int bonusHits;
+    private int gap;
+  }
+
+  /** 통계 스냅샷을 응답 DTO로 변환합니다. */
+  public static DrawStatisticsResponse from(DrawStatistics stats) {
+    List<NumberStat> numbers = new ArrayList<>(LottoSet.MAX_NUMBER);
+    for (int n = LottoSet.MIN_NUMBER; n <= LottoSet.MAX_NUMBER; n++) {
+      numbers.add(new NumberStat(n, stats.hits(n), stats.bonusHits(n), stats.gap(n)));
+    }
+    return DrawStatisticsResponse.builder()
+        .rounds(stats.rounds())
+        .latestRound(stats.latestRound())
+        .numbers(numbers)
+        .sumDistribution(nonZero(stats::sumCount, DrawStatistics.MAX_SUM))
+        .acDistribution(nonZero(stats::acCount, DrawStatistics.MAX_AC))
+        .oddCountDistribution(nonZero(stats::oddCount, LottoSet.PICK_COUNT))
+        .build();
+  }
+
+  private static Map<Integer, Integer> nonZero(IntUnaryOperator counts, int max) {
+    Map<Integer, Integer> out = new TreeMap<>();
+    for (int v = 0; v <= max; v++) {
+      int count = counts.applyAsInt(v);
+      if (count > 0) {
+        out.put(v, count);
+      }
+    }
+    return out;
+  }
+}
@@ -0,0 +1,21 @@
+package com.lottery.lottery_service.lotto.dto.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** 회원 추천 내역 한 페이지 응답 */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LottoRecordPageResponse {
+
+  /** 최신 회차부터 정렬된 내역 */
+  private List<LottoRecordResponse> items;
+
+  /** 다음 페이지 커서. 마지막 페이지면 null */
+  private String nextCursor;
+}
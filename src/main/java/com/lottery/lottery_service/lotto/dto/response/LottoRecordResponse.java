@@ -1,6 +1,10 @@
 package com.lottery.lottery_service.lotto.dto.response;
 
+import com.lottery.lottery_service.lotto.dto.LottoRank;
+import com.lottery.lottery_service.lotto.dto.LottoSet;
 import com.lottery.lottery_service.lotto.entity.LottoRecord;
+import com.lottery.lottery_service.lotto.repository.LottoRecordView;
+import com.lottery.lottery_service.lotto.validation.cache.WinningDraws;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,6 +24,9 @@ public class LottoRecordResponse {
   private boolean purchased;
   private String source;
 
+  /** 당첨 등수(1~5, 0 = 낙첨). 아직 추첨 전인 회차면 null */
+  private Integer rank;
+
   /** LottoRecord 엔티티를 응답 DTO로 변환합니다. */
   public static LottoRecordResponse from(LottoRecord history) {
     return new LottoRecordResponse(
@@ -28,6 +35,29 @@ public class LottoRecordResponse {
         history.getRecommendedAt(),
         history.isManual(),
         history.isPurchased(),
-        history.getSource());
+        history.getSource(),
+        null);
+  }
+
+  /** 조회 projection을 응답 DTO로 변환하고, 추첨이 끝난 회차면 메모리의 당첨 번호로 등수를 채웁니다. */
+  public static LottoRecordResponse from(LottoRecordView view, WinningDraws draws) {
+    LottoRecordResponse response =
+        new LottoRecordResponse(
+            view.round(),
+            view.numbers(),
+            view.recommendedAt(),
+            view.manual(),
+            view.purchased(),
+            view.source(),
+            null);
+    if (draws != null && draws.contains(view.round())) {
+      try {
+        LottoRank rank = draws.rankOf(view.round(), LottoSet.parseMask(view.numbers()));
+        response.rank = rank.rank();
+      } catch (IllegalArgumentException e) {
+        // 형식이 깨진 기록은 등수 없이 내려준다
+      }
+    }
+    return response;
   }
 }
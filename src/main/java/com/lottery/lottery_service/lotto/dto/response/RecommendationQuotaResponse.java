@@ -0,0 +1,41 @@
+package com.lottery.lottery_service.lotto.dto.response;
+
+import com.lottery.lottery_service.lotto.quota.QuotaStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** 회원의 현재 회차 추천 사용량 응답 */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecommendationQuotaResponse {
+
+  private int round;
+
+  /** 오늘 받은 추천 횟수 / 오늘 한도(광고 보상 포함) / 남은 횟수 */
+  private int dailyUsed;
+
+  private int dailyLimit;
+  private int remainingToday;
+
+  /** 이번 회차에 받은 세트 수 / 회차 한도 / 남은 세트 수 */
+  private int roundSets;
+
+  private int roundLimit;
+  private int remainingSets;
+
+  public static RecommendationQuotaResponse from(QuotaStatus status) {
+    return RecommendationQuotaResponse.builder()
+        .round(status.round())
+        .dailyUsed(status.dailyUsed())
+        .dailyLimit(status.dailyLimit())
+        .remainingToday(status.remainingToday())
+        .roundSets(status.roundSets())
+        .roundLimit(status.roundLimit())
+        .remainingSets(status.remainingSets())
+        .build();
+  }
+}
@@ -0,0 +1,38 @@
+package com.lottery.lottery_service.lotto.dto.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** 회차 당첨 결과 확인 응답 */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketCheckResponse {
+
+  private int round;
+  private List<Integer> winningNumbers;
+  private int bonusNumber;
+
+  /** 요청 순서대로의 번호 세트별 결과 */
+  private List<TicketResult> results;
+
+  /** 번호 세트 1개의 결과 */
+  @Getter
+  @AllArgsConstructor
+  public static class TicketResult {
+    private List<Integer> numbers;
+
+    /** 본번호 일치 개수 */
+    private int matchCount;
+
+    /** 보너스 번호 일치 여부 */
+    private boolean bonusMatched;
+
+    /** 당첨 등수(1~5), 낙첨이면 0 */
+    private int rank;
+  }
+}
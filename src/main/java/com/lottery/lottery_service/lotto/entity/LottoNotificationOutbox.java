@@ -0,0 +1,95 @@
+package com.lottery.lottery_service.lotto.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.*;
+
+/**
+ * 당첨 알림 발송 의도(outbox, 요구사항 2-7).
+ *
+ * <p>정산 청크가 당첨 내역을 쓰는 트랜잭션에서 같이 INSERT한다. 그래서 "당첨은 저장됐는데 알림은 빠짐"이나 그 반대가 생기지 않는다. 실제 발송은
+ * 디스패처가 이 테이블을 배치로 가져가(선점) 처리하고 결과 상태를 다시 쓴다.
+ *
+ * <p>{@link #idempotencyKey}는 원본 기록 1건당 하나이며, 채널에도 그대로 넘겨 재시도 시 중복 발송을 막는 키로 쓴다.
+ */
+@Entity
+@Table(
+    name = "lotto_notification_outbox",
+    uniqueConstraints = {
+      @UniqueConstraint(name = "uk_lotto_notification_key", columnNames = "idempotencyKey")
+    },
+    indexes = {
+      @Index(name = "idx_lotto_notification_due", columnList = "status, nextAttemptAt")
+    })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LottoNotificationOutbox {
+
+  /** 발송 상태 */
+  public enum Status {
+    /** 발송 대기(재시도 대기 포함) */
+    PENDING,
+    /** 디스패처가 선점해 발송 중. nextAttemptAt이 선점 만료 시각이다. */
+    SENDING,
+    /** 발송 완료 */
+    SENT,
+    /** 재시도 한도 초과 또는 재시도해도 안 되는 실패 */
+    FAILED
+  }
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  /** 중복 발송 방지 키(예: "winning-123") */
+  @Column(nullable = false, length = 64)
+  private String idempotencyKey;
+
+  /** 받는 회원 ID */
+  @Column(nullable = false)
+  private Long memberId;
+
+  /** 원본 추천/구매 기록 ID(lotto_record.id) */
+  @Column(nullable = false)
+  private Long recordId;
+
+  /** 로또 회차 */
+  @Column(nullable = false)
+  private int round;
+
+  /** 당첨 등수(1~5) */
+  @Column(name = "prize_rank", nullable = false)
+  private int rank;
+
+  /** 당첨된 번호(공백 구분) */
+  @Column(nullable = false, length = 30)
+  private String numbers;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 16)
+  private Status status;
+
+  /** 지금까지 발송 시도 횟수 */
+  @Column(nullable = false)
+  private int attempts;
+
+  /** 다음 시도 가능 시각(PENDING) 또는 선점 만료 시각(SENDING) */
+  @Column(nullable = false)
+  private LocalDateTime nextAttemptAt;
+
+  /** 선점한 디스패처 배치의 토큰(SENDING일 때만). 선점이 만료돼 다른 배치가 가져간 행을 덮어쓰지 않게 한다. */
+  @Column(length = 36)
+  private String claimToken;
+
+  /** 마지막 실패 사유 */
+  @Column(length = 255)
+  private String lastError;
+
+  @Column(nullable = false)
+  private LocalDateTime createdAt;
+
+  private LocalDateTime sentAt;
+}
@@ -4,17 +4,30 @@ import com.lottery.lottery_service.lotto.dto.LottoSet;
 import com.lottery.lottery_service.member.entity.Member;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
-import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
 import lombok.*;
 
 /**
  * 추천받은 로또 번호 정보를 저장하는 엔티티 클래스입니다.
  *
  * <p>회원/비회원 여부, 추천 방식(source), 추천 시간 등 추천 내역에 대한 다양한 정보를 함께 저장합니다.
+ *
+ * <p>(round, id) 인덱스는 회차 정산의 keyset 페이지 조회용이고, (member_id, round, id) 인덱스는 회원 추천 내역을 최신 회차부터
+ * 커서로 넘겨 읽는 용도입니다.
+ *
+ * <p>uk_lotto_record_manual_entry는 수동 구매 기록의 중복을 막습니다. 추천 기록은 같은 회차에 같은 번호가 다시 나올 수 있으므로(대량 추천 등)
+ * manual_entry_key를 NULL로 두어 유니크 검사에서 빠집니다.
  */
 @Entity
+@Table(
+    indexes = {
+      @Index(name = "idx_lotto_record_round_id", columnList = "round, id"),
+      @Index(name = "idx_lotto_record_member_round_id", columnList = "member_id, round, id")
+    },
+    uniqueConstraints = {
+      @UniqueConstraint(
+          name = "uk_lotto_record_manual_entry",
+          columnNames = {"member_id", "round", "numbers", "manual_entry_key"})
+    })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -52,6 +65,9 @@ public class LottoRecord {
   /** 추천 방식 (예: BASIC, AD, EVENT 등) */
   private String source;
 
+  /** 수동 구매 기록이면 TRUE, 그 외에는 NULL (유니크 키 전용 컬럼) */
+  private Boolean manualEntryKey;
+
   /**
    * 로또 번호를 객체로 가져올 수 있도록 변환합니다.
    *
@@ -59,9 +75,7 @@ public class LottoRecord {
    */
   @Transient
   public LottoSet getLottoSet() {
-    List<Integer> list =
-        Arrays.stream(this.numbers.split(" ")).map(Integer::parseInt).collect(Collectors.toList());
-    return new LottoSet(list);
+    return LottoSet.parse(this.numbers);
   }
 
   /**
@@ -70,6 +84,6 @@ public class LottoRecord {
    * @param set LottoSet 객체
    */
   public void setFromLottoSet(LottoSet set) {
-    this.numbers = set.getNumbers().stream().map(String::valueOf).collect(Collectors.joining(" "));
+    this.numbers = set.toCanonicalString();
   }
 }
@@ -0,0 +1,43 @@
+package com.lottery.lottery_service.lotto.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.*;
+
+/**
+ * 회차별 당첨 정산 진행 상황.
+ *
+ * <p>정산 청크의 당첨 내역 INSERT와 같은 트랜잭션에서 {@link #lastRecordId}를 올린다. 중간에 죽어도 커밋된 청크 다음 ID부터 다시 시작하면 되므로
+ * 중복/누락이 없다.
+ */
+@Entity
+@Table(name = "lotto_settlement_progress")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LottoSettlementProgress {
+
+  /** 회차 (PK) */
+  @Id private Integer round;
+
+  /** 마지막으로 정산을 커밋한 lotto_record.id (keyset 커서) */
+  @Column(nullable = false)
+  private long lastRecordId;
+
+  /** 지금까지 확인한 기록 수 */
+  @Column(nullable = false)
+  private long scannedCount;
+
+  /** 지금까지 저장한 당첨 수 */
+  @Column(nullable = false)
+  private long winnerCount;
+
+  /** 회차 전체 정산 완료 여부 */
+  @Column(nullable = false)
+  private boolean completed;
+
+  @Column(nullable = false)
+  private LocalDateTime updatedAt;
+}
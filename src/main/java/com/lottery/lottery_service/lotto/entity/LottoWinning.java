@@ -0,0 +1,52 @@
+package com.lottery.lottery_service.lotto.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.*;
+
+/**
+ * 추천/구매 번호 중 당첨된 내역을 저장하는 엔티티(요구사항 2-5, LottoWinning).
+ *
+ * <p>정산 배치가 JDBC 일괄 INSERT로 채운다. 원본 기록 1건당 최대 1행이며({@link #recordId} 유니크), 낙첨은 저장하지 않는다.
+ */
+@Entity
+@Table(
+    name = "lotto_winning",
+    uniqueConstraints = {
+      @UniqueConstraint(name = "uk_lotto_winning_record", columnNames = "recordId")
+    },
+    indexes = {@Index(name = "idx_lotto_winning_member_round", columnList = "memberId, round")})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LottoWinning {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  /** 원본 추천/구매 기록 ID(lotto_record.id) */
+  @Column(nullable = false)
+  private Long recordId;
+
+  /** 회원 ID(비회원 기록이면 null) */
+  private Long memberId;
+
+  /** 로또 회차 */
+  @Column(nullable = false)
+  private int round;
+
+  /** 당첨된 번호(공백 구분, 예: "1 5 12 24 30 43") */
+  @Column(nullable = false, length = 30)
+  private String numbers;
+
+  /** 당첨 등수(1~5). rank는 MySQL 예약어라 컬럼명을 바꾼다. */
+  @Column(name = "prize_rank", nullable = false)
+  private int rank;
+
+  /** 정산 시각 */
+  @Column(nullable = false)
+  private LocalDateTime settledAt;
+}
@@ -0,0 +1,68 @@
+package com.lottery.lottery_service.lotto.entity;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.*;
+
+/**
+ * 회원의 회차별 추천 사용량(요구사항 2-1: 하루 5번, 광고 1회당 +5번(하루 3회까지), 회차당 30세트).
+ *
+ * <p>회원 1명이 회차 1개에 1행이다. 새 회차의 행은 그 회차 첫 추천 때 만들어지고, 날짜가 바뀌면 다음 추천/광고 보상의 UPDATE가
+ * {@link #quotaDay}를 보고 일일 사용량을 0부터 다시 센다. 그래서 자정 배치나 회차 초기화 작업이 없다.
+ *
+ * <p>사용량 증가는 JDBC 조건부 UPDATE("한도 미만일 때만 +1") 한 문장으로 하므로 인스턴스가 여러 대여도 한도를 넘지 않는다.
+ */
+@Entity
+@Table(name = "member_round_quota")
+@IdClass(MemberRoundQuota.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberRoundQuota {
+
+  @Id private Long memberId;
+
+  @Id private Integer round;
+
+  /** 아래 일일 사용량이 가리키는 날짜 */
+  @Column(nullable = false)
+  private LocalDate quotaDay;
+
+  /** quotaDay에 받은 추천 횟수 */
+  @Column(nullable = false)
+  private int dayUsed;
+
+  /** quotaDay에 광고로 얻은 추가 횟수 */
+  @Column(nullable = false)
+  private int dayBonus;
+
+  /** 이 회차에 받은 추천 세트 수 */
+  @Column(nullable = false)
+  private int roundSets;
+
+  /** quotaDay에 받은 광고 보상 수(하루 상한 적용) */
+  @Column(nullable = false)
+  private int dayAdRewards;
+
+  /** 마지막으로 쓴 광고 토큰의 발급 시각(epoch ms). 이보다 이르게 발급된 토큰은 다시 쓸 수 없다. */
+  @Column(nullable = false)
+  private long lastAdTokenAt;
+
+  @Column(nullable = false)
+  private LocalDateTime updatedAt;
+
+  /** 복합 키(member_id, round) */
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @EqualsAndHashCode
+  public static class Key implements Serializable {
+    private Long memberId;
+    private Integer round;
+  }
+}
@@ -0,0 +1,14 @@
+package com.lottery.lottery_service.lotto.external;
+
+import com.lottery.lottery_service.lotto.entity.LottoWinnerData;
+
+/**
+ * 새 회차의 당첨 데이터가 저장되었음을 알리는 애플리케이션 이벤트.
+ *
+ * <p>{@link LottoWinnerSyncService}가 저장 트랜잭션 안에서 발행한다. 당첨 조합에 의존하는 메모리 구조(추천 인덱스 등)는 이 이벤트를
+ * {@code @TransactionalEventListener(phase = AFTER_COMMIT)}로 받아 갱신한다. 커밋 뒤 당첨 캐시가 먼저 반영되고 리스너가
+ * 불리므로, 롤백된 회차는 캐시에도 파생 구조에도 들어가지 않는다.
+ *
+ * @param winner 저장된 회차 당첨 데이터
+ */
+public record LottoWinnerSavedEvent(LottoWinnerData winner) {}
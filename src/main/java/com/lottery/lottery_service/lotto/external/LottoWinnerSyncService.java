@@ -3,13 +3,18 @@ package com.lottery.lottery_service.lotto.external;
 import com.lottery.lottery_service.lotto.entity.LottoWinnerData;
 import com.lottery.lottery_service.lotto.external.dto.DhlotteryDrawResponse;
 import com.lottery.lottery_service.lotto.repository.LottoWinnerDataRepository;
+import com.lottery.lottery_service.lotto.validation.cache.LottoWinnerDataCache;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * 동행복권 회차별 당첨 데이터를 DB와 동기화하는 서비스.
@@ -19,6 +24,8 @@ import org.springframework.transaction.annotation.Transactional;
  * <ul>
  *   <li>앱 시작 시: DB의 최신 round 확인 → 다음 round부터 API로 조회/저장(미발표 시 중단)
  *   <li>추후 스케줄링에서도 {@link #syncMissingRoundsOnce()} 재사용
+ *   <li>저장한 회차는 커밋 뒤에 당첨 캐시에 반영하고, {@link LottoWinnerSavedEvent} 리스너도 커밋 뒤(캐시 반영 다음)에 불린다. 롤백되면
+ *       캐시도 파생 구조도 바뀌지 않는다
  * </ul>
  */
 @Service
@@ -28,6 +35,8 @@ public class LottoWinnerSyncService {
 
   private final LottoWinnerDataRepository winnerRepo;
   private final DhlotteryClient client;
+  private final LottoWinnerDataCache winnerDataCache;
+  private final ApplicationEventPublisher eventPublisher;
 
   /** 앱 기동 완료 후 한 번 실행. 추후에 이관 예정 DB 최신 회차 이후의 누락분을 API에서 조회해 저장한다. */
   @EventListener(ApplicationReadyEvent.class)
@@ -67,9 +76,35 @@ public class LottoWinnerSyncService {
 
       LottoWinnerData entity = client.toEntity(dto);
       winnerRepo.save(entity);
+      addToCacheAfterCommit(entity);
+      eventPublisher.publishEvent(new LottoWinnerSavedEvent(entity));
       savedCount++;
       nextRound++;
     }
     return savedCount;
   }
+
+  /**
+   * 트랜잭션 안이면 커밋 뒤에 당첨 캐시에 넣는다. 같은 커밋의 이벤트 리스너보다 먼저 실행되도록 가장 높은 우선순위로 등록한다.
+   *
+   * <p>트랜잭션 밖이면 바로 넣는다.
+   */
+  private void addToCacheAfterCommit(LottoWinnerData entity) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      winnerDataCache.add(entity);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+          }
+
+          @Override
+          public void afterCommit() {
+            winnerDataCache.add(entity);
+          }
+        });
+  }
 }
@@ -0,0 +1,119 @@
+package com.lottery.lottery_service.lotto.generation;
+
+import com.lottery.lottery_service.lotto.dto.LottoSet;
+import java.util.random.RandomGenerator;
+
+/**
+ * 6/45 조합 공간(C(45,6) = 8,145,060)의 순위(rank) ↔ 조합(mask) 변환 유틸.
+ *
+ * <p>순서 정의: colex(co-lexicographic) 순서. 비트 위치 b1 &lt; ... &lt; b6 인 조합의 순위는 Σ C(bi, i) 이다. 이 순서는
+ * "같은 popcount를 가진 long을 수치 오름차순으로 나열한 순서"와 같으므로, 다음 조합은 Gosper's hack({@link #next(long)}) 한 번으로
+ * 구한다.
+ *
+ * <p>전수 평가(인덱스 빌드)와 무작위 추출(순위 → 조합) 양쪽에서 공유한다.
+ */
+public final class LottoCombinations {
+
+  /** 전체 조합 수 C(45,6) */
+  public static final int TOTAL = 8_145_060;
+
+  /** BINOMIAL[n][k] = C(n, k), n ≤ 45, k ≤ 6 */
+  private static final int[][] BINOMIAL = binomialTable();
+
+  /** 부분 Fisher–Yates용 스레드별 덱(비트 위치 0~44의 순열). 어떤 순열에서 시작해도 추출은 균등하므로 매번 초기화하지 않는다. */
+  private static final ThreadLocal<byte[]> DECK =
+      ThreadLocal.withInitial(LottoCombinations::newDeck);
+
+  private LottoCombinations() {}
+
+  /** C(n, k) (n ≤ 45, k ≤ 6), 범위를 벗어나면 0. */
+  public static int binomial(int n, int k) {
+    if (n < 0 || k < 0 || k > LottoSet.PICK_COUNT || n > LottoSet.MAX_NUMBER || k > n) {
+      return 0;
+    }
+    return BINOMIAL[n][k];
+  }
+
+  /**
+   * 조합 → colex 순위.
+   *
+   * @param mask 정확히 6비트가 켜진 조합 마스크
+   * @return 0 ≤ rank &lt; {@link #TOTAL}
+   */
+  public static int rank(long mask) {
+    int rank = 0;
+    int i = 1;
+    for (long m = mask; m != 0; m &= m - 1) {
+      rank += BINOMIAL[Long.numberOfTrailingZeros(m)][i++];
+    }
+    return rank;
+  }
+
+  /**
+   * colex 순위 → 조합. 큰 원소부터 "C(b, i) ≤ 남은 순위"인 가장 큰 b를 찾아 내려간다(전체 최대 45스텝).
+   *
+   * @param rank 0 ≤ rank &lt; {@link #TOTAL}
+   * @return 6비트 조합 마스크
+   */
+  public static long unrank(int rank) {
+    if (rank < 0 || rank >= TOTAL) {
+      throw new IllegalArgumentException("rank out of range: " + rank);
+    }
+    long mask = 0L;
+    int r = rank;
+    int b = LottoSet.MAX_NUMBER - 1;
+    for (int i = LottoSet.PICK_COUNT; i >= 1; i--) {
+      while (BINOMIAL[b][i] > r) {
+        b--;
+      }
+      r -= BINOMIAL[b][i];
+      mask |= 1L << b;
+      b--;
+    }
+    return mask;
+  }
+
+  /** colex 순서상 다음 조합(Gosper's hack). 마지막 조합 다음 값은 45비트 범위를 벗어나므로 호출자가 개수로 멈춰야 한다. */
+  public static long next(long mask) {
+    long lowest = mask & -mask;
+    long ripple = mask + lowest;
+    return (((ripple ^ mask) >>> 2) >>> Long.numberOfTrailingZeros(mask)) | ripple;
+  }
+
+  /**
+   * 전체 C(45,6) 조합 중 하나를 균등 확률로 뽑는다(룰 미적용).
+   *
+   * <p>부분 Fisher–Yates: 덱 앞 6칸만 섞으므로 난수 6회, 재시도/충돌 없음.
+   */
+  public static long randomCombination(RandomGenerator random) {
+    byte[] deck = DECK.get();
+    long mask = 0L;
+    for (int i = 0; i < LottoSet.PICK_COUNT; i++) {
+      int j = i + random.nextInt(LottoSet.MAX_NUMBER - i);
+      byte picked = deck[j];
+      deck[j] = deck[i];
+      deck[i] = picked;
+      mask |= 1L << picked;
+    }
+    return mask;
+  }
+
+  private static byte[] newDeck() {
+    byte[] deck = new byte[LottoSet.MAX_NUMBER];
+    for (int i = 0; i < deck.length; i++) {
+      deck[i] = (byte) i;
+    }
+    return deck;
+  }
+
+  private static int[][] binomialTable() {
+    int[][] c = new int[LottoSet.MAX_NUMBER + 1][LottoSet.PICK_COUNT + 1];
+    for (int n = 0; n <= LottoSet.MAX_NUMBER; n++) {
+      c[n][0] = 1;
+      for (int k = 1; k <= Math.min(n, LottoSet.PICK_COUNT); k++) {
+        c[n][k] = c[n - 1][k - 1] + (k <= n - 1 ? c[n - 1][k] : 0);
+      }
+    }
+    return c;
+  }
+}
@@ -0,0 +1,176 @@
+package com.lottery.lottery_service.lotto.generation;
+
+import java.util.function.LongPredicate;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+/**
+ * 룰을 통과하는 조합들의 불변 비트맵 + rank/select 인덱스.
+ *
+ * <p>구조:
+ *
+ * <ul>
+ *   <li>{@code words}: 비트 i = colex 순위 i인 조합의 통과 여부(C(45,6) 비트 ≈ 1MB).
+ *   <li>{@code blockRanks}: 512비트(8워드) 블록마다 "블록 시작 전까지의 통과 개수" 누적값.
+ *   <li>{@code selectHints}: {@value #HINT_STRIDE}번째 통과 조합마다 그것이 들어 있는 블록 번호(select 탐색 범위 축소용).
+ * </ul>
+ *
+ * <p>추출: 0 ≤ r &lt; passCount 를 한 번 뽑고 r번째 통과 조합을 select → unrank 한다. 거절/재시도가 없으므로 룰 통과율과 무관하게 비용이
+ * 일정하다.
+ *
+ * <p>빌드 후 절대 수정하지 않으므로 여러 스레드가 락 없이 공유한다(교체는 {@link PassingCombinationSampler}가 담당).
+ */
+public final class PassingCombinationIndex {
+
+  private static final int WORD_BITS = 64;
+
+  /** 블록당 워드 수(512비트) */
+  private static final int BLOCK_WORDS = 8;
+
+  /** select 힌트 간격(통과 조합 개수 기준) */
+  private static final int HINT_STRIDE = 4096;
+
+  /** 병렬 빌드 시 작업 단위(워드 수) */
+  private static final int BUILD_CHUNK_WORDS = 1024;
+
+  private static final int WORD_COUNT = (LottoCombinations.TOTAL + WORD_BITS - 1) / WORD_BITS;
+
+  private final long[] words;
+  private final int[] blockRanks;
+  private final int[] selectHints;
+  private final int passCount;
+
+  private PassingCombinationIndex(long[] words) {
+    this.words = words;
+
+    int blocks = (words.length + BLOCK_WORDS - 1) / BLOCK_WORDS;
+    this.blockRanks = new int[blocks + 1];
+    int running = 0;
+    for (int b = 0; b < blocks; b++) {
+      blockRanks[b] = running;
+      for (int w = b * BLOCK_WORDS, end = Math.min(w + BLOCK_WORDS, words.length); w < end; w++) {
+        running += Long.bitCount(words[w]);
+      }
+    }
+    blockRanks[blocks] = running;
+    this.passCount = running;
+
+    this.selectHints = new int[(running + HINT_STRIDE - 1) / HINT_STRIDE];
+    for (int b = 0, h = 0; b < blocks && h < selectHints.length; b++) {
+      while (h < selectHints.length && (long) h * HINT_STRIDE < blockRanks[b + 1]) {
+        selectHints[h++] = b;
+      }
+    }
+  }
+
+  /**
+   * 전체 C(45,6) 조합을 병렬로 평가해 인덱스를 만든다.
+   *
+   * <p>워드 청크마다 시작 순위를 unrank 한 뒤 Gosper's hack으로 다음 조합을 이어가므로 조합 생성 비용은 조합당 상수다. 각 청크는 서로 다른 워드만
+   * 쓰므로 동기화가 필요 없다.
+   *
+   * @param passes 조합 마스크 → 통과 여부(스레드 안전해야 함)
+   */
+  public static PassingCombinationIndex build(LongPredicate passes) {
+    long[] words = new long[WORD_COUNT];
+    int chunks = (WORD_COUNT + BUILD_CHUNK_WORDS - 1) / BUILD_CHUNK_WORDS;
+
+    IntStream.range(0, chunks)
+        .parallel()
+        .forEach(
+            chunk -> {
+              int fromWord = chunk * BUILD_CHUNK_WORDS;
+              int toWord = Math.min(fromWord + BUILD_CHUNK_WORDS, WORD_COUNT);
+              int rank = fromWord * WORD_BITS;
+              int endRank = Math.min(toWord * WORD_BITS, LottoCombinations.TOTAL);
+
+              long mask = LottoCombinations.unrank(rank);
+              for (; rank < endRank; rank++) {
+                if (passes.test(mask)) {
+                  words[rank >>> 6] |= 1L << rank;
+                }
+                mask = LottoCombinations.next(mask);
+              }
+            });
+
+    return new PassingCombinationIndex(words);
+  }
+
+  /** 룰을 통과하는 조합 수 */
+  public int passCount() {
+    return passCount;
+  }
+
+  /** colex 순위 rank의 조합이 통과 집합에 속하는지(O(1)) */
+  public boolean contains(int rank) {
+    return rank >= 0
+        && rank < LottoCombinations.TOTAL
+        && (words[rank >>> 6] & (1L << rank)) != 0;
+  }
+
+  /**
+   * 통과 조합 중 하나를 균등 확률로 뽑는다.
+   *
+   * @return 6비트 조합 마스크
+   * @throws IllegalStateException 통과 조합이 하나도 없는 경우(룰 설정 오류)
+   */
+  public long sample(RandomGenerator random) {
+    if (passCount == 0) {
+      throw new IllegalStateException("활성 룰을 통과하는 조합이 없습니다.");
+    }
+    return LottoCombinations.unrank(select(random.nextInt(passCount)));
+  }
+
+  /**
+   * r번째(0-base) 통과 조합의 colex 순위.
+   *
+   * <p>힌트로 블록 범위를 좁힌 뒤 blockRanks 이진 탐색 → 블록 내 워드 popcount → 워드 내 비트 선택 순으로 내려간다.
+   */
+  int select(int r) {
+    if (r < 0 || r >= passCount) {
+      throw new IllegalArgumentException("select out of range: " + r);
+    }
+
+    int h = r / HINT_STRIDE;
+    int lo = selectHints[h];
+    int hi = h + 1 < selectHints.length ? selectHints[h + 1] : blockRanks.length - 2;
+    // blockRanks[block] ≤ r < blockRanks[block + 1] 인 block을 찾는다
+    while (lo < hi) {
+      int mid = (lo + hi + 1) >>> 1;
+      if (blockRanks[mid] <= r) {
+        lo = mid;
+      } else {
+        hi = mid - 1;
+      }
+    }
+
+    int remaining = r - blockRanks[lo];
+    int w = lo * BLOCK_WORDS;
+    int ones = Long.bitCount(words[w]);
+    while (remaining >= ones) {
+      remaining -= ones;
+      ones = Long.bitCount(words[++w]);
+    }
+    return w * WORD_BITS + selectInWord(words[w], remaining);
+  }
+
+  /** 워드 안에서 k번째(0-base) 켜진 비트의 위치. 32/16/8비트 단위로 좁힌 뒤 남은 비트만 훑는다. */
+  private static int selectInWord(long word, int k) {
+    int base = 0;
+    for (int width = 32; width >= 8; width >>>= 1) {
+      long lowHalf = word & ((1L << width) - 1);
+      int lowCount = Long.bitCount(lowHalf);
+      if (k >= lowCount) {
+        k -= lowCount;
+        word >>>= width;
+        base += width;
+      } else {
+        word = lowHalf;
+      }
+    }
+    for (; k > 0; k--) {
+      word &= word - 1;
+    }
+    return base + Long.numberOfTrailingZeros(word);
+  }
+}
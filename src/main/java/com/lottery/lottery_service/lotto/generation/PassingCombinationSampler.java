@@ -0,0 +1,248 @@
+package com.lottery.lottery_service.lotto.generation;
+
+import com.lottery.lottery_service.lotto.dto.LottoSet;
+import com.lottery.lottery_service.lotto.external.LottoWinnerSavedEvent;
+import com.lottery.lottery_service.lotto.validation.pipeline.LottoValidationPipeline;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.random.RandomGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * [컴포넌트] "활성 룰을 통과하는 조합" 공간에서 균등 추출하는 추천 엔진.
+ *
+ * <p>동작:
+ *
+ * <ul>
+ *   <li>기동 시 C(45,6) 전체를 파이프라인으로 한 번 평가해 {@link PassingCombinationIndex}를 만든다(병렬).
+ *   <li>추출은 인덱스 select 한 번이므로 거절/재시도 루프가 없고, 룰 통과율과 무관하게 항상 요청한 개수를 돌려준다.
+ *   <li>당첨 데이터 추가(이벤트)나 룰 변경 시 {@link #requestRebuild()}로 백그라운드 재빌드 후 원자적으로 교체한다.
+ * </ul>
+ *
+ * <p>재빌드 중에는 직전 스냅샷으로 추출한다. 이 구간에 한해 방금 추가된 당첨 조합 등이 뽑힐 수 있으므로, 뽑은 조합을 파이프라인으로 한 번 더 확인한다.
+ * 스냅샷에서 재추출 상한까지 통과 조합을 못 찾으면 전체 조합에서 균등 추출해 확인하고, 그래도 못 찾으면 요청 스레드에서 재빌드한 뒤 새 스냅샷에서
+ * 뽑는다. 어느 경우에도 현재 룰을 통과하지 못한 조합은 돌려주지 않는다.
+ *
+ * <p>인덱스와 그 인덱스가 반영한 재빌드 세대는 한 스냅샷으로 묶어 참조 하나로 교체한다. 재빌드(백그라운드/요청 스레드 모두)는 이 객체의 락 안에서만
+ * 돌고, 스냅샷은 세대가 낮아지지 않을 때만 바꾼다. 그래서 "새 세대 + 예전 인덱스" 조합은 보이지 않는다.
+ */
+@Slf4j
+@Component
+public class PassingCombinationSampler {
+
+  /** 스냅샷이 낡았을 때 재추출 상한(통과율이 극단적으로 낮아도 무한 반복하지 않도록) */
+  private static final int STALE_RETRY_LIMIT = 8;
+
+  /** 스냅샷 재추출이 실패한 뒤 전체 조합에서 뽑아 확인하는 상한 */
+  private static final int UNIFORM_FALLBACK_LIMIT = 1_000;
+
+  private final LottoValidationPipeline pipeline;
+
+  /** 현재 추출에 사용하는 인덱스 스냅샷(인덱스 + 반영한 세대) */
+  private final AtomicReference<Snapshot> snapshotRef = new AtomicReference<>();
+
+  /** 재빌드 요청 세대. 스냅샷의 세대와 다르면 스냅샷이 낡은 상태다. */
+  private final AtomicLong requestedGeneration = new AtomicLong();
+
+  /** 재빌드 작업이 이미 큐에 있으면 요청을 합친다 */
+  private final AtomicBoolean rebuildQueued = new AtomicBoolean(false);
+
+  /** 낡은 스냅샷에서 뽑은 조합을 다시 뽑은 횟수 / 재추출 상한까지 가고도 통과 조합을 못 찾은 횟수 */
+  private final LongAdder staleRetries = new LongAdder();
+
+  private final LongAdder staleRetryExhausted = new LongAdder();
+
+  private final ExecutorService rebuildExecutor;
+
+  @Autowired
+  public PassingCombinationSampler(LottoValidationPipeline pipeline) {
+    this(
+        pipeline,
+        Executors.newSingleThreadExecutor(
+            r -> {
+              Thread t = new Thread(r, "lotto-index-rebuild");
+              t.setDaemon(true);
+              return t;
+            }));
+  }
+
+  /** 테스트에서 재빌드 실행 시점을 잡기 위한 생성자 */
+  PassingCombinationSampler(LottoValidationPipeline pipeline, ExecutorService rebuildExecutor) {
+    this.pipeline = pipeline;
+    this.rebuildExecutor = rebuildExecutor;
+  }
+
+  /** 앱 기동 시 1회 동기 빌드. 첫 요청 전에 인덱스가 준비되어 있어야 한다. */
+  @PostConstruct
+  public void init() {
+    rebuild();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    rebuildExecutor.shutdownNow();
+  }
+
+  /** 새 회차 당첨 데이터가 커밋되면(당첨 캐시 갱신 이후) 인덱스를 다시 만든다. */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onWinnerSaved(LottoWinnerSavedEvent event) {
+    requestRebuild();
+  }
+
+  /**
+   * 백그라운드 재빌드를 요청한다. 이미 대기 중인 재빌드가 있으면 그 작업에 합쳐진다.
+   *
+   * <p>룰 설정이나 당첨 캐시가 바뀐 뒤 호출한다.
+   */
+  public void requestRebuild() {
+    requestedGeneration.incrementAndGet();
+    if (rebuildQueued.compareAndSet(false, true)) {
+      rebuildExecutor.execute(this::runQueuedRebuild);
+    }
+  }
+
+  /**
+   * 동기 재빌드: 전수 평가 후 스냅샷을 교체한다.
+   *
+   * <p>세대를 먼저 읽고 평가하므로, 스냅샷은 적어도 그 세대까지의 변경을 반영한다. 재빌드는 서로 겹치지 않으며 더 낮은 세대로 되돌아가지
+   * 않는다(같은 세대면 나중 빌드가 이긴다).
+   */
+  public synchronized void rebuild() {
+    long generation = requestedGeneration.get();
+    long started = System.nanoTime();
+
+    Predicate<LottoSet> passes = pipeline.bulkTester(); // 빌드 판정은 룰 메트릭에 남기지 않는다
+    PassingCombinationIndex index =
+        PassingCombinationIndex.build(mask -> passes.test(LottoSet.ofMask(mask)));
+    Snapshot built = new Snapshot(index, generation);
+    snapshotRef.accumulateAndGet(
+        built,
+        (current, next) ->
+            current == null || next.generation >= current.generation ? next : current);
+
+    log.info(
+        "Passing combination index built: {}/{} combinations pass ({} ms)",
+        index.passCount(),
+        LottoCombinations.TOTAL,
+        (System.nanoTime() - started) / 1_000_000);
+  }
+
+  /**
+   * 주어진 판정기를 통과하는 조합 수를 센다(C(45,6) 전수 평가, 스냅샷은 바꾸지 않는다).
+   *
+   * <p>룰 설정을 바꾸기 전에 추천할 조합이 남는지 확인하는 용도다.
+   *
+   * @param passes 스레드 안전한 판정기
+   */
+  public int countPassing(Predicate<LottoSet> passes) {
+    return PassingCombinationIndex.build(mask -> passes.test(LottoSet.ofMask(mask))).passCount();
+  }
+
+  /** 현재 스냅샷에서 통과 조합 수 */
+  public int passCount() {
+    return currentSnapshot().index.passCount();
+  }
+
+  /**
+   * 통과 조합 count개를 각각 균등 확률로 뽑는다(세트 간 독립 추출).
+   *
+   * @param count 세트 수
+   * @param random 난수원
+   * @return 정확히 count개의 조합
+   * @throws IllegalStateException 통과 조합이 하나도 없는 경우
+   */
+  public List<LottoSet> draw(int count, RandomGenerator random) {
+    List<LottoSet> result = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      result.add(drawOne(random));
+    }
+    return result;
+  }
+
+  /** 통과 조합 1개를 균등 확률로 뽑는다. */
+  public LottoSet drawOne(RandomGenerator random) {
+    Snapshot snapshot = currentSnapshot();
+    PassingCombinationIndex index = snapshot.index;
+    long mask = index.sample(random);
+    if (snapshot.generation == requestedGeneration.get()) {
+      return LottoSet.ofMask(mask);
+    }
+    // 재빌드 대기 중: 직전 스냅샷에는 아직 반영되지 않은 변경이 있을 수 있다
+    int retries = 0;
+    while (!pipeline.test(LottoSet.ofMask(mask))) {
+      if (retries == STALE_RETRY_LIMIT) {
+        staleRetries.add(retries);
+        staleRetryExhausted.increment();
+        return drawAfterStaleRetries(random);
+      }
+      mask = index.sample(random);
+      retries++;
+    }
+    staleRetries.add(retries);
+    return LottoSet.ofMask(mask);
+  }
+
+  /** 스냅샷 재추출이 모두 실패했을 때: 전체 조합에서 균등 추출해 확인하고, 그래도 없으면 재빌드를 기다린다. */
+  private LottoSet drawAfterStaleRetries(RandomGenerator random) {
+    for (int i = 0; i < UNIFORM_FALLBACK_LIMIT; i++) {
+      LottoSet candidate = LottoSet.ofMask(LottoCombinations.randomCombination(random));
+      if (pipeline.test(candidate)) {
+        return candidate;
+      }
+    }
+    // 새 스냅샷은 현재 룰로 만들어지므로 다시 확인하지 않는다
+    return LottoSet.ofMask(rebuildIfStale().sample(random));
+  }
+
+  /** 누적 재추출 횟수(재빌드 대기 중 낡은 스냅샷 보정) */
+  public long staleRetryCount() {
+    return staleRetries.sum();
+  }
+
+  /** 재추출 상한에 걸린 누적 횟수 */
+  public long staleRetryExhaustedCount() {
+    return staleRetryExhausted.sum();
+  }
+
+  private Snapshot currentSnapshot() {
+    Snapshot snapshot = snapshotRef.get();
+    if (snapshot == null) {
+      throw new IllegalStateException("추천 인덱스가 아직 준비되지 않았습니다.");
+    }
+    return snapshot;
+  }
+
+  /** 동시에 상한에 걸린 요청들이 재빌드를 한 번만 하도록 직렬화한다(백그라운드 재빌드와 같은 락). */
+  private synchronized PassingCombinationIndex rebuildIfStale() {
+    if (currentSnapshot().generation != requestedGeneration.get()) {
+      rebuild();
+    }
+    return currentSnapshot().index;
+  }
+
+  private void runQueuedRebuild() {
+    // 빌드 시작 전에 플래그를 내려, 빌드 도중 들어온 요청이 다음 재빌드를 예약하도록 한다
+    rebuildQueued.set(false);
+    try {
+      rebuild();
+    } catch (RuntimeException e) {
+      log.error("Passing combination index rebuild failed; keeping previous snapshot", e);
+    }
+  }
+
+  /** 인덱스와 그것을 만들 때 읽은 재빌드 세대. 둘은 항상 함께 교체된다. */
+  private record Snapshot(PassingCombinationIndex index, long generation) {}
+}
@@ -0,0 +1,113 @@
+package com.lottery.lottery_service.lotto.generation.pool;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * [내부 모델] 크기가 고정된 lock-free 다중 생산자/다중 소비자 long 큐.
+ *
+ * <p>칸마다 순번(sequence)을 두는 방식이다. 생산자/소비자는 각자 tail/head 위치를 CAS로 하나씩 선점한 뒤, 칸의 순번을 보고 그 칸이
+ * 비었는지/찼는지를 판단한다. 값 배열은 일반 배열이며, 순번의 volatile 쓰기/읽기가 값의 가시성을 보장한다. 가득 차면 offer가, 비면 poll이
+ * 기다리지 않고 바로 실패한다.
+ */
+final class LongRingBuffer {
+
+  /** poll 실패(비어 있음) 표시. 저장하는 값은 음수가 아니어야 한다. */
+  static final long EMPTY = -1L;
+
+  private final long[] values;
+  private final AtomicLongArray sequences;
+  private final int indexMask;
+
+  /** 다음 쓰기 위치 */
+  private final AtomicLong tail = new AtomicLong();
+
+  /** 다음 읽기 위치 */
+  private final AtomicLong head = new AtomicLong();
+
+  /** @param capacity 용량(2의 거듭제곱으로 올림) */
+  LongRingBuffer(int capacity) {
+    if (capacity < 1 || capacity > 1 << 30) {
+      throw new IllegalArgumentException("capacity out of range: " + capacity);
+    }
+    int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    this.values = new long[size];
+    this.sequences = new AtomicLongArray(size);
+    this.indexMask = size - 1;
+    for (int i = 0; i < size; i++) {
+      sequences.set(i, i);
+    }
+  }
+
+  int capacity() {
+    return values.length;
+  }
+
+  /** 현재 원소 수(동시 변경 중에는 근삿값) */
+  int size() {
+    long size = tail.get() - head.get();
+    return (int) Math.max(0, Math.min(size, values.length));
+  }
+
+  /**
+   * 값을 넣는다.
+   *
+   * @param value 0 이상의 값
+   * @return 가득 차서 넣지 못하면 false
+   */
+  boolean offer(long value) {
+    long pos = tail.get();
+    while (true) {
+      int index = (int) (pos & indexMask);
+      long diff = sequences.get(index) - pos;
+      if (diff == 0) {
+        // 빈 칸: 위치를 선점한 생산자만 쓴다
+        if (tail.compareAndSet(pos, pos + 1)) {
+          values[index] = value;
+          sequences.set(index, pos + 1);
+          return true;
+        }
+        pos = tail.get();
+      } else if (diff < 0) {
+        return false; // 한 바퀴 전 값이 아직 소비되지 않음 = 가득 참
+      } else {
+        pos = tail.get(); // 다른 생산자가 먼저 가져감
+      }
+    }
+  }
+
+  /**
+   * 값을 하나 꺼낸다.
+   *
+   * @return 꺼낸 값, 비어 있으면 {@link #EMPTY}
+   */
+  long poll() {
+    long pos = head.get();
+    while (true) {
+      int index = (int) (pos & indexMask);
+      long diff = sequences.get(index) - (pos + 1);
+      if (diff == 0) {
+        if (head.compareAndSet(pos, pos + 1)) {
+          long value = values[index];
+          // 다음 바퀴의 생산자가 쓸 수 있도록 칸을 비움 표시
+          sequences.set(index, pos + values.length);
+          return value;
+        }
+        pos = head.get();
+      } else if (diff < 0) {
+        return EMPTY;
+      } else {
+        pos = head.get();
+      }
+    }
+  }
+
+  /** 지금 들어 있는 값을 모두 버린다. 동시에 들어오는 값은 남을 수 있다. */
+  int clear() {
+    int dropped = 0;
+    while (poll() != EMPTY) {
+      dropped++;
+    }
+    return dropped;
+  }
+}
@@ -0,0 +1,312 @@
+package com.lottery.lottery_service.lotto.generation.pool;
+
+import com.lottery.lottery_service.lotto.dto.LottoSet;
+import com.lottery.lottery_service.lotto.external.LottoWinnerSavedEvent;
+import com.lottery.lottery_service.lotto.generation.PassingCombinationSampler;
+import com.lottery.lottery_service.lotto.generation.random.RandomSource;
+import com.lottery.lottery_service.lotto.generation.weighted.StatisticsWeightedSampler;
+import com.lottery.lottery_service.lotto.validation.pipeline.LottoValidationPipeline;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.random.RandomGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * [컴포넌트] 추천 출처(BASIC/AD/EVENT/STATS/STATS_COLD)별로 미리 뽑아 둔 검증 통과 조합 풀.
+ *
+ * <p>동작:
+ *
+ * <ul>
+ *   <li>출처마다 {@link LongRingBuffer}(lock-free, 고정 크기) 하나에 조합 마스크를 담아 둔다. 요청 스레드는 꺼내기만 한다.
+ *   <li>백그라운드 스레드 1개가 주기적으로(또는 저수위 아래로 내려가면 즉시) 각 풀을 가득 채운다.
+ *   <li>풀이 비어 있으면 모자란 만큼만 요청 스레드에서 직접 뽑는다(대기하지 않음).
+ *   <li>STATS 출처는 균등 추천 엔진 대신 {@link StatisticsWeightedSampler}로 채운다.
+ *   <li>당첨 데이터가 추가되면({@link LottoWinnerSavedEvent}) 풀을 비우고 다시 채운다.
+ * </ul>
+ *
+ * <p>낡은 조합 차단: 각 원소는 상위 비트에 "비운 횟수(epoch)"를 달고 들어간다. 비우기 직전에 뽑혀 비운 뒤에 들어온 원소도 꺼낼 때 epoch가 달라
+ * 버려진다. 보충 시에는 뽑은 조합을 파이프라인으로 한 번 더 확인하므로, 인덱스 재빌드가 끝나기 전에도 새 당첨 조합이 풀에 들어가지 않는다.
+ *
+ * <p>seeded 난수 모드에서는 회원별 재현성을 지키기 위해 풀을 쓰지 않고 요청 스레드에서 바로 뽑는다.
+ */
+@Slf4j
+@Component
+public class RecommendationPool {
+
+  /** 풀을 두는 추천 출처. 그 밖의 출처는 바로 뽑는다. */
+  static final List<String> SOURCES = List.of("BASIC", "AD", "EVENT", "STATS", "STATS_COLD");
+
+  /** 원소 = 조합 마스크(비트 0~44) | epoch(비트 45~62). 부호 비트는 비워 EMPTY(-1)와 겹치지 않게 한다. */
+  private static final int EPOCH_SHIFT = 45;
+
+  private static final long EPOCH_MASK = (1L << (Long.SIZE - 1 - EPOCH_SHIFT)) - 1;
+
+  /** 보충 속도 지수평활 계수 */
+  private static final double RATE_ALPHA = 0.2;
+
+  private final PassingCombinationSampler combinationSampler;
+  private final StatisticsWeightedSampler weightedSampler;
+  private final LottoValidationPipeline pipeline;
+  private final RandomSource randomSource;
+
+  private final boolean enabled;
+  private final int lowWatermark;
+  private final long refillIntervalMillis;
+
+  private final Map<String, Profile> profiles;
+
+  /** 풀을 비운 횟수 */
+  private final AtomicInteger epoch = new AtomicInteger();
+
+  /** 즉시 보충 작업이 이미 큐에 있으면 요청을 합친다 */
+  private final AtomicBoolean refillQueued = new AtomicBoolean(false);
+
+  private final ScheduledExecutorService refillExecutor =
+      Executors.newSingleThreadScheduledExecutor(
+          r -> {
+            Thread t = new Thread(r, "lotto-recommendation-pool-refill");
+            t.setDaemon(true);
+            return t;
+          });
+
+  public RecommendationPool(
+      PassingCombinationSampler combinationSampler,
+      StatisticsWeightedSampler weightedSampler,
+      LottoValidationPipeline pipeline,
+      RandomSource randomSource,
+      @Value("${lotto.pool.enabled:true}") boolean enabled,
+      @Value("${lotto.pool.capacity:1024}") int capacity,
+      @Value("${lotto.pool.low-watermark:256}") int lowWatermark,
+      @Value("${lotto.pool.refill-interval-ms:100}") long refillIntervalMillis) {
+    this.combinationSampler = combinationSampler;
+    this.weightedSampler = weightedSampler;
+    this.pipeline = pipeline;
+    this.randomSource = randomSource;
+    this.enabled = enabled && randomSource.mode() != RandomSource.Mode.SEEDED;
+    this.lowWatermark = lowWatermark;
+    this.refillIntervalMillis = refillIntervalMillis;
+
+    Map<String, Profile> map = new LinkedHashMap<>();
+    for (String source : SOURCES) {
+      map.put(
+          source,
+          new Profile(new LongRingBuffer(capacity), StatisticsWeightedSampler.biasOf(source)));
+    }
+    this.profiles = map;
+  }
+
+  /** 보충 스케줄 시작. 첫 보충은 바로 시작하며, 다 차기 전의 요청은 모자란 만큼 직접 뽑는다. */
+  @PostConstruct
+  public void start() {
+    if (!enabled) {
+      log.info("Recommendation pool disabled (random mode={})", randomSource.mode());
+      return;
+    }
+    refillExecutor.scheduleWithFixedDelay(
+        this::refillAll, 0, refillIntervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    refillExecutor.shutdownNow();
+  }
+
+  /** 새 회차가 커밋되면(당첨 캐시 반영 이후) 풀을 비우고 다시 채운다. */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onWinnerSaved(LottoWinnerSavedEvent event) {
+    flush();
+  }
+
+  /**
+   * 풀에 있는 조합을 모두 버리고 보충을 요청한다.
+   *
+   * <p>룰 설정이나 당첨 데이터처럼 "통과 여부"를 바꾸는 변경 뒤에 호출한다.
+   */
+  public void flush() {
+    epoch.incrementAndGet();
+    int dropped = 0;
+    for (Profile profile : profiles.values()) {
+      dropped += profile.buffer.clear();
+    }
+    log.info("Recommendation pool flushed: {} sets dropped", dropped);
+    requestRefill();
+  }
+
+  /**
+   * 추천 세트 count개를 꺼낸다. 풀이 모자라면 나머지는 호출 스레드에서 바로 뽑는다.
+   *
+   * @param source 추천 출처(BASIC/AD/EVENT/STATS/STATS_COLD, 대소문자 무시). 풀이 없는 출처는 균등 추출로 바로 뽑는다.
+   * @param count 세트 수
+   * @param random 풀이 모자랄 때 쓸 난수원(호출 스레드 전용)
+   * @return 정확히 count개의 검증 통과 조합
+   */
+  public List<LottoSet> take(String source, int count, RandomGenerator random) {
+    Profile profile = profileOf(source);
+    if (profile == null) {
+      return combinationSampler.draw(count, random);
+    }
+    if (!enabled) {
+      return draw(profile, count, random);
+    }
+
+    List<LottoSet> result = new ArrayList<>(count);
+    long current = epoch.get() & EPOCH_MASK;
+    while (result.size() < count) {
+      long entry = profile.buffer.poll();
+      if (entry == LongRingBuffer.EMPTY) {
+        break;
+      }
+      if ((entry >>> EPOCH_SHIFT) != current) {
+        continue; // 비우기 전에 뽑힌 조합
+      }
+      result.add(LottoSet.ofMask(entry & LottoSet.FULL_MASK));
+    }
+    profile.served.add(result.size());
+
+    int missing = count - result.size();
+    if (missing > 0) {
+      profile.fallback.add(missing);
+      result.addAll(draw(profile, missing, random));
+    }
+    if (profile.buffer.size() < lowWatermark) {
+      requestRefill();
+    }
+    return result;
+  }
+
+  /** 출처별 채움 수준/보충 속도 스냅샷 */
+  public List<PoolStats> stats() {
+    List<PoolStats> out = new ArrayList<>(profiles.size());
+    profiles.forEach(
+        (source, p) ->
+            out.add(
+                new PoolStats(
+                    source,
+                    p.buffer.size(),
+                    p.buffer.capacity(),
+                    p.refilled.sum(),
+                    p.served.sum(),
+                    p.fallback.sum(),
+                    p.refillRate)));
+    return out;
+  }
+
+  /**
+   * 출처 1개의 풀 상태.
+   *
+   * @param source 추천 출처
+   * @param size 현재 들어 있는 조합 수
+   * @param capacity 용량
+   * @param refilled 누적 보충 수
+   * @param served 풀에서 꺼내 준 누적 수
+   * @param fallback 풀이 모자라 요청 스레드에서 직접 뽑은 누적 수
+   * @param refillRatePerSecond 보충 중 처리 속도(초당 세트, 지수평활). 시간당 보충량은 refilled의 변화율로 본다.
+   */
+  public record PoolStats(
+      String source,
+      int size,
+      int capacity,
+      long refilled,
+      long served,
+      long fallback,
+      double refillRatePerSecond) {}
+
+  private Profile profileOf(String source) {
+    return source == null ? null : profiles.get(source.toUpperCase(Locale.ROOT));
+  }
+
+  private void requestRefill() {
+    if (enabled && refillQueued.compareAndSet(false, true)) {
+      refillExecutor.execute(
+          () -> {
+            refillQueued.set(false);
+            refillAll();
+          });
+    }
+  }
+
+  /** 모든 출처의 풀을 채운다. 보충 스레드에서만 호출된다(테스트는 직접 호출). */
+  void refillAll() {
+    try {
+      RandomGenerator random = randomSource.generator(null);
+      for (Profile profile : profiles.values()) {
+        refill(profile, random);
+      }
+    } catch (RuntimeException e) {
+      // 스케줄이 끊기지 않도록 삼키고 다음 주기에 다시 시도한다(요청은 직접 추출로 계속 처리됨)
+      log.warn("Recommendation pool refill failed", e);
+    }
+  }
+
+  private void refill(Profile profile, RandomGenerator random) {
+    long started = System.nanoTime();
+    int added = 0;
+    int missing = profile.buffer.capacity() - profile.buffer.size();
+    for (int i = 0; i < missing; i++) {
+      int epochAtDraw = epoch.get();
+      LottoSet set =
+          profile.bias == null
+              ? combinationSampler.drawOne(random)
+              : weightedSampler.drawOne(profile.bias, random);
+      if (!pipeline.test(set)) {
+        continue; // 인덱스 재빌드 전: 방금 바뀐 데이터로는 통과하지 못하는 조합
+      }
+      if (epoch.get() != epochAtDraw) {
+        break; // 뽑는 사이에 비워짐: 다음 보충에서 새 epoch로 채운다
+      }
+      if (!profile.buffer.offer(set.mask() | (epochAtDraw & EPOCH_MASK) << EPOCH_SHIFT)) {
+        break;
+      }
+      added++;
+    }
+    if (added > 0) {
+      profile.refilled.add(added);
+      double seconds = Math.max(System.nanoTime() - started, 1) / 1e9;
+      double rate = added / seconds;
+      double previous = profile.refillRate;
+      profile.refillRate = previous == 0 ? rate : previous + RATE_ALPHA * (rate - previous);
+    }
+  }
+
+  /** 출처에 맞는 엔진(균등/가중)에서 바로 뽑는다. */
+  private List<LottoSet> draw(Profile profile, int count, RandomGenerator random) {
+    return profile.bias == null
+        ? combinationSampler.draw(count, random)
+        : weightedSampler.draw(profile.bias, count, random);
+  }
+
+  /** 출처 1개의 버퍼와 카운터 */
+  private static final class Profile {
+    private final LongRingBuffer buffer;
+
+    /** 가중 추천 방향, 균등 추천 출처면 null */
+    private final StatisticsWeightedSampler.Bias bias;
+
+    private final LongAdder refilled = new LongAdder();
+    private final LongAdder served = new LongAdder();
+    private final LongAdder fallback = new LongAdder();
+
+    /** 보충 스레드만 쓴다 */
+    private volatile double refillRate;
+
+    private Profile(LongRingBuffer buffer, StatisticsWeightedSampler.Bias bias) {
+      this.buffer = buffer;
+      this.bias = bias;
+    }
+  }
+}
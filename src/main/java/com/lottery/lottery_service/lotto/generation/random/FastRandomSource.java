@@ -0,0 +1,18 @@
+package com.lottery.lottery_service.lotto.generation.random;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/** [난수원] 스레드별 ThreadLocalRandom. 공유 시드가 없으므로 요청 스레드끼리 경합하지 않고 할당도 없다. */
+public final class FastRandomSource implements RandomSource {
+
+  @Override
+  public RandomGenerator generator(Long key) {
+    return ThreadLocalRandom.current();
+  }
+
+  @Override
+  public Mode mode() {
+    return Mode.FAST;
+  }
+}
@@ -0,0 +1,49 @@
+package com.lottery.lottery_service.lotto.generation.random;
+
+import java.util.Locale;
+import java.util.random.RandomGenerator;
+
+/**
+ * 추천 번호 추출에 쓰는 난수원 SPI.
+ *
+ * <p>구현체는 설정({@code lotto.random.mode})으로 하나가 선택된다.
+ *
+ * <ul>
+ *   <li>{@link Mode#FAST}: 스레드별 {@link java.util.concurrent.ThreadLocalRandom}. 시드 경합/할당 없음(기본값).
+ *   <li>{@link Mode#SECURE}: {@link java.security.SecureRandom} 블록을 백그라운드에서 미리 채워 두고 요청 스레드는 버퍼에서만
+ *       읽는다.
+ *   <li>{@link Mode#SEEDED}: 고정 시드 + key(회원 ID)별 호출 순번으로 만든 {@link java.util.SplittableRandom}.
+ *       같은 시드로 다시 실행하면 같은 회원의 추천이 그대로 재현된다(테스트/장애 재현용).
+ * </ul>
+ *
+ * <p>반환된 생성기는 호출 스레드 안에서 한 요청 동안만 사용해야 한다(스레드 간 공유 금지).
+ */
+public interface RandomSource {
+
+  /**
+   * 한 번의 추천 요청에 쓸 난수 생성기.
+   *
+   * @param key 재현 단위(회원 ID). 비회원은 null. 재현이 필요 없는 모드는 무시한다.
+   * @return 호출 스레드 전용 생성기
+   */
+  RandomGenerator generator(Long key);
+
+  /** 현재 모드 */
+  Mode mode();
+
+  /** 난수원 모드 */
+  enum Mode {
+    FAST,
+    SECURE,
+    SEEDED;
+
+    /** 설정값("fast", "SECURE" 등, 대소문자 무시)을 모드로 변환한다. */
+    public static Mode from(String value) {
+      try {
+        return Mode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+      } catch (IllegalArgumentException | NullPointerException e) {
+        throw new IllegalArgumentException("unknown lotto.random.mode: " + value, e);
+      }
+    }
+  }
+}
@@ -0,0 +1,99 @@
+package com.lottery.lottery_service.lotto.generation.random;
+
+import java.security.SecureRandom;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.random.RandomGenerator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * [난수원] SecureRandom 기반 모드. 엔트로피 수집 비용을 요청 스레드에서 떼어낸다.
+ *
+ * <p>동작:
+ *
+ * <ul>
+ *   <li>데몬 스레드 1개가 {@value #BLOCK_LONGS}개짜리 long 블록을 SecureRandom으로 채워 큐(최대 blocks개)에 넣어
+ *       둔다.
+ *   <li>요청 스레드는 자기 블록(ThreadLocal)에서 순서대로 꺼내 쓰고, 다 쓰면 큐에서 새 블록을 가져온다.
+ *   <li>큐가 비어 있으면(급격한 부하) 기다리지 않고 그 자리에서 한 블록을 직접 채운다.
+ * </ul>
+ *
+ * <p>블록 하나는 한 스레드만 소비하므로 같은 난수가 두 요청에 쓰이지 않는다. {@link #close()}로 보충 스레드를 멈춘다.
+ */
+@Slf4j
+public final class SecureBufferedRandomSource implements RandomSource, AutoCloseable {
+
+  /** 블록당 long 개수(= 4KB) */
+  static final int BLOCK_LONGS = 512;
+
+  private final BlockingQueue<long[]> ready;
+  private final SecureRandom fallback = new SecureRandom();
+  private final ThreadLocal<Cursor> cursors = ThreadLocal.withInitial(Cursor::new);
+  private final Thread refiller;
+
+  /** @param blocks 미리 채워 둘 블록 수 */
+  public SecureBufferedRandomSource(int blocks) {
+    if (blocks < 1) {
+      throw new IllegalArgumentException("blocks must be positive: " + blocks);
+    }
+    this.ready = new ArrayBlockingQueue<>(blocks);
+    this.refiller = new Thread(this::refillLoop, "lotto-secure-random-refill");
+    refiller.setDaemon(true);
+    refiller.start();
+  }
+
+  @Override
+  public RandomGenerator generator(Long key) {
+    return cursors.get();
+  }
+
+  @Override
+  public Mode mode() {
+    return Mode.SECURE;
+  }
+
+  @Override
+  public void close() {
+    refiller.interrupt();
+  }
+
+  private void refillLoop() {
+    SecureRandom random = new SecureRandom();
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        ready.put(fill(random));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    log.debug("secure random refill thread stopped");
+  }
+
+  private long[] nextBlock() {
+    long[] block = ready.poll();
+    return block != null ? block : fill(fallback);
+  }
+
+  private static long[] fill(SecureRandom random) {
+    long[] block = new long[BLOCK_LONGS];
+    for (int i = 0; i < block.length; i++) {
+      block[i] = random.nextLong();
+    }
+    return block;
+  }
+
+  /** 스레드 전용 읽기 위치. RandomGenerator의 나머지 메서드(nextInt(bound) 등)는 nextLong()에서 파생된다. */
+  private final class Cursor implements RandomGenerator {
+    private long[] block = new long[0];
+    private int index;
+
+    @Override
+    public long nextLong() {
+      if (index == block.length) {
+        block = nextBlock();
+        index = 0;
+      }
+      return block[index++];
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package com.lottery.lottery_service.lotto.generation.random;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+
+/**
+ * [난수원] 결정적(재현 가능) 모드.
+ *
+ * <p>생성기 시드 = mix(기본 시드, key, key별 호출 순번). 스레드 실행 순서와 무관하게 "같은 회원의 n번째 추천"은 항상 같은 난수열을 쓴다.
+ *
+ * <p>key별 순번을 메모리에 들고 있으므로 테스트/재현 환경 전용이다(운영 기본값 아님).
+ */
+public final class SeededRandomSource implements RandomSource {
+
+  /** 비회원(key = null) 요청의 순번 키 */
+  private static final long GUEST_KEY = Long.MIN_VALUE;
+
+  private static final long GOLDEN_GAMMA = 0x9E37_79B9_7F4A_7C15L;
+
+  private final long seed;
+  private final Map<Long, AtomicLong> sequences = new ConcurrentHashMap<>();
+
+  public SeededRandomSource(long seed) {
+    this.seed = seed;
+  }
+
+  @Override
+  public RandomGenerator generator(Long key) {
+    long k = key == null ? GUEST_KEY : key;
+    long n = sequences.computeIfAbsent(k, ignored -> new AtomicLong()).getAndIncrement();
+    return new SplittableRandom(mix(mix(seed ^ k * GOLDEN_GAMMA) + n * GOLDEN_GAMMA));
+  }
+
+  @Override
+  public Mode mode() {
+    return Mode.SEEDED;
+  }
+
+  /** 모든 key의 순번을 처음으로 되돌린다(같은 시나리오를 다시 재현할 때). */
+  public void reset() {
+    sequences.clear();
+  }
+
+  /** SplitMix64 finalizer: 인접한 입력을 고르게 흩뜨린다. */
+  private static long mix(long z) {
+    z = (z ^ (z >>> 30)) * 0xBF58_476D_1CE4_E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D0_49BB_1331_11EBL;
+    return z ^ (z >>> 31);
+  }
+}
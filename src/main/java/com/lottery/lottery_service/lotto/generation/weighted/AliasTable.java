@@ -0,0 +1,142 @@
+package com.lottery.lottery_service.lotto.generation.weighted;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * [내부 모델] Vose 별칭(alias) 테이블: 가중치 비례 추출을 O(1)에 한다.
+ *
+ * <p>칸 i마다 "자기 자신을 고를 확률 prob[i]"와 "아니면 대신 고를 칸 alias[i]"를 두고, 칸 하나를 균등하게 고른 뒤 동전 한 번으로 결정한다.
+ * 만들 때 O(n), 추출은 난수 두 개.
+ *
+ * <p>비복원 추출을 위해 "이미 뽑은 칸을 빼고 남은 가중치 비례로 뽑기"({@link #sampleExcluding})도 제공한다. 칸 수가 64 이하라 제외 집합은
+ * long 비트마스크(비트 i = 칸 i)로 받는다.
+ */
+public final class AliasTable {
+
+  /** 칸 수 상한(제외 집합을 long 하나로 표현) */
+  public static final int MAX_SIZE = Long.SIZE;
+
+  private final double[] prob;
+  private final int[] alias;
+  private final double[] weights;
+  private final double totalWeight;
+
+  private AliasTable(double[] prob, int[] alias, double[] weights, double totalWeight) {
+    this.prob = prob;
+    this.alias = alias;
+    this.weights = weights;
+    this.totalWeight = totalWeight;
+  }
+
+  /**
+   * 가중치로 테이블을 만든다.
+   *
+   * @param weights 칸별 가중치(양의 유한값)
+   * @throws IllegalArgumentException 칸 수가 1~64가 아니거나 가중치가 올바르지 않은 경우
+   */
+  public static AliasTable of(double[] weights) {
+    int n = weights.length;
+    if (n < 1 || n > MAX_SIZE) {
+      throw new IllegalArgumentException("size must be 1~" + MAX_SIZE + ": " + n);
+    }
+    double total = 0;
+    for (double w : weights) {
+      if (!(w > 0) || Double.isInfinite(w)) {
+        throw new IllegalArgumentException("weight must be positive and finite: " + w);
+      }
+      total += w;
+    }
+
+    // 평균이 1이 되도록 맞춘 뒤 1 미만(small)/이상(large) 칸을 짝지어 채운다
+    double[] scaled = new double[n];
+    int[] small = new int[n];
+    int[] large = new int[n];
+    int smallTop = 0;
+    int largeTop = 0;
+    for (int i = 0; i < n; i++) {
+      scaled[i] = weights[i] * n / total;
+      if (scaled[i] < 1.0) {
+        small[smallTop++] = i;
+      } else {
+        large[largeTop++] = i;
+      }
+    }
+
+    double[] prob = new double[n];
+    int[] alias = new int[n];
+    while (smallTop > 0 && largeTop > 0) {
+      int s = small[--smallTop];
+      int l = large[--largeTop];
+      prob[s] = scaled[s];
+      alias[s] = l;
+      scaled[l] = scaled[l] + scaled[s] - 1.0;
+      if (scaled[l] < 1.0) {
+        small[smallTop++] = l;
+      } else {
+        large[largeTop++] = l;
+      }
+    }
+    // 남은 칸은 반올림 오차만 있는 1.0 칸
+    while (largeTop > 0) {
+      int l = large[--largeTop];
+      prob[l] = 1.0;
+      alias[l] = l;
+    }
+    while (smallTop > 0) {
+      int s = small[--smallTop];
+      prob[s] = 1.0;
+      alias[s] = s;
+    }
+    return new AliasTable(prob, alias, weights.clone(), total);
+  }
+
+  /** 칸 수 */
+  public int size() {
+    return prob.length;
+  }
+
+  /** 칸 i의 가중치 */
+  public double weight(int i) {
+    return weights[i];
+  }
+
+  /** 가중치 합 */
+  public double totalWeight() {
+    return totalWeight;
+  }
+
+  /** 가중치 비례로 칸 하나를 고른다(O(1)). */
+  public int sample(RandomGenerator random) {
+    int i = random.nextInt(prob.length);
+    return random.nextDouble() < prob[i] ? i : alias[i];
+  }
+
+  /**
+   * excluded에 없는 칸 중에서 가중치 비례로 하나를 고른다(O(n), 재시도 없음).
+   *
+   * @param excluded 제외할 칸 비트마스크
+   * @param excludedWeight excluded 칸들의 가중치 합(호출자가 누적해 넘긴다)
+   * @param random 난수원
+   * @return 고른 칸
+   * @throws IllegalStateException 남은 칸이 없는 경우
+   */
+  public int sampleExcluding(long excluded, double excludedWeight, RandomGenerator random) {
+    double remaining = totalWeight - excludedWeight;
+    double r = random.nextDouble() * remaining;
+    int last = -1;
+    for (int i = 0; i < weights.length; i++) {
+      if ((excluded & (1L << i)) != 0) {
+        continue;
+      }
+      last = i;
+      r -= weights[i];
+      if (r < 0) {
+        return i;
+      }
+    }
+    if (last < 0) {
+      throw new IllegalStateException("no selectable entry left");
+    }
+    return last; // 부동소수점 오차로 끝까지 온 경우
+  }
+}
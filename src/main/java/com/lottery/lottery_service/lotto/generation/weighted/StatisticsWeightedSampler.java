@@ -0,0 +1,177 @@
+package com.lottery.lottery_service.lotto.generation.weighted;
+
+import com.lottery.lottery_service.lotto.dto.LottoSet;
+import com.lottery.lottery_service.lotto.generation.PassingCombinationSampler;
+import com.lottery.lottery_service.lotto.statistics.DrawStatistics;
+import com.lottery.lottery_service.lotto.statistics.DrawStatisticsEngine;
+import com.lottery.lottery_service.lotto.validation.pipeline.LottoValidationPipeline;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.random.RandomGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * [컴포넌트] 과거 출현 빈도로 번호에 가중치를 주는 추천 엔진(STATS 출처).
+ *
+ * <p>동작:
+ *
+ * <ul>
+ *   <li>번호 가중치는 {@link DrawStatisticsEngine}의 출현 횟수로 정한다. HOT은 (출현+1), COLD는 1/(출현+1)이라 두 방향의
+ *       치우침 정도가 같다.
+ *   <li>번호 1개는 {@link AliasTable}로 O(1)에 뽑는다. 이미 뽑은 번호가 나오면 다시 뽑지 않고, 남은 번호의 가중치 비례로 한 번에
+ *       고른다. 이렇게 하면 "남은 번호 중 가중치 비례"라는 비복원 추출 분포와 정확히 같다.
+ *   <li>통계 스냅샷이 바뀌면(새 회차) 다음 추출에서 테이블을 다시 만든다. 45칸이라 비용은 무시할 만하다.
+ *   <li>뽑은 조합은 파이프라인을 통과해야 한다. 통과하지 못하면 최대 {@value #VALIDATION_ATTEMPTS}번까지 다시 뽑고, 그래도 안 되면 균등
+ *       추천 엔진에서 통과 조합을 받는다(반복 횟수 상한이 있어 룰이 빡빡해져도 지연이 늘지 않는다).
+ * </ul>
+ */
+@Slf4j
+@Component
+public class StatisticsWeightedSampler {
+
+  /** 가중 조합 1개당 파이프라인 확인 상한 */
+  static final int VALIDATION_ATTEMPTS = 8;
+
+  /** 번호 가중 방향 */
+  public enum Bias {
+    /** 자주 나온 번호 우대 */
+    HOT,
+    /** 덜 나온 번호 우대 */
+    COLD
+  }
+
+  private final DrawStatisticsEngine statisticsEngine;
+  private final LottoValidationPipeline pipeline;
+  private final PassingCombinationSampler combinationSampler;
+
+  private final AtomicReference<Tables> tablesRef = new AtomicReference<>();
+
+  /** 파이프라인에서 거절된 가중 조합 수 / 상한에 걸려 균등 추출로 넘긴 수 */
+  private final LongAdder rejections = new LongAdder();
+
+  private final LongAdder fallbacks = new LongAdder();
+
+  public StatisticsWeightedSampler(
+      DrawStatisticsEngine statisticsEngine,
+      LottoValidationPipeline pipeline,
+      PassingCombinationSampler combinationSampler) {
+    this.statisticsEngine = statisticsEngine;
+    this.pipeline = pipeline;
+    this.combinationSampler = combinationSampler;
+  }
+
+  /**
+   * 추천 출처에 대응하는 가중 방향. STATS(또는 STATS_HOT)는 HOT, STATS_COLD는 COLD.
+   *
+   * @param source 추천 출처(대소문자 무시)
+   * @return 가중 추천 출처가 아니면 null
+   */
+  public static Bias biasOf(String source) {
+    if (source == null) {
+      return null;
+    }
+    return switch (source.toUpperCase(Locale.ROOT)) {
+      case "STATS", "STATS_HOT" -> Bias.HOT;
+      case "STATS_COLD" -> Bias.COLD;
+      default -> null;
+    };
+  }
+
+  /**
+   * 검증을 통과한 가중 조합 count개를 뽑는다.
+   *
+   * @param bias 가중 방향
+   * @param count 세트 수
+   * @param random 난수원
+   * @return 정확히 count개의 조합
+   */
+  public List<LottoSet> draw(Bias bias, int count, RandomGenerator random) {
+    AliasTable table = table(bias);
+    List<LottoSet> result = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      result.add(drawOne(table, random));
+    }
+    return result;
+  }
+
+  /** 검증을 통과한 가중 조합 1개 */
+  public LottoSet drawOne(Bias bias, RandomGenerator random) {
+    return drawOne(table(bias), random);
+  }
+
+  /** 누적 거절 수(가중 조합이 파이프라인을 통과하지 못한 횟수) */
+  public long rejectionCount() {
+    return rejections.sum();
+  }
+
+  /** 누적 균등 추출 대체 수 */
+  public long fallbackCount() {
+    return fallbacks.sum();
+  }
+
+  /**
+   * 가중치 비례 비복원 추출로 번호 6개 마스크를 만든다. 난수는 번호당 두 개, 중복이 나온 번호만 O(45) 한 번 더.
+   *
+   * @param table 번호 1~45의 가중치(칸 i = 번호 i+1)
+   * @param random 난수원
+   * @return 6개 번호 마스크(비트 n-1 = 번호 n)
+   */
+  static long drawMask(AliasTable table, RandomGenerator random) {
+    long mask = 0L;
+    double takenWeight = 0;
+    for (int k = 0; k < LottoSet.PICK_COUNT; k++) {
+      int i = table.sample(random);
+      if ((mask & (1L << i)) != 0) {
+        i = table.sampleExcluding(mask, takenWeight, random);
+      }
+      mask |= 1L << i;
+      takenWeight += table.weight(i);
+    }
+    return mask;
+  }
+
+  /** 통계 스냅샷으로 번호별 가중치를 만든다(칸 i = 번호 i+1). */
+  static double[] weights(DrawStatistics stats, Bias bias) {
+    double[] weights = new double[LottoSet.MAX_NUMBER];
+    for (int n = LottoSet.MIN_NUMBER; n <= LottoSet.MAX_NUMBER; n++) {
+      double smoothed = stats.hits(n) + 1.0;
+      weights[n - 1] = bias == Bias.HOT ? smoothed : 1.0 / smoothed;
+    }
+    return weights;
+  }
+
+  private LottoSet drawOne(AliasTable table, RandomGenerator random) {
+    for (int attempt = 0; attempt < VALIDATION_ATTEMPTS; attempt++) {
+      LottoSet set = LottoSet.ofMask(drawMask(table, random));
+      if (pipeline.test(set)) {
+        return set;
+      }
+      rejections.increment();
+    }
+    fallbacks.increment();
+    return combinationSampler.drawOne(random);
+  }
+
+  /** 현재 통계 스냅샷 기준 테이블. 스냅샷이 바뀌었으면 새로 만든다(동시에 만들어도 결과가 같으므로 마지막 것이 남는다). */
+  private AliasTable table(Bias bias) {
+    DrawStatistics stats = statisticsEngine.current();
+    Tables tables = tablesRef.get();
+    if (tables == null || tables.source != stats) {
+      tables =
+          new Tables(
+              stats,
+              AliasTable.of(weights(stats, Bias.HOT)),
+              AliasTable.of(weights(stats, Bias.COLD)));
+      tablesRef.set(tables);
+      log.debug("Weighted alias tables rebuilt for {} rounds", stats.rounds());
+    }
+    return bias == Bias.HOT ? tables.hot : tables.cold;
+  }
+
+  /** 통계 스냅샷 1개에서 만든 방향별 테이블 */
+  private record Tables(DrawStatistics source, AliasTable hot, AliasTable cold) {}
+}
@@ -0,0 +1,245 @@
+package com.lottery.lottery_service.lotto.metrics;
+
+import com.lottery.lottery_service.lotto.generation.PassingCombinationSampler;
+import com.lottery.lottery_service.lotto.generation.pool.RecommendationPool;
+import com.lottery.lottery_service.lotto.generation.weighted.StatisticsWeightedSampler;
+import com.lottery.lottery_service.lotto.notification.WinnerNotificationDispatcher;
+import com.lottery.lottery_service.lotto.ratelimit.GuestRateLimitFilter;
+import com.lottery.lottery_service.lotto.ratelimit.TokenBucketRateLimiter;
+import com.lottery.lottery_service.lotto.validation.pipeline.LottoValidationPipeline;
+import com.lottery.lottery_service.lotto.writebehind.WriteBehindRecordWriter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.function.ToDoubleFunction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * [메트릭] 검증 파이프라인/추천 엔진/추천 풀의 누적 통계를 Micrometer 미터로 노출한다.
+ *
+ * <p>미터는 모두 "읽을 때 계산"하는 함수형(FunctionCounter/Gauge)이다. 요청 경로는 각 컴포넌트가 이미 세고 있는 LongAdder만 건드리고,
+ * Micrometer 호출은 스크레이프(/actuator/prometheus) 시점에만 일어난다.
+ *
+ * <p>검증 카운터에는 추천 인덱스 빌드(C(45,6) 전수 평가)도 포함된다. 요청 경로만의 변화는 카운터 증가율(rate)로 본다.
+ *
+ * <ul>
+ *   <li>{@code lotto.validation.checks}: 파이프라인 판정 수
+ *   <li>{@code lotto.validation.rejections{rule}}: 룰별 "처음 실패한 룰" 횟수
+ *   <li>{@code lotto.validation.rule.cost{rule}}, {@code lotto.validation.rule.reject.ratio{rule}}:
+ *       표본 기반 평균 비용(ns)/거절률
+ *   <li>{@code lotto.sampler.passing.combinations}, {@code lotto.sampler.stale.retries},
+ *       {@code lotto.sampler.stale.exhausted}: 추천 엔진 상태
+ *   <li>{@code lotto.sampler.weighted.rejections}, {@code lotto.sampler.weighted.fallback}:
+ *       가중(STATS) 추천의 검증 거절/균등 추출 대체
+ *   <li>{@code lotto.pool.size/capacity{source}}, {@code lotto.pool.refill.rate{source}},
+ *       {@code lotto.pool.refilled/served/fallback{source}}: 추천 풀 채움 수준/보충 속도/부족분
+ *   <li>{@code lotto.notification.sent/retried/failed}: 당첨 알림 발송 성공/재시도 예약/최종 실패
+ *   <li>{@code lotto.ratelimit.rejected{tier}}, {@code lotto.ratelimit.overflow{tier}},
+ *       {@code lotto.ratelimit.keys{tier}}: 비회원 요청 제한 거절/공용 버킷 사용/추적 중인 키 수
+ *   <li>{@code lotto.record.writebehind.pending/journaled/flushed/fallback}: 추천 기록 저널 대기/추가/DB 반영
+ *       행/동기 저장 대체
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class LottoMeterBinder implements MeterBinder {
+
+  private final LottoValidationPipeline pipeline;
+  private final PassingCombinationSampler combinationSampler;
+  private final StatisticsWeightedSampler weightedSampler;
+  private final RecommendationPool recommendationPool;
+  private final WinnerNotificationDispatcher notificationDispatcher;
+  private final GuestRateLimitFilter guestRateLimitFilter;
+  private final WriteBehindRecordWriter recordWriter;
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    bindValidation(registry);
+    bindSampler(registry);
+    bindPool(registry);
+    bindNotification(registry);
+    bindRateLimit(registry, "device", guestRateLimitFilter.deviceLimiter());
+    bindRateLimit(registry, "ip", guestRateLimitFilter.ipLimiter());
+    bindWriteBehind(registry);
+  }
+
+  private void bindValidation(MeterRegistry registry) {
+    FunctionCounter.builder(
+            "lotto.validation.checks", pipeline, LottoValidationPipeline::checkCount)
+        .description("Validation pipeline checks (validate + test)")
+        .register(registry);
+
+    for (LottoValidationPipeline.RuleMetrics rule : pipeline.ruleMetrics()) {
+      String id = rule.ruleId();
+      FunctionCounter.builder(
+              "lotto.validation.rejections", pipeline, p -> ruleMetric(p, id).rejections())
+          .description("Checks rejected first by this rule")
+          .tag("rule", id)
+          .register(registry);
+      Gauge.builder("lotto.validation.rule.cost", pipeline, p -> ruleMetric(p, id).averageNanos())
+          .description("Sampled average rule cost")
+          .baseUnit("nanoseconds")
+          .tag("rule", id)
+          .register(registry);
+      Gauge.builder(
+              "lotto.validation.rule.reject.ratio",
+              pipeline,
+              p -> ruleMetric(p, id).rejectionRate())
+          .description("Sampled conditional rejection ratio")
+          .tag("rule", id)
+          .register(registry);
+    }
+  }
+
+  private void bindSampler(MeterRegistry registry) {
+    Gauge.builder(
+            "lotto.sampler.passing.combinations",
+            combinationSampler,
+            PassingCombinationSampler::passCount)
+        .description("Combinations passing all enabled rules in the current index")
+        .register(registry);
+    FunctionCounter.builder(
+            "lotto.sampler.stale.retries",
+            combinationSampler,
+            PassingCombinationSampler::staleRetryCount)
+        .description("Redraws while an index rebuild was pending")
+        .register(registry);
+    FunctionCounter.builder(
+            "lotto.sampler.stale.exhausted",
+            combinationSampler,
+            PassingCombinationSampler::staleRetryExhaustedCount)
+        .description("Draws that hit the stale redraw limit")
+        .register(registry);
+    FunctionCounter.builder(
+            "lotto.sampler.weighted.rejections",
+            weightedSampler,
+            StatisticsWeightedSampler::rejectionCount)
+        .description("Weighted sets rejected by the validation pipeline")
+        .register(registry);
+    FunctionCounter.builder(
+            "lotto.sampler.weighted.fallback",
+            weightedSampler,
+            StatisticsWeightedSampler::fallbackCount)
+        .description("Weighted draws that fell back to the uniform sampler")
+        .register(registry);
+  }
+
+  private void bindPool(MeterRegistry registry) {
+    for (RecommendationPool.PoolStats stats : recommendationPool.stats()) {
+      String source = stats.source();
+      poolGauge(registry, "lotto.pool.size", source, RecommendationPool.PoolStats::size);
+      poolGauge(registry, "lotto.pool.capacity", source, RecommendationPool.PoolStats::capacity);
+      poolGauge(
+          registry,
+          "lotto.pool.refill.rate",
+          source,
+          RecommendationPool.PoolStats::refillRatePerSecond);
+      poolCounter(registry, "lotto.pool.refilled", source, RecommendationPool.PoolStats::refilled);
+      poolCounter(registry, "lotto.pool.served", source, RecommendationPool.PoolStats::served);
+      poolCounter(registry, "lotto.pool.fallback", source, RecommendationPool.PoolStats::fallback);
+    }
+  }
+
+  private void bindNotification(MeterRegistry registry) {
+    FunctionCounter.builder(
+            "lotto.notification.sent",
+            notificationDispatcher,
+            WinnerNotificationDispatcher::sentCount)
+        .description("Winner notifications delivered to the channel")
+        .register(registry);
+    FunctionCounter.builder(
+            "lotto.notification.retried",
+            notificationDispatcher,
+            WinnerNotificationDispatcher::retryCount)
+        .description("Winner notifications rescheduled after a retryable failure")
+        .register(registry);
+    FunctionCounter.builder(
+            "lotto.notification.failed",
+            notificationDispatcher,
+            WinnerNotificationDispatcher::failedCount)
+        .description("Winner notifications given up after the retry limit")
+        .register(registry);
+  }
+
+  private void bindRateLimit(MeterRegistry registry, String tier, TokenBucketRateLimiter limiter) {
+    FunctionCounter.builder(
+            "lotto.ratelimit.rejected", limiter, TokenBucketRateLimiter::rejectedCount)
+        .description("Guest requests rejected with 429")
+        .tag("tier", tier)
+        .register(registry);
+    FunctionCounter.builder(
+            "lotto.ratelimit.overflow", limiter, TokenBucketRateLimiter::overflowCount)
+        .description("Requests from new keys that shared the overflow bucket")
+        .tag("tier", tier)
+        .register(registry);
+    Gauge.builder("lotto.ratelimit.keys", limiter, TokenBucketRateLimiter::size)
+        .description("Keys with their own bucket")
+        .tag("tier", tier)
+        .register(registry);
+  }
+
+  private void bindWriteBehind(MeterRegistry registry) {
+    Gauge.builder(
+            "lotto.record.writebehind.pending",
+            recordWriter,
+            WriteBehindRecordWriter::pendingCount)
+        .description("Journaled recommendations not yet written to the database")
+        .register(registry);
+    FunctionCounter.builder(
+            "lotto.record.writebehind.journaled",
+            recordWriter,
+            WriteBehindRecordWriter::journaledCount)
+        .description("Recommendations acknowledged from the local journal")
+        .register(registry);
+    FunctionCounter.builder(
+            "lotto.record.writebehind.flushed",
+            recordWriter,
+            WriteBehindRecordWriter::flushedRowCount)
+        .description("Journaled recommendation rows inserted into the database")
+        .register(registry);
+    FunctionCounter.builder(
+            "lotto.record.writebehind.fallback",
+            recordWriter,
+            WriteBehindRecordWriter::fallbackCount)
+        .description("Recommendations saved synchronously because the journal was unavailable")
+        .register(registry);
+  }
+
+  private void poolGauge(
+      MeterRegistry registry,
+      String name,
+      String source,
+      ToDoubleFunction<RecommendationPool.PoolStats> value) {
+    Gauge.builder(name, recommendationPool, p -> value.applyAsDouble(poolStats(p, source)))
+        .tag("source", source)
+        .register(registry);
+  }
+
+  private void poolCounter(
+      MeterRegistry registry,
+      String name,
+      String source,
+      ToDoubleFunction<RecommendationPool.PoolStats> value) {
+    FunctionCounter.builder(
+            name, recommendationPool, p -> value.applyAsDouble(poolStats(p, source)))
+        .tag("source", source)
+        .register(registry);
+  }
+
+  private static LottoValidationPipeline.RuleMetrics ruleMetric(
+      LottoValidationPipeline pipeline, String ruleId) {
+    return pipeline.ruleMetrics().stream()
+        .filter(m -> m.ruleId().equals(ruleId))
+        .findFirst()
+        .orElseThrow();
+  }
+
+  private static RecommendationPool.PoolStats poolStats(RecommendationPool pool, String source) {
+    return pool.stats().stream()
+        .filter(s -> s.source().equals(source))
+        .findFirst()
+        .orElseThrow();
+  }
+}
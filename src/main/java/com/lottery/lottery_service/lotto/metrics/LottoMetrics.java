@@ -0,0 +1,73 @@
+package com.lottery.lottery_service.lotto.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+/**
+ * [메트릭] 추천 요청 1건(세트 추출 + 저장)의 소요 시간 타이머.
+ *
+ * <p>태그 조합(channel × source)이 고정이므로 타이머는 생성 시 모두 만들어 두고, 요청 경로에서는 맵 조회 후 {@link Timer#record}만
+ * 한다. 알 수 없는 출처는 OTHER로 묶어 외부 입력이 시계열 수를 늘리지 못하게 한다.
+ */
+@Component
+public class LottoMetrics {
+
+  public static final String CHANNEL_MEMBER = "member";
+  public static final String CHANNEL_GUEST = "guest";
+
+  static final String RECOMMENDATION_TIMER = "lotto.recommendation.duration";
+
+  private static final List<String> SOURCES =
+      List.of("BASIC", "AD", "EVENT", "STATS", "STATS_COLD");
+  private static final String OTHER_SOURCE = "OTHER";
+
+  /** "channel:SOURCE" → 타이머 */
+  private final Map<String, Timer> recommendationTimers = new HashMap<>();
+
+  public LottoMetrics(MeterRegistry registry) {
+    for (String channel : List.of(CHANNEL_MEMBER, CHANNEL_GUEST)) {
+      for (String source : SOURCES) {
+        recommendationTimers.put(key(channel, source), newTimer(registry, channel, source));
+      }
+      recommendationTimers.put(
+          key(channel, OTHER_SOURCE), newTimer(registry, channel, OTHER_SOURCE));
+    }
+  }
+
+  /**
+   * 추천 1건의 소요 시간을 기록한다.
+   *
+   * @param channel {@link #CHANNEL_MEMBER} 또는 {@link #CHANNEL_GUEST}
+   * @param source 추천 출처(대소문자 무시)
+   * @param startedNanos 시작 시각({@link System#nanoTime()})
+   */
+  public void recordRecommendation(String channel, String source, long startedNanos) {
+    String normalized = source == null ? OTHER_SOURCE : source.toUpperCase(Locale.ROOT);
+    Timer timer = recommendationTimers.get(key(channel, normalized));
+    if (timer == null) {
+      timer = recommendationTimers.get(key(channel, OTHER_SOURCE));
+    }
+    if (timer != null) {
+      timer.record(System.nanoTime() - startedNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private static Timer newTimer(MeterRegistry registry, String channel, String source) {
+    return Timer.builder(RECOMMENDATION_TIMER)
+        .description("Recommendation latency (draw + save)")
+        .tag("channel", channel)
+        .tag("source", source)
+        .publishPercentileHistogram()
+        .register(registry);
+  }
+
+  private static String key(String channel, String source) {
+    return channel + ':' + source;
+  }
+}
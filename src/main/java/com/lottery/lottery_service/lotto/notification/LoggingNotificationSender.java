@@ -0,0 +1,35 @@
+package com.lottery.lottery_service.lotto.notification;
+
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/** [채널] 알림 내용을 로그로만 남기는 로컬/테스트용 구현({@link NotificationChannel#LOG}). */
+@Slf4j
+@Component
+public class LoggingNotificationSender implements NotificationSender {
+
+  private final LongAdder sent = new LongAdder();
+
+  @Override
+  public NotificationChannel channel() {
+    return NotificationChannel.LOG;
+  }
+
+  @Override
+  public void send(WinnerNotification notification) {
+    sent.increment();
+    log.info(
+        "Winner notification: key={}, member={}, round={}, rank={}, numbers={}",
+        notification.idempotencyKey(),
+        notification.memberId(),
+        notification.round(),
+        notification.rank(),
+        notification.numbers());
+  }
+
+  /** 누적 발송(로그) 건수 */
+  public long sentCount() {
+    return sent.sum();
+  }
+}
@@ -0,0 +1,16 @@
+package com.lottery.lottery_service.lotto.notification;
+
+/**
+ * 당첨 알림 채널. {@code lotto.notification.channel}로 하나를 고른다.
+ *
+ * <p>KAKAO/SMS는 발송 업체 계약과 수신 정보(카카오 메시지 권한, 휴대폰 번호)가 있어야 하므로 해당 {@link NotificationSender} 빈이 등록된
+ * 환경에서만 고를 수 있다. 등록되지 않은 채널을 고르면 기동 시 실패한다.
+ */
+public enum NotificationChannel {
+  /** 카카오 알림 메시지 */
+  KAKAO,
+  /** 문자 메시지 */
+  SMS,
+  /** 로그만 남기는 로컬/테스트용 채널 */
+  LOG
+}
@@ -0,0 +1,21 @@
+package com.lottery.lottery_service.lotto.notification;
+
+/** 채널 발송 실패. 수신 거부/잘못된 수신자처럼 다시 보내도 소용없는 실패는 retryable=false로 던진다. */
+public class NotificationSendException extends RuntimeException {
+
+  private final boolean retryable;
+
+  public NotificationSendException(String message, boolean retryable) {
+    super(message);
+    this.retryable = retryable;
+  }
+
+  public NotificationSendException(String message, boolean retryable, Throwable cause) {
+    super(message, cause);
+    this.retryable = retryable;
+  }
+
+  public boolean isRetryable() {
+    return retryable;
+  }
+}
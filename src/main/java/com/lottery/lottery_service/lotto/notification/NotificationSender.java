@@ -0,0 +1,23 @@
+package com.lottery.lottery_service.lotto.notification;
+
+/**
+ * [SPI] 당첨 알림 채널 구현.
+ *
+ * <p>디스패처의 발송 스레드 여러 개에서 동시에 호출되므로 구현은 스레드 안전해야 한다. 같은 {@link
+ * WinnerNotification#idempotencyKey()}로 다시 호출될 수 있으며(응답 유실 후 재시도 등), 업체의 중복 방지 키로 넘기는 식으로 한 번만
+ * 전달되게 해야 한다.
+ */
+public interface NotificationSender {
+
+  /** 이 구현이 담당하는 채널 */
+  NotificationChannel channel();
+
+  /**
+   * 알림 1건을 보낸다. 정상 반환이면 전달된 것으로 본다.
+   *
+   * @param notification 보낼 알림
+   * @throws NotificationSendException 발송 실패. 재시도 여부는 {@link
+   *     NotificationSendException#isRetryable()}로 알린다. 그 밖의 런타임 예외는 재시도 가능한 실패로 본다.
+   */
+  void send(WinnerNotification notification);
+}
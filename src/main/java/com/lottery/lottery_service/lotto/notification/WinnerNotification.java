@@ -0,0 +1,25 @@
+package com.lottery.lottery_service.lotto.notification;
+
+import com.lottery.lottery_service.lotto.dto.LottoRank;
+
+/**
+ * 디스패처가 채널로 넘기는 당첨 알림 1건.
+ *
+ * @param outboxId lotto_notification_outbox.id
+ * @param idempotencyKey 중복 발송 방지 키. 같은 키로 여러 번 호출돼도 회원은 한 번만 받아야 한다.
+ * @param memberId 받는 회원 ID
+ * @param recordId 원본 추천/구매 기록 ID
+ * @param round 회차
+ * @param rank 당첨 등수
+ * @param numbers 당첨된 번호(공백 구분)
+ * @param attempt 이번이 몇 번째 시도인지(1부터)
+ */
+public record WinnerNotification(
+    long outboxId,
+    String idempotencyKey,
+    long memberId,
+    long recordId,
+    int round,
+    LottoRank rank,
+    String numbers,
+    int attempt) {}
@@ -0,0 +1,239 @@
+package com.lottery.lottery_service.lotto.notification;
+
+import com.lottery.lottery_service.lotto.repository.LottoNotificationOutboxJdbcRepository;
+import com.lottery.lottery_service.lotto.repository.LottoNotificationOutboxJdbcRepository.OutboxUpdate;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.random.RandomGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * [컴포넌트] 당첨 알림 outbox를 비우는 디스패처.
+ *
+ * <p>동작:
+ *
+ * <ul>
+ *   <li>디스패치 스레드 1개가 주기적으로 기한이 된 outbox 행을 배치로 선점한다. 배치가 가득 차 있으면 밀린 행이 없을 때까지 바로 다음 배치를 가져간다.
+ *   <li>배치 안의 알림은 크기가 고정된 발송 풀에서 동시에 보낸다. 웹 요청 스레드와 DB 커넥션을 쓰지 않으며(DB는 디스패치 스레드만 쓴다), 동시 발송
+ *       수는 {@code lotto.notification.concurrency}를 넘지 않는다.
+ *   <li>재시도 가능한 실패는 지수 백오프(지터 포함)로 다시 PENDING에 두고, 한도를 넘거나 재시도해도 안 되는 실패는 FAILED로 남긴다.
+ *   <li>결과는 배치 단위 JDBC 배치 UPDATE로 기록한다.
+ * </ul>
+ *
+ * <p>발송 중에 죽으면 해당 행은 SENDING으로 남았다가 선점 만료 뒤 다시 나간다. 이때 채널에 같은 중복 방지 키가 넘어가므로 회원은 한 번만 받는다.
+ */
+@Slf4j
+@Component
+public class WinnerNotificationDispatcher {
+
+  /** 선점 만료. 배치 1개 발송 시간보다 넉넉해야 한다. */
+  static final long LEASE_MILLIS = 5 * 60 * 1000L;
+
+  /** 백오프 상한 */
+  static final long MAX_BACKOFF_MILLIS = 30 * 60 * 1000L;
+
+  /** lotto_notification_outbox.last_error 길이 */
+  private static final int MAX_ERROR_LENGTH = 255;
+
+  private final LottoNotificationOutboxJdbcRepository outboxRepository;
+  private final NotificationSender sender;
+  private final boolean enabled;
+  private final int batchSize;
+  private final int maxAttempts;
+  private final long backoffMillis;
+  private final long pollIntervalMillis;
+
+  private final LongAdder sent = new LongAdder();
+  private final LongAdder retried = new LongAdder();
+  private final LongAdder failed = new LongAdder();
+
+  private final ExecutorService sendExecutor;
+
+  private final ScheduledExecutorService dispatchExecutor =
+      Executors.newSingleThreadScheduledExecutor(
+          r -> {
+            Thread t = new Thread(r, "lotto-notification-dispatch");
+            t.setDaemon(true);
+            return t;
+          });
+
+  public WinnerNotificationDispatcher(
+      LottoNotificationOutboxJdbcRepository outboxRepository,
+      List<NotificationSender> senders,
+      @Value("${lotto.notification.enabled:true}") boolean enabled,
+      @Value("${lotto.notification.channel:LOG}") NotificationChannel channel,
+      @Value("${lotto.notification.concurrency:16}") int concurrency,
+      @Value("${lotto.notification.batch-size:500}") int batchSize,
+      @Value("${lotto.notification.max-attempts:5}") int maxAttempts,
+      @Value("${lotto.notification.backoff-ms:2000}") long backoffMillis,
+      @Value("${lotto.notification.poll-interval-ms:1000}") long pollIntervalMillis) {
+    if (concurrency < 1 || batchSize < 1 || maxAttempts < 1 || backoffMillis < 1) {
+      throw new IllegalArgumentException("notification dispatcher settings must be positive");
+    }
+    this.outboxRepository = outboxRepository;
+    this.sender =
+        senders.stream()
+            .filter(s -> s.channel() == channel)
+            .findFirst()
+            .orElseThrow(
+                () -> new IllegalStateException("알림 채널 구현이 등록되지 않았습니다: " + channel));
+    this.enabled = enabled;
+    this.batchSize = batchSize;
+    this.maxAttempts = maxAttempts;
+    this.backoffMillis = backoffMillis;
+    this.pollIntervalMillis = pollIntervalMillis;
+
+    AtomicInteger threadIndex = new AtomicInteger();
+    this.sendExecutor =
+        Executors.newFixedThreadPool(
+            concurrency,
+            r -> {
+              Thread t = new Thread(r, "lotto-notification-send-" + threadIndex.incrementAndGet());
+              t.setDaemon(true);
+              return t;
+            });
+  }
+
+  /** 주기 디스패치 시작 */
+  @PostConstruct
+  public void start() {
+    if (!enabled) {
+      log.info("Winner notification dispatcher disabled");
+      return;
+    }
+    log.info("Winner notification dispatcher started: channel={}", sender.channel());
+    dispatchExecutor.scheduleWithFixedDelay(
+        this::drain, pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    dispatchExecutor.shutdownNow();
+    sendExecutor.shutdownNow();
+  }
+
+  /**
+   * 배치 1개를 선점해 보내고 결과를 기록한다(동기).
+   *
+   * @param now 기준 시각
+   * @return 선점한 건수(배치 크기와 같으면 밀린 행이 더 있을 수 있다)
+   */
+  public int dispatchBatch(LocalDateTime now) {
+    String token = UUID.randomUUID().toString();
+    List<WinnerNotification> claimed =
+        outboxRepository.claim(token, now, now.plusNanos(LEASE_MILLIS * 1_000_000), batchSize);
+    if (claimed.isEmpty()) {
+      return 0;
+    }
+
+    List<Callable<OutboxUpdate>> tasks = new ArrayList<>(claimed.size());
+    for (WinnerNotification notification : claimed) {
+      tasks.add(() -> sendOne(notification));
+    }
+    // 결과를 기록하지 못한 행은 SENDING으로 남았다가 선점 만료 뒤 다시 나간다
+    List<OutboxUpdate> updates = new ArrayList<>(claimed.size());
+    try {
+      for (Future<OutboxUpdate> future : sendExecutor.invokeAll(tasks)) {
+        try {
+          updates.add(future.get());
+        } catch (ExecutionException e) {
+          log.error("Winner notification send task failed unexpectedly", e.getCause());
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    outboxRepository.finish(token, updates);
+    return claimed.size();
+  }
+
+  /** 누적 발송 성공 수 */
+  public long sentCount() {
+    return sent.sum();
+  }
+
+  /** 누적 재시도 예약 수 */
+  public long retryCount() {
+    return retried.sum();
+  }
+
+  /** 누적 최종 실패 수 */
+  public long failedCount() {
+    return failed.sum();
+  }
+
+  /**
+   * attempt번째 실패 뒤의 대기 시간. base * 2^(attempt-1)을 상한으로 자른 뒤 그 절반~전체 사이에서 고른다(동시에 실패한 알림이 한꺼번에 몰리지
+   * 않도록).
+   */
+  static long backoffMillis(long base, int attempt, RandomGenerator random) {
+    int shift = Math.min(Math.max(attempt - 1, 0), 30);
+    long ceiling = base > MAX_BACKOFF_MILLIS >> shift ? MAX_BACKOFF_MILLIS : base << shift;
+    long half = ceiling / 2;
+    return half + random.nextLong(ceiling - half + 1);
+  }
+
+  private void drain() {
+    try {
+      int claimed;
+      do {
+        claimed = dispatchBatch(LocalDateTime.now());
+      } while (claimed == batchSize && !Thread.currentThread().isInterrupted());
+    } catch (RuntimeException e) {
+      // 다음 주기에 다시 시도한다
+      log.error("Winner notification dispatch failed", e);
+    }
+  }
+
+  private OutboxUpdate sendOne(WinnerNotification notification) {
+    try {
+      sender.send(notification);
+      sent.increment();
+      return OutboxUpdate.sent(notification.outboxId(), LocalDateTime.now());
+    } catch (NotificationSendException e) {
+      return failure(notification, e.isRetryable(), e.getMessage());
+    } catch (RuntimeException e) {
+      return failure(notification, true, e.toString());
+    }
+  }
+
+  private OutboxUpdate failure(WinnerNotification notification, boolean retryable, String error) {
+    LocalDateTime now = LocalDateTime.now();
+    String message = truncate(error);
+    if (!retryable || notification.attempt() >= maxAttempts) {
+      failed.increment();
+      log.warn(
+          "Winner notification failed: key={}, attempts={}, error={}",
+          notification.idempotencyKey(),
+          notification.attempt(),
+          message);
+      return OutboxUpdate.failed(notification.outboxId(), now, message);
+    }
+    retried.increment();
+    long delay = backoffMillis(backoffMillis, notification.attempt(), ThreadLocalRandom.current());
+    return OutboxUpdate.retry(notification.outboxId(), now.plusNanos(delay * 1_000_000), message);
+  }
+
+  private static String truncate(String error) {
+    if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+      return error;
+    }
+    return error.substring(0, MAX_ERROR_LENGTH);
+  }
+}
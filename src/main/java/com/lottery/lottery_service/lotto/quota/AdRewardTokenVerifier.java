@@ -0,0 +1,113 @@
+package com.lottery.lottery_service.lotto.quota;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * [컴포넌트] 광고 시청 완료 토큰 검증기.
+ *
+ * <p>토큰은 광고 보상 검증 서버(광고 네트워크의 시청 완료 콜백을 받는 쪽)가 공유 비밀키(lotto.ad-reward.secret)로 서명해 클라이언트에 내려준
+ * 값이다. 클라이언트는 이를 그대로 광고 보상 API에 넘기고, 이 검증기가 서명/회원/유효 시간을 확인한다.
+ *
+ * <p>형식: {@code <발급 시각(epoch ms)>.<광고 거래 ID>.<서명>}. 서명은 {@code "<회원 ID>.<발급 시각>.<거래 ID>"}의
+ * HMAC-SHA256(Base64 URL, 패딩 없음)이므로 다른 회원의 토큰은 통과하지 않는다.
+ *
+ * <p>같은 토큰의 재사용은 여기서 막지 않는다. 회원별로 마지막에 쓴 토큰의 발급 시각을 member_round_quota에 두고, 그보다 늦게 발급된 토큰만
+ * 받는다({@link RecommendationQuotaService#grantAdReward}). 비밀키가 비어 있으면 모든 토큰을 거절한다.
+ */
+@Component
+public class AdRewardTokenVerifier {
+
+  private static final String ALGORITHM = "HmacSHA256";
+
+  private static final Pattern TRANSACTION_ID = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+  private final byte[] secret;
+  private final long ttlMillis;
+  private final Clock clock;
+
+  @Autowired
+  public AdRewardTokenVerifier(
+      @Value("${lotto.ad-reward.secret:}") String secret,
+      @Value("${lotto.ad-reward.token-ttl-seconds:600}") long ttlSeconds) {
+    this(secret, ttlSeconds, Clock.systemDefaultZone());
+  }
+
+  AdRewardTokenVerifier(String secret, long ttlSeconds, Clock clock) {
+    if (ttlSeconds < 1) {
+      throw new IllegalArgumentException("ad reward token ttl must be positive");
+    }
+    this.secret = secret.getBytes(StandardCharsets.UTF_8);
+    this.ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+    this.clock = clock;
+  }
+
+  /**
+   * 토큰을 검증한다.
+   *
+   * @param memberId 보상을 받을 회원 ID
+   * @param token 광고 보상 검증 서버가 발급한 토큰
+   * @return 토큰 발급 시각(epoch ms). 재사용 확인에 쓴다.
+   * @throws InvalidAdRewardTokenException 형식/서명/회원/유효 시간이 맞지 않는 경우
+   */
+  public long verify(long memberId, String token) {
+    if (secret.length == 0 || token == null) {
+      throw new InvalidAdRewardTokenException();
+    }
+    String[] parts = token.split("\\.", -1);
+    if (parts.length != 3 || !TRANSACTION_ID.matcher(parts[1]).matches()) {
+      throw new InvalidAdRewardTokenException();
+    }
+    long issuedAt;
+    try {
+      issuedAt = Long.parseLong(parts[0]);
+    } catch (NumberFormatException e) {
+      throw new InvalidAdRewardTokenException();
+    }
+    byte[] expected = signature(memberId, issuedAt, parts[1]);
+    byte[] actual = parts[2].getBytes(StandardCharsets.US_ASCII);
+    if (!MessageDigest.isEqual(expected, actual)) {
+      throw new InvalidAdRewardTokenException();
+    }
+    long now = clock.millis();
+    if (issuedAt > now || now - issuedAt > ttlMillis) {
+      throw new InvalidAdRewardTokenException();
+    }
+    return issuedAt;
+  }
+
+  /** 토큰을 만든다(광고 보상 검증 서버와 같은 방식. 테스트용). */
+  String issue(long memberId, long issuedAt, String transactionId) {
+    return issuedAt
+        + "."
+        + transactionId
+        + "."
+        + new String(signature(memberId, issuedAt, transactionId), StandardCharsets.US_ASCII);
+  }
+
+  private byte[] signature(long memberId, long issuedAt, String transactionId) {
+    try {
+      Mac mac = Mac.getInstance(ALGORITHM);
+      mac.init(new SecretKeySpec(secret, ALGORITHM));
+      byte[] digest =
+          mac.doFinal(
+              (memberId + "." + issuedAt + "." + transactionId).getBytes(StandardCharsets.UTF_8));
+      return Base64.getUrlEncoder()
+          .withoutPadding()
+          .encodeToString(digest)
+          .getBytes(StandardCharsets.US_ASCII);
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("HmacSHA256 is not available", e);
+    }
+  }
+}
@@ -0,0 +1,9 @@
+package com.lottery.lottery_service.lotto.quota;
+
+/** 검증되지 않았거나 이미 쓴 광고 보상 토큰. 웹 계층에서 403으로 바꾼다. */
+public class InvalidAdRewardTokenException extends RuntimeException {
+
+  public InvalidAdRewardTokenException() {
+    super("광고 시청을 확인할 수 없습니다.");
+  }
+}
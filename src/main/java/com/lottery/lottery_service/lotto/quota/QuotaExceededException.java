@@ -0,0 +1,39 @@
+package com.lottery.lottery_service.lotto.quota;
+
+/** 추천 한도를 넘은 요청. 웹 계층에서 429로 바꾼다. */
+public class QuotaExceededException extends RuntimeException {
+
+  /** 막힌 한도 */
+  public enum Limit {
+    /** 하루 추천 횟수(광고 보상 포함) */
+    DAILY,
+    /** 회차당 세트 수 */
+    ROUND,
+    /** 하루 광고 보상 횟수 */
+    AD_REWARD
+  }
+
+  private final Limit limit;
+  private final transient QuotaStatus status;
+
+  public QuotaExceededException(Limit limit, QuotaStatus status) {
+    super(
+        switch (limit) {
+          case ROUND -> "이번 회차 추천 한도(" + status.roundLimit() + "세트)를 모두 사용했습니다.";
+          case DAILY ->
+              "오늘 추천 횟수(" + status.dailyLimit() + "회)를 모두 사용했습니다. 광고를 보면 추가 횟수를 받을 수 있습니다.";
+          case AD_REWARD ->
+              "오늘 광고 보상(" + RecommendationQuotaService.DAILY_AD_REWARD_LIMIT + "회)을 모두 받았습니다.";
+        });
+    this.limit = limit;
+    this.status = status;
+  }
+
+  public Limit getLimit() {
+    return limit;
+  }
+
+  public QuotaStatus getStatus() {
+    return status;
+  }
+}
@@ -0,0 +1,42 @@
+package com.lottery.lottery_service.lotto.quota;
+
+import java.time.LocalDate;
+
+/**
+ * 회원의 회차 추천 사용량 스냅샷.
+ *
+ * @param round 회차
+ * @param day 일일 사용량 기준 날짜
+ * @param dailyUsed 그날 받은 추천 횟수
+ * @param dailyLimit 그날 한도(기본 + 광고 보상)
+ * @param roundSets 회차에 받은 세트 수
+ * @param roundLimit 회차 세트 한도
+ */
+public record QuotaStatus(
+    int round, LocalDate day, int dailyUsed, int dailyLimit, int roundSets, int roundLimit) {
+
+  /** 오늘 남은 추천 횟수 */
+  public int remainingToday() {
+    return Math.max(0, dailyLimit - dailyUsed);
+  }
+
+  /** 회차에 남은 세트 수 */
+  public int remainingSets() {
+    return Math.max(0, roundLimit - roundSets);
+  }
+
+  /**
+   * sets개짜리 추천 1번을 더 받을 수 있는지. 회차 한도를 먼저 본다.
+   *
+   * @return 받을 수 있으면 null, 아니면 막히는 한도
+   */
+  public QuotaExceededException.Limit blockingLimit(int sets) {
+    if (roundSets + sets > roundLimit) {
+      return QuotaExceededException.Limit.ROUND;
+    }
+    if (dailyUsed >= dailyLimit) {
+      return QuotaExceededException.Limit.DAILY;
+    }
+    return null;
+  }
+}
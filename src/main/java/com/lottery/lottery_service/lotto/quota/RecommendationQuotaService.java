@@ -0,0 +1,250 @@
+package com.lottery.lottery_service.lotto.quota;
+
+import com.lottery.lottery_service.lotto.repository.MemberRoundQuotaJdbcRepository;
+import com.lottery.lottery_service.lotto.repository.MemberRoundQuotaJdbcRepository.QuotaRow;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * 회원 추천 한도(요구사항 2-1) 적용 서비스.
+ *
+ * <p>동작:
+ *
+ * <ul>
+ *   <li>기준 한도: 하루 {@value #DAILY_LIMIT}번, 광고 1회당 +{@value #AD_BONUS}번(하루 {@value
+ *       #DAILY_AD_REWARD_LIMIT}회까지), 회차당 {@value #ROUND_SET_LIMIT}세트.
+ *   <li>광고 보상은 서버가 검증한 시청 완료 토큰({@link AdRewardTokenVerifier})이 있어야 받는다. 토큰 재사용과 하루 상한은 보상
+ *       UPDATE의 조건으로 막는다.
+ *   <li>기준 값은 member_round_quota 테이블이다. 추천 1번은 조건부 UPDATE 한 문장이며, 회차 첫 추천일 때만 INSERT가 더해진다.
+ *   <li>날짜/회차가 바뀌면 그 다음 요청이 알아서 새로 센다(자정 배치 없음).
+ * </ul>
+ *
+ * <p>빠른 경로: 테이블이 거절한 회원은 그때 읽은 사용량을 메모리에 둔다. 같은 회원이 다시 요청하면 DB에 가지 않고 바로 거절한다. 회차 한도는 세트 수가
+ * 줄지 않으므로 회차가 끝날 때까지 유효하다. 일일 한도는 다른 인스턴스에서 광고 보상을 받았을 수 있어 {@value #DAILY_DENIAL_TTL_SECONDS}초만
+ * 믿는다. 허용 쪽은 메모리로 판단하지 않는다. 추천 저장이 롤백되면 사용량도 같이 롤백되는데, 메모리 카운터는 그걸 따라갈 수 없기 때문이다.
+ */
+@Service
+public class RecommendationQuotaService {
+
+  /** 하루 기본 추천 횟수 */
+  public static final int DAILY_LIMIT = 5;
+
+  /** 광고 1회 보상 횟수 */
+  public static final int AD_BONUS = 5;
+
+  /** 하루 광고 보상 상한 */
+  public static final int DAILY_AD_REWARD_LIMIT = 3;
+
+  /** 회차당 추천 세트 수 */
+  public static final int ROUND_SET_LIMIT = 30;
+
+  /** 일일 한도 거절을 메모리에서 재사용하는 시간 */
+  static final long DAILY_DENIAL_TTL_SECONDS = 10;
+
+  /** 거절 캐시 상한(넘으면 비운다. 다음 요청이 DB에서 다시 채운다) */
+  static final int MAX_DENIALS = 100_000;
+
+  private final MemberRoundQuotaJdbcRepository quotaRepository;
+  private final AdRewardTokenVerifier adRewardTokenVerifier;
+  private final Clock clock;
+
+  /** 회원 ID → 마지막으로 DB가 거절했을 때의 사용량 */
+  private final Map<Long, Denial> denials = new ConcurrentHashMap<>();
+
+  private final LongAdder fastRejects = new LongAdder();
+  private final LongAdder dbRejects = new LongAdder();
+
+  @Autowired
+  public RecommendationQuotaService(
+      MemberRoundQuotaJdbcRepository quotaRepository, AdRewardTokenVerifier adRewardTokenVerifier) {
+    this(quotaRepository, adRewardTokenVerifier, Clock.systemDefaultZone());
+  }
+
+  RecommendationQuotaService(
+      MemberRoundQuotaJdbcRepository quotaRepository,
+      AdRewardTokenVerifier adRewardTokenVerifier,
+      Clock clock) {
+    this.quotaRepository = quotaRepository;
+    this.adRewardTokenVerifier = adRewardTokenVerifier;
+    this.clock = clock;
+  }
+
+  /**
+   * 추천 1번(sets세트)을 사용량에 더한다. 호출자의 트랜잭션에 참여하므로 추천 저장이 롤백되면 같이 롤백된다.
+   *
+   * <p>write-behind 모드의 추천 기록은 저널 추가 자체가 커밋 뒤에 일어나므로, 롤백된 추천이 나중에 저장되는 일은 없다. 반대로 커밋 뒤 저널 추가와
+   * 동기 저장이 모두 실패하면 차감만 남는다.
+   *
+   * @param memberId 회원 ID
+   * @param round 회차
+   * @param sets 이번 추천 세트 수
+   * @throws QuotaExceededException 일일/회차 한도를 넘는 경우
+   */
+  public void acquire(long memberId, int round, int sets) {
+    LocalDate today = LocalDate.now(clock);
+    Denial denial = denials.get(memberId);
+    if (denial != null) {
+      QuotaExceededException.Limit limit =
+          denial.blockingLimit(round, today, sets, System.nanoTime());
+      if (limit != null) {
+        fastRejects.increment();
+        throw new QuotaExceededException(limit, denial.status);
+      }
+    }
+
+    LocalDateTime now = LocalDateTime.now(clock);
+    if (quotaRepository.tryConsume(
+        memberId, round, today, DAILY_LIMIT, sets, ROUND_SET_LIMIT, now)) {
+      return;
+    }
+    QuotaRow row = quotaRepository.find(memberId, round).orElse(null);
+    if (row == null) {
+      if (sets > ROUND_SET_LIMIT) {
+        throw new QuotaExceededException(
+            QuotaExceededException.Limit.ROUND, toStatus(round, today, null));
+      }
+      if (quotaRepository.insert(memberId, round, new QuotaRow(today, 1, 0, sets), now)) {
+        return;
+      }
+      // 같은 회원의 동시 요청이 먼저 만들었다: 만들어진 행에 다시 조건부 UPDATE
+      if (quotaRepository.tryConsume(
+          memberId, round, today, DAILY_LIMIT, sets, ROUND_SET_LIMIT, now)) {
+        return;
+      }
+      row = quotaRepository.find(memberId, round).orElse(null);
+    }
+
+    QuotaStatus status = toStatus(round, today, row);
+    QuotaExceededException.Limit limit = status.blockingLimit(sets);
+    if (limit == null) {
+      // 읽는 사이에 다른 요청이 광고 보상을 받았다: 거절하지 않고 한 번 더 시도
+      if (quotaRepository.tryConsume(
+          memberId, round, today, DAILY_LIMIT, sets, ROUND_SET_LIMIT, now)) {
+        return;
+      }
+      limit = QuotaExceededException.Limit.DAILY;
+    }
+    dbRejects.increment();
+    remember(memberId, status);
+    throw new QuotaExceededException(limit, status);
+  }
+
+  /**
+   * 광고 시청 보상으로 오늘 추천 횟수를 {@value #AD_BONUS}번 늘린다.
+   *
+   * <p>토큰은 마지막으로 쓴 토큰보다 늦게 발급된 것만 받으므로 같은 토큰으로 두 번 받을 수 없다. 상한은 회원의 회차 행 기준이라, 회차가 바뀌는 날에는
+   * 두 회차 행에서 각각 셀 수 있다.
+   *
+   * @param memberId 회원 ID
+   * @param round 회차
+   * @param token 광고 보상 검증 서버가 발급한 시청 완료 토큰
+   * @return 보상 반영 후 사용량
+   * @throws InvalidAdRewardTokenException 토큰이 검증되지 않거나 이미 쓴 토큰인 경우
+   * @throws QuotaExceededException 오늘 광고 보상 상한({@value #DAILY_AD_REWARD_LIMIT}회)을 넘는 경우
+   */
+  public QuotaStatus grantAdReward(long memberId, int round, String token) {
+    long issuedAt = adRewardTokenVerifier.verify(memberId, token);
+    LocalDate today = LocalDate.now(clock);
+    LocalDateTime now = LocalDateTime.now(clock);
+    boolean granted = addBonus(memberId, round, today, issuedAt, now);
+    if (!granted && quotaRepository.find(memberId, round).isEmpty()) {
+      // 회차 첫 행. 같은 회원의 동시 요청이 먼저 만들었으면 만들어진 행에 다시 조건부 UPDATE
+      QuotaRow first = new QuotaRow(today, 0, AD_BONUS, 0, 1, issuedAt);
+      granted =
+          quotaRepository.insert(memberId, round, first, now)
+              || addBonus(memberId, round, today, issuedAt, now);
+    }
+    if (!granted) {
+      rejectAdReward(memberId, round, today, issuedAt);
+    }
+    denials.remove(memberId);
+    return status(memberId, round);
+  }
+
+  /**
+   * 현재 사용량. 아직 행이 없으면 아무것도 쓰지 않은 상태를 돌려준다.
+   *
+   * @param memberId 회원 ID
+   * @param round 회차
+   */
+  public QuotaStatus status(long memberId, int round) {
+    LocalDate today = LocalDate.now(clock);
+    return toStatus(round, today, quotaRepository.find(memberId, round).orElse(null));
+  }
+
+  /** 누적 메모리 거절 수(DB를 거치지 않음) */
+  public long fastRejectCount() {
+    return fastRejects.sum();
+  }
+
+  /** 누적 DB 거절 수 */
+  public long dbRejectCount() {
+    return dbRejects.sum();
+  }
+
+  /** 저장된 행을 오늘 기준 사용량으로 바꾼다. 날짜가 지난 일일 사용량은 0으로 본다. */
+  static QuotaStatus toStatus(int round, LocalDate today, QuotaRow row) {
+    if (row == null) {
+      return new QuotaStatus(round, today, 0, DAILY_LIMIT, 0, ROUND_SET_LIMIT);
+    }
+    boolean sameDay = today.equals(row.day());
+    return new QuotaStatus(
+        round,
+        today,
+        sameDay ? row.dayUsed() : 0,
+        DAILY_LIMIT + (sameDay ? row.dayBonus() : 0),
+        row.roundSets(),
+        ROUND_SET_LIMIT);
+  }
+
+  private boolean addBonus(
+      long memberId, int round, LocalDate today, long tokenIssuedAt, LocalDateTime now) {
+    return quotaRepository.addBonus(
+        memberId, round, today, AD_BONUS, DAILY_AD_REWARD_LIMIT, tokenIssuedAt, now);
+  }
+
+  /** 보상 UPDATE가 거절된 이유를 행에서 읽어 던진다. */
+  private void rejectAdReward(long memberId, int round, LocalDate today, long tokenIssuedAt) {
+    QuotaRow row = quotaRepository.find(memberId, round).orElse(null);
+    if (row == null || row.lastAdTokenAt() >= tokenIssuedAt) {
+      throw new InvalidAdRewardTokenException();
+    }
+    throw new QuotaExceededException(
+        QuotaExceededException.Limit.AD_REWARD, toStatus(round, today, row));
+  }
+
+  private void remember(long memberId, QuotaStatus status) {
+    if (denials.size() >= MAX_DENIALS) {
+      denials.clear();
+    }
+    denials.put(memberId, new Denial(status, System.nanoTime()));
+  }
+
+  /** DB가 거절했을 때의 사용량과 읽은 시각 */
+  private record Denial(QuotaStatus status, long recordedAtNanos) {
+
+    /** 메모리만으로 거절할 수 있으면 막히는 한도, 확신할 수 없으면 null */
+    QuotaExceededException.Limit blockingLimit(
+        int round, LocalDate today, int sets, long nowNanos) {
+      if (status.round() != round) {
+        return null;
+      }
+      if (status.roundSets() + sets > status.roundLimit()) {
+        return QuotaExceededException.Limit.ROUND;
+      }
+      boolean fresh =
+          nowNanos - recordedAtNanos < TimeUnit.SECONDS.toNanos(DAILY_DENIAL_TTL_SECONDS);
+      if (fresh && today.equals(status.day()) && status.dailyUsed() >= status.dailyLimit()) {
+        return QuotaExceededException.Limit.DAILY;
+      }
+      return null;
+    }
+  }
+}
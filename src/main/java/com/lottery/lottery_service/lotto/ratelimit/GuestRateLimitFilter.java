@@ -0,0 +1,218 @@
+package com.lottery.lottery_service.lotto.ratelimit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * [필터] 비회원 API(/api/lotto/guests/**) 요청 수 제한.
+ *
+ * <p>비회원 추천은 로그인 없이 열려 있고 호출마다 lotto_record에 5행을 쓴다. 이 필터는 Spring Security 필터 체인보다 앞에서 돌며, 한도를 넘은
+ * 요청은 컨트롤러/서비스/트랜잭션에 닿기 전에 429와 Retry-After로 돌려보낸다.
+ *
+ * <p>버킷은 두 단계이고 IP 버킷을 먼저 본다.
+ *
+ * <ul>
+ *   <li>IP 단위: 쿠키를 지우거나 바꿔 가며 보내는 요청을 막는 넓은 한도. 공유기/통신사 NAT 뒤의 여러 사용자를 고려해 기기 한도보다 크게 둔다. IP
+ *       한도를 넘은 요청은 기기 버킷을 만들지 않으므로, 가짜 쿠키를 바꿔 보내도 기기 버킷 수는 IP 한도 이상으로 늘지 않는다.
+ *   <li>기기 쿠키({@value #DEVICE_COOKIE}) 단위: 브라우저 1대 기준의 좁은 한도. 쿠키가 없거나 형식이 틀리면 새로 발급하되, 그 요청은 IP
+ *       버킷으로만 센다(발급한 쿠키로 버킷을 만들면 쿠키 없이 보내는 요청마다 버킷이 하나씩 쌓인다).
+ * </ul>
+ *
+ * <p>유휴 버킷은 데몬 스레드가 {@code evict-interval-ms}마다 지운다. 요청 스레드는 정리를 하지 않는다.
+ *
+ * <p>IP는 {@code getRemoteAddr()}만 본다. 프록시 뒤에 배포하면 X-Forwarded-For 해석은 서버 설정
+ * (server.forward-headers-strategy)에 맡긴다. 헤더를 여기서 직접 믿으면 클라이언트가 키를 마음대로 바꿀 수 있다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 100)
+public class GuestRateLimitFilter extends OncePerRequestFilter {
+
+  /** 기기 식별 쿠키 이름 */
+  public static final String DEVICE_COOKIE = "lotto_device";
+
+  private static final String GUEST_PATH_PREFIX = "/api/lotto/guests/";
+
+  private static final Duration DEVICE_COOKIE_MAX_AGE = Duration.ofDays(365);
+
+  private static final Pattern UUID_PATTERN =
+      Pattern.compile("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}");
+
+  private static final byte[] REJECT_BODY =
+      "{\"message\":\"요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.\"}".getBytes(StandardCharsets.UTF_8);
+
+  private final boolean enabled;
+  private final TokenBucketRateLimiter deviceLimiter;
+  private final TokenBucketRateLimiter ipLimiter;
+  private final LongSupplier nanoClock;
+  private final long evictIntervalMillis;
+
+  private final ScheduledExecutorService evictExecutor =
+      Executors.newSingleThreadScheduledExecutor(
+          r -> {
+            Thread t = new Thread(r, "lotto-guest-ratelimit-evict");
+            t.setDaemon(true);
+            return t;
+          });
+
+  @Autowired
+  public GuestRateLimitFilter(
+      @Value("${lotto.ratelimit.guest.enabled:true}") boolean enabled,
+      @Value("${lotto.ratelimit.guest.device-burst:5}") int deviceBurst,
+      @Value("${lotto.ratelimit.guest.device-per-minute:5}") int devicePerMinute,
+      @Value("${lotto.ratelimit.guest.ip-burst:50}") int ipBurst,
+      @Value("${lotto.ratelimit.guest.ip-per-minute:50}") int ipPerMinute,
+      @Value("${lotto.ratelimit.guest.max-keys:100000}") int maxKeys,
+      @Value("${lotto.ratelimit.guest.evict-interval-ms:10000}") long evictIntervalMillis) {
+    this(
+        enabled,
+        new TokenBucketRateLimiter(deviceBurst, perMinuteInterval(devicePerMinute), maxKeys),
+        new TokenBucketRateLimiter(ipBurst, perMinuteInterval(ipPerMinute), maxKeys),
+        System::nanoTime,
+        evictIntervalMillis);
+  }
+
+  GuestRateLimitFilter(
+      boolean enabled,
+      TokenBucketRateLimiter deviceLimiter,
+      TokenBucketRateLimiter ipLimiter,
+      LongSupplier nanoClock,
+      long evictIntervalMillis) {
+    if (evictIntervalMillis < 1) {
+      throw new IllegalArgumentException("rate limit evict interval must be positive");
+    }
+    this.enabled = enabled;
+    this.deviceLimiter = deviceLimiter;
+    this.ipLimiter = ipLimiter;
+    this.nanoClock = nanoClock;
+    this.evictIntervalMillis = evictIntervalMillis;
+  }
+
+  /** 유휴 버킷 정리 스레드를 시작한다. */
+  @PostConstruct
+  public void startEviction() {
+    if (enabled) {
+      evictExecutor.scheduleWithFixedDelay(
+          this::evictIdle, evictIntervalMillis, evictIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    evictExecutor.shutdownNow();
+  }
+
+  /** 두 단계 버킷에서 가득 찬 버킷을 지운다(정리 스레드 주기와 무관, 동기). */
+  void evictIdle() {
+    long now = nanoClock.getAsLong();
+    deviceLimiter.evictIdle(now);
+    ipLimiter.evictIdle(now);
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !enabled || !request.getRequestURI().startsWith(GUEST_PATH_PREFIX);
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    long now = nanoClock.getAsLong();
+    long waitNanos = ipLimiter.tryAcquire(request.getRemoteAddr(), now);
+    if (waitNanos == 0) {
+      String device = deviceId(request);
+      if (device != null) {
+        waitNanos = deviceLimiter.tryAcquire(device, now);
+      } else {
+        response.addHeader(HttpHeaders.SET_COOKIE, deviceCookie(UUID.randomUUID().toString()));
+      }
+    }
+    if (waitNanos > 0) {
+      reject(response, waitNanos);
+      return;
+    }
+    filterChain.doFilter(request, response);
+  }
+
+  /** 기기 단위 버킷 */
+  public TokenBucketRateLimiter deviceLimiter() {
+    return deviceLimiter;
+  }
+
+  /** IP 단위 버킷 */
+  public TokenBucketRateLimiter ipLimiter() {
+    return ipLimiter;
+  }
+
+  /** Retry-After(초). 0초로 내려가면 클라이언트가 바로 다시 보내므로 최소 1초로 올린다. */
+  static long retryAfterSeconds(long waitNanos) {
+    long unit = TimeUnit.SECONDS.toNanos(1);
+    return Math.max(1, (waitNanos + unit - 1) / unit);
+  }
+
+  private static long perMinuteInterval(int perMinute) {
+    if (perMinute < 1) {
+      throw new IllegalArgumentException("rate limit per minute must be positive");
+    }
+    return TimeUnit.MINUTES.toNanos(1) / perMinute;
+  }
+
+  /** 형식이 맞는 기기 쿠키 값, 없으면 null */
+  private static String deviceId(HttpServletRequest request) {
+    Cookie[] cookies = request.getCookies();
+    if (cookies == null) {
+      return null;
+    }
+    for (Cookie cookie : cookies) {
+      if (DEVICE_COOKIE.equals(cookie.getName())
+          && cookie.getValue() != null
+          && UUID_PATTERN.matcher(cookie.getValue()).matches()) {
+        return cookie.getValue();
+      }
+    }
+    return null;
+  }
+
+  private static String deviceCookie(String device) {
+    return ResponseCookie.from(DEVICE_COOKIE, device)
+        .httpOnly(true)
+        .sameSite("Lax")
+        .path(GUEST_PATH_PREFIX)
+        .maxAge(DEVICE_COOKIE_MAX_AGE)
+        .build()
+        .toString();
+  }
+
+  private static void reject(HttpServletResponse response, long waitNanos) throws IOException {
+    response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+    response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds(waitNanos)));
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    response.setContentLength(REJECT_BODY.length);
+    response.getOutputStream().write(REJECT_BODY);
+  }
+}
@@ -0,0 +1,119 @@
+package com.lottery.lottery_service.lotto.ratelimit;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * [내부 모델] 키(클라이언트)별 토큰 버킷. 버킷 하나가 long 하나이고, 소비는 CAS 한 번이다.
+ *
+ * <p>버킷은 토큰 수 대신 "이론상 다음 도착 시각(TAT)"을 저장한다(GCRA). 요청 1건은 TAT를 토큰 1개 간격만큼 뒤로 민다. 밀린 TAT가 지금보다 버스트
+ * 크기 이상 앞서면 거절하며, 그 차이가 곧 다시 시도할 수 있는 때다. 토큰 수/마지막 보충 시각을 따로 두지 않으므로 락 없이 CAS로 끝난다.
+ *
+ * <p>메모리 상한: TAT가 지난 버킷은 "가득 찬 새 버킷"과 똑같으므로 지워도 동작이 바뀌지 않는다. 이런 유휴 버킷은 소유자가 주기적으로
+ * {@link #evictIdle(long)}를 불러 요청 스레드 밖에서 지운다. 요청 경로는 맵 조회/추가만 하므로 키 수와 무관하게 상수 비용이다. 정리 주기
+ * 안에 상한만큼의 키가 모두 사용 중일 때만 새 키가 공용 오버플로 버킷 하나를 함께 쓴다. 주소가 계속 바뀌는 요청이 몰려도 맵은 상한 이상 커지지
+ * 않는다.
+ */
+public final class TokenBucketRateLimiter {
+
+  private final long intervalNanos;
+  private final long burstNanos;
+  private final int maxKeys;
+
+  /** 키 → TAT(System.nanoTime 기준) */
+  private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+  /** 상한에 걸려 자리를 못 받은 새 키가 함께 쓰는 버킷 */
+  private final AtomicLong overflow;
+
+  private final LongAdder rejected = new LongAdder();
+  private final LongAdder overflowed = new LongAdder();
+
+  /**
+   * @param burst 연속으로 허용하는 최대 요청 수(버킷 크기)
+   * @param intervalNanos 토큰 1개가 다시 차는 간격
+   * @param maxKeys 버킷을 따로 두는 키 수 상한
+   */
+  public TokenBucketRateLimiter(int burst, long intervalNanos, int maxKeys) {
+    if (burst < 1 || intervalNanos < 1 || maxKeys < 1) {
+      throw new IllegalArgumentException("rate limit settings must be positive");
+    }
+    this.intervalNanos = intervalNanos;
+    this.burstNanos = Math.multiplyExact(burst, intervalNanos);
+    this.maxKeys = maxKeys;
+    this.overflow = new AtomicLong(System.nanoTime());
+  }
+
+  /**
+   * 키의 버킷에서 토큰 1개를 꺼낸다.
+   *
+   * @param key 클라이언트 키
+   * @param nowNanos 현재 시각(System.nanoTime)
+   * @return 허용이면 0, 거절이면 다시 시도할 수 있을 때까지 남은 나노초
+   */
+  public long tryAcquire(String key, long nowNanos) {
+    AtomicLong bucket = bucketOf(key, nowNanos);
+    while (true) {
+      long tat = bucket.get();
+      long next = (tat - nowNanos > 0 ? tat : nowNanos) + intervalNanos;
+      long excess = next - nowNanos - burstNanos;
+      if (excess > 0) {
+        rejected.increment();
+        return excess;
+      }
+      if (bucket.compareAndSet(tat, next)) {
+        return 0;
+      }
+    }
+  }
+
+  /**
+   * 가득 찬(마지막 요청 이후 충분히 시간이 지난) 버킷을 지운다. 키 수에 비례하므로 요청 스레드가 아닌 정리 스레드에서 부른다.
+   *
+   * <p>지우는 순간 다른 스레드가 그 버킷에서 토큰을 꺼내는 중이었다면 그 1건은 새 버킷에 반영되지 않는다. 지워지는 버킷은 이미 가득 차 있으므로 차이는
+   * 토큰 1개 이하다.
+   *
+   * @return 지운 버킷 수
+   */
+  public int evictIdle(long nowNanos) {
+    int removed = 0;
+    for (Iterator<Map.Entry<String, AtomicLong>> it = buckets.entrySet().iterator();
+        it.hasNext(); ) {
+      if (it.next().getValue().get() - nowNanos <= 0) {
+        it.remove();
+        removed++;
+      }
+    }
+    return removed;
+  }
+
+  /** 따로 버킷을 가진 키 수 */
+  public int size() {
+    return buckets.size();
+  }
+
+  /** 누적 거절 수 */
+  public long rejectedCount() {
+    return rejected.sum();
+  }
+
+  /** 상한 때문에 오버플로 버킷을 쓴 누적 요청 수 */
+  public long overflowCount() {
+    return overflowed.sum();
+  }
+
+  private AtomicLong bucketOf(String key, long nowNanos) {
+    AtomicLong bucket = buckets.get(key);
+    if (bucket != null) {
+      return bucket;
+    }
+    if (buckets.size() >= maxKeys) {
+      overflowed.increment();
+      return overflow;
+    }
+    return buckets.computeIfAbsent(key, k -> new AtomicLong(nowNanos));
+  }
+}
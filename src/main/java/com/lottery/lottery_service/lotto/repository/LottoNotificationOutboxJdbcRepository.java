@@ -0,0 +1,186 @@
+package com.lottery.lottery_service.lotto.repository;
+
+import com.lottery.lottery_service.lotto.dto.LottoRank;
+import com.lottery.lottery_service.lotto.entity.LottoNotificationOutbox.Status;
+import com.lottery.lottery_service.lotto.entity.LottoWinning;
+import com.lottery.lottery_service.lotto.notification.WinnerNotification;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 당첨 알림 outbox(lotto_notification_outbox) 전용 JDBC Repository.
+ *
+ * <p>정산 청크의 INSERT와 디스패처의 선점/결과 기록만 한다. 선점은 "기한이 지난 ID 조회 → 토큰을 박는 조건부 UPDATE → 토큰으로 다시 조회"
+ * 순서라서, 디스패처가 여러 대여도 같은 행을 동시에 가져가지 않는다. 선점 만료(nextAttemptAt)가 지난 SENDING 행은 발송 중 죽은 것으로 보고 다시
+ * 가져간다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LottoNotificationOutboxJdbcRepository {
+
+  /** 원본 기록 1건당 하나인 중복 방지 키 */
+  static final String KEY_PREFIX = "winning-";
+
+  private static final String INSERT =
+      "INSERT INTO lotto_notification_outbox (idempotency_key, member_id, record_id, round,"
+          + " prize_rank, numbers, status, attempts, next_attempt_at, created_at)"
+          + " VALUES (?, ?, ?, ?, ?, ?, 'PENDING', 0, ?, ?)";
+
+  private static final String SELECT_DUE_IDS =
+      "SELECT id FROM lotto_notification_outbox"
+          + " WHERE status IN ('PENDING', 'SENDING') AND next_attempt_at <= ?"
+          + " ORDER BY next_attempt_at LIMIT ?";
+
+  private static final String CLAIM =
+      "UPDATE lotto_notification_outbox"
+          + " SET status = 'SENDING', claim_token = ?, attempts = attempts + 1, next_attempt_at = ?"
+          + " WHERE status IN ('PENDING', 'SENDING') AND next_attempt_at <= ? AND id IN (%s)";
+
+  private static final String SELECT_CLAIMED =
+      "SELECT id, idempotency_key, member_id, record_id, round, prize_rank, numbers, attempts"
+          + " FROM lotto_notification_outbox WHERE claim_token = ? AND id IN (%s) ORDER BY id";
+
+  private static final String FINISH =
+      "UPDATE lotto_notification_outbox"
+          + " SET status = ?, next_attempt_at = ?, last_error = ?, sent_at = ?, claim_token = NULL"
+          + " WHERE id = ? AND claim_token = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 발송 시도 결과 1건.
+   *
+   * @param id outbox ID
+   * @param status SENT / PENDING(재시도) / FAILED
+   * @param nextAttemptAt 재시도면 다음 시도 시각, 그 밖에는 처리 시각
+   * @param lastError 실패 사유(성공이면 null)
+   * @param sentAt 발송 시각(성공일 때만)
+   */
+  public record OutboxUpdate(
+      long id, Status status, LocalDateTime nextAttemptAt, String lastError, LocalDateTime sentAt) {
+
+    public static OutboxUpdate sent(long id, LocalDateTime at) {
+      return new OutboxUpdate(id, Status.SENT, at, null, at);
+    }
+
+    public static OutboxUpdate retry(long id, LocalDateTime nextAttemptAt, String error) {
+      return new OutboxUpdate(id, Status.PENDING, nextAttemptAt, error, null);
+    }
+
+    public static OutboxUpdate failed(long id, LocalDateTime at, String error) {
+      return new OutboxUpdate(id, Status.FAILED, at, error, null);
+    }
+  }
+
+  /**
+   * 당첨 내역 중 회원 기록만 알림 의도로 쌓는다. 호출자(정산 청크)의 트랜잭션에 참여한다.
+   *
+   * @param winnings 이번 청크의 당첨 내역
+   * @param now 생성 시각(바로 발송 가능)
+   * @return 쌓은 건수
+   */
+  public int enqueueWinnings(List<LottoWinning> winnings, LocalDateTime now) {
+    List<LottoWinning> members = new ArrayList<>(winnings.size());
+    for (LottoWinning winning : winnings) {
+      if (winning.getMemberId() != null) {
+        members.add(winning);
+      }
+    }
+    if (members.isEmpty()) {
+      return 0;
+    }
+    Timestamp at = Timestamp.valueOf(now);
+    jdbcTemplate.batchUpdate(
+        INSERT,
+        members,
+        members.size(),
+        (ps, winning) -> {
+          ps.setString(1, KEY_PREFIX + winning.getRecordId());
+          ps.setLong(2, winning.getMemberId());
+          ps.setLong(3, winning.getRecordId());
+          ps.setInt(4, winning.getRound());
+          ps.setInt(5, winning.getRank());
+          ps.setString(6, winning.getNumbers());
+          ps.setTimestamp(7, at);
+          ps.setTimestamp(8, at);
+        });
+    return members.size();
+  }
+
+  /**
+   * 발송 기한이 된 행을 최대 limit건 선점한다.
+   *
+   * @param token 이번 배치의 선점 토큰
+   * @param now 현재 시각
+   * @param leaseUntil 선점 만료 시각(이때까지 결과를 못 쓰면 다른 배치가 다시 가져간다)
+   * @param limit 최대 건수
+   * @return 선점한 알림(시도 횟수는 이번 시도를 포함)
+   */
+  public List<WinnerNotification> claim(
+      String token, LocalDateTime now, LocalDateTime leaseUntil, int limit) {
+    Timestamp nowTs = Timestamp.valueOf(now);
+    List<Long> ids =
+        jdbcTemplate.query(SELECT_DUE_IDS, (rs, rowNum) -> rs.getLong(1), nowTs, limit);
+    if (ids.isEmpty()) {
+      return Collections.emptyList();
+    }
+    String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+
+    List<Object> claimArgs = new ArrayList<>(ids.size() + 3);
+    claimArgs.add(token);
+    claimArgs.add(Timestamp.valueOf(leaseUntil));
+    claimArgs.add(nowTs);
+    claimArgs.addAll(ids);
+    int claimed = jdbcTemplate.update(String.format(CLAIM, placeholders), claimArgs.toArray());
+    if (claimed == 0) {
+      return Collections.emptyList(); // 다른 디스패처가 먼저 가져감
+    }
+
+    List<Object> selectArgs = new ArrayList<>(ids.size() + 1);
+    selectArgs.add(token);
+    selectArgs.addAll(ids);
+    return jdbcTemplate.query(
+        String.format(SELECT_CLAIMED, placeholders),
+        (rs, rowNum) ->
+            new WinnerNotification(
+                rs.getLong(1),
+                rs.getString(2),
+                rs.getLong(3),
+                rs.getLong(4),
+                rs.getInt(5),
+                LottoRank.fromRank(rs.getInt(6)),
+                rs.getString(7),
+                rs.getInt(8)),
+        selectArgs.toArray());
+  }
+
+  /**
+   * 선점한 행의 발송 결과를 JDBC 배치로 기록한다. 선점이 만료돼 다른 배치가 가져간 행(토큰이 바뀐 행)은 건드리지 않는다.
+   *
+   * @param token 선점 토큰
+   * @param updates 결과 목록
+   */
+  public void finish(String token, List<OutboxUpdate> updates) {
+    if (updates.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.batchUpdate(
+        FINISH,
+        updates,
+        updates.size(),
+        (ps, update) -> {
+          ps.setString(1, update.status().name());
+          ps.setTimestamp(2, Timestamp.valueOf(update.nextAttemptAt()));
+          ps.setString(3, update.lastError());
+          ps.setTimestamp(4, update.sentAt() == null ? null : Timestamp.valueOf(update.sentAt()));
+          ps.setLong(5, update.id());
+          ps.setString(6, token);
+        });
+  }
+}
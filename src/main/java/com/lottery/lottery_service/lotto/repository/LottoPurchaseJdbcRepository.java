@@ -0,0 +1,113 @@
+package com.lottery.lottery_service.lotto.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 구매 번호 저장 전용 JDBC Repository.
+ *
+ * <p>티켓마다 조회/저장하지 않고 요청 1건을 문장 3개로 처리한다: 기존 기록 IN 조회 1번, purchased 일괄 UPDATE 1번, 새 수동 기록 배치 INSERT
+ * 1번. 모두 호출자의 트랜잭션에 참여한다.
+ *
+ * <p>수동 기록 INSERT는 uk_lotto_record_manual_entry(member_id, round, numbers, manual_entry_key)에 걸리면
+ * 기존 행의 purchased만 올린다. 같은 번호를 동시에 두 번 저장해도 수동 기록은 1행만 남는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LottoPurchaseJdbcRepository {
+
+  private static final String SELECT_EXISTING =
+      "SELECT id, numbers, purchased FROM lotto_record"
+          + " WHERE member_id = ? AND round = ? AND numbers IN (%s)";
+
+  private static final String MARK_PURCHASED =
+      "UPDATE lotto_record SET purchased = TRUE WHERE purchased = FALSE AND id IN (%s)";
+
+  private static final String UPSERT_MANUAL =
+      "INSERT INTO lotto_record (member_id, guest, numbers, round, recommended_at, manual,"
+          + " purchased, source, manual_entry_key)"
+          + " VALUES (?, FALSE, ?, ?, ?, TRUE, TRUE, 'manual', TRUE)"
+          + " ON DUPLICATE KEY UPDATE purchased = TRUE";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 이미 저장된 같은 번호의 기록 1행.
+   *
+   * @param id lotto_record.id
+   * @param numbers canonical 번호 문자열
+   * @param purchased 구매 여부
+   */
+  public record ExistingRecord(long id, String numbers, boolean purchased) {}
+
+  /**
+   * 회원/회차 기록 중 번호가 일치하는 행을 한 번에 읽는다.
+   *
+   * @param memberId 회원 ID
+   * @param round 회차
+   * @param numbers canonical 번호 문자열 목록
+   * @return 일치하는 기록(번호당 여러 행일 수 있다)
+   */
+  public List<ExistingRecord> findExisting(long memberId, int round, Collection<String> numbers) {
+    if (numbers.isEmpty()) {
+      return Collections.emptyList();
+    }
+    List<Object> args = new ArrayList<>(numbers.size() + 2);
+    args.add(memberId);
+    args.add(round);
+    args.addAll(numbers);
+    return jdbcTemplate.query(
+        String.format(SELECT_EXISTING, placeholders(numbers.size())),
+        (rs, rowNum) -> new ExistingRecord(rs.getLong(1), rs.getString(2), rs.getBoolean(3)),
+        args.toArray());
+  }
+
+  /**
+   * 기록들의 purchased를 한 문장으로 올린다.
+   *
+   * @return 바뀐 행 수
+   */
+  public int markPurchased(Collection<Long> ids) {
+    if (ids.isEmpty()) {
+      return 0;
+    }
+    return jdbcTemplate.update(
+        String.format(MARK_PURCHASED, placeholders(ids.size())), ids.toArray());
+  }
+
+  /**
+   * 새 수동 구매 기록을 JDBC 배치로 넣는다. 같은 수동 기록이 이미 있으면 purchased만 올린다.
+   *
+   * @param memberId 회원 ID
+   * @param round 회차
+   * @param numbers canonical 번호 문자열 목록
+   * @param now 저장 시각
+   */
+  public void upsertManual(long memberId, int round, List<String> numbers, LocalDateTime now) {
+    if (numbers.isEmpty()) {
+      return;
+    }
+    Timestamp at = Timestamp.valueOf(now);
+    jdbcTemplate.batchUpdate(
+        UPSERT_MANUAL,
+        numbers,
+        numbers.size(),
+        (ps, value) -> {
+          ps.setLong(1, memberId);
+          ps.setString(2, value);
+          ps.setInt(3, round);
+          ps.setTimestamp(4, at);
+        });
+  }
+
+  private static String placeholders(int count) {
+    return String.join(", ", Collections.nCopies(count, "?"));
+  }
+}
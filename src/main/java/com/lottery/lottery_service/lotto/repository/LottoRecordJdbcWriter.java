@@ -0,0 +1,134 @@
+package com.lottery.lottery_service.lotto.repository;
+
+import com.lottery.lottery_service.lotto.dto.LottoSet;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 추천 기록(lotto_record) 쓰기 전용 JDBC Writer.
+ *
+ * <p>LottoRecord는 IDENTITY 키라 Hibernate가 ID를 받으려고 행마다 INSERT를 따로 보낸다(배치 설정이 있어도 마찬가지다). 추천 저장은 생성된
+ * ID를 쓰지 않으므로, 여기서는 엔티티 없이 여러 행을 한 문장({@code VALUES (...), (...), ...})으로 넣는다. 드라이버 옵션과
+ * 무관하게 H2/MySQL 모두 문장 하나가 최대 {@value #ROWS_PER_STATEMENT}행이다.
+ *
+ * <p>호출자의 트랜잭션에 참여한다. 같은 트랜잭션의 영속성 컨텍스트에는 이 행들이 올라가지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LottoRecordJdbcWriter {
+
+  /** 문장 하나에 넣는 최대 행 수(파라미터 {@value #ROWS_PER_STATEMENT} × 6개) */
+  static final int ROWS_PER_STATEMENT = 100;
+
+  private static final String INSERT_PREFIX =
+      "INSERT INTO lotto_record"
+          + " (member_id, guest, numbers, round, recommended_at, manual, purchased, source)"
+          + " VALUES ";
+
+  private static final String ROW_VALUES = "(?, ?, ?, ?, ?, FALSE, FALSE, ?)";
+
+  /** 가득 찬 청크용 문장(매번 만들지 않는다) */
+  private static final String FULL_INSERT = insertSql(ROWS_PER_STATEMENT);
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 추천 세트들을 lotto_record에 넣는다.
+   *
+   * @param memberId 회원 ID, 비회원이면 null(guest=true로 저장)
+   * @param round 회차
+   * @param source 추천 방식
+   * @param sets 저장할 세트
+   * @param recommendedAt 추천 시간
+   * @return 넣은 행 수
+   */
+  public int insertRecommendations(
+      Long memberId, int round, String source, List<LottoSet> sets, LocalDateTime recommendedAt) {
+    Timestamp at = Timestamp.valueOf(recommendedAt);
+    return insert(sets, (ps, i, set) -> bind(ps, i, memberId, set, round, at, source));
+  }
+
+  /**
+   * 회원/회차/방식이 섞인 추천 기록을 넣는다(write-behind 저널 반영용).
+   *
+   * @param rows 저장할 행
+   * @return 넣은 행 수
+   */
+  public int insertRows(List<RecommendationRow> rows) {
+    return insert(
+        rows,
+        (ps, i, row) ->
+            bind(
+                ps,
+                i,
+                row.memberId(),
+                row.set(),
+                row.round(),
+                Timestamp.valueOf(row.recommendedAt()),
+                row.source()));
+  }
+
+  /** 추천 기록 한 행 */
+  public record RecommendationRow(
+      Long memberId, int round, String source, LottoSet set, LocalDateTime recommendedAt) {}
+
+  /** 최대 {@value #ROWS_PER_STATEMENT}행씩 끊어 multi-row INSERT를 보낸다. */
+  private <T> int insert(List<T> items, RowBinder<T> binder) {
+    int inserted = 0;
+    for (int from = 0; from < items.size(); from += ROWS_PER_STATEMENT) {
+      List<T> chunk = items.subList(from, Math.min(from + ROWS_PER_STATEMENT, items.size()));
+      String sql = chunk.size() == ROWS_PER_STATEMENT ? FULL_INSERT : insertSql(chunk.size());
+      inserted +=
+          jdbcTemplate.update(
+              sql,
+              ps -> {
+                int i = 1;
+                for (T item : chunk) {
+                  i = binder.bind(ps, i, item);
+                }
+              });
+    }
+    return inserted;
+  }
+
+  /** 한 행의 파라미터를 index부터 채우고 다음 index를 돌려준다. 회원 ID가 null이면 비회원(guest=true)이다. */
+  private static int bind(
+      PreparedStatement ps,
+      int index,
+      Long memberId,
+      LottoSet set,
+      int round,
+      Timestamp recommendedAt,
+      String source)
+      throws SQLException {
+    int i = index;
+    if (memberId == null) {
+      ps.setNull(i++, Types.BIGINT);
+    } else {
+      ps.setLong(i++, memberId);
+    }
+    ps.setBoolean(i++, memberId == null);
+    ps.setString(i++, set.toCanonicalString());
+    ps.setInt(i++, round);
+    ps.setTimestamp(i++, recommendedAt);
+    ps.setString(i++, source);
+    return i;
+  }
+
+  @FunctionalInterface
+  private interface RowBinder<T> {
+    int bind(PreparedStatement ps, int index, T item) throws SQLException;
+  }
+
+  private static String insertSql(int rows) {
+    return INSERT_PREFIX + String.join(", ", Collections.nCopies(rows, ROW_VALUES));
+  }
+}
@@ -1,10 +1,11 @@
 package com.lottery.lottery_service.lotto.repository;
 
 import com.lottery.lottery_service.lotto.entity.LottoRecord;
-import com.lottery.lottery_service.member.entity.Member;
 import java.util.List;
-import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /** 추천받은 로또 번호 내역을 조회하고 저장하는 JPA Repository. */
@@ -14,28 +15,56 @@ public interface LottoRecordRepository extends JpaRepository<LottoRecord, Long>
   /**
    * 회원이 추천 받은 로또 번호 목록을 회차 기준 내림차순으로 조회합니다.
    *
+   * <p>엔티티 대신 {@link LottoRecordView}로 바로 읽습니다.
+   *
    * @param memberId 조회 대상 회원의 ID
    * @return 추천 내역 리스트 (최신 회차 우선 정렬)
    */
-  List<LottoRecord> findAllByMemberIdOrderByRoundDesc(Long memberId);
+  @Query(
+      LottoRecordView.SELECT
+          + " WHERE r.member.id = :memberId ORDER BY r.round DESC, r.id DESC")
+  List<LottoRecordView> findViewsByMemberId(@Param("memberId") Long memberId);
 
   /**
-   * 해당 회원이 특정 회차에 추천 받은 횟수를 반환합니다.
+   * 회원 추천 내역의 첫 페이지를 (회차, ID) 내림차순으로 조회합니다.
    *
    * @param memberId 회원 ID
-   * @param round 회차 번호
-   * @return 추천받은 횟수
+   * @param limit 최대 건수
+   * @return 최신 회차부터 limit건
    */
-  long countByMemberIdAndRound(Long memberId, int round);
+  @Query(
+      LottoRecordView.SELECT
+          + " WHERE r.member.id = :memberId ORDER BY r.round DESC, r.id DESC")
+  List<LottoRecordView> findFirstPageByMemberId(@Param("memberId") Long memberId, Limit limit);
+
+  /**
+   * 커서(직전 페이지 마지막 기록) 다음부터 회원 추천 내역을 조회합니다.
+   *
+   * <p>(member_id, round, id) 인덱스를 커서 위치부터 거꾸로 읽으므로 OFFSET 페이지와 달리 앞 페이지를 건너뛰는 비용이 없습니다.
+   *
+   * @param memberId 회원 ID
+   * @param round 커서 회차
+   * @param id 커서 기록 ID
+   * @param limit 최대 건수
+   * @return 커서 이후 limit건
+   */
+  @Query(
+      LottoRecordView.SELECT
+          + " WHERE r.member.id = :memberId"
+          + " AND (r.round < :round OR (r.round = :round AND r.id < :id))"
+          + " ORDER BY r.round DESC, r.id DESC")
+  List<LottoRecordView> findPageByMemberIdBefore(
+      @Param("memberId") Long memberId,
+      @Param("round") int round,
+      @Param("id") long id,
+      Limit limit);
 
   /**
-   * 회원, 회차, 번호 문자열이 모두 일치하는 로또 기록을 찾습니다.
+   * 해당 회원이 특정 회차에 추천 받은 횟수를 반환합니다.
    *
-   * @param member Member 객체
-   * @param round 회차 문자열
-   * @param numbers 로또 번호 문자열 (예: "3, 8, 14, 22, 33, 41")
-   * @return 일치하는 로또 기록이 있다면 Optional로 반환
+   * @param memberId 회원 ID
+   * @param round 회차 번호
+   * @return 추천받은 횟수
    */
-  Optional<LottoRecord> findByMemberAndRoundAndNumbers(
-      Member member, Integer round, String numbers);
+  long countByMemberIdAndRound(Long memberId, int round);
 }
@@ -0,0 +1,32 @@
+package com.lottery.lottery_service.lotto.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 추천 내역 조회 전용 projection. JPQL 생성자 표현식({@code SELECT new ...})으로 바로 만든다.
+ *
+ * <p>엔티티가 아니므로 영속성 컨텍스트에 올라가지 않는다. 스냅샷 복사, 더티 체크, Member 프록시 생성이 모두 없고, 읽는 컬럼도 응답에 필요한 것뿐이다.
+ *
+ * @param id 기록 ID(페이지 커서용)
+ * @param round 회차
+ * @param numbers 번호 문자열("1 2 3 4 5 6")
+ * @param recommendedAt 추천 시간
+ * @param manual 수동 입력 여부
+ * @param purchased 구매 여부
+ * @param source 추천 방식
+ */
+public record LottoRecordView(
+    Long id,
+    int round,
+    String numbers,
+    LocalDateTime recommendedAt,
+    boolean manual,
+    boolean purchased,
+    String source) {
+
+  /** 조회 쿼리의 SELECT 절. 필드 순서가 생성자 인자 순서와 같아야 한다. */
+  static final String SELECT =
+      "SELECT new com.lottery.lottery_service.lotto.repository.LottoRecordView("
+          + "r.id, r.round, r.numbers, r.recommendedAt, r.manual, r.purchased, r.source)"
+          + " FROM LottoRecord r";
+}
@@ -0,0 +1,92 @@
+package com.lottery.lottery_service.lotto.repository;
+
+import com.lottery.lottery_service.lotto.entity.LottoWinning;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 당첨 정산 전용 JDBC Repository.
+ *
+ * <p>회차 전체 기록을 훑고 당첨 행을 대량으로 쓰는 경로라 엔티티를 만들지 않는다. 기록은 (round, id) 인덱스를 타는 keyset 페이지로 읽고, 당첨
+ * 내역은 JDBC 배치 INSERT로 쓴다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LottoSettlementJdbcRepository {
+
+  private static final String SELECT_TICKETS =
+      "SELECT id, member_id, numbers FROM lotto_record"
+          + " WHERE round = ? AND id > ? ORDER BY id LIMIT ?";
+
+  private static final String INSERT_WINNING =
+      "INSERT INTO lotto_winning (record_id, member_id, round, numbers, prize_rank, settled_at)"
+          + " VALUES (?, ?, ?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /** 기록 1건을 받는 콜백(행마다 객체를 만들지 않기 위해 값만 넘긴다) */
+  @FunctionalInterface
+  public interface TicketVisitor {
+
+    /**
+     * @param recordId lotto_record.id
+     * @param memberId 회원 ID, 비회원이면 null
+     * @param numbers 공백 구분 번호 문자열
+     */
+    void visit(long recordId, Long memberId, String numbers);
+  }
+
+  /**
+   * 회차 기록을 afterId 다음부터 ID 순으로 최대 limit건 읽는다.
+   *
+   * @param round 회차
+   * @param afterId 이 ID보다 큰 기록만(처음이면 0)
+   * @param limit 최대 건수
+   * @param visitor 행마다 호출
+   */
+  public void scanTickets(int round, long afterId, int limit, TicketVisitor visitor) {
+    jdbcTemplate.query(
+        connection -> {
+          PreparedStatement statement = connection.prepareStatement(SELECT_TICKETS);
+          statement.setFetchSize(limit);
+          statement.setInt(1, round);
+          statement.setLong(2, afterId);
+          statement.setInt(3, limit);
+          return statement;
+        },
+        rs -> {
+          long recordId = rs.getLong(1);
+          long memberId = rs.getLong(2);
+          // wasNull은 마지막으로 읽은 컬럼을 보므로 member_id를 읽은 바로 뒤에 확인한다
+          Long member = rs.wasNull() ? null : memberId;
+          visitor.visit(recordId, member, rs.getString(3));
+        });
+  }
+
+  /**
+   * 당첨 내역을 JDBC 배치로 저장한다. 호출자의 트랜잭션에 참여한다.
+   *
+   * @param winnings 저장할 당첨 내역(id는 무시)
+   */
+  public void insertWinnings(List<LottoWinning> winnings) {
+    if (winnings.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.batchUpdate(
+        INSERT_WINNING,
+        winnings,
+        winnings.size(),
+        (ps, winning) -> {
+          ps.setLong(1, winning.getRecordId());
+          ps.setObject(2, winning.getMemberId());
+          ps.setInt(3, winning.getRound());
+          ps.setString(4, winning.getNumbers());
+          ps.setInt(5, winning.getRank());
+          ps.setTimestamp(6, Timestamp.valueOf(winning.getSettledAt()));
+        });
+  }
+}
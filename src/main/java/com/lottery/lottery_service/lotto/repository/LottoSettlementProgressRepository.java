@@ -0,0 +1,13 @@
+package com.lottery.lottery_service.lotto.repository;
+
+import com.lottery.lottery_service.lotto.entity.LottoSettlementProgress;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/** 회차별 당첨 정산 진행 상황 Repository. */
+public interface LottoSettlementProgressRepository
+    extends JpaRepository<LottoSettlementProgress, Integer> {
+
+  /** 중간에 멈춘(완료되지 않은) 정산 목록 */
+  List<LottoSettlementProgress> findAllByCompletedFalse();
+}
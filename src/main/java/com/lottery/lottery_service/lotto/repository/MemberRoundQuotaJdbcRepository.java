@@ -0,0 +1,187 @@
+package com.lottery.lottery_service.lotto.repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 추천 사용량(member_round_quota) 전용 JDBC Repository.
+ *
+ * <p>사용량은 "읽고 비교하고 쓰기"가 아니라 한도 조건을 WHERE에 넣은 UPDATE 한 문장으로 올린다. 행 잠금 안에서 조건을 보고 올리므로 인스턴스가
+ * 여러 대여도 한도를 넘지 않는다. 날짜가 바뀐 행은 같은 UPDATE 안에서 일일 사용량과 광고 보상 수를 새로 센다.
+ *
+ * <p>SET 절은 MySQL이 왼쪽부터 새 값을 반영하며 계산하므로, quota_day를 읽는 식을 모두 quota_day 대입보다 앞에 둔다(H2/표준 SQL과 결과가
+ * 같다).
+ */
+@Repository
+@RequiredArgsConstructor
+public class MemberRoundQuotaJdbcRepository {
+
+  private static final String CONSUME =
+      "UPDATE member_round_quota"
+          + " SET day_used = CASE WHEN quota_day = ? THEN day_used + 1 ELSE 1 END,"
+          + " day_bonus = CASE WHEN quota_day = ? THEN day_bonus ELSE 0 END,"
+          + " day_ad_rewards = CASE WHEN quota_day = ? THEN day_ad_rewards ELSE 0 END,"
+          + " round_sets = round_sets + ?, quota_day = ?, updated_at = ?"
+          + " WHERE member_id = ? AND round = ? AND round_sets + ? <= ?"
+          + " AND (quota_day <> ? OR day_used < ? + day_bonus)";
+
+  private static final String ADD_BONUS =
+      "UPDATE member_round_quota"
+          + " SET day_bonus = CASE WHEN quota_day = ? THEN day_bonus + ? ELSE ? END,"
+          + " day_used = CASE WHEN quota_day = ? THEN day_used ELSE 0 END,"
+          + " day_ad_rewards = CASE WHEN quota_day = ? THEN day_ad_rewards + 1 ELSE 1 END,"
+          + " last_ad_token_at = ?, quota_day = ?, updated_at = ?"
+          + " WHERE member_id = ? AND round = ? AND last_ad_token_at < ?"
+          + " AND (quota_day <> ? OR day_ad_rewards < ?)";
+
+  private static final String INSERT =
+      "INSERT INTO member_round_quota"
+          + " (member_id, round, quota_day, day_used, day_bonus, round_sets, day_ad_rewards,"
+          + " last_ad_token_at, updated_at)"
+          + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private static final String SELECT =
+      "SELECT quota_day, day_used, day_bonus, round_sets, day_ad_rewards, last_ad_token_at"
+          + " FROM member_round_quota WHERE member_id = ? AND round = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 저장된 사용량 1행.
+   *
+   * @param day 일일 사용량 기준 날짜
+   * @param dayUsed 그날 추천 횟수
+   * @param dayBonus 그날 광고 보상 횟수
+   * @param roundSets 회차 세트 수
+   * @param dayAdRewards 그날 받은 광고 보상 수
+   * @param lastAdTokenAt 마지막으로 쓴 광고 토큰의 발급 시각(epoch ms), 없으면 0
+   */
+  public record QuotaRow(
+      LocalDate day,
+      int dayUsed,
+      int dayBonus,
+      int roundSets,
+      int dayAdRewards,
+      long lastAdTokenAt) {
+
+    /** 광고 보상을 받은 적 없는 행 */
+    public QuotaRow(LocalDate day, int dayUsed, int dayBonus, int roundSets) {
+      this(day, dayUsed, dayBonus, roundSets, 0, 0);
+    }
+  }
+
+  /**
+   * 한도 안이면 추천 1번(sets세트)을 사용량에 더한다. 호출자의 트랜잭션에 참여한다.
+   *
+   * @return 더했으면 true. 행이 없거나 한도에 걸리면 false
+   */
+  public boolean tryConsume(
+      long memberId,
+      int round,
+      LocalDate today,
+      int dailyLimit,
+      int sets,
+      int roundLimit,
+      LocalDateTime now) {
+    Date day = Date.valueOf(today);
+    return jdbcTemplate.update(
+            CONSUME,
+            day,
+            day,
+            day,
+            sets,
+            day,
+            Timestamp.valueOf(now),
+            memberId,
+            round,
+            sets,
+            roundLimit,
+            day,
+            dailyLimit)
+        == 1;
+  }
+
+  /**
+   * 광고 보상 1번: 오늘 추가 횟수를 bonus만큼 늘린다. 오늘 보상 수가 상한 미만이고, 토큰이 마지막으로 쓴 토큰보다 늦게 발급된 경우에만 반영한다.
+   *
+   * @param maxRewards 하루 광고 보상 상한
+   * @param tokenIssuedAt 이번 토큰의 발급 시각(epoch ms)
+   * @return 늘렸으면 true. 행이 없거나 상한에 걸리거나 이미 쓴(더 이른) 토큰이면 false
+   */
+  public boolean addBonus(
+      long memberId,
+      int round,
+      LocalDate today,
+      int bonus,
+      int maxRewards,
+      long tokenIssuedAt,
+      LocalDateTime now) {
+    Date day = Date.valueOf(today);
+    return jdbcTemplate.update(
+            ADD_BONUS,
+            day,
+            bonus,
+            bonus,
+            day,
+            day,
+            tokenIssuedAt,
+            day,
+            Timestamp.valueOf(now),
+            memberId,
+            round,
+            tokenIssuedAt,
+            day,
+            maxRewards)
+        == 1;
+  }
+
+  /**
+   * 회차 첫 행을 만든다.
+   *
+   * @return 만들었으면 true, 다른 요청이 먼저 만들었으면 false
+   */
+  public boolean insert(long memberId, int round, QuotaRow row, LocalDateTime now) {
+    try {
+      jdbcTemplate.update(
+          INSERT,
+          memberId,
+          round,
+          Date.valueOf(row.day()),
+          row.dayUsed(),
+          row.dayBonus(),
+          row.roundSets(),
+          row.dayAdRewards(),
+          row.lastAdTokenAt(),
+          Timestamp.valueOf(now));
+      return true;
+    } catch (DuplicateKeyException e) {
+      return false;
+    }
+  }
+
+  /** 저장된 사용량을 읽는다. */
+  public Optional<QuotaRow> find(long memberId, int round) {
+    List<QuotaRow> rows =
+        jdbcTemplate.query(
+            SELECT,
+            (rs, rowNum) ->
+                new QuotaRow(
+                    rs.getDate(1).toLocalDate(),
+                    rs.getInt(2),
+                    rs.getInt(3),
+                    rs.getInt(4),
+                    rs.getInt(5),
+                    rs.getLong(6)),
+            memberId,
+            round);
+    return rows.stream().findFirst();
+  }
+}
@@ -0,0 +1,136 @@
+package com.lottery.lottery_service.lotto.service;
+
+import com.lottery.lottery_service.lotto.dto.LottoSet;
+import com.lottery.lottery_service.lotto.generation.PassingCombinationSampler;
+import com.lottery.lottery_service.lotto.generation.random.RandomSource;
+import com.lottery.lottery_service.lotto.generation.weighted.StatisticsWeightedSampler;
+import com.lottery.lottery_service.lotto.repository.LottoRecordJdbcWriter;
+import com.lottery.lottery_service.member.repository.MemberRepository;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.random.RandomGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * [서비스] 대량 추천(제휴/캠페인용) 스트리밍 처리.
+ *
+ * <p>흐름: 청크({@value #CHUNK_SIZE}세트) 단위로 "추출 → 저장(청크별 트랜잭션) → NDJSON 한 줄씩 출력 → flush"를 반복한다.
+ *
+ * <ul>
+ *   <li>메모리에는 한 청크만 머문다. 저장은 엔티티 없이 multi-row INSERT로 하므로 N이 커져도 사용량이 늘지 않는다.
+ *   <li>클라이언트는 저장이 끝난 세트만 받는다. 중간에 연결이 끊기면 그때까지 커밋된 청크는 남고 나머지는 만들지 않는다.
+ *   <li>{@link LottoService}와 달리 클래스 단위 트랜잭션을 걸지 않는다(요청 전체가 한 트랜잭션이 되면 청크 커밋이 무의미해진다).
+ *   <li>STATS/STATS_COLD 출처는 균등 추천 엔진 대신 {@link StatisticsWeightedSampler}로 뽑는다(기록된 출처와 분포가 일치).
+ * </ul>
+ *
+ * <p>호출 권한은 컨트롤러가 제휴 회원 목록으로 거른다. 대량 추천 행은 회원 추천 한도({@code member_round_quota})에 포함하지 않는다.
+ * 제휴 캠페인 물량은 개인 사용량과 성격이 달라, 포함하면 제휴 회원의 일반 추천이 곧바로 막히기 때문이다. 한 요청의 상한은
+ * {@value #MAX_BULK_COUNT}세트다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LottoBulkRecommendationService {
+
+  /** 1회 요청 최대 세트 수 */
+  public static final int MAX_BULK_COUNT = 10_000;
+
+  /** 저장/출력 단위 */
+  static final int CHUNK_SIZE = 500;
+
+  private final LottoRecordJdbcWriter recordWriter;
+  private final MemberRepository memberRepository;
+  private final PassingCombinationSampler combinationSampler;
+  private final StatisticsWeightedSampler weightedSampler;
+  private final RandomSource randomSource;
+  private final LottoRoundCalendar roundCalendar;
+  private final TransactionTemplate transactionTemplate;
+
+  /**
+   * 회원용 대량 추천 스트림을 준비한다.
+   *
+   * <p>요청 검증(개수/회원 존재)은 여기서 바로 수행하므로, 잘못된 요청은 응답 본문을 쓰기 전에 예외로 끝난다. 추출/저장은 반환된 본문이
+   * 응답 스레드에서 쓰일 때 진행된다.
+   *
+   * @param memberId 인증된 회원 식별자
+   * @param source 추천 요청 출처(BASIC/AD/EVENT/STATS/STATS_COLD)
+   * @param count 생성할 세트 수(1 ~ {@value #MAX_BULK_COUNT})
+   * @return NDJSON 응답 본문(한 줄 = {@code {"numbers":[...]}})
+   * @throws IllegalArgumentException 개수가 범위를 벗어나거나 회원을 찾을 수 없는 경우
+   */
+  public StreamingResponseBody openMemberStream(Long memberId, String source, int count) {
+    if (count < 1 || count > MAX_BULK_COUNT) {
+      throw new IllegalArgumentException(
+          "대량 추천 개수는 1~" + MAX_BULK_COUNT + " 사이여야 합니다. 입력: " + count);
+    }
+    if (!memberRepository.existsById(memberId)) {
+      throw new IllegalArgumentException("존재하지 않는 회원입니다.");
+    }
+    return out -> streamForMember(memberId, source, count, out);
+  }
+
+  /**
+   * 청크 단위로 추출/저장/출력한다.
+   *
+   * @return 출력까지 끝난 세트 수
+   * @throws IOException 클라이언트 연결이 끊긴 경우 등(이미 커밋된 청크는 유지)
+   */
+  int streamForMember(Long memberId, String source, int count, OutputStream out)
+      throws IOException {
+    // 생성기는 실제로 쓰는 스레드(응답 스레드)에서 받는다
+    RandomGenerator random = randomSource.generator(memberId);
+    int currentRound = roundCalendar.currentRound();
+    StatisticsWeightedSampler.Bias bias = StatisticsWeightedSampler.biasOf(source);
+
+    Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    StringBuilder line = new StringBuilder(32);
+    int written = 0;
+    while (written < count) {
+      int size = Math.min(CHUNK_SIZE, count - written);
+      List<LottoSet> chunk =
+          bias == null
+              ? combinationSampler.draw(size, random)
+              : weightedSampler.draw(bias, size, random);
+      saveChunk(memberId, chunk, currentRound, source);
+
+      for (LottoSet set : chunk) {
+        writer.append(appendJsonLine(line, set));
+      }
+      writer.flush(); // 청크마다 내보내 클라이언트가 생성 중에도 받도록 한다
+      written += chunk.size();
+    }
+    log.info("bulk recommendation streamed: memberId={}, count={}", memberId, written);
+    return written;
+  }
+
+  /** 한 청크를 자체 트랜잭션으로 저장한다. 엔티티를 만들지 않으므로 영속성 컨텍스트에 쌓이는 것도 없다. */
+  private void saveChunk(Long memberId, List<LottoSet> chunk, int round, String source) {
+    transactionTemplate.executeWithoutResult(
+        status ->
+            recordWriter.insertRecommendations(
+                memberId, round, source, chunk, LocalDateTime.now()));
+  }
+
+  /** {@code {"numbers":[1,2,3,4,5,6]}\n} 한 줄(LottoSet JSON 형식과 동일). 버퍼를 재사용한다. */
+  private static StringBuilder appendJsonLine(StringBuilder line, LottoSet set) {
+    line.setLength(0);
+    line.append("{\"numbers\":[");
+    for (long m = set.mask(); m != 0; m &= m - 1) {
+      line.append(Long.numberOfTrailingZeros(m) + 1);
+      if ((m & (m - 1)) != 0) {
+        line.append(',');
+      }
+    }
+    return line.append("]}\n");
+  }
+}
@@ -0,0 +1,66 @@
+package com.lottery.lottery_service.lotto.service;
+
+import com.lottery.lottery_service.lotto.validation.cache.LottoWinnerDataCache;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * [컴포넌트] 지금 판매 중인 회차(추천/한도/저장이 기록되는 회차) 계산기.
+ *
+ * <p>1회({@code 2002-12-07})부터 매주 토요일 추첨이고 판매는 추첨일 {@code 20:00}(한국 시간)에 마감한다. 그래서 현재 회차는 "마감이
+ * 아직 지나지 않은 가장 이른 회차"다. 일정이 어긋나도(추첨 회차가 더 앞서 있어도) 이미 추첨된 회차에 기록하지 않도록, 캐시에 있는 마지막
+ * 추첨 회차 + 1보다 작게는 돌려주지 않는다.
+ */
+@Component
+public class LottoRoundCalendar {
+
+  /** 1회 추첨일 */
+  static final LocalDate FIRST_DRAW_DATE = LocalDate.of(2002, 12, 7);
+
+  /** 추첨일 판매 마감 시각. 이후의 추천은 다음 회차로 기록한다. */
+  static final LocalTime SALES_CUTOFF = LocalTime.of(20, 0);
+
+  static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+  private final LottoWinnerDataCache winnerDataCache;
+  private final Clock clock;
+
+  @Autowired
+  public LottoRoundCalendar(LottoWinnerDataCache winnerDataCache) {
+    this(winnerDataCache, Clock.system(ZONE));
+  }
+
+  LottoRoundCalendar(LottoWinnerDataCache winnerDataCache, Clock clock) {
+    this.winnerDataCache = winnerDataCache;
+    this.clock = clock;
+  }
+
+  /** 지금 판매 중인 회차 */
+  public int currentRound() {
+    return Math.max(
+        scheduledRound(LocalDateTime.now(clock.withZone(ZONE))),
+        winnerDataCache.draws().latestRound() + 1);
+  }
+
+  /**
+   * 추첨 일정만으로 본 판매 중 회차.
+   *
+   * @param now 한국 시간
+   * @return 1 이상
+   */
+  static int scheduledRound(LocalDateTime now) {
+    long days = ChronoUnit.DAYS.between(FIRST_DRAW_DATE, now.toLocalDate());
+    if (days < 0) {
+      return 1;
+    }
+    // days / 7 + 1 = 가장 최근(오늘 포함) 추첨일의 회차. 그 추첨의 마감이 지났으면 다음 회차
+    boolean beforeCutoff = days % 7 == 0 && now.toLocalTime().isBefore(SALES_CUTOFF);
+    return (int) (days / 7) + (beforeCutoff ? 1 : 2);
+  }
+}
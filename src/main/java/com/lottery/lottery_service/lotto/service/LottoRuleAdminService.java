@@ -0,0 +1,67 @@
+package com.lottery.lottery_service.lotto.service;
+
+import com.lottery.lottery_service.lotto.generation.PassingCombinationSampler;
+import com.lottery.lottery_service.lotto.generation.pool.RecommendationPool;
+import com.lottery.lottery_service.lotto.validation.config.LottoRuleSettings;
+import com.lottery.lottery_service.lotto.validation.pipeline.LottoValidationPipeline;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 운영 중 검증 룰 설정(on/off, 임계값) 조회/변경 서비스.
+ *
+ * <p>변경 순서:
+ *
+ * <ol>
+ *   <li>새 설정으로 C(45,6)를 한 번 평가해 통과 조합이 남는지 센다. 하나도 없으면 거절한다(그대로 적용하면 모든 추천/풀 보충/대량 추천이
+ *       실패한다).
+ *   <li>파이프라인 실행 계획을 새 설정으로 교체한다(원자적). 이후의 모든 판정은 새 설정을 쓴다.
+ *   <li>추천 인덱스 재빌드를 요청한다. 재빌드가 끝날 때까지는 직전 인덱스에서 뽑은 조합을 새 파이프라인으로 다시 확인한다.
+ *   <li>추천 풀을 비운다. 이전 설정으로 검증된 조합은 더 이상 나가지 않는다.
+ * </ol>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LottoRuleAdminService {
+
+  private final LottoValidationPipeline pipeline;
+  private final PassingCombinationSampler combinationSampler;
+  private final RecommendationPool recommendationPool;
+
+  /** 현재 설정 */
+  public LottoRuleSettings currentSettings() {
+    return pipeline.currentSettings();
+  }
+
+  /** 설정할 수 있는 룰 ID(@Order 순서) */
+  public List<String> ruleIds() {
+    return pipeline.ruleIds();
+  }
+
+  /**
+   * 새 설정을 적용한다.
+   *
+   * @param settings 새 설정
+   * @return 적용된 설정
+   * @throws IllegalArgumentException 값이 범위를 벗어나거나 모르는 룰 ID가 있거나, 통과하는 조합이 없는 경우(아무것도 바뀌지 않음)
+   */
+  public synchronized LottoRuleSettings update(LottoRuleSettings settings) {
+    int passCount = combinationSampler.countPassing(pipeline.bulkTester(settings));
+    if (passCount == 0) {
+      throw new IllegalArgumentException("no combination passes the rules with these settings");
+    }
+    LottoRuleSettings previous = pipeline.currentSettings();
+    pipeline.reconfigure(settings);
+    combinationSampler.requestRebuild();
+    recommendationPool.flush();
+    log.info(
+        "Validation rule settings changed: {} -> {} ({} combinations pass)",
+        previous,
+        settings,
+        passCount);
+    return settings;
+  }
+}
@@ -1,26 +1,45 @@
 package com.lottery.lottery_service.lotto.service;
 
+import com.lottery.lottery_service.lotto.dto.HistoryCursor;
 import com.lottery.lottery_service.lotto.dto.LottoSet;
 import com.lottery.lottery_service.lotto.dto.request.PurchaseLottoRequest;
+import com.lottery.lottery_service.lotto.dto.response.LottoRecordPageResponse;
 import com.lottery.lottery_service.lotto.dto.response.LottoRecordResponse;
-import com.lottery.lottery_service.lotto.entity.LottoRecord;
+import com.lottery.lottery_service.lotto.dto.response.RecommendationQuotaResponse;
+import com.lottery.lottery_service.lotto.generation.LottoCombinations;
+import com.lottery.lottery_service.lotto.generation.PassingCombinationSampler;
+import com.lottery.lottery_service.lotto.generation.pool.RecommendationPool;
+import com.lottery.lottery_service.lotto.generation.random.RandomSource;
+import com.lottery.lottery_service.lotto.metrics.LottoMetrics;
+import com.lottery.lottery_service.lotto.quota.InvalidAdRewardTokenException;
+import com.lottery.lottery_service.lotto.quota.QuotaExceededException;
+import com.lottery.lottery_service.lotto.quota.RecommendationQuotaService;
+import com.lottery.lottery_service.lotto.repository.LottoPurchaseJdbcRepository;
 import com.lottery.lottery_service.lotto.repository.LottoRecordRepository;
-import com.lottery.lottery_service.lotto.validation.pipeline.LottoValidationPipeline;
-import com.lottery.lottery_service.lotto.validation.pipeline.LottoValidationResult;
-import com.lottery.lottery_service.member.entity.Member;
+import com.lottery.lottery_service.lotto.repository.LottoRecordView;
+import com.lottery.lottery_service.lotto.validation.cache.LottoWinnerDataCache;
+import com.lottery.lottery_service.lotto.validation.cache.WinningDraws;
+import com.lottery.lottery_service.lotto.writebehind.WriteBehindRecordWriter;
 import com.lottery.lottery_service.member.repository.MemberRepository;
-import jakarta.transaction.Transactional;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.random.RandomGenerator;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * LottoService: 로또 번호 추천 및 저장 서비스 로직 담당
  *
- * <p>추천 생성 → 내부 검증(ValidationPipeline) → 통과 세트만 반환. - 검증 결과/사유는 "내부 전용"으로만 사용하고, 사용자 응답에는 노출하지 않는다.
+ * <p>추천은 "검증 파이프라인을 통과하는 조합 공간"에서 바로 균등 추출한다({@link PassingCombinationSampler}). - 생성 후 폐기/재시도가
+ * 없으므로 룰이 엄격해도 항상 요청한 세트 수를 돌려준다. - 회원/비회원 모두 같은 엔진을 사용한다. - 요청 경로에서는 백그라운드로 미리 채워 둔
+ * 출처별 풀({@link RecommendationPool})에서 꺼내기만 한다.
+ *
+ * <p>조회 메서드는 읽기 전용 트랜잭션이다. Hibernate 세션이 flush/더티 체크를 건너뛰고, 내역은 엔티티가 아닌 projection으로 읽는다.
  */
 @Slf4j
 @Service
@@ -28,30 +47,36 @@ import org.springframework.stereotype.Service;
 @Transactional
 public class LottoService {
 
+  /** 1회 추천 세트 수 */
+  private static final int RECOMMEND_SET_COUNT = 5;
+
+  /** 추천 내역 한 페이지 최대 건수 */
+  public static final int MAX_HISTORY_PAGE_SIZE = 50;
+
   private final LottoRecordRepository lottoRecordRepository;
   private final MemberRepository memberRepository;
-  private final LottoValidationPipeline validationPipeline;
+  private final RecommendationPool recommendationPool;
+  private final RandomSource randomSource;
+  private final LottoMetrics lottoMetrics;
+  private final LottoWinnerDataCache winnerDataCache;
+  private final RecommendationQuotaService quotaService;
+  private final LottoPurchaseJdbcRepository purchaseRepository;
+  private final WriteBehindRecordWriter recordWriter;
+  private final LottoRoundCalendar roundCalendar;
 
   /**
-   * 로또 번호 n세트를 생성합니다.
+   * 로또 번호 n세트를 생성합니다(검증 룰 미적용, 전체 조합에서 균등 추출).
    *
    * @param count 생성할 세트 수
    * @return 추천된 로또 번호 세트 리스트
    */
   public List<LottoSet> generateLottoNumbersSet(int count) {
-    List<LottoSet> result = new ArrayList<>();
-    Random random = new Random();
+    List<LottoSet> result = new ArrayList<>(count);
+    RandomGenerator random = randomSource.generator(null);
 
     for (int i = 0; i < count; i++) {
-      Set<Integer> numbers = new HashSet<>();
-
-      while (numbers.size() < 6) {
-        numbers.add(random.nextInt(45) + 1);
-      }
-
-      List<Integer> singleSet = new ArrayList<>(numbers);
-      Collections.sort(singleSet);
-      result.add(new LottoSet(singleSet));
+      // 부분 Fisher–Yates로 6개를 한 번에 뽑는다: 충돌/재시도 없음
+      result.add(LottoSet.ofMask(LottoCombinations.randomCombination(random)));
     }
 
     return result;
@@ -61,32 +86,15 @@ public class LottoService {
    * 비회원이 추천받은 로또 번호를 저장하는 메서드.
    *
    * <p>회원 정보 없이 추천받은 번호를 저장하며, 유입 방식(source)에 따라 일반 추천(BASIC), 광고 추천(AD) 등을 구분해 기록한다.
+   * 엔티티를 거치지 않고 JDBC 한 문장으로 넣거나, write-behind 모드면 로컬 저널에 쓴다({@link WriteBehindRecordWriter}).
    *
    * @param sets 추천받은 로또 번호 세트 목록 (각 세트는 6개의 숫자를 포함)
    * @param round 저장 대상 로또 회차
    * @param source 추천 방식 (예: "BASIC", "AD", "EVENT" 등)
    */
   public void saveLottoForGuest(List<LottoSet> sets, int round, String source) {
-    List<LottoRecord> toSave =
-        sets.stream()
-            .map(
-                set ->
-                    LottoRecord.builder()
-                        .member(null) // 비회원이므로 null
-                        .guest(true)
-                        .numbers(
-                            set.getNumbers().stream()
-                                .map(String::valueOf)
-                                .collect(Collectors.joining(" ")))
-                        .round(round)
-                        .recommendedAt(LocalDateTime.now())
-                        .manual(false)
-                        .purchased(false)
-                        .source(source) // 예: BASIC, AD
-                        .build())
-            .collect(Collectors.toList());
-
-    lottoRecordRepository.saveAll(toSave);
+    // 비회원이므로 member_id = NULL, guest = true
+    recordWriter.save(null, round, source, sets, LocalDateTime.now());
   }
 
   /**
@@ -94,154 +102,202 @@ public class LottoService {
    *
    * <p>Member 객체의 ID를 저장하고, 추천 방식(source)을 기록함으로써 이후 당첨 분석, 추천 통계 등 다양한 데이터 분석에 활용할 수 있도록 한다.
    *
+   * <p>세트 수와 관계없이 INSERT 한 문장으로 저장한다. write-behind 모드면 저널에 쓰고 DB 반영은 뒤로 미룬다.
+   *
    * @param memberId 추천을 받은 회원 객체 (ID 필수)
    * @param sets 추천받은 로또 번호 세트 목록
    * @param round 저장 대상 로또 회차
    * @param source 추천 방식 (예: "BASIC", "AD", "EVENT")
    */
   public void saveLottoForMember(Long memberId, List<LottoSet> sets, int round, String source) {
-    // 1. 회원 조회 및 검증
-    Member member =
-        memberRepository
-            .findById(memberId)
-            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
-
-    // 2. 추천 번호 세트
-    List<LottoRecord> toSave =
-        sets.stream()
-            .map(
-                set ->
-                    LottoRecord.builder()
-                        .member(member) // @ManyToOne 관계 설정
-                        .guest(false) // 회원이므로 false
-                        .numbers(
-                            set.getNumbers().stream()
-                                .map(String::valueOf)
-                                .collect(Collectors.joining(" ")))
-                        .round(round)
-                        .recommendedAt(LocalDateTime.now())
-                        .manual(false)
-                        .purchased(false)
-                        .source(source)
-                        .build())
-            .collect(Collectors.toList());
+    // 1. 회원 검증(엔티티는 읽지 않는다)
+    if (!memberRepository.existsById(memberId)) {
+      throw new IllegalArgumentException("존재하지 않는 회원입니다.");
+    }
 
-    // 3. 일괄 저장
-    lottoRecordRepository.saveAll(toSave);
+    // 2. 일괄 저장
+    recordWriter.save(memberId, round, source, sets, LocalDateTime.now());
   }
 
   /**
    * 회원이 추천받은 로또 번호 내역을 회차 내림차순으로 조회합니다.
    *
+   * <p>추첨이 끝난 회차의 기록에는 당첨 등수를 붙입니다. 당첨 번호는 메모리의 회차별 배열에서 읽으므로 기록 조회 외의 SQL은 없습니다.
+   *
+   * <p>전체 내역을 한 번에 읽습니다. 화면 목록은
+   * {@link #getRecommendationPageForMember(Long, String, int)}로 나눠 읽습니다.
+   *
    * @param memberId 회원 ID
    * @return 추천 내역 응답 리스트
    */
+  @Transactional(readOnly = true)
   public List<LottoRecordResponse> getRecommendationsForMember(Long memberId) {
-    return lottoRecordRepository.findAllByMemberIdOrderByRoundDesc(memberId).stream()
-        .map(LottoRecordResponse::from)
+    WinningDraws draws = winnerDataCache.draws();
+    return lottoRecordRepository.findViewsByMemberId(memberId).stream()
+        .map(history -> LottoRecordResponse.from(history, draws))
         .collect(Collectors.toList());
   }
 
+  /**
+   * 회원이 추천받은 로또 번호 내역을 최신 회차부터 한 페이지 조회합니다.
+   *
+   * <p>커서는 직전 페이지 마지막 기록의 (회차, ID)입니다. 한 건을 더 읽어 다음 페이지가 있는지 판단하므로 전체 건수를 세는 쿼리는 없습니다.
+   *
+   * @param memberId 회원 ID
+   * @param cursor 직전 응답의 nextCursor. 첫 페이지면 null
+   * @param size 페이지 크기(1 ~ {@value #MAX_HISTORY_PAGE_SIZE})
+   * @return 내역과 다음 페이지 커서
+   * @throws IllegalArgumentException 커서 형식이 틀리거나 size가 범위를 벗어난 경우
+   */
+  @Transactional(readOnly = true)
+  public LottoRecordPageResponse getRecommendationPageForMember(
+      Long memberId, String cursor, int size) {
+    if (size < 1 || size > MAX_HISTORY_PAGE_SIZE) {
+      throw new IllegalArgumentException(
+          "페이지 크기는 1~" + MAX_HISTORY_PAGE_SIZE + " 사이여야 합니다. 입력: " + size);
+    }
+    HistoryCursor after = HistoryCursor.parse(cursor);
+    Limit limit = Limit.of(size + 1);
+    List<LottoRecordView> rows =
+        after == null
+            ? lottoRecordRepository.findFirstPageByMemberId(memberId, limit)
+            : lottoRecordRepository.findPageByMemberIdBefore(
+                memberId, after.round(), after.id(), limit);
+
+    boolean hasNext = rows.size() > size;
+    List<LottoRecordView> page = hasNext ? rows.subList(0, size) : rows;
+    WinningDraws draws = winnerDataCache.draws();
+    List<LottoRecordResponse> items = new ArrayList<>(page.size());
+    for (LottoRecordView view : page) {
+      items.add(LottoRecordResponse.from(view, draws));
+    }
+
+    String nextCursor = null;
+    if (hasNext) {
+      LottoRecordView last = page.get(page.size() - 1);
+      nextCursor = new HistoryCursor(last.round(), last.id()).toToken();
+    }
+    return LottoRecordPageResponse.builder().items(items).nextCursor(nextCursor).build();
+  }
+
   /**
    * 구매한 로또 번호 목록을 저장합니다.
    *
+   * <p>티켓 수와 관계없이 SQL은 최대 3번입니다.
+   *
+   * <ol>
+   *   <li>모든 번호를 먼저 정규화합니다. 하나라도 틀리면 아무것도 쓰지 않습니다. 같은 번호를 여러 번 보내면 한 번으로 봅니다.
+   *   <li>회원/회차의 같은 번호 기록을 IN 조회 한 번으로 읽습니다.
+   *   <li>아직 구매 표시가 없는 기존 기록은 UPDATE 한 번으로 purchased를 올립니다.
+   *   <li>기록이 없는 번호는 수동 구매 기록으로 배치 INSERT합니다. 동시에 같은 번호가 들어와도 유니크 키가 1행으로 합칩니다.
+   * </ol>
+   *
    * @param memberId 회원의 id
    * @param request 구매 요청 DTO
+   * @throws IllegalArgumentException 번호 형식이 틀린 경우
    */
   public void addPurchasedRecords(Long memberId, PurchaseLottoRequest request) {
-    // 영속성 컨텍스트 프록시로 연관만 세팅 (DB hit 없이 참조)
-    Member member = memberRepository.getReferenceById(memberId);
-
     int round = Integer.parseInt(request.getRound());
-    List<String> numbersList = request.getNumbersList();
-
-    for (String numbers : numbersList) {
-      String normalized = normalizeNumbers(numbers);
-
-      Optional<LottoRecord> optional =
-          lottoRecordRepository.findByMemberAndRoundAndNumbers(member, round, normalized);
 
-      if (optional.isPresent()) {
-        LottoRecord existing = optional.get();
-        if (!existing.isPurchased()) {
-          existing.setPurchased(true);
-          lottoRecordRepository.save(existing);
-        }
-      } else {
-        LottoRecord newRecord =
-            LottoRecord.builder()
-                .member(member) // 연관관계 유지
-                .round(round)
-                .numbers(normalized)
-                .recommendedAt(LocalDateTime.now())
-                .manual(true)
-                .purchased(true)
-                .source("manual")
-                .build();
+    Set<String> normalized = new LinkedHashSet<>();
+    for (String numbers : request.getNumbersList()) {
+      normalized.add(normalizeNumbers(numbers));
+    }
 
-        lottoRecordRepository.save(newRecord);
+    List<Long> toMark = new ArrayList<>();
+    Set<String> toInsert = new LinkedHashSet<>(normalized);
+    for (LottoPurchaseJdbcRepository.ExistingRecord existing :
+        purchaseRepository.findExisting(memberId, round, normalized)) {
+      toInsert.remove(existing.numbers());
+      if (!existing.purchased()) {
+        toMark.add(existing.id());
       }
     }
+
+    purchaseRepository.markPurchased(toMark);
+    purchaseRepository.upsertManual(
+        memberId, round, new ArrayList<>(toInsert), LocalDateTime.now());
   }
 
   /**
    * 인증된 회원에게 로또 번호 5세트를 추천하고 저장합니다.
    *
-   * <p>컨트롤러를 얇게 유지하기 위해, "세트 생성 → 회차결정 → 저장"을 한 번에 처리합니다. 저장 자체는 {@link #saveLottoForMember(Long,
-   * List, int, String)}를 호출합니다.
+   * <p>컨트롤러를 얇게 유지하기 위해, "세트 추출 → 회차결정 → 저장"을 한 번에 처리합니다. 회차는 {@link LottoRoundCalendar}가
+   * 정한 판매 중 회차입니다. 세트는 검증 룰을 통과하는 조합 중에서만
+   * 뽑힙니다. 저장 자체는 {@link #saveLottoForMember(Long, List, int, String)}를 호출합니다.
+   *
+   * <p>추천 한도(하루 5번 + 광고 보상, 회차당 30세트)를 먼저 차감합니다. 차감은 같은 트랜잭션이라 저장이 실패하면 되돌려집니다.
+   * write-behind 모드의 저널 추가는 커밋 뒤에 하므로, 롤백된 추천이 나중에 DB에 들어가지도 않습니다.
    *
    * @param memberId 인증된 회원 식별자
-   * @param source 추천 요청 출처(BASIC/AD/EVENT)
+   * @param source 추천 요청 출처(BASIC/AD/EVENT/STATS/STATS_COLD)
    * @return 추천된 로또 번호 세트 목록
    * @throws IllegalArgumentException 회원을 찾을 수 없는 경우
+   * @throws QuotaExceededException 추천 한도를 넘은 경우
    */
   public List<LottoSet> recommendAndSaveForMember(Long memberId, String source) {
-    // 기존처럼 한 번에 5세트를 생성하되,
-    // 검증을 통과한 세트만 수집되도록 루프/재시도로 채움.
-    final int desired = 5;
-    final int maxAttempts = desired * 20; // 무한루프 방지용 여유치
-
-    List<LottoSet> sets = new ArrayList<>(desired);
-    int attempts = 0;
-
-    while (sets.size() < desired && attempts++ < maxAttempts) {
-      LottoSet candidate = generateLottoNumbersSet(1).get(0);
-
-      // [ADDED] 내부 검증 파이프라인 호출 (불허면 폐기하고 다시 생성)
-      LottoValidationResult vr = validationPipeline.validate(candidate);
-      if (vr.isPass()) {
-        sets.add(candidate);
-      } else {
-        // 내부 추적용 로그만 (외부 응답에 노출하지 않음)
-        log.info(
-            "validation failed (member): rule={}, reason={}",
-            vr.getFailedRuleId(),
-            vr.getFailedReasonCode());
-      }
-    }
+    long started = System.nanoTime();
+    int currentRound = roundCalendar.currentRound();
+    quotaService.acquire(memberId, currentRound, RECOMMEND_SET_COUNT);
+    // 미리 검증된 조합을 풀에서 꺼낸다(모자라면 통과 조합 공간에서 바로 추출)
+    List<LottoSet> sets =
+        recommendationPool.take(source, RECOMMEND_SET_COUNT, randomSource.generator(memberId));
 
-    int currentRound = 1112; // TODO: 동적 계산/외부 API로 교체
     saveLottoForMember(memberId, sets, currentRound, source);
+    lottoMetrics.recordRecommendation(LottoMetrics.CHANNEL_MEMBER, source, started);
     return sets;
   }
 
   /**
    * 비회원(게스트)에게 로또 번호 5세트를 추천하고 저장합니다.
    *
-   * <p>컨트롤러에서 세트 생성/회차결정 로직을 제거하기 위해 서비스에서 한 번에 처리합니다. 저장 자체는 {@link #saveLottoForGuest(List, int,
-   * String)}를 호출합니다.
+   * <p>컨트롤러에서 세트 생성/회차결정 로직을 제거하기 위해 서비스에서 한 번에 처리합니다. 회원과 같은 추천 엔진(룰 통과 조합)을
+   * 사용합니다. 저장 자체는 {@link #saveLottoForGuest(List, int, String)}를 호출합니다.
+   *
+   * <p>비회원 추천은 한도 차감이 없어 트랜잭션을 열지 않는다. 저장은 INSERT 한 문장(자동 커밋)이고, write-behind 모드면 DB 커넥션을
+   * 전혀 쓰지 않는다.
    *
-   * @param source 추천 요청 출처(BASIC/AD/EVENT)
+   * @param source 추천 요청 출처(BASIC/AD/EVENT/STATS/STATS_COLD)
    * @return 추천된 로또 번호 세트 목록
    */
   // === CHANGED START: 신규 오케스트레이터(게스트) 추가 ===
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
   public List<LottoSet> recommendAndSaveForGuest(String source) {
-    List<LottoSet> sets = generateLottoNumbersSet(5);
-    int currentRound = 1112; // TODO: 동적 계산/외부 API로 교체
+    long started = System.nanoTime();
+    List<LottoSet> sets =
+        recommendationPool.take(source, RECOMMEND_SET_COUNT, randomSource.generator(null));
+    int currentRound = roundCalendar.currentRound();
     saveLottoForGuest(sets, currentRound, source);
+    lottoMetrics.recordRecommendation(LottoMetrics.CHANNEL_GUEST, source, started);
     return sets;
   }
 
+  /**
+   * 회원의 현재 회차 추천 사용량을 조회합니다.
+   *
+   * @param memberId 인증된 회원 식별자
+   * @return 오늘/회차 사용량과 남은 횟수
+   */
+  @Transactional(readOnly = true)
+  public RecommendationQuotaResponse getQuotaForMember(Long memberId) {
+    return RecommendationQuotaResponse.from(
+        quotaService.status(memberId, roundCalendar.currentRound()));
+  }
+
+  /**
+   * 광고 시청 보상으로 회원의 오늘 추천 횟수를 늘립니다.
+   *
+   * @param memberId 인증된 회원 식별자
+   * @param token 광고 보상 검증 서버가 발급한 시청 완료 토큰
+   * @return 보상 반영 후 사용량
+   * @throws InvalidAdRewardTokenException 토큰이 검증되지 않거나 이미 쓴 토큰인 경우
+   * @throws QuotaExceededException 오늘 광고 보상 상한을 넘은 경우
+   */
+  public RecommendationQuotaResponse grantAdRewardForMember(Long memberId, String token) {
+    return RecommendationQuotaResponse.from(
+        quotaService.grantAdReward(memberId, roundCalendar.currentRound(), token));
+  }
+
   /**
    * 사용자 입력 번호 문자열을 내부 저장 포맷("1 2 3 4 5 6")으로 정규화한다.
    *
@@ -253,40 +309,52 @@ public class LottoService {
    *   <li>중복 없음
    * </ul>
    *
+   * <p>구매 저장 경로의 핫스팟이라 JMH 벤치마크(src/jmh)에서 직접 호출할 수 있도록 package-private으로 둔다.
+   *
    * @param raw 예: "1, 2, 3, 4, 5, 6" 또는 "1 2 3 4 5 6"
    * @return "1 2 3 4 5 6" 형식(정렬·공백 구분)의 canonical 문자열
    * @throws IllegalArgumentException 파싱/검증 실패 시
    */
-  private static String normalizeNumbers(String raw) {
+  static String normalizeNumbers(String raw) {
     if (raw == null) {
       throw new IllegalArgumentException("numbers cannot be null");
     }
-    // 쉼표/공백 구분 토큰화
-    String[] tokens = raw.trim().split("[,\\s]+");
-    if (tokens.length != 6) {
-      throw new IllegalArgumentException("로또 번호는 6개여야 합니다. 입력: " + raw);
-    }
 
-    // 정수 파싱 + 검증
-    java.util.Set<Integer> set = new java.util.HashSet<>();
-    for (String t : tokens) {
-      final int n;
-      try {
-        n = Integer.parseInt(t);
-      } catch (NumberFormatException e) {
-        throw new IllegalArgumentException("숫자 형식이 올바르지 않습니다: " + raw, e);
-      }
-      if (n < 1 || n > 45) {
-        throw new IllegalArgumentException("로또 번호는 1~45 사이여야 합니다. 입력: " + raw);
-      }
-      if (!set.add(n)) {
-        throw new IllegalArgumentException("로또 번호에 중복이 있습니다. 입력: " + raw);
+    // 쉼표/공백 구분 토큰을 한 글자씩 읽어 비트마스크에 바로 찍는다(split/박싱 없음)
+    long mask = 0L;
+    int tokens = 0;
+    int cur = -1;
+    for (int i = 0, len = raw.length(); i <= len; i++) {
+      char c = i < len ? raw.charAt(i) : ' ';
+      if (c >= '0' && c <= '9') {
+        // 앞자리 0이 붙은 입력("07")도 허용하되, 값이 커지면 바로 범위 오류로 끊는다
+        cur = (cur < 0 ? 0 : cur) * 10 + (c - '0');
+        if (cur > LottoSet.MAX_NUMBER) {
+          throw new IllegalArgumentException("로또 번호는 1~45 사이여야 합니다. 입력: " + raw);
+        }
+      } else if (c == ',' || Character.isWhitespace(c)) {
+        if (cur < 0) {
+          continue;
+        }
+        if (cur < LottoSet.MIN_NUMBER) {
+          throw new IllegalArgumentException("로또 번호는 1~45 사이여야 합니다. 입력: " + raw);
+        }
+        long bit = LottoSet.bit(cur);
+        if ((mask & bit) != 0) {
+          throw new IllegalArgumentException("로또 번호에 중복이 있습니다. 입력: " + raw);
+        }
+        mask |= bit;
+        tokens++;
+        cur = -1;
+      } else {
+        throw new IllegalArgumentException("숫자 형식이 올바르지 않습니다: " + raw);
       }
     }
+    if (tokens != LottoSet.PICK_COUNT) {
+      throw new IllegalArgumentException("로또 번호는 6개여야 합니다. 입력: " + raw);
+    }
 
-    // 정렬 후 " "로 조인 → canonical 포맷
-    java.util.List<Integer> sorted = new java.util.ArrayList<>(set);
-    java.util.Collections.sort(sorted);
-    return sorted.stream().map(String::valueOf).collect(java.util.stream.Collectors.joining(" "));
+    // 비트 순서가 곧 오름차순 → canonical 포맷
+    return LottoSet.ofMask(mask).toCanonicalString();
   }
 }
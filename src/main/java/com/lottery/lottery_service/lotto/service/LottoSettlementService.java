@@ -0,0 +1,249 @@
+package com.lottery.lottery_service.lotto.service;
+
+import com.lottery.lottery_service.lotto.dto.LottoRank;
+import com.lottery.lottery_service.lotto.dto.LottoSet;
+import com.lottery.lottery_service.lotto.entity.LottoSettlementProgress;
+import com.lottery.lottery_service.lotto.entity.LottoWinning;
+import com.lottery.lottery_service.lotto.external.LottoWinnerSavedEvent;
+import com.lottery.lottery_service.lotto.repository.LottoNotificationOutboxJdbcRepository;
+import com.lottery.lottery_service.lotto.repository.LottoSettlementJdbcRepository;
+import com.lottery.lottery_service.lotto.repository.LottoSettlementProgressRepository;
+import com.lottery.lottery_service.lotto.validation.cache.LottoWinnerDataCache;
+import com.lottery.lottery_service.lotto.validation.cache.WinningDraws;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 추첨 후 회차의 모든 추천/구매 기록(LottoRecord)에 등수를 매기는 정산 서비스.
+ *
+ * <p>동작:
+ *
+ * <ul>
+ *   <li>새 회차 당첨 데이터가 저장되면({@link LottoWinnerSavedEvent}) 정산 전용 스레드에서 그 회차를 정산한다.
+ *   <li>기록은 (round, id) keyset 페이지로 청크 단위로 읽는다. 등수는 당첨 캐시의 마스크와 AND popcount로
+ *       구한다({@link LottoRank}).
+ *   <li>청크마다 당첨 행 JDBC 배치 INSERT, 회원 당첨 알림 outbox INSERT, 진행 커서({@link
+ *       LottoSettlementProgress}) 갱신을 한 트랜잭션으로 커밋한다. 알림 발송은 outbox를 읽는 디스패처가 따로 한다.
+ *   <li>기동 시 완료되지 않은 정산이 있으면 커서 다음부터 이어서 한다(재처리/누락 없음).
+ * </ul>
+ */
+@Slf4j
+@Service
+public class LottoSettlementService {
+
+  private final LottoSettlementJdbcRepository settlementJdbcRepository;
+  private final LottoSettlementProgressRepository progressRepository;
+  private final LottoNotificationOutboxJdbcRepository outboxRepository;
+  private final LottoWinnerDataCache winnerDataCache;
+  private final TransactionTemplate transactionTemplate;
+  private final int chunkSize;
+
+  /** 대기/실행 중인 회차(같은 회차 중복 요청을 합친다) */
+  private final Set<Integer> pendingRounds = ConcurrentHashMap.newKeySet();
+
+  private final ExecutorService settlementExecutor =
+      Executors.newSingleThreadExecutor(
+          r -> {
+            Thread t = new Thread(r, "lotto-settlement");
+            t.setDaemon(true);
+            return t;
+          });
+
+  public LottoSettlementService(
+      LottoSettlementJdbcRepository settlementJdbcRepository,
+      LottoSettlementProgressRepository progressRepository,
+      LottoNotificationOutboxJdbcRepository outboxRepository,
+      LottoWinnerDataCache winnerDataCache,
+      TransactionTemplate transactionTemplate,
+      @Value("${lotto.settlement.chunk-size:5000}") int chunkSize) {
+    if (chunkSize < 1) {
+      throw new IllegalArgumentException("chunk size must be positive: " + chunkSize);
+    }
+    this.settlementJdbcRepository = settlementJdbcRepository;
+    this.progressRepository = progressRepository;
+    this.outboxRepository = outboxRepository;
+    this.winnerDataCache = winnerDataCache;
+    this.transactionTemplate = transactionTemplate;
+    this.chunkSize = chunkSize;
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    settlementExecutor.shutdownNow();
+  }
+
+  /** 기동 완료 후, 이전 실행에서 끝나지 않은 정산을 이어서 한다. */
+  @EventListener(ApplicationReadyEvent.class)
+  public void resumeIncomplete() {
+    for (LottoSettlementProgress progress : progressRepository.findAllByCompletedFalse()) {
+      log.info(
+          "Resuming settlement: round={}, after recordId={}",
+          progress.getRound(),
+          progress.getLastRecordId());
+      requestSettlement(progress.getRound());
+    }
+  }
+
+  /** 새 회차가 커밋되면(당첨 캐시 반영 이후) 그 회차를 정산한다. */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onWinnerSaved(LottoWinnerSavedEvent event) {
+    requestSettlement(event.winner().getRound());
+  }
+
+  /**
+   * 회차 정산을 백그라운드로 요청한다. 같은 회차가 이미 대기/실행 중이면 합쳐진다.
+   *
+   * @param round 회차
+   */
+  public void requestSettlement(int round) {
+    if (!pendingRounds.add(round)) {
+      return;
+    }
+    settlementExecutor.execute(
+        () -> {
+          try {
+            settle(round);
+          } catch (RuntimeException e) {
+            // 커밋된 청크까지는 진행 커서에 남아 있으므로 다음 기동/요청 때 이어서 한다
+            log.error("Settlement failed: round={}", round, e);
+          } finally {
+            pendingRounds.remove(round);
+          }
+        });
+  }
+
+  /**
+   * 회차를 끝까지 정산한다(동기). 진행 커서가 있으면 그 다음 기록부터 한다.
+   *
+   * @param round 회차
+   * @return 이번 호출에서 처리한 결과
+   * @throws IllegalArgumentException 당첨 캐시에 해당 회차가 없는 경우
+   */
+  public SettlementResult settle(int round) {
+    WinningDraws draws = winnerDataCache.draws();
+    if (!draws.contains(round)) {
+      throw new IllegalArgumentException("당첨 번호가 없는 회차입니다: " + round);
+    }
+    long winningMask = draws.mask(round);
+    long bonusBit = draws.bonusBit(round);
+
+    LottoSettlementProgress progress =
+        progressRepository.findById(round).orElseGet(() -> newProgress(round));
+    long resumedFrom = progress.getLastRecordId();
+    if (progress.isCompleted()) {
+      return new SettlementResult(round, 0, 0, resumedFrom);
+    }
+
+    long started = System.nanoTime();
+    long scanned = 0;
+    long winners = 0;
+    while (true) {
+      Chunk chunk = new Chunk(round, winningMask, bonusBit, LocalDateTime.now());
+      settlementJdbcRepository.scanTickets(round, progress.getLastRecordId(), chunkSize, chunk);
+      commit(progress, chunk);
+      scanned += chunk.scanned;
+      winners += chunk.winnings.size();
+      if (chunk.scanned < chunkSize) {
+        break;
+      }
+    }
+
+    log.info(
+        "Settlement finished: round={}, scanned={}, winners={} ({} ms)",
+        round,
+        scanned,
+        winners,
+        (System.nanoTime() - started) / 1_000_000);
+    return new SettlementResult(round, scanned, winners, resumedFrom);
+  }
+
+  /**
+   * 정산 1회 결과.
+   *
+   * @param round 회차
+   * @param scanned 이번 호출에서 확인한 기록 수
+   * @param winners 이번 호출에서 저장한 당첨 수
+   * @param resumedFromRecordId 시작 커서(처음 정산이면 0)
+   */
+  public record SettlementResult(int round, long scanned, long winners, long resumedFromRecordId) {}
+
+  /** 청크 1개의 당첨 행/알림 의도 저장 + 커서 이동을 한 트랜잭션으로 커밋한다. 마지막 청크면 완료 표시도 함께 한다. */
+  private void commit(LottoSettlementProgress progress, Chunk chunk) {
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          settlementJdbcRepository.insertWinnings(chunk.winnings);
+          outboxRepository.enqueueWinnings(chunk.winnings, chunk.settledAt);
+          if (chunk.scanned > 0) {
+            progress.setLastRecordId(chunk.lastRecordId);
+          }
+          progress.setScannedCount(progress.getScannedCount() + chunk.scanned);
+          progress.setWinnerCount(progress.getWinnerCount() + chunk.winnings.size());
+          progress.setCompleted(chunk.scanned < chunkSize);
+          progress.setUpdatedAt(chunk.settledAt);
+          progressRepository.save(progress);
+        });
+  }
+
+  private static LottoSettlementProgress newProgress(int round) {
+    return LottoSettlementProgress.builder()
+        .round(round)
+        .lastRecordId(0L)
+        .updatedAt(LocalDateTime.now())
+        .build();
+  }
+
+  /** keyset 페이지 1개를 받으며 등수를 매기는 콜백. 당첨 행만 모은다. */
+  private static final class Chunk implements LottoSettlementJdbcRepository.TicketVisitor {
+    private final int round;
+    private final long winningMask;
+    private final long bonusBit;
+    private final LocalDateTime settledAt;
+    private final List<LottoWinning> winnings = new ArrayList<>();
+    private int scanned;
+    private long lastRecordId;
+
+    private Chunk(int round, long winningMask, long bonusBit, LocalDateTime settledAt) {
+      this.round = round;
+      this.winningMask = winningMask;
+      this.bonusBit = bonusBit;
+      this.settledAt = settledAt;
+    }
+
+    @Override
+    public void visit(long recordId, Long memberId, String numbers) {
+      scanned++;
+      lastRecordId = recordId;
+      LottoRank rank;
+      try {
+        rank = LottoRank.of(LottoSet.parseMask(numbers), winningMask, bonusBit);
+      } catch (IllegalArgumentException e) {
+        return; // 형식이 깨진 기록은 건너뛴다(커서는 넘어간다)
+      }
+      if (rank.isWinning()) {
+        winnings.add(
+            LottoWinning.builder()
+                .recordId(recordId)
+                .memberId(memberId)
+                .round(round)
+                .numbers(numbers)
+                .rank(rank.rank())
+                .settledAt(settledAt)
+                .build());
+      }
+    }
+  }
+}
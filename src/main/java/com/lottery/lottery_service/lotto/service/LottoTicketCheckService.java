@@ -0,0 +1,72 @@
+package com.lottery.lottery_service.lotto.service;
+
+import com.lottery.lottery_service.lotto.dto.LottoRank;
+import com.lottery.lottery_service.lotto.dto.LottoSet;
+import com.lottery.lottery_service.lotto.dto.response.TicketCheckResponse;
+import com.lottery.lottery_service.lotto.validation.cache.LottoWinnerDataCache;
+import com.lottery.lottery_service.lotto.validation.cache.WinningDraws;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 번호 세트의 회차 당첨 결과 확인(요구사항 2-6, 회원/비회원 공통).
+ *
+ * <p>추첨 직후 몰리는 조회를 DB 없이 처리하기 위해 당첨 캐시의 회차별 배열({@link WinningDraws})만 읽는다. 회차 조회는 배열 인덱스 한 번, 등수는
+ * 마스크 AND popcount 한 번이다.
+ */
+@Service
+@RequiredArgsConstructor
+public class LottoTicketCheckService {
+
+  /** 한 번에 확인할 수 있는 최대 세트 수 */
+  public static final int MAX_BATCH_SIZE = 100;
+
+  private final LottoWinnerDataCache winnerDataCache;
+
+  /**
+   * 번호 세트들의 당첨 결과를 확인한다.
+   *
+   * @param round 회차
+   * @param tickets 번호 6개 세트 목록(1~{@value #MAX_BATCH_SIZE}개)
+   * @return 결과, 아직 발표되지 않은(캐시에 없는) 회차면 empty
+   * @throws IllegalArgumentException 세트 수가 범위를 벗어나거나 번호가 6개가 아닌 세트가 있는 경우
+   */
+  public Optional<TicketCheckResponse> check(int round, List<LottoSet> tickets) {
+    if (tickets == null || tickets.isEmpty() || tickets.size() > MAX_BATCH_SIZE) {
+      throw new IllegalArgumentException("번호 세트는 1~" + MAX_BATCH_SIZE + "개까지 확인할 수 있습니다.");
+    }
+    for (LottoSet ticket : tickets) {
+      if (ticket == null || ticket.size() != LottoSet.PICK_COUNT) {
+        throw new IllegalArgumentException("각 번호 세트는 1~45 사이의 서로 다른 숫자 6개여야 합니다.");
+      }
+    }
+
+    WinningDraws draws = winnerDataCache.draws();
+    if (!draws.contains(round)) {
+      return Optional.empty();
+    }
+    long winningMask = draws.mask(round);
+    long bonusBit = draws.bonusBit(round);
+
+    List<TicketCheckResponse.TicketResult> results = new ArrayList<>(tickets.size());
+    for (LottoSet ticket : tickets) {
+      long mask = ticket.mask();
+      results.add(
+          new TicketCheckResponse.TicketResult(
+              ticket.getNumbers(),
+              Long.bitCount(mask & winningMask),
+              (mask & bonusBit) != 0,
+              LottoRank.of(mask, winningMask, bonusBit).rank()));
+    }
+    return Optional.of(
+        TicketCheckResponse.builder()
+            .round(round)
+            .winningNumbers(LottoSet.ofMask(winningMask).getNumbers())
+            .bonusNumber(draws.bonus(round))
+            .results(results)
+            .build());
+  }
+}
@@ -0,0 +1,203 @@
+package com.lottery.lottery_service.lotto.statistics;
+
+import com.lottery.lottery_service.lotto.dto.LottoSet;
+import com.lottery.lottery_service.lotto.validation.rule.ArithmeticComplexityMax6Rule;
+import com.lottery.lottery_service.lotto.validation.rule.NumberMasks;
+import java.util.BitSet;
+
+/**
+ * [내부 모델] 과거 당첨 번호 통계의 불변 스냅샷.
+ *
+ * <p>모든 값은 번호(1~45)를 인덱스로 쓰는 int 배열에 들어 있다(0번 칸은 비움). 크기가 회차 수와 무관한 고정 크기(쌍 행렬 46×46 포함 약 10KB)라,
+ * 회차 하나를 더한 새 스냅샷은 배열 복사 + 상수 개 칸 갱신으로 만든다.
+ *
+ * <ul>
+ *   <li>번호별 당첨 횟수 / 보너스 당첨 횟수
+ *   <li>두 번호가 같은 회차에 함께 나온 횟수(대칭 행렬)
+ *   <li>번호별 마지막 출현 회차 → 미출현 간격
+ *   <li>6개 번호 합 / AC / 홀수 개수 분포
+ * </ul>
+ */
+public final class DrawStatistics {
+
+  /** 번호 배열 크기(0번 칸 미사용) */
+  static final int SLOTS = LottoSet.MAX_NUMBER + 1;
+
+  /** 합 최댓값 40+41+...+45 = 255 */
+  public static final int MAX_SUM = 255;
+
+  /** AC 최댓값 C(6,2) = 15 */
+  public static final int MAX_AC = 15;
+
+  static final DrawStatistics EMPTY = new Accumulator().snapshot();
+
+  private final int rounds;
+  private final int latestRound;
+  private final int[] hits;
+  private final int[] bonusHits;
+  private final int[] pairs;
+  private final int[] lastSeen;
+  private final int[] sumCounts;
+  private final int[] acCounts;
+  private final int[] oddCounts;
+  private final BitSet appliedRounds;
+
+  private DrawStatistics(Accumulator a) {
+    this.rounds = a.rounds;
+    this.latestRound = a.latestRound;
+    this.hits = a.hits.clone();
+    this.bonusHits = a.bonusHits.clone();
+    this.pairs = a.pairs.clone();
+    this.lastSeen = a.lastSeen.clone();
+    this.sumCounts = a.sumCounts.clone();
+    this.acCounts = a.acCounts.clone();
+    this.oddCounts = a.oddCounts.clone();
+    this.appliedRounds = (BitSet) a.appliedRounds.clone();
+  }
+
+  /** 집계한 회차 수 */
+  public int rounds() {
+    return rounds;
+  }
+
+  /** 집계한 가장 최근 회차, 없으면 0 */
+  public int latestRound() {
+    return latestRound;
+  }
+
+  /** 이 회차가 이미 집계되었는지 */
+  public boolean isApplied(int round) {
+    return round > 0 && appliedRounds.get(round);
+  }
+
+  /** 번호의 당첨(본번호) 횟수 */
+  public int hits(int number) {
+    return hits[checked(number)];
+  }
+
+  /** 번호의 보너스 당첨 횟수 */
+  public int bonusHits(int number) {
+    return bonusHits[checked(number)];
+  }
+
+  /** 두 번호가 같은 회차 본번호에 함께 나온 횟수(a == b면 0) */
+  public int pairCount(int a, int b) {
+    return pairs[checked(a) * SLOTS + checked(b)];
+  }
+
+  /** 번호가 마지막으로 나온 회차, 한 번도 없으면 0 */
+  public int lastSeenRound(int number) {
+    return lastSeen[checked(number)];
+  }
+
+  /** 마지막 출현 이후 지난 회차 수(최근 회차에 나왔으면 0, 한 번도 없으면 집계 회차 전체) */
+  public int gap(int number) {
+    return latestRound - lastSeen[checked(number)];
+  }
+
+  /** 6개 번호 합이 sum인 회차 수 */
+  public int sumCount(int sum) {
+    return sum < 0 || sum > MAX_SUM ? 0 : sumCounts[sum];
+  }
+
+  /** AC가 ac인 회차 수 */
+  public int acCount(int ac) {
+    return ac < 0 || ac > MAX_AC ? 0 : acCounts[ac];
+  }
+
+  /** 홀수가 odd개인 회차 수(0~6) */
+  public int oddCount(int odd) {
+    return odd < 0 || odd > LottoSet.PICK_COUNT ? 0 : oddCounts[odd];
+  }
+
+  /** 번호별 당첨 횟수 복사본(인덱스 = 번호, 0번 칸은 0) */
+  public int[] hitsArray() {
+    return hits.clone();
+  }
+
+  /** 회차 하나를 더한 새 스냅샷(이미 집계된 회차면 자신) */
+  DrawStatistics with(int round, long mask, int bonus) {
+    if (isApplied(round)) {
+      return this;
+    }
+    Accumulator a = toAccumulator();
+    a.add(round, mask, bonus);
+    return a.snapshot();
+  }
+
+  private Accumulator toAccumulator() {
+    Accumulator a = new Accumulator();
+    a.rounds = rounds;
+    a.latestRound = latestRound;
+    System.arraycopy(hits, 0, a.hits, 0, SLOTS);
+    System.arraycopy(bonusHits, 0, a.bonusHits, 0, SLOTS);
+    System.arraycopy(pairs, 0, a.pairs, 0, pairs.length);
+    System.arraycopy(lastSeen, 0, a.lastSeen, 0, SLOTS);
+    System.arraycopy(sumCounts, 0, a.sumCounts, 0, sumCounts.length);
+    System.arraycopy(acCounts, 0, a.acCounts, 0, acCounts.length);
+    System.arraycopy(oddCounts, 0, a.oddCounts, 0, oddCounts.length);
+    a.appliedRounds.or(appliedRounds);
+    return a;
+  }
+
+  private static int checked(int number) {
+    if (number < LottoSet.MIN_NUMBER || number > LottoSet.MAX_NUMBER) {
+      throw new IllegalArgumentException("number must be 1~45: " + number);
+    }
+    return number;
+  }
+
+  /** 가변 집계기. 기동 시 전체 회차를 복사 없이 쌓은 뒤 스냅샷 하나로 만든다. */
+  static final class Accumulator {
+    private int rounds;
+    private int latestRound;
+    private final int[] hits = new int[SLOTS];
+    private final int[] bonusHits = new int[SLOTS];
+    private final int[] pairs = new int[SLOTS * SLOTS];
+    private final int[] lastSeen = new int[SLOTS];
+    private final int[] sumCounts = new int[MAX_SUM + 1];
+    private final int[] acCounts = new int[MAX_AC + 1];
+    private final int[] oddCounts = new int[LottoSet.PICK_COUNT + 1];
+    private final BitSet appliedRounds = new BitSet();
+
+    /**
+     * 회차 1개를 더한다(회차 수와 무관한 상수 시간: 번호 6개, 쌍 15개).
+     *
+     * @param round 회차
+     * @param mask 본번호 6개 마스크
+     * @param bonus 보너스 번호
+     */
+    void add(int round, long mask, int bonus) {
+      if (round < 1 || Long.bitCount(mask) != LottoSet.PICK_COUNT) {
+        throw new IllegalArgumentException("invalid draw: round=" + round + ", mask=" + mask);
+      }
+      if (appliedRounds.get(round)) {
+        return;
+      }
+      appliedRounds.set(round);
+      rounds++;
+      latestRound = Math.max(latestRound, round);
+
+      int sum = 0;
+      for (long m = mask; m != 0; m &= m - 1) {
+        int a = LottoSet.lowestNumber(m);
+        sum += a;
+        hits[a]++;
+        lastSeen[a] = Math.max(lastSeen[a], round);
+        for (long rest = m & (m - 1); rest != 0; rest &= rest - 1) {
+          int b = LottoSet.lowestNumber(rest);
+          pairs[a * SLOTS + b]++;
+          pairs[b * SLOTS + a]++;
+        }
+      }
+      bonusHits[checked(bonus)]++;
+      sumCounts[sum]++;
+      acCounts[ArithmeticComplexityMax6Rule.acOf(mask)]++;
+      oddCounts[Long.bitCount(mask & NumberMasks.ODD)]++;
+    }
+
+    DrawStatistics snapshot() {
+      return new DrawStatistics(this);
+    }
+  }
+}
@@ -0,0 +1,80 @@
+package com.lottery.lottery_service.lotto.statistics;
+
+import com.lottery.lottery_service.lotto.dto.LottoSet;
+import com.lottery.lottery_service.lotto.entity.LottoWinnerData;
+import com.lottery.lottery_service.lotto.external.LottoWinnerSavedEvent;
+import com.lottery.lottery_service.lotto.validation.cache.LottoWinnerDataCache;
+import com.lottery.lottery_service.lotto.validation.cache.WinningDraws;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * [컴포넌트] 과거 당첨 번호 통계({@link DrawStatistics})를 메모리에 유지한다.
+ *
+ * <p>동작:
+ *
+ * <ul>
+ *   <li>기동 시 당첨 캐시의 회차별 배열({@link WinningDraws})에서 한 번 집계한다. DB는 다시 읽지 않는다.
+ *   <li>새 회차가 저장되면({@link LottoWinnerSavedEvent}) 그 회차만 더한 새 스냅샷으로 교체한다(회차 수와 무관한 상수 비용).
+ *   <li>조회는 volatile 스냅샷 하나를 읽을 뿐이라 잠금이 없다.
+ * </ul>
+ */
+@Slf4j
+@Component
+public class DrawStatisticsEngine {
+
+  private final LottoWinnerDataCache winnerDataCache;
+
+  private volatile DrawStatistics current = DrawStatistics.EMPTY;
+
+  public DrawStatisticsEngine(LottoWinnerDataCache winnerDataCache) {
+    this.winnerDataCache = winnerDataCache;
+  }
+
+  /** 당첨 캐시 로드 이후 전체 회차를 집계한다. */
+  @PostConstruct
+  public void init() {
+    rebuild();
+  }
+
+  /** 당첨 캐시의 현재 회차 배열로 처음부터 다시 집계한다. */
+  public synchronized void rebuild() {
+    WinningDraws draws = winnerDataCache.draws();
+    DrawStatistics.Accumulator accumulator = new DrawStatistics.Accumulator();
+    for (int round = 1; round <= draws.latestRound(); round++) {
+      if (draws.contains(round)) {
+        accumulator.add(round, draws.mask(round), draws.bonus(round));
+      }
+    }
+    current = accumulator.snapshot();
+    log.info(
+        "Draw statistics built: {} rounds (latest={})", current.rounds(), current.latestRound());
+  }
+
+  /** 새 회차가 커밋되면 그 회차 1개만 더한다. 같은 회차가 다시 들어오면 무시한다. */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onWinnerSaved(LottoWinnerSavedEvent event) {
+    LottoWinnerData winner = event.winner();
+    apply(winner.getRound(), LottoSet.parseMask(winner.getWinnerData()), winner.getBnusNo());
+  }
+
+  /**
+   * 회차 1개를 반영한다.
+   *
+   * @param round 회차
+   * @param mask 본번호 6개 마스크
+   * @param bonus 보너스 번호
+   * @throws IllegalArgumentException 당첨 번호/보너스 번호가 올바르지 않은 경우
+   */
+  public synchronized void apply(int round, long mask, int bonus) {
+    current = current.with(round, mask, bonus);
+  }
+
+  /** 현재 통계 스냅샷 */
+  public DrawStatistics current() {
+    return current;
+  }
+}
@@ -1,23 +1,30 @@
 package com.lottery.lottery_service.lotto.validation.cache;
 
+import com.lottery.lottery_service.lotto.dto.LottoSet;
 import com.lottery.lottery_service.lotto.entity.LottoWinnerData;
 import com.lottery.lottery_service.lotto.repository.LottoWinnerDataRepository;
 import jakarta.annotation.PostConstruct;
-import java.util.Set;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import org.springframework.stereotype.Component;
 
 /**
- * [컴포넌트] 과거 "1등 당첨 조합"의 정규화 문자열 Set 캐시.
+ * [컴포넌트] 과거 "1등 당첨 조합"의 비트마스크 캐시.
  *
- * <p>포맷(아주 중요) - DB의 LottoWinnerData.winnerData 포맷과 "정확히 동일": "오름차순 정렬 + 공백(' ') 조인" → 예: "1 3 12
- * 25 34 41"
+ * <p>포맷(아주 중요) - 각 조합은 {@link LottoSet#mask()}(비트 n-1 = 번호 n)로 보관한다. - 마스크는 번호 순서와 무관하므로 별도의
+ * 정렬/문자열 정규화가 필요 없다. - DB의 LottoWinnerData.winnerData("1 3 12 25 34 41")는 로드 시점에 한 번만 파싱한다.
  *
- * <p>목적 - HashSet 기반으로 포함 여부를 O(1)로 빠르게 확인하기 위함. - 룰에서 DB를 직접 두드리지 않고, 이 캐시만 읽도록 하여 성능/안정성 확보.
+ * <p>목적 - 오름차순 정렬된 {@code long[]}에 이진 탐색하여 포함 여부를 확인한다(약 1,100건 → 11회 비교, 할당 없음). - 룰에서 DB를 직접
+ * 두드리지 않고, 이 캐시만 읽도록 하여 성능/안정성 확보. - 회차별 당첨 번호/보너스({@link WinningDraws})도 함께 들고 있어, 등수 판정 등은
+ * 회차 번호로 바로 찾는다. - "k개 이상 겹침" 조회용 부분집합 색인({@link SubsetIndex})은 요청된 k에 대해서만 만들어 두고, 추가 시 같이
+ * 갱신한다.
  *
- * <p>동시성/일관성 - AtomicReference<Set<String>>로 불변 Set을 원자적으로 교체한다(읽기에는 락이 필요 없음). - 초기 로드 실패는 애플리케이션
- * 비정상 상태이므로 조기에 감지되어야 한다(예외 처리 권장).
+ * <p>동시성/일관성 - 정렬 배열과 회차 배열을 한 스냅샷으로 묶어 AtomicReference로 원자적으로 교체한다(읽기에는 락이 필요 없음). - 쓰기
+ * (리로드/증분 추가)는 this 모니터로 직렬화한다. 리로드가 DB를 읽는 동안 들어온 add는 리로드가 끝난 뒤 그 위에 반영되므로, 리로드가 통째로
+ * 교체하면서 add를 덮어쓰지 않는다(add는 커밋 뒤에만 오므로 리로드보다 먼저 온 add는 DB 조회에도 들어 있다). - 배열은 교체 후 절대 수정하지
+ * 않는다. - 초기 로드 실패는 애플리케이션 비정상 상태이므로 조기에 감지되어야 한다(예외 처리 권장).
  */
 @Component
 public class LottoWinnerDataCache {
@@ -25,10 +32,15 @@ public class LottoWinnerDataCache {
   private final LottoWinnerDataRepository repo;
 
   /**
-   * 현재 캐시된 "정규화 문자열" 집합. - 초기값은 빈 Set. - init() → reloadAll()에서 전량 로드하여 교체한다. - 불변 Set을 저장해 외부 변경을
-   * 원천 차단한다.
+   * 현재 스냅샷. - 초기값은 빈 스냅샷. - init() → reloadAll()에서 전량 로드하여 교체한다. - 공개하지 않으므로 외부 변경이 불가능하다(회차
+   * 배열은 읽기 전용 객체로만 내보낸다).
    */
-  private final AtomicReference<Set<String>> normalizedWinnersRef = new AtomicReference<>(Set.of());
+  private final AtomicReference<Snapshot> snapshotRef =
+      new AtomicReference<>(new Snapshot(new long[0], WinningDraws.EMPTY));
+
+  /** [k] = k개 겹침 색인. 처음 요청될 때 만들며, 추가/리로드와 함께 갱신된다. 쓰기는 this 모니터 안에서만 한다. */
+  private final AtomicReferenceArray<SubsetIndex> subsetIndexes =
+      new AtomicReferenceArray<>(SubsetIndex.MAX_SHARED + 1);
 
   public LottoWinnerDataCache(LottoWinnerDataRepository repo) {
     this.repo = repo;
@@ -40,31 +52,133 @@ public class LottoWinnerDataCache {
     reloadAll();
   }
 
-  /** 전체 리로드: DB에서 모든 회차의 winnerData를 읽어, 불변 Set으로 교체한다. - 관리자/스케줄러 훅으로도 호출할 수 있다. */
-  public void reloadAll() {
-    Set<String> all =
-        repo.findAll().stream()
-            // LottoWinnerData.getWinnerData()는 이미 "정규화 포맷" 문자열을 돌려줘야 한다.
-            .map(LottoWinnerData::getWinnerData)
-            .collect(Collectors.toUnmodifiableSet());
-    normalizedWinnersRef.set(all); // 원자적 교체
+  /** 전체 리로드: DB에서 모든 회차를 읽어, 정렬된 마스크 배열과 회차 배열로 교체한다. - 관리자/스케줄러 훅으로도 호출할 수 있다. */
+  public synchronized void reloadAll() {
+    List<LottoWinnerData> winners = repo.findAll();
+    int n = winners.size();
+    int[] rounds = new int[n];
+    long[] masks = new long[n];
+    int[] bonuses = new int[n];
+    for (int i = 0; i < n; i++) {
+      LottoWinnerData winner = winners.get(i);
+      rounds[i] = winner.getRound();
+      masks[i] = LottoSet.parseMask(winner.getWinnerData());
+      bonuses[i] = winner.getBnusNo();
+    }
+    long[] sorted = Arrays.stream(masks).sorted().distinct().toArray();
+    snapshotRef.set(new Snapshot(sorted, WinningDraws.of(rounds, masks, bonuses))); // 원자적 교체
+    rebuildSubsetIndexes();
   }
 
-  /** 증분 추가: 새 회차 동기화 직후, 해당 회차의 정규화 문자열을 1건 추가한다. - copy-on-write 전략(작은 비용, 읽기 가벼움 유지) */
-  public void add(String normalized) {
-    Set<String> oldSet = normalizedWinnersRef.get();
-    Set<String> newSet = oldSet.stream().collect(Collectors.toSet()); // 가변 복사
-    newSet.add(normalized);
-    normalizedWinnersRef.set(Set.copyOf(newSet)); // 불변으로 교체
+  /**
+   * 증분 추가: 새 회차 동기화 직후, 해당 회차의 조합과 보너스 번호를 추가한다.
+   *
+   * @param winner 저장된 회차 당첨 데이터
+   * @throws IllegalArgumentException 당첨 번호/보너스 번호가 올바르지 않은 경우
+   */
+  public synchronized void add(LottoWinnerData winner) {
+    long mask = LottoSet.parseMask(winner.getWinnerData());
+    int round = winner.getRound();
+    int bonus = winner.getBnusNo();
+    snapshotRef.updateAndGet(
+        old ->
+            new Snapshot(insertSorted(old.winnerMasks, mask), old.draws.with(round, mask, bonus)));
+    addToSubsetIndexes(mask);
+  }
+
+  /**
+   * 증분 추가(회차 정보 없이 조합만). - copy-on-write 전략(작은 비용, 읽기 가벼움 유지)
+   *
+   * <p>쓰기는 직렬화되므로 동시에 호출되어도 추가분이 사라지지 않는다.
+   */
+  public synchronized void add(LottoSet set) {
+    long mask = set.mask();
+    snapshotRef.updateAndGet(old -> old.withMasks(insertSorted(old.winnerMasks, mask)));
+    addToSubsetIndexes(mask);
   }
 
   /**
-   * 포함 여부 조회(O(1)).
+   * 포함 여부 조회(O(log n), 할당 없음).
    *
-   * @param normalized "오름차순 + 공백 조인" 정규화 문자열
+   * @param set 조회할 조합
    * @return 캐시에 존재하면 true (즉, 과거 1등과 완전 동일)
    */
-  public boolean contains(String normalized) {
-    return normalizedWinnersRef.get().contains(normalized);
+  public boolean contains(LottoSet set) {
+    return contains(set.mask());
+  }
+
+  /** {@link #contains(LottoSet)}의 마스크 버전. */
+  public boolean contains(long mask) {
+    return Arrays.binarySearch(snapshotRef.get().winnerMasks, mask) >= 0;
+  }
+
+  /** 회차별 당첨 번호/보너스(현재 스냅샷, 불변) */
+  public WinningDraws draws() {
+    return snapshotRef.get().draws;
+  }
+
+  /**
+   * k개 이상 겹침 조회용 색인. 처음 요청되면 현재 당첨 조합으로 만든다(약 1,100건 기준 수 ms).
+   *
+   * @param shared 겹침 기준 k({@value SubsetIndex#MIN_SHARED}~{@value SubsetIndex#MAX_SHARED})
+   * @return 이후 추가/리로드가 반영되는 색인(리로드 시에는 새 인스턴스로 바뀌므로 매번 이 메서드로 얻는다)
+   * @throws IllegalArgumentException k가 범위를 벗어난 경우
+   */
+  public SubsetIndex subsetIndex(int shared) {
+    if (shared < SubsetIndex.MIN_SHARED || shared > SubsetIndex.MAX_SHARED) {
+      throw new IllegalArgumentException("shared count must be 4~6: " + shared);
+    }
+    SubsetIndex index = subsetIndexes.get(shared);
+    return index != null ? index : createSubsetIndex(shared);
+  }
+
+  /** 스냅샷 교체 뒤에 잠금 안에서 만들므로, 만드는 사이에 들어온 추가분도 addToSubsetIndexes가 다시 넣는다(중복은 무시). */
+  private synchronized SubsetIndex createSubsetIndex(int shared) {
+    SubsetIndex index = subsetIndexes.get(shared);
+    if (index == null) {
+      index = new SubsetIndex(shared, snapshotRef.get().winnerMasks);
+      subsetIndexes.set(shared, index);
+    }
+    return index;
+  }
+
+  private synchronized void addToSubsetIndexes(long mask) {
+    for (int k = SubsetIndex.MIN_SHARED; k <= SubsetIndex.MAX_SHARED; k++) {
+      SubsetIndex index = subsetIndexes.get(k);
+      if (index != null) {
+        index.addWinner(mask);
+      }
+    }
+  }
+
+  /** 리로드는 조합이 빠질 수도 있으므로 만들어 둔 색인을 새로 만들어 교체한다. */
+  private synchronized void rebuildSubsetIndexes() {
+    long[] masks = snapshotRef.get().winnerMasks;
+    for (int k = SubsetIndex.MIN_SHARED; k <= SubsetIndex.MAX_SHARED; k++) {
+      if (subsetIndexes.get(k) != null) {
+        subsetIndexes.set(k, new SubsetIndex(k, masks));
+      }
+    }
+  }
+
+  /** 이미 있으면 같은 배열을, 없으면 정렬 위치에 끼운 새 배열을 돌려준다. */
+  private static long[] insertSorted(long[] old, long mask) {
+    int pos = Arrays.binarySearch(old, mask);
+    if (pos >= 0) {
+      return old; // 이미 존재
+    }
+    int insertAt = -(pos + 1);
+    long[] next = new long[old.length + 1];
+    System.arraycopy(old, 0, next, 0, insertAt);
+    next[insertAt] = mask;
+    System.arraycopy(old, insertAt, next, insertAt + 1, old.length - insertAt);
+    return next;
+  }
+
+  /** 정렬 마스크 배열 + 회차 배열. 둘은 항상 함께 교체된다. */
+  private record Snapshot(long[] winnerMasks, WinningDraws draws) {
+    Snapshot withMasks(long[] masks) {
+      return masks == winnerMasks ? this : new Snapshot(masks, draws);
+    }
   }
 }
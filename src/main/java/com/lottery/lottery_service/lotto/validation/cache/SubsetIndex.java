@@ -0,0 +1,177 @@
+package com.lottery.lottery_service.lotto.validation.cache;
+
+import com.lottery.lottery_service.lotto.dto.LottoSet;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * [내부 모델] 당첨 조합들의 "k개 부분집합" 마스크를 담은 open-addressing 해시 집합.
+ *
+ * <p>후보가 어떤 당첨 조합과 k개 이상 겹친다 ⇔ 후보의 k개 부분집합 중 하나가 어떤 당첨 조합의 k개 부분집합이다. 따라서 당첨 조합 전체를 훑는 대신
+ * 후보의 부분집합 C(6,k)개(k=5면 6개)만 해시 조회하면 된다. 조회는 락/할당이 없다.
+ *
+ * <p>동시성: 당첨 조합 추가(쓰기)는 {@code synchronized}로 한 번에 하나만 하고, 칸에는 0 → 키로 한 번만 쓰므로 읽기는 락 없이 동시에 해도
+ * 된다. 부하율이 1/2을 넘기 전에 두 배 크기 표를 새로 채워 volatile로 교체한다.
+ */
+public final class SubsetIndex {
+
+  /** 지원하는 겹침 개수(3 이하는 거의 모든 조합이 걸리므로 의미가 없다) */
+  public static final int MIN_SHARED = 4;
+
+  public static final int MAX_SHARED = LottoSet.PICK_COUNT;
+
+  /** [k] = 6비트 중 "빼는" 비트가 (6-k)개인 선택자 목록 */
+  private static final int[][] DROP_SELECTORS = dropSelectors();
+
+  private final int shared;
+  private volatile AtomicLongArray table;
+  private int size;
+
+  /**
+   * @param shared 겹침 기준 k({@value #MIN_SHARED}~{@value #MAX_SHARED})
+   * @param winnerMasks 초기 당첨 조합 마스크
+   */
+  SubsetIndex(int shared, long[] winnerMasks) {
+    if (shared < MIN_SHARED || shared > MAX_SHARED) {
+      throw new IllegalArgumentException("shared count must be 4~6: " + shared);
+    }
+    this.shared = shared;
+    int selectors = DROP_SELECTORS[shared].length;
+    this.table = new AtomicLongArray(tableSizeFor((long) winnerMasks.length * selectors));
+    for (long mask : winnerMasks) {
+      addWinner(mask);
+    }
+  }
+
+  /** 겹침 기준 k */
+  public int shared() {
+    return shared;
+  }
+
+  /** 저장된 부분집합 수 */
+  public synchronized int size() {
+    return size;
+  }
+
+  /** 당첨 조합 1개의 k개 부분집합을 모두 넣는다(이미 있으면 무시). */
+  synchronized void addWinner(long winnerMask) {
+    for (int drop : DROP_SELECTORS[shared]) {
+      long key = dropBits(winnerMask, drop);
+      if (size + 1 > table.length() >>> 1) {
+        table = rehash(table, table.length() << 1);
+      }
+      if (insert(table, key)) {
+        size++;
+      }
+    }
+  }
+
+  /**
+   * 후보가 저장된 당첨 조합 중 하나와 k개 이상 겹치는지(할당 없음).
+   *
+   * @param mask 후보 조합 마스크(6개)
+   * @return 겹치는 당첨 조합이 있으면 true
+   */
+  public boolean sharesWithAny(long mask) {
+    AtomicLongArray t = table;
+    if (shared == MAX_SHARED - 1) {
+      // 기본값 k=5: 번호 하나씩 뺀 6개만 본다(선택자 순회 없이)
+      for (long m = mask; m != 0; m &= m - 1) {
+        if (contains(t, mask ^ (m & -m))) {
+          return true;
+        }
+      }
+      return false;
+    }
+    for (int drop : DROP_SELECTORS[shared]) {
+      if (contains(t, dropBits(mask, drop))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** mask의 낮은 번호부터 i번째 비트를, drop의 비트 i가 켜져 있으면 뺀다. */
+  private static long dropBits(long mask, int drop) {
+    long out = mask;
+    long m = mask;
+    for (int d = drop; d != 0; d >>>= 1) {
+      if ((d & 1) != 0) {
+        out &= ~(m & -m);
+      }
+      m &= m - 1;
+    }
+    return out;
+  }
+
+  private static boolean contains(AtomicLongArray t, long key) {
+    int indexMask = t.length() - 1;
+    for (int i = hash(key) & indexMask; ; i = (i + 1) & indexMask) {
+      long v = t.get(i);
+      if (v == key) {
+        return true;
+      }
+      if (v == 0) {
+        return false;
+      }
+    }
+  }
+
+  private static boolean insert(AtomicLongArray t, long key) {
+    int indexMask = t.length() - 1;
+    for (int i = hash(key) & indexMask; ; i = (i + 1) & indexMask) {
+      long v = t.get(i);
+      if (v == key) {
+        return false;
+      }
+      if (v == 0) {
+        t.set(i, key);
+        return true;
+      }
+    }
+  }
+
+  private static AtomicLongArray rehash(AtomicLongArray old, int capacity) {
+    AtomicLongArray next = new AtomicLongArray(capacity);
+    for (int i = 0; i < old.length(); i++) {
+      long v = old.get(i);
+      if (v != 0) {
+        insert(next, v);
+      }
+    }
+    return next;
+  }
+
+  /** 키 수의 두 배 이상인 2의 거듭제곱(최소 16) */
+  private static int tableSizeFor(long keys) {
+    long want = Math.max(16, keys * 2);
+    return (int) Math.min(1 << 30, Long.highestOneBit(want - 1) << 1);
+  }
+
+  private static int hash(long key) {
+    // murmur3 fmix64: 인접 비트 패턴이 같은 칸으로 몰리지 않도록 섞는다
+    long h = key;
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return (int) h;
+  }
+
+  private static int[][] dropSelectors() {
+    int[][] out = new int[MAX_SHARED + 1][];
+    for (int k = 0; k <= MAX_SHARED; k++) {
+      int drops = LottoSet.PICK_COUNT - k;
+      int n = 0;
+      int[] tmp = new int[1 << LottoSet.PICK_COUNT];
+      for (int s = 0; s < 1 << LottoSet.PICK_COUNT; s++) {
+        if (Integer.bitCount(s) == drops) {
+          tmp[n++] = s;
+        }
+      }
+      out[k] = Arrays.copyOf(tmp, n);
+    }
+    return out;
+  }
+}
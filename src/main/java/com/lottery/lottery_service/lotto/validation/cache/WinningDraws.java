@@ -0,0 +1,126 @@
+package com.lottery.lottery_service.lotto.validation.cache;
+
+import com.lottery.lottery_service.lotto.dto.LottoRank;
+import com.lottery.lottery_service.lotto.dto.LottoSet;
+import java.util.Arrays;
+
+/**
+ * [내부 모델] 회차별 당첨 번호(6개 마스크 + 보너스)를 회차 번호로 바로 찾는 불변 배열.
+ *
+ * <p>칸 i = i회차. 칸 값은 당첨 마스크(비트 0~44) | 보너스 번호(비트 {@value #BONUS_SHIFT}~)이며, 0이면 그 회차 데이터가 없다. 회차는
+ * 1부터 빈틈없이 늘어나므로 해시 없이 배열 인덱스로 조회한다(1,200회차 ≈ 10KB).
+ *
+ * <p>당첨 등수 판정/통계처럼 "회차 → 당첨 번호"가 필요한 곳이 DB 대신 읽는다. 인스턴스는 만든 뒤 바뀌지 않으며, 갱신은 캐시가 새 인스턴스로 교체한다.
+ */
+public final class WinningDraws {
+
+  /** 보너스 번호 저장 위치 */
+  static final int BONUS_SHIFT = 48;
+
+  static final WinningDraws EMPTY = new WinningDraws(new long[1]);
+
+  private final long[] packed;
+  private final int latestRound;
+  private final int count;
+
+  private WinningDraws(long[] packed) {
+    this.packed = packed;
+    int latest = 0;
+    int n = 0;
+    for (int round = 1; round < packed.length; round++) {
+      if (packed[round] != 0) {
+        latest = round;
+        n++;
+      }
+    }
+    this.latestRound = latest;
+    this.count = n;
+  }
+
+  /**
+   * 회차 1개를 더한(또는 바꾼) 새 인스턴스를 만든다.
+   *
+   * @param round 회차(1 이상)
+   * @param mask 당첨 번호 6개 마스크
+   * @param bonus 보너스 번호(1~45)
+   */
+  WinningDraws with(int round, long mask, int bonus) {
+    long[] next = Arrays.copyOf(packed, Math.max(packed.length, round + 1));
+    next[round] = pack(round, mask, bonus);
+    return new WinningDraws(next);
+  }
+
+  /** 회차별 값을 모아 한 번에 만든다. 같은 회차가 여러 번 오면 마지막 값이 남는다. */
+  static WinningDraws of(int[] rounds, long[] masks, int[] bonuses) {
+    int max = 0;
+    for (int round : rounds) {
+      max = Math.max(max, round);
+    }
+    long[] packed = new long[max + 1];
+    for (int i = 0; i < rounds.length; i++) {
+      packed[rounds[i]] = pack(rounds[i], masks[i], bonuses[i]);
+    }
+    return new WinningDraws(packed);
+  }
+
+  /** 데이터가 있는 가장 최근 회차, 없으면 0 */
+  public int latestRound() {
+    return latestRound;
+  }
+
+  /** 데이터가 있는 회차 수 */
+  public int count() {
+    return count;
+  }
+
+  /** 해당 회차 데이터가 있는지 */
+  public boolean contains(int round) {
+    return round > 0 && round < packed.length && packed[round] != 0;
+  }
+
+  /** 회차의 당첨 번호 6개 마스크, 데이터가 없으면 0 */
+  public long mask(int round) {
+    return contains(round) ? packed[round] & LottoSet.FULL_MASK : 0L;
+  }
+
+  /** 회차의 보너스 번호, 데이터가 없으면 0 */
+  public int bonus(int round) {
+    return contains(round) ? (int) (packed[round] >>> BONUS_SHIFT) : 0;
+  }
+
+  /** 회차의 보너스 번호 비트({@link LottoSet#bit(int)}), 데이터가 없으면 0 */
+  public long bonusBit(int round) {
+    return contains(round) ? LottoSet.bit(bonus(round)) : 0L;
+  }
+
+  /**
+   * 번호 마스크의 회차 당첨 등수(배열 조회 1번 + popcount).
+   *
+   * @param round 회차
+   * @param ticketMask 번호 6개 마스크
+   * @return 등수, 회차 데이터가 없으면(추첨 전) null
+   */
+  public LottoRank rankOf(int round, long ticketMask) {
+    if (!contains(round)) {
+      return null;
+    }
+    long entry = packed[round];
+    return LottoRank.of(
+        ticketMask, entry & LottoSet.FULL_MASK, LottoSet.bit((int) (entry >>> BONUS_SHIFT)));
+  }
+
+  private static long pack(int round, long mask, int bonus) {
+    if (round < 1) {
+      throw new IllegalArgumentException("round must be >= 1: " + round);
+    }
+    if (Long.bitCount(mask) != LottoSet.PICK_COUNT || (mask & ~LottoSet.FULL_MASK) != 0) {
+      throw new IllegalArgumentException("winning mask must have 6 numbers: " + mask);
+    }
+    if (bonus < LottoSet.MIN_NUMBER
+        || bonus > LottoSet.MAX_NUMBER
+        || (mask & LottoSet.bit(bonus)) != 0) {
+      throw new IllegalArgumentException("invalid bonus number: " + bonus);
+    }
+    return mask | (long) bonus << BONUS_SHIFT;
+  }
+}
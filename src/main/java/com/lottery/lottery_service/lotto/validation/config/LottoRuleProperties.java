@@ -0,0 +1,76 @@
+package com.lottery.lottery_service.lotto.validation.config;
+
+import com.lottery.lottery_service.lotto.validation.rule.ArithmeticComplexityMax6Rule;
+import com.lottery.lottery_service.lotto.validation.rule.EndDigitDuplicateGte4Rule;
+import com.lottery.lottery_service.lotto.validation.rule.EndDigitSumRule;
+import com.lottery.lottery_service.lotto.validation.rule.NearMissPastFirstPrizeRule;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검증 룰 기동 시 설정(lotto.rules.*).
+ *
+ * <pre>
+ * lotto:
+ *   rules:
+ *     disabled: [ThreeZoneSuperExtreme]   # 끌 룰 ID
+ *     end-digit-sum: { min: 14, max: 42 }
+ *     end-digit-duplicate: { threshold: 4 }
+ *     arithmetic-complexity: { max-rejected: 6 }
+ *     near-miss: { min-shared: 5 }         # 과거 1등과 겹치는 번호 수 기준(4~6)
+ * </pre>
+ *
+ * <p>기동 시 값만 담는다. 운영 중 변경은 관리자 API가 {@link LottoRuleSettings}로 바로 반영하며 이 객체는 바뀌지 않는다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "lotto.rules")
+public class LottoRuleProperties {
+
+  private Set<String> disabled = new LinkedHashSet<>();
+  private EndDigitSum endDigitSum = new EndDigitSum();
+  private EndDigitDuplicate endDigitDuplicate = new EndDigitDuplicate();
+  private ArithmeticComplexity arithmeticComplexity = new ArithmeticComplexity();
+  private NearMiss nearMiss = new NearMiss();
+
+  /** 바인딩된 값을 불변 설정 값으로 옮긴다. */
+  public LottoRuleSettings toSettings() {
+    return new LottoRuleSettings(
+        disabled,
+        endDigitSum.getMin(),
+        endDigitSum.getMax(),
+        endDigitDuplicate.getThreshold(),
+        arithmeticComplexity.getMaxRejected(),
+        nearMiss.getMinShared());
+  }
+
+  @Getter
+  @Setter
+  public static class EndDigitSum {
+    private int min = EndDigitSumRule.DEFAULT_MIN;
+    private int max = EndDigitSumRule.DEFAULT_MAX;
+  }
+
+  @Getter
+  @Setter
+  public static class EndDigitDuplicate {
+    private int threshold = EndDigitDuplicateGte4Rule.DEFAULT_THRESHOLD;
+  }
+
+  @Getter
+  @Setter
+  public static class ArithmeticComplexity {
+    private int maxRejected = ArithmeticComplexityMax6Rule.DEFAULT_MAX_REJECTED_AC;
+  }
+
+  @Getter
+  @Setter
+  public static class NearMiss {
+    private int minShared = NearMissPastFirstPrizeRule.DEFAULT_MIN_SHARED;
+  }
+}
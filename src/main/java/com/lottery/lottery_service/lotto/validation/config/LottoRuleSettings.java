@@ -0,0 +1,111 @@
+package com.lottery.lottery_service.lotto.validation.config;
+
+import com.lottery.lottery_service.lotto.dto.LottoSet;
+import com.lottery.lottery_service.lotto.validation.cache.SubsetIndex;
+import com.lottery.lottery_service.lotto.validation.rule.ArithmeticComplexityMax6Rule;
+import com.lottery.lottery_service.lotto.validation.rule.EndDigitDuplicateGte4Rule;
+import com.lottery.lottery_service.lotto.validation.rule.EndDigitSumRule;
+import com.lottery.lottery_service.lotto.validation.rule.LottoValidationRule;
+import com.lottery.lottery_service.lotto.validation.rule.NearMissPastFirstPrizeRule;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * [설정 값] 검증 룰의 on/off와 임계값 한 벌(불변).
+ *
+ * <p>파이프라인은 이 값 하나로 실행 계획 전체를 다시 만들어 한 번에 교체한다. 값 객체가 불변이므로 "일부 룰만 새 값"인 중간 상태가 생기지 않는다.
+ *
+ * @param disabledRules 끌 룰 ID 목록
+ * @param endDigitSumMin 끝자리 합 하한(포함)
+ * @param endDigitSumMax 끝자리 합 상한(포함)
+ * @param endDigitDuplicateThreshold 같은 끝자리가 이 개수 이상이면 FAIL
+ * @param maxRejectedAc AC가 이 값 이하면 FAIL
+ * @param nearMissMinShared 과거 1등과 이 개수 이상 겹치면 FAIL
+ */
+public record LottoRuleSettings(
+    Set<String> disabledRules,
+    int endDigitSumMin,
+    int endDigitSumMax,
+    int endDigitDuplicateThreshold,
+    int maxRejectedAc,
+    int nearMissMinShared) {
+
+  /** 룰 클래스에 박혀 있던 기존 기본값 */
+  public static final LottoRuleSettings DEFAULTS =
+      new LottoRuleSettings(
+          Set.of(),
+          EndDigitSumRule.DEFAULT_MIN,
+          EndDigitSumRule.DEFAULT_MAX,
+          EndDigitDuplicateGte4Rule.DEFAULT_THRESHOLD,
+          ArithmeticComplexityMax6Rule.DEFAULT_MAX_REJECTED_AC,
+          NearMissPastFirstPrizeRule.DEFAULT_MIN_SHARED);
+
+  /** 끝자리 합의 최댓값(9 × 6) */
+  private static final int MAX_END_DIGIT_SUM = 9 * LottoSet.PICK_COUNT;
+
+  /** 6개 번호의 서로 다른 차이값은 최대 15개 */
+  private static final int MAX_AC = LottoSet.PICK_COUNT * (LottoSet.PICK_COUNT - 1) / 2;
+
+  public LottoRuleSettings {
+    disabledRules = disabledRules == null ? Set.of() : Set.copyOf(disabledRules);
+  }
+
+  /**
+   * 값 범위와 룰 ID를 확인한다.
+   *
+   * @param knownRuleIds 파이프라인에 등록된 룰 ID
+   * @throws IllegalArgumentException 범위를 벗어나거나 모르는 룰 ID가 있는 경우
+   */
+  public void validate(Collection<String> knownRuleIds) {
+    for (String id : disabledRules) {
+      if (!knownRuleIds.contains(id)) {
+        throw new IllegalArgumentException("unknown rule id: " + id);
+      }
+    }
+    if (endDigitSumMin < 0
+        || endDigitSumMax > MAX_END_DIGIT_SUM
+        || endDigitSumMin > endDigitSumMax) {
+      throw new IllegalArgumentException(
+          "end digit sum range must satisfy 0 <= min <= max <= "
+              + MAX_END_DIGIT_SUM
+              + ": "
+              + endDigitSumMin
+              + ".."
+              + endDigitSumMax);
+    }
+    if (endDigitDuplicateThreshold < 2 || endDigitDuplicateThreshold > LottoSet.PICK_COUNT) {
+      throw new IllegalArgumentException(
+          "end digit duplicate threshold must be 2~6: " + endDigitDuplicateThreshold);
+    }
+    if (maxRejectedAc < 0 || maxRejectedAc >= MAX_AC) {
+      throw new IllegalArgumentException("max rejected AC must be 0~14: " + maxRejectedAc);
+    }
+    if (nearMissMinShared < SubsetIndex.MIN_SHARED || nearMissMinShared > SubsetIndex.MAX_SHARED) {
+      throw new IllegalArgumentException(
+          "near miss shared count must be 4~6: " + nearMissMinShared);
+    }
+  }
+
+  /**
+   * 임계값이 있는 내장 룰을 이 설정 값으로 만든 새 인스턴스로 바꾼다. 그 밖의 룰은 그대로 돌려준다.
+   *
+   * <p>하위 클래스는 판정을 바꿨을 수 있으므로 정확한 클래스 일치일 때만 바꾼다.
+   */
+  public LottoValidationRule configure(LottoValidationRule rule) {
+    Class<?> type = rule.getClass();
+    if (type == EndDigitSumRule.class) {
+      return new EndDigitSumRule(endDigitSumMin, endDigitSumMax);
+    }
+    if (type == EndDigitDuplicateGte4Rule.class) {
+      return new EndDigitDuplicateGte4Rule(endDigitDuplicateThreshold);
+    }
+    if (type == ArithmeticComplexityMax6Rule.class) {
+      return new ArithmeticComplexityMax6Rule(maxRejectedAc);
+    }
+    if (type == NearMissPastFirstPrizeRule.class) {
+      return new NearMissPastFirstPrizeRule(
+          ((NearMissPastFirstPrizeRule) rule).cache(), nearMissMinShared);
+    }
+    return rule;
+  }
+}
@@ -0,0 +1,228 @@
+package com.lottery.lottery_service.lotto.validation.pipeline;
+
+import com.lottery.lottery_service.lotto.dto.LottoSet;
+import com.lottery.lottery_service.lotto.validation.rule.ArithmeticComplexityMax6Rule;
+import com.lottery.lottery_service.lotto.validation.rule.EndDigitDuplicateGte4Rule;
+import com.lottery.lottery_service.lotto.validation.rule.EndDigitSumRule;
+import com.lottery.lottery_service.lotto.validation.rule.LottoValidationRule;
+import com.lottery.lottery_service.lotto.validation.rule.LowHighZeroSixRule;
+import com.lottery.lottery_service.lotto.validation.rule.NumberMasks;
+import com.lottery.lottery_service.lotto.validation.rule.OddEvenZeroSixRule;
+import com.lottery.lottery_service.lotto.validation.rule.ThreeZoneSuperExtremeRule;
+import java.util.List;
+
+/**
+ * [내부 모델] 정렬된 룰 목록을 "한 번의 순회로 판정하는 실행 계획"으로 컴파일한 것.
+ *
+ * <p>동작:
+ *
+ * <ul>
+ *   <li>내장 룰(끝자리 합/끝자리 중복/저고/홀짝/AC/3구간)은 인터페이스 호출 대신 내장 판정(kind)으로 바꾼다.
+ *   <li>판정에 필요한 특징값은 번호별 룩업 테이블({@link #NUMBER_FEATURES})을 6개 비트에 대해 한 번만 훑어 모두 구한다.
+ *   <li>그 밖의 룰(과거 1등 비교, 사용자 정의 룰)은 기존처럼 {@link LottoValidationRule#validate(LottoSet)}로 위임한다.
+ * </ul>
+ *
+ * <p>내장 판정 여부는 정확한 클래스 일치로만 결정한다(하위 클래스가 validate를 바꿨을 수 있으므로 instanceof를 쓰지 않는다).
+ * 판정 순서는 호출자가 순열로 넘기며, 기준 순서({@link #canonicalOrder()})로 실행하면 컴파일 전 목록과 같은 순서/short-circuit이다. 판정
+ * 경로에서 할당은 없다.
+ */
+final class CompiledRulePlan {
+
+  /** 실행 여부를 long 비트로 기록하므로 단계 수 상한은 64 */
+  static final int MAX_STEPS = Long.SIZE;
+
+  private static final byte KIND_DELEGATE = 0;
+  private static final byte KIND_END_DIGIT_SUM = 1;
+  private static final byte KIND_END_DIGIT_DUP = 2;
+  private static final byte KIND_LOW_HIGH = 3;
+  private static final byte KIND_ODD_EVEN = 4;
+  private static final byte KIND_AC = 5;
+  private static final byte KIND_THREE_ZONE = 6;
+
+  /** 번호별 특징: 비트 0~3 끝자리, 비트 4 홀수, 비트 5 저구간(1~22), 비트 6~7 3구간 번호(0~2). 인덱스는 번호-1. */
+  private static final int[] NUMBER_FEATURES = numberFeatures();
+
+  /** 끝자리 10개 니블 각각의 최상위 비트 */
+  private static final long NIBBLE_HIGH_BITS = 0x88_8888_8888L;
+
+  /** 끝자리 10개 니블 각각의 1 */
+  private static final long NIBBLE_ONES = 0x11_1111_1111L;
+
+  private final LottoValidationRule[] rules;
+  private final String[] ids;
+  private final byte[] kinds;
+
+  /** kind별 인자(끝자리 합 하한/상한, 중복 판정용 니블 가산값, AC 기준값) */
+  private final long[] argA;
+
+  private final long[] argB;
+
+  /** 내장 판정 단계 비트(비트 i = i번째 단계가 내장 판정) */
+  private final long builtInSteps;
+
+  /** 설정으로 끈 단계 비트. 룰의 enabled()와 무관하게 판정하지 않는다. */
+  private final long disabledSteps;
+
+  /** 기준 순서(0, 1, 2, ...) = 컴파일 전 목록 순서 */
+  private final int[] canonicalOrder;
+
+  private CompiledRulePlan(List<LottoValidationRule> ordered, long disabledSteps) {
+    int n = ordered.size();
+    if (n > MAX_STEPS) {
+      throw new IllegalArgumentException("too many validation rules: " + n + " > " + MAX_STEPS);
+    }
+    this.rules = ordered.toArray(new LottoValidationRule[0]);
+    this.ids = new String[n];
+    this.kinds = new byte[n];
+    this.argA = new long[n];
+    this.argB = new long[n];
+
+    long builtIn = 0L;
+    for (int i = 0; i < n; i++) {
+      LottoValidationRule rule = rules[i];
+      ids[i] = rule.id();
+      Class<?> type = rule.getClass();
+      if (type == EndDigitSumRule.class) {
+        kinds[i] = KIND_END_DIGIT_SUM;
+        argA[i] = ((EndDigitSumRule) rule).minSum();
+        argB[i] = ((EndDigitSumRule) rule).maxSum();
+      } else if (type == EndDigitDuplicateGte4Rule.class) {
+        // count ≥ t  ⇔  count + (8 - t) 의 비트 3이 켜짐 (count ≤ 6 이므로 니블을 넘치지 않음)
+        int t = Math.max(0, Math.min(8, ((EndDigitDuplicateGte4Rule) rule).threshold()));
+        kinds[i] = KIND_END_DIGIT_DUP;
+        argA[i] = NIBBLE_ONES * (8 - t);
+      } else if (type == LowHighZeroSixRule.class) {
+        kinds[i] = KIND_LOW_HIGH;
+      } else if (type == OddEvenZeroSixRule.class) {
+        kinds[i] = KIND_ODD_EVEN;
+      } else if (type == ArithmeticComplexityMax6Rule.class) {
+        kinds[i] = KIND_AC;
+        argA[i] = ((ArithmeticComplexityMax6Rule) rule).maxRejectedAc();
+      } else if (type == ThreeZoneSuperExtremeRule.class) {
+        kinds[i] = KIND_THREE_ZONE;
+      } else {
+        kinds[i] = KIND_DELEGATE;
+      }
+      if (kinds[i] != KIND_DELEGATE) {
+        builtIn |= 1L << i;
+      }
+    }
+    this.builtInSteps = builtIn;
+    this.disabledSteps = disabledSteps;
+    this.canonicalOrder = new int[n];
+    for (int i = 0; i < n; i++) {
+      canonicalOrder[i] = i;
+    }
+  }
+
+  /** 이미 실행 순서대로 정렬된 룰 목록을 컴파일한다. */
+  static CompiledRulePlan compile(List<LottoValidationRule> ordered) {
+    return new CompiledRulePlan(ordered, 0L);
+  }
+
+  /**
+   * 일부 단계를 끈 채로 컴파일한다.
+   *
+   * @param ordered 실행 순서대로 정렬된 룰 목록
+   * @param disabledSteps 끌 단계 비트(비트 i = i번째 룰)
+   */
+  static CompiledRulePlan compile(List<LottoValidationRule> ordered, long disabledSteps) {
+    return new CompiledRulePlan(ordered, disabledSteps);
+  }
+
+  int size() {
+    return rules.length;
+  }
+
+  String[] ids() {
+    return ids;
+  }
+
+  /** 기준 순서(공유 배열, 수정 금지) */
+  int[] canonicalOrder() {
+    return canonicalOrder;
+  }
+
+  LottoValidationRule rule(int step) {
+    return rules[step];
+  }
+
+  /** 현재 활성 단계 비트(비트 i = i번째 룰 활성). 한 번의 판정은 이 스냅샷 기준으로 수행한다. */
+  long enabledSteps() {
+    long bits = 0L;
+    for (int i = 0; i < rules.length; i++) {
+      if (rules[i].enabled()) {
+        bits |= 1L << i;
+      }
+    }
+    return bits & ~disabledSteps;
+  }
+
+  /**
+   * 활성 단계들을 주어진 순서대로 판정해 처음 실패한 단계 번호를 돌려준다.
+   *
+   * @param set 판정할 조합
+   * @param enabled 판정할 단계 비트({@link #enabledSteps()} 스냅샷 또는 그 부분집합)
+   * @param order 단계 실행 순서(모든 단계의 순열)
+   * @return 처음 실패한 단계 번호, 모두 통과하면 -1
+   */
+  int firstFailure(LottoSet set, long enabled, int[] order) {
+    long mask = set.mask();
+
+    // 특징값: 판정할 내장 단계가 있을 때 한 번만 계산
+    boolean six = Long.bitCount(mask) == LottoSet.PICK_COUNT;
+    int endSum = 0;
+    long digitCounts = 0L;
+    int odd = 0;
+    int low = 0;
+    int zones = 0;
+    long diffs = 0L;
+    if ((enabled & builtInSteps) != 0 && six) {
+      for (long m = mask; m != 0; m &= m - 1) {
+        int bit = Long.numberOfTrailingZeros(m);
+        int f = NUMBER_FEATURES[bit];
+        int digit = f & 0xF;
+        endSum += digit;
+        digitCounts += 1L << (digit << 2);
+        odd += (f >>> 4) & 1;
+        low += (f >>> 5) & 1;
+        zones |= 1 << (f >>> 6);
+        diffs |= mask >>> (bit + 1); // 비트 (d-1) = 차이값 d
+      }
+    }
+
+    for (int i : order) {
+      if ((enabled & (1L << i)) == 0) {
+        continue;
+      }
+      boolean ok =
+          switch (kinds[i]) {
+            case KIND_END_DIGIT_SUM -> six && endSum >= argA[i] && endSum <= argB[i];
+            case KIND_END_DIGIT_DUP -> six && ((digitCounts + argA[i]) & NIBBLE_HIGH_BITS) == 0;
+            case KIND_LOW_HIGH -> six && low != 0 && low != LottoSet.PICK_COUNT;
+            case KIND_ODD_EVEN -> six && odd != 0 && odd != LottoSet.PICK_COUNT;
+            case KIND_AC -> six && Long.bitCount(diffs) > argA[i];
+            case KIND_THREE_ZONE -> six && Integer.bitCount(zones) > 1;
+            default -> rules[i].validate(set);
+          };
+      if (!ok) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static int[] numberFeatures() {
+    int[] features = new int[LottoSet.MAX_NUMBER];
+    for (int n = LottoSet.MIN_NUMBER; n <= LottoSet.MAX_NUMBER; n++) {
+      long bit = LottoSet.bit(n);
+      int zone = (NumberMasks.zone(0) & bit) != 0 ? 0 : (NumberMasks.zone(1) & bit) != 0 ? 1 : 2;
+      features[n - 1] =
+          (n % 10)
+              | ((NumberMasks.ODD & bit) != 0 ? 1 << 4 : 0)
+              | ((NumberMasks.LOW & bit) != 0 ? 1 << 5 : 0)
+              | (zone << 6);
+    }
+    return features;
+  }
+}
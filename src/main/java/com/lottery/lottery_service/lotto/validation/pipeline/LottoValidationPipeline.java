@@ -1,9 +1,14 @@
 package com.lottery.lottery_service.lotto.validation.pipeline;
 
 import com.lottery.lottery_service.lotto.dto.LottoSet;
+import com.lottery.lottery_service.lotto.validation.config.LottoRuleProperties;
+import com.lottery.lottery_service.lotto.validation.config.LottoRuleSettings;
 import com.lottery.lottery_service.lotto.validation.rule.LottoValidationRule;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.Predicate;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import org.springframework.stereotype.Component;
 
@@ -15,19 +20,88 @@ import org.springframework.stereotype.Component;
  * 활성 룰 통과 시 PASS 결과를 반환한다.
  *
  * <p>비책임(Non-Responsibility) - 개별 도메인 판정 로직(과거 1등과 동일 여부 등)은 룰 구현체가 담당한다.
+ *
+ * <p>실행 방식 - 정렬된 룰 목록은 생성 시 {@link CompiledRulePlan}으로 컴파일된다. 내장 룰은 번호 6개를 한 번만 훑어 함께 판정하고, 그 밖의
+ * 룰은 인터페이스로 위임한다. 판정 경로에서는 할당하지 않으며 실행 룰 ID 목록은 결과를 읽을 때 만든다.
+ *
+ * <p>실행 순서 - {@link #validate(LottoSet)}는 항상 @Order 순서로 실행하므로 실패 룰 귀속이 결정적이다. - 사유가 필요 없는
+ * {@link #test(LottoSet)}는 실측 비용/거절률({@link RuleExecutionStats})로 주기적으로 재정렬한 순서를 쓴다. 룰은 부작용 없는
+ * 판정이므로 통과 여부는 순서와 무관하다. - 테스트 등에서 순서를 고정하려면 {@link #pinOrder(List)}/{@link #pinCanonicalOrder()}를
+ * 쓴다.
+ *
+ * <p>설정 변경 - 룰 on/off와 임계값({@link LottoRuleSettings})이 바뀌면 {@link #reconfigure(LottoRuleSettings)}가
+ * 실행 계획을 새로 컴파일해 참조 하나로 교체한다. 각 판정은 시작할 때 읽은 계획 하나로 끝까지 수행하므로, 진행 중인 판정은 이전 계획을, 이후 판정은
+ * 새 계획을 온전히 쓴다. 룰 구성(ID/순서)은 바뀌지 않으므로 단계 번호 기반의 통계/실행 순서는 그대로 이어 쓴다.
  */
 @Component
 public class LottoValidationPipeline {
 
-  /** 실행할 룰 목록. - 생성자에서 불변 정렬 리스트로 고정하여, 런타임 중 외부 변경을 방지한다. */
-  private final List<LottoValidationRule> rules;
+  /** 설정을 적용하기 전의 정렬된 룰 목록(불변). 재설정 시 여기서 다시 만든다. */
+  private final List<LottoValidationRule> baseRules;
+
+  /** 실행 계획. - 불변 객체이며, 설정 변경 시 통째로 교체된다(부분 변경 없음). */
+  private volatile CompiledRulePlan plan;
+
+  /** 현재 계획을 만든 설정 */
+  private volatile LottoRuleSettings settings;
+
+  /** 단계별 비용/거절률 통계 */
+  private final RuleExecutionStats stats;
+
+  /** test()가 쓰는 적응형 순서(통계로 주기적 교체) */
+  private volatile int[] adaptiveOrder;
+
+  /** 고정 순서. null이면 적응형 순서를 쓴다. */
+  private volatile int[] pinnedOrder;
 
   public LottoValidationPipeline(List<LottoValidationRule> rules) {
+    this(rules, LottoRuleSettings.DEFAULTS);
+  }
+
+  /** 스프링 생성자: 기동 시 설정(lotto.rules.*)으로 첫 계획을 만든다. */
+  @Autowired
+  public LottoValidationPipeline(List<LottoValidationRule> rules, LottoRuleProperties properties) {
+    this(rules, properties.toSettings());
+  }
+
+  /**
+   * @param rules 검증 룰
+   * @param settings 룰 on/off/임계값
+   * @throws IllegalArgumentException 설정 값이 올바르지 않은 경우
+   */
+  public LottoValidationPipeline(List<LottoValidationRule> rules, LottoRuleSettings settings) {
     // 스프링이 같은 타입의 빈들을 모두 수집해 주입해준다(List<LottoValidationRule>).
     // @Order/Ordered가 붙은 경우 그 순서대로 실행되도록 정렬한다.
     List<LottoValidationRule> sorted = new ArrayList<>(rules);
     sorted.sort(AnnotationAwareOrderComparator.INSTANCE);
-    this.rules = List.copyOf(sorted); // 불변화
+    this.baseRules = List.copyOf(sorted); // 불변화
+    this.plan = compile(settings);
+    this.settings = settings;
+    this.stats = new RuleExecutionStats(plan.size());
+    this.adaptiveOrder = plan.canonicalOrder();
+  }
+
+  /**
+   * 룰 on/off와 임계값을 바꾼다. 새 계획을 모두 만든 뒤 참조 하나로 교체하므로, 어떤 판정도 일부만 바뀐 룰 구성을 보지 않는다.
+   *
+   * <p>파생 구조(추천 인덱스/추천 풀)는 호출자가 다시 만들어야 한다.
+   *
+   * @param newSettings 새 설정
+   * @throws IllegalArgumentException 설정 값이 올바르지 않은 경우(기존 계획 유지)
+   */
+  public synchronized void reconfigure(LottoRuleSettings newSettings) {
+    this.plan = compile(newSettings);
+    this.settings = newSettings;
+  }
+
+  /** 현재 적용 중인 설정 */
+  public LottoRuleSettings currentSettings() {
+    return settings;
+  }
+
+  /** 등록된 룰 ID(@Order 순서) */
+  public List<String> ruleIds() {
+    return List.of(plan.ids());
   }
 
   /**
@@ -38,26 +112,206 @@ public class LottoValidationPipeline {
    * @throws RuntimeException 룰 수행 중 시스템 예외 발생 시 그대로 전파하여 호출자가 중단 판단
    */
   public LottoValidationResult validate(LottoSet set) {
-    // 디버깅/메트릭을 위해 실행한(시도한) 룰들의 ID를 담아둔다.
-    List<String> executed = new ArrayList<>();
+    // 이번 판정 동안 쓸 계획 스냅샷(도중에 재설정되어도 이 계획으로 끝까지 판정)
+    CompiledRulePlan plan = this.plan;
+
+    // 비활성 룰은 스킵: 이번 판정 동안 쓸 활성 단계 스냅샷
+    long enabled = plan.enabledSteps();
 
-    for (LottoValidationRule rule : rules) {
-      // 비활성 룰은 스킵
-      if (!rule.enabled()) continue;
+    // 첫 실패에서 즉시 중단: 실패한 단계까지가 실행(시도) 목록이 된다
+    int failed = firstFailure(plan, set, enabled, plan.canonicalOrder());
+    if (failed >= 0) {
+      long executed = enabled & (-1L >>> (Long.SIZE - 1 - failed));
+      LottoValidationRule rule = plan.rule(failed);
+      return LottoValidationResult.ofSteps(
+          false, rule.id(), rule.reasonOnFail(), plan.ids(), executed);
+    }
 
-      // 실행 시도 목록에 추가(실패한 경우 어디까지 돌았는지 추적 가능)
-      executed.add(rule.id());
+    // 모든 활성화된 룰을 통과했다면 PASS
+    return LottoValidationResult.ofSteps(true, null, null, plan.ids(), enabled);
+  }
+
+  /**
+   * 통과 여부만 판정한다. {@link #validate(LottoSet)}와 같은 순서/같은 short-circuit 이지만 결과 객체를 만들지 않는다.
+   *
+   * <p>추천 조합 확인처럼 사유가 필요 없는 판정용(C(45,6) 전수 평가는 {@link #bulkTester()}). 실행 순서는 적응형(또는 고정된)
+   * 순서이므로, 어떤 룰이 먼저 거절하는지나 잘못된 입력에 대해 예외/false 중 무엇이 먼저 나오는지는 순서에 따라 달라질 수 있다.
+   *
+   * @param set 판정할 조합
+   * @return 모든 활성 룰을 통과하면 true
+   */
+  public boolean test(LottoSet set) {
+    CompiledRulePlan plan = this.plan;
+    int[] pinned = pinnedOrder;
+    int[] order = pinned != null ? pinned : adaptiveOrder;
+    return firstFailure(plan, set, plan.enabledSteps(), order) < 0;
+  }
 
-      // 실제 판정 수행
-      boolean ok = rule.validate(set);
+  /**
+   * 지금 계획/활성 룰/test() 순서로 고정한, 통계를 남기지 않는 통과 판정기.
+   *
+   * <p>C(45,6) 전수 평가(추천 인덱스 빌드)용이다. 빌드를 {@link #test(LottoSet)}로 돌리면 빌드마다 800만 번씩 룰별 거절 수와 비용
+   * 표본이 쌓여, 메트릭이 추천 판정이 아니라 빌드 횟수를 세게 된다. 판정 결과는 같은 시점의 test()와 같다.
+   *
+   * @return 스레드 안전한 판정기(도중에 재설정되어도 만든 시점의 계획으로 판정)
+   */
+  public Predicate<LottoSet> bulkTester() {
+    CompiledRulePlan plan = this.plan;
+    long enabled = plan.enabledSteps();
+    int[] pinned = pinnedOrder;
+    int[] order = pinned != null ? pinned : adaptiveOrder;
+    return set -> plan.firstFailure(set, enabled, order) < 0;
+  }
 
-      // 첫 실패에서 즉시 중단: 실패한 룰 ID/사유코드를 결과에 담아 반환
-      if (!ok) {
-        return LottoValidationResult.fail(rule.id(), rule.reasonOnFail(), executed);
+  /**
+   * 적용하지 않은 설정으로 만든 대량 판정기. 현재 계획은 바꾸지 않는다.
+   *
+   * <p>설정을 바꾸기 전에 통과 조합이 남는지 세어 보는 용도다.
+   *
+   * @param candidate 확인할 설정
+   * @return 스레드 안전한 판정기(@Order 순서, 통계 없음)
+   * @throws IllegalArgumentException 설정 값이 올바르지 않은 경우
+   */
+  public Predicate<LottoSet> bulkTester(LottoRuleSettings candidate) {
+    CompiledRulePlan plan = compile(candidate);
+    long enabled = plan.enabledSteps();
+    int[] order = plan.canonicalOrder();
+    return set -> plan.firstFailure(set, enabled, order) < 0;
+  }
+
+  /**
+   * test()의 실행 순서를 룰 ID 순서로 고정한다(적응형 재정렬 중단). 목록에 없는 룰은 기준 순서대로 뒤에 붙는다.
+   *
+   * @param ruleIds 앞에 둘 룰 ID 순서
+   * @throws IllegalArgumentException 모르는 룰 ID가 있는 경우
+   */
+  public void pinOrder(List<String> ruleIds) {
+    String[] ids = plan.ids();
+    int[] order = new int[ids.length];
+    boolean[] placed = new boolean[ids.length];
+    int k = 0;
+    for (String id : ruleIds) {
+      int step = Arrays.asList(ids).indexOf(id);
+      if (step < 0) {
+        throw new IllegalArgumentException("unknown rule id: " + id);
+      }
+      if (!placed[step]) {
+        placed[step] = true;
+        order[k++] = step;
       }
     }
+    for (int step : plan.canonicalOrder()) {
+      if (!placed[step]) {
+        order[k++] = step;
+      }
+    }
+    pinnedOrder = order;
+  }
 
-    // 모든 활성화된 룰을 통과했다면 PASS
-    return LottoValidationResult.pass(executed);
+  /** test()도 validate()와 같은 @Order 순서로 고정한다. */
+  public void pinCanonicalOrder() {
+    pinnedOrder = plan.canonicalOrder();
+  }
+
+  /** 고정을 풀고 적응형 순서로 돌아간다. */
+  public void unpinOrder() {
+    pinnedOrder = null;
+  }
+
+  /** test()가 현재 사용하는 실행 순서(룰 ID) */
+  public List<String> currentTestOrder() {
+    int[] pinned = pinnedOrder;
+    int[] order = pinned != null ? pinned : adaptiveOrder;
+    List<String> out = new ArrayList<>(order.length);
+    for (int step : order) {
+      out.add(plan.ids()[step]);
+    }
+    return out;
+  }
+
+  /** 전체 판정 수(validate + test 누적) */
+  public long checkCount() {
+    return stats.checksTotal();
+  }
+
+  /**
+   * 룰별 누적 거절 수와 표본 통계 스냅샷(메트릭 노출용). 순서는 @Order 순서다.
+   *
+   * <p>평균 비용/거절률은 표본 측정값의 지수평활이라 첫 재정렬 전에는 0이다.
+   */
+  public List<RuleMetrics> ruleMetrics() {
+    double[] costs = stats.averageCosts();
+    double[] rates = stats.rejectionRates();
+    List<RuleMetrics> out = new ArrayList<>(plan.size());
+    for (int step : plan.canonicalOrder()) {
+      out.add(
+          new RuleMetrics(plan.ids()[step], stats.rejectionsTotal(step), costs[step], rates[step]));
+    }
+    return out;
+  }
+
+  /**
+   * 룰 1개의 메트릭.
+   *
+   * @param ruleId 룰 ID
+   * @param rejections 이 룰이 처음 실패한 룰이었던 누적 횟수
+   * @param averageNanos 표본 기준 1회 평균 비용(ns)
+   * @param rejectionRate 표본 기준 조건부 거절률(앞 단계 통과 시)
+   */
+  public record RuleMetrics(
+      String ruleId, long rejections, double averageNanos, double rejectionRate) {}
+
+  /**
+   * 주어진 순서로 판정하고 결과를 누적 카운터에 남긴다. 가끔(약 1/{@value RuleExecutionStats#SAMPLE_PERIOD}) 단계별로 시간을 재어
+   * 통계에 넣는다.
+   *
+   * <p>측정할 때도 같은 순서/같은 short-circuit으로 룰을 한 번씩만 호출하므로, 측정 여부가 판정 결과나 룰 호출 횟수를 바꾸지 않는다.
+   */
+  private int firstFailure(CompiledRulePlan plan, LottoSet set, long enabled, int[] order) {
+    int failed =
+        RuleExecutionStats.shouldSample()
+            ? sampledFirstFailure(plan, set, enabled, order)
+            : plan.firstFailure(set, enabled, order);
+    stats.recordOutcome(failed);
+    return failed;
+  }
+
+  private int sampledFirstFailure(CompiledRulePlan plan, LottoSet set, long enabled, int[] order) {
+    int failed = -1;
+    for (int step : order) {
+      long bit = 1L << step;
+      if ((enabled & bit) == 0) {
+        continue;
+      }
+      long started = System.nanoTime();
+      boolean rejected = plan.firstFailure(set, bit, order) >= 0;
+      stats.record(step, System.nanoTime() - started, rejected);
+      if (rejected) {
+        failed = step;
+        break;
+      }
+    }
+
+    int[] reordered = stats.completeSample(plan.canonicalOrder());
+    if (reordered != null) {
+      adaptiveOrder = reordered;
+    }
+    return failed;
+  }
+
+  /** 설정을 검증하고 기본 룰 목록에 적용해 컴파일한다. */
+  private CompiledRulePlan compile(LottoRuleSettings newSettings) {
+    List<String> ids = baseRules.stream().map(LottoValidationRule::id).toList();
+    newSettings.validate(ids);
+
+    List<LottoValidationRule> configured = new ArrayList<>(baseRules.size());
+    long disabled = 0L;
+    for (int i = 0; i < baseRules.size(); i++) {
+      configured.add(newSettings.configure(baseRules.get(i)));
+      if (newSettings.disabledRules().contains(ids.get(i))) {
+        disabled |= 1L << i;
+      }
+    }
+    return CompiledRulePlan.compile(List.copyOf(configured), disabled);
   }
 }
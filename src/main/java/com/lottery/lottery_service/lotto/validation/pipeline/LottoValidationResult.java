@@ -12,6 +12,8 @@ import java.util.List;
  * 코드(룰이 제공, 통과 시 null) - executedRuleIds: 실행(시도)된 룰 ID의 순서 리스트
  *
  * <p>확장 여지 - 필요 시 경고(warn) 개념이나 추가 메타(소요시간 등)를 붙일 수 있다(내부용).
+ *
+ * <p>성능 - 파이프라인이 만든 결과는 실행 룰 ID 목록을 비트로만 들고 있다가, 누군가 읽을 때 한 번 만든다.
  */
 public class LottoValidationResult {
 
@@ -24,8 +26,18 @@ public class LottoValidationResult {
   /** 실패 사유 코드(통과 시 null) */
   private final String failedReasonCode;
 
-  /** 실행(시도)된 룰들의 ID 목록(실패 시 실패 지점까지 포함) */
-  private final List<String> executedRuleIds;
+  /**
+   * 실행(시도)된 룰들의 ID 목록(실패 시 실패 지점까지 포함).
+   *
+   * <p>파이프라인이 만든 결과는 처음 조회할 때 stepIds/executedSteps로부터 만든다(판정 경로에서는 목록을 할당하지 않음).
+   */
+  private List<String> executedRuleIds;
+
+  /** 지연 생성용: 실행 계획 단계별 룰 ID(공유 배열, 읽기 전용) */
+  private final String[] stepIds;
+
+  /** 지연 생성용: 실행된 단계 비트(비트 i = i번째 단계 실행) */
+  private final long executedSteps;
 
   private LottoValidationResult(
       boolean pass, String failedRuleId, String failedReasonCode, List<String> executedRuleIds) {
@@ -35,6 +47,21 @@ public class LottoValidationResult {
     // 불변 리스트로 보호(외부 수정 방지)
     this.executedRuleIds =
         executedRuleIds == null ? List.of() : Collections.unmodifiableList(executedRuleIds);
+    this.stepIds = null;
+    this.executedSteps = 0L;
+  }
+
+  private LottoValidationResult(
+      boolean pass,
+      String failedRuleId,
+      String failedReasonCode,
+      String[] stepIds,
+      long executedSteps) {
+    this.pass = pass;
+    this.failedRuleId = failedRuleId;
+    this.failedReasonCode = failedReasonCode;
+    this.stepIds = stepIds;
+    this.executedSteps = executedSteps;
   }
 
   /** 모든 활성화된 룰을 통과한 경우 */
@@ -48,6 +75,21 @@ public class LottoValidationResult {
     return new LottoValidationResult(false, failedRuleId, failedReasonCode, executedRuleIds);
   }
 
+  /**
+   * 컴파일된 실행 계획의 판정 결과. 실행 룰 목록은 {@link #getExecutedRuleIds()} 호출 시에만 만든다.
+   *
+   * @param stepIds 단계별 룰 ID(호출자가 수정하지 않는 공유 배열)
+   * @param executedSteps 실행된 단계 비트
+   */
+  static LottoValidationResult ofSteps(
+      boolean pass,
+      String failedRuleId,
+      String failedReasonCode,
+      String[] stepIds,
+      long executedSteps) {
+    return new LottoValidationResult(pass, failedRuleId, failedReasonCode, stepIds, executedSteps);
+  }
+
   public boolean isPass() {
     return pass;
   }
@@ -61,7 +103,18 @@ public class LottoValidationResult {
   }
 
   public List<String> getExecutedRuleIds() {
-    return executedRuleIds;
+    List<String> ids = executedRuleIds;
+    if (ids == null) {
+      // 같은 값을 만들 뿐이므로 경합 시 중복 생성돼도 무방하다
+      String[] executed = new String[Long.bitCount(executedSteps)];
+      int i = 0;
+      for (long e = executedSteps; e != 0; e &= e - 1) {
+        executed[i++] = stepIds[Long.numberOfTrailingZeros(e)];
+      }
+      ids = List.of(executed);
+      executedRuleIds = ids;
+    }
+    return ids;
   }
 
   @Override
@@ -76,7 +129,7 @@ public class LottoValidationResult {
         + failedReasonCode
         + '\''
         + ", executedRuleIds="
-        + executedRuleIds
+        + getExecutedRuleIds()
         + '}';
   }
 }
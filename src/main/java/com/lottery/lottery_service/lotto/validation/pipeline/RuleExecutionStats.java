@@ -0,0 +1,164 @@
+package com.lottery.lottery_service.lotto.validation.pipeline;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * [내부 모델] 실행 계획 단계별 비용/거절률 통계와 그로부터 계산한 실행 순서.
+ *
+ * <p>수집:
+ *
+ * <ul>
+ *   <li>판정 {@value #SAMPLE_PERIOD}회 중 1회꼴로만 단계별 소요시간(nanoTime)을 잰다(측정 자체의 비용을 낮추기 위함).
+ *   <li>카운터는 {@link LongAdder}(스트라이프)라 여러 스레드가 동시에 기록해도 한 캐시 라인을 두고 경합하지 않는다.
+ *   <li>측정도 실제 판정과 같은 순서/같은 short-circuit으로 하므로, 거절률은 "앞 단계를 통과했을 때의" 조건부 거절률이다.
+ * </ul>
+ *
+ * <p>재정렬: 측정 {@value #REORDER_INTERVAL}회마다 구간 통계를 지수평활(EWMA)로 누적하고, 기대 비용이 최소가 되도록 "평균 비용 / 거절률"
+ * 오름차순으로 정렬한다(싸고 잘 거절하는 룰이 앞). 거절한 적 없는 단계는 원래 순서대로 맨 뒤에 둔다.
+ *
+ * <p>누적 카운터: 표본과 별개로 모든 판정의 횟수와 단계별 거절 횟수를 센다(판정당 LongAdder 증가 1~2회). 메트릭 노출용이며 재정렬에는 쓰지
+ * 않는다.
+ */
+final class RuleExecutionStats {
+
+  /** 측정 주기(2의 거듭제곱) */
+  static final int SAMPLE_PERIOD = 1024;
+
+  /** 재정렬 주기(측정 횟수 기준) */
+  static final int REORDER_INTERVAL = 256;
+
+  /** 지수평활 계수(새 구간 반영 비율) */
+  private static final double ALPHA = 0.5;
+
+  private final LongAdder[] evaluations;
+  private final LongAdder[] rejections;
+  private final LongAdder[] nanos;
+
+  /** 전체 판정 수 / 단계별 거절 수(누적, 초기화하지 않음) */
+  private final LongAdder checksTotal = new LongAdder();
+
+  private final LongAdder[] rejectionsTotal;
+
+  private final AtomicLong samples = new AtomicLong();
+  private final AtomicBoolean reordering = new AtomicBoolean(false);
+
+  /** 평활된 단계별 평균 비용(ns)과 거절률. 재정렬 스레드(reordering 보유자)만 읽고 쓴다. */
+  private final double[] avgCost;
+
+  private final double[] rejectRate;
+
+  RuleExecutionStats(int steps) {
+    this.evaluations = adders(steps);
+    this.rejections = adders(steps);
+    this.nanos = adders(steps);
+    this.rejectionsTotal = adders(steps);
+    this.avgCost = new double[steps];
+    this.rejectRate = new double[steps];
+  }
+
+  /** 이번 판정을 측정할지(약 1/{@value #SAMPLE_PERIOD} 확률) */
+  static boolean shouldSample() {
+    return (ThreadLocalRandom.current().nextInt() & (SAMPLE_PERIOD - 1)) == 0;
+  }
+
+  /** 단계 1회 실행 기록 */
+  void record(int step, long elapsedNanos, boolean rejected) {
+    evaluations[step].increment();
+    nanos[step].add(elapsedNanos);
+    if (rejected) {
+      rejections[step].increment();
+    }
+  }
+
+  /** 판정 1회의 결과 기록(표본 여부와 무관) */
+  void recordOutcome(int failedStep) {
+    checksTotal.increment();
+    if (failedStep >= 0) {
+      rejectionsTotal[failedStep].increment();
+    }
+  }
+
+  long checksTotal() {
+    return checksTotal.sum();
+  }
+
+  long rejectionsTotal(int step) {
+    return rejectionsTotal[step].sum();
+  }
+
+  /**
+   * 측정 1회가 끝났음을 알린다. 재정렬 주기에 도달했고 다른 스레드가 재정렬 중이 아니면 새 순서를 계산해 돌려준다.
+   *
+   * @param canonical 기준(@Order) 순서. 동률/통계 부족 시 이 순서를 따른다.
+   * @return 새 순서, 이번에 재정렬하지 않으면 null
+   */
+  int[] completeSample(int[] canonical) {
+    if (samples.incrementAndGet() % REORDER_INTERVAL != 0) {
+      return null;
+    }
+    if (!reordering.compareAndSet(false, true)) {
+      return null;
+    }
+    try {
+      return reorder(canonical);
+    } finally {
+      reordering.set(false);
+    }
+  }
+
+  /** 단계별 평균 비용(ns) 스냅샷(진단용) */
+  double[] averageCosts() {
+    return avgCost.clone();
+  }
+
+  /** 단계별 조건부 거절률 스냅샷(진단용) */
+  double[] rejectionRates() {
+    return rejectRate.clone();
+  }
+
+  private int[] reorder(int[] canonical) {
+    for (int i = 0; i < avgCost.length; i++) {
+      long n = evaluations[i].sumThenReset();
+      long cost = nanos[i].sumThenReset();
+      long rejected = rejections[i].sumThenReset();
+      if (n > 0) {
+        avgCost[i] = blend(avgCost[i], (double) cost / n);
+        rejectRate[i] = blend(rejectRate[i], (double) rejected / n);
+      }
+    }
+
+    Integer[] boxed = new Integer[canonical.length];
+    for (int k = 0; k < canonical.length; k++) {
+      boxed[k] = canonical[k];
+    }
+    // 안정 정렬: 점수가 같으면 기준 순서 유지
+    Arrays.sort(boxed, (a, b) -> Double.compare(score(a), score(b)));
+
+    int[] order = new int[boxed.length];
+    for (int k = 0; k < boxed.length; k++) {
+      order[k] = boxed[k];
+    }
+    return order;
+  }
+
+  /** 기대 비용 기준 점수: 거절 1건을 얻는 데 드는 평균 비용. 낮을수록 앞에 둔다. */
+  private double score(int step) {
+    return rejectRate[step] > 0 ? avgCost[step] / rejectRate[step] : Double.POSITIVE_INFINITY;
+  }
+
+  private static double blend(double previous, double window) {
+    return previous == 0 ? window : previous + ALPHA * (window - previous);
+  }
+
+  private static LongAdder[] adders(int n) {
+    LongAdder[] out = new LongAdder[n];
+    for (int i = 0; i < n; i++) {
+      out[i] = new LongAdder();
+    }
+    return out;
+  }
+}
@@ -1,18 +1,34 @@
 package com.lottery.lottery_service.lotto.validation.rule;
 
 import com.lottery.lottery_service.lotto.dto.LottoSet;
-import java.util.*;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 /**
  * AC(산술적 복잡도) <= 6 이면 FAIL. - 정의: 정렬된 6개 수의 모든 (aj-ai) 차이값의 서로 다른 개수. - 최근 데이터 기준 AC≤6은 드물지만 안전 장치로
  * 하드컷.
+ *
+ * <p>구현: 조합 마스크를 각 번호 a만큼 오른쪽으로 밀면 (a보다 큰 번호 - a)의 차이값이 비트로 남는다. 이를 모두 OR 하면 "차이값 집합" 마스크가 되고,
+ * popcount가 곧 서로 다른 차이값 개수다(정렬/Set 불필요).
  */
 @Component
 @Order(50)
 public class ArithmeticComplexityMax6Rule implements LottoValidationRule {
 
+  /** AC가 이 값 이하면 FAIL(설정이 없을 때) */
+  public static final int DEFAULT_MAX_REJECTED_AC = 6;
+
+  private final int maxRejectedAc;
+
+  public ArithmeticComplexityMax6Rule() {
+    this(DEFAULT_MAX_REJECTED_AC);
+  }
+
+  /** @param maxRejectedAc AC가 이 값 이하면 FAIL */
+  public ArithmeticComplexityMax6Rule(int maxRejectedAc) {
+    this.maxRejectedAc = maxRejectedAc;
+  }
+
   @Override
   public String id() {
     return "ArithmeticComplexityMax6";
@@ -28,26 +44,35 @@ public class ArithmeticComplexityMax6Rule implements LottoValidationRule {
     return true;
   }
 
+  /** FAIL로 판정하는 AC 상한(포함), 즉 통과하려면 AC가 이 값보다 커야 한다 */
+  public int maxRejectedAc() {
+    return maxRejectedAc;
+  }
+
   @Override
   public boolean validate(LottoSet set) {
-    List<Integer> nums = set.getNumbers();
-    if (nums == null || nums.size() != 6) return false;
-
-    List<Integer> sorted = new ArrayList<>(nums);
-    sorted.sort(Integer::compareTo);
-
-    Set<Integer> diffs = new HashSet<>();
-    for (int i = 0; i < 6; i++) {
-      Integer ai = sorted.get(i);
-      if (ai == null) return false;
-      for (int j = i + 1; j < 6; j++) {
-        Integer aj = sorted.get(j);
-        if (aj == null) return false;
-        diffs.add(aj - ai);
-      }
+    long mask = set.mask();
+    if (Long.bitCount(mask) != LottoSet.PICK_COUNT) {
+      return false;
     }
 
-    int ac = diffs.size();
-    return ac > 6; // AC <= 6 이면 FAIL
+    int ac = acOf(mask);
+    return ac > maxRejectedAc; // 기본: AC <= 6 이면 FAIL
+  }
+
+  /**
+   * 서로 다른 양의 차이값 개수를 계산한다.
+   *
+   * @param mask 조합 비트마스크(비트 n-1 = 번호 n)
+   * @return 차이값 종류 수
+   */
+  public static int acOf(long mask) {
+    // 비트 (d-1) = 차이값 d 존재
+    long diffs = 0L;
+    for (long m = mask; m != 0; m &= m - 1) {
+      int a = LottoSet.lowestNumber(m);
+      diffs |= mask >>> a;
+    }
+    return Long.bitCount(diffs);
   }
 }
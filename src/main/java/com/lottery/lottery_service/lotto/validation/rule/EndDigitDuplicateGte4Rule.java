@@ -1,18 +1,27 @@
 package com.lottery.lottery_service.lotto.validation.rule;
 
 import com.lottery.lottery_service.lotto.dto.LottoSet;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
-/** [룰] 끝자리(1의 자리) 중 같은 값이 4개 이상 나오면 FAIL. - 보너스 번호는 미포함. */
+/** [룰] 끝자리(1의 자리) 중 같은 값이 4개(설정 가능) 이상 나오면 FAIL. - 보너스 번호는 미포함. */
 @Component
 @Order(20) // 합 룰 다음에 가볍게 확인
 public class EndDigitDuplicateGte4Rule implements LottoValidationRule {
 
-  private static final int THRESHOLD = 4;
+  /** 기본 기준 개수(설정이 없을 때) */
+  public static final int DEFAULT_THRESHOLD = 4;
+
+  private final int threshold;
+
+  public EndDigitDuplicateGte4Rule() {
+    this(DEFAULT_THRESHOLD);
+  }
+
+  /** @param threshold 같은 끝자리가 이 개수 이상이면 FAIL */
+  public EndDigitDuplicateGte4Rule(int threshold) {
+    this.threshold = threshold;
+  }
 
   @Override
   public String id() {
@@ -29,17 +38,23 @@ public class EndDigitDuplicateGte4Rule implements LottoValidationRule {
     return true;
   }
 
+  /** 같은 끝자리가 이 개수 이상이면 FAIL */
+  public int threshold() {
+    return threshold;
+  }
+
   @Override
   public boolean validate(LottoSet set) {
-    List<Integer> nums = set.getNumbers();
-    if (nums == null || nums.size() != 6) return false;
-
-    Map<Integer, Integer> cnt = new HashMap<>();
-    for (Integer n : nums) {
-      if (n == null) return false;
-      int d = n % 10;
-      cnt.put(d, cnt.getOrDefault(d, 0) + 1);
-      if (cnt.get(d) >= THRESHOLD) return false; // FAIL
+    long mask = set.mask();
+    if (Long.bitCount(mask) != LottoSet.PICK_COUNT) {
+      return false;
+    }
+
+    // 끝자리별 마스크와 AND 후 popcount → 해당 끝자리 개수
+    for (int d = 0; d <= 9; d++) {
+      if (Long.bitCount(mask & NumberMasks.endDigit(d)) >= threshold) {
+        return false; // FAIL
+      }
     }
     return true; // PASS
   }
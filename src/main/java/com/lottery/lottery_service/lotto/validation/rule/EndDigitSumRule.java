@@ -1,17 +1,36 @@
 package com.lottery.lottery_service.lotto.validation.rule;
 
 import com.lottery.lottery_service.lotto.dto.LottoSet;
-import java.util.List;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
-/** [룰] 끝자리 합이 14~42(포함) 안이면 PASS, 그 외 FAIL. - 보너스 번호는 미포함 (6개 본 숫자만). */
+/** [룰] 끝자리 합이 14~42(포함, 설정 가능) 안이면 PASS, 그 외 FAIL. - 보너스 번호는 미포함 (6개 본 숫자만). */
 @Component
 @Order(10) // 가볍고 빠른 체크이므로 앞쪽에 배치
 public class EndDigitSumRule implements LottoValidationRule {
 
-  private static final int MIN = 14;
-  private static final int MAX = 42;
+  /** 기본 허용 범위(설정이 없을 때) */
+  public static final int DEFAULT_MIN = 14;
+
+  public static final int DEFAULT_MAX = 42;
+
+  private final int min;
+  private final int max;
+
+  public EndDigitSumRule() {
+    this(DEFAULT_MIN, DEFAULT_MAX);
+  }
+
+  /**
+   * 허용 범위를 지정해 만든다(설정 변경 시 파이프라인이 새 인스턴스로 교체).
+   *
+   * @param min 허용 끝자리 합 하한(포함)
+   * @param max 허용 끝자리 합 상한(포함)
+   */
+  public EndDigitSumRule(int min, int max) {
+    this.min = min;
+    this.max = max;
+  }
 
   @Override
   public String id() {
@@ -20,24 +39,36 @@ public class EndDigitSumRule implements LottoValidationRule {
 
   @Override
   public String reasonOnFail() {
-    return "END_SUM_OUT_OF_RANGE"; // 14~42 밖
+    return "END_SUM_OUT_OF_RANGE"; // 기본 14~42 밖
   }
 
   @Override
   public boolean enabled() {
-    return true; // 토글 필요하면 환경변수 연동 가능
+    return true; // on/off는 lotto.rules.disabled(파이프라인 설정)로 제어
+  }
+
+  /** 허용 끝자리 합 하한(포함). 컴파일 실행 계획이 같은 기준으로 판정하도록 공개한다. */
+  public int minSum() {
+    return min;
+  }
+
+  /** 허용 끝자리 합 상한(포함) */
+  public int maxSum() {
+    return max;
   }
 
   @Override
   public boolean validate(LottoSet set) {
-    List<Integer> nums = set.getNumbers();
-    if (nums == null || nums.size() != 6) return false;
+    long mask = set.mask();
+    if (Long.bitCount(mask) != LottoSet.PICK_COUNT) {
+      return false;
+    }
 
+    // 끝자리 d인 번호 개수 × d 를 더하면 끝자리 합 (비트 순회/나눗셈 없음)
     int sum = 0;
-    for (Integer n : nums) {
-      if (n == null) return false;
-      sum += (n % 10);
+    for (int d = 1; d <= 9; d++) {
+      sum += d * Long.bitCount(mask & NumberMasks.endDigit(d));
     }
-    return (sum >= MIN && sum <= MAX);
+    return (sum >= min && sum <= max);
   }
 }
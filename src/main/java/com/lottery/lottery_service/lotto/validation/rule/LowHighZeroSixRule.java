@@ -1,7 +1,6 @@
 package com.lottery.lottery_service.lotto.validation.rule;
 
 import com.lottery.lottery_service.lotto.dto.LottoSet;
-import java.util.List;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
@@ -27,15 +26,13 @@ public class LowHighZeroSixRule implements LottoValidationRule {
 
   @Override
   public boolean validate(LottoSet set) {
-    List<Integer> nums = set.getNumbers();
-    if (nums == null || nums.size() != 6) return false;
-
-    int low = 0; // 1..22
-    for (Integer n : nums) {
-      if (n == null) return false;
-      if (1 <= n && n <= 22) low++;
+    long mask = set.mask();
+    if (Long.bitCount(mask) != LottoSet.PICK_COUNT) {
+      return false;
     }
-    int high = 6 - low; // 23..45
+
+    int low = Long.bitCount(mask & NumberMasks.LOW); // 1..22
+    int high = LottoSet.PICK_COUNT - low; // 23..45
     // 극단 패턴만 컷
     return !(low == 0 || high == 0);
   }
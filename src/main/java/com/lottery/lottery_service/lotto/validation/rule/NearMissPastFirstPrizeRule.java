@@ -0,0 +1,74 @@
+package com.lottery.lottery_service.lotto.validation.rule;
+
+import com.lottery.lottery_service.lotto.dto.LottoSet;
+import com.lottery.lottery_service.lotto.validation.cache.LottoWinnerDataCache;
+import com.lottery.lottery_service.lotto.validation.cache.SubsetIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * [룰 구현체] 과거 1등 당첨 조합 중 하나와 번호가 k개(기본 5개) 이상 겹치면 불허.
+ *
+ * <p>판정 로직: 당첨 조합 약 1,100건을 훑지 않고, 캐시의 k개 부분집합 색인({@link SubsetIndex})에 후보의 부분집합 C(6,k)개만
+ * 조회한다(k=5면 해시 조회 6회, 할당 없음). 새 회차가 캐시에 추가되면 색인도 함께 갱신된다.
+ *
+ * <p>비교 범위: 보너스 번호는 비교 대상이 아님. 완전 일치(6개)는 {@link NotEqualToPastFirstPrizeRule}이 먼저 거른다.
+ */
+@Component
+@Order(2) // 완전 일치 룰 바로 다음
+public class NearMissPastFirstPrizeRule implements LottoValidationRule {
+
+  /** 기본 겹침 기준(설정이 없을 때) */
+  public static final int DEFAULT_MIN_SHARED = 5;
+
+  private final LottoWinnerDataCache cache;
+  private final int minShared;
+
+  @Autowired
+  public NearMissPastFirstPrizeRule(LottoWinnerDataCache cache) {
+    this(cache, DEFAULT_MIN_SHARED);
+  }
+
+  /**
+   * @param cache 당첨 조합 캐시
+   * @param minShared 이 개수 이상 겹치면 FAIL({@value SubsetIndex#MIN_SHARED}~{@value
+   *     SubsetIndex#MAX_SHARED})
+   * @throws IllegalArgumentException 기준이 범위를 벗어난 경우
+   */
+  public NearMissPastFirstPrizeRule(LottoWinnerDataCache cache, int minShared) {
+    if (minShared < SubsetIndex.MIN_SHARED || minShared > SubsetIndex.MAX_SHARED) {
+      throw new IllegalArgumentException("min shared count must be 4~6: " + minShared);
+    }
+    this.cache = cache;
+    this.minShared = minShared;
+  }
+
+  @Override
+  public String id() {
+    return "NEAR_MISS_PAST_FIRST_PRIZE";
+  }
+
+  @Override
+  public String reasonOnFail() {
+    return "SHARES_K_WITH_PAST_FIRST_PRIZE";
+  }
+
+  /** 이 개수 이상 겹치면 FAIL */
+  public int minShared() {
+    return minShared;
+  }
+
+  /** 설정 변경 시 같은 캐시로 새 인스턴스를 만들기 위해 공개한다. */
+  public LottoWinnerDataCache cache() {
+    return cache;
+  }
+
+  @Override
+  public boolean validate(LottoSet set) {
+    if (set.size() != LottoSet.PICK_COUNT) {
+      throw new IllegalArgumentException("LottoSet must contain exactly 6 numbers");
+    }
+    return !cache.subsetIndex(minShared).sharesWithAny(set.mask());
+  }
+}
@@ -2,22 +2,18 @@ package com.lottery.lottery_service.lotto.validation.rule;
 
 import com.lottery.lottery_service.lotto.dto.LottoSet;
 import com.lottery.lottery_service.lotto.validation.cache.LottoWinnerDataCache;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.stream.Collectors;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 /**
  * [룰 구현체] 과거 "1등 당첨 조합"과 "완전히 동일"한 조합을 불허.
  *
- * <p>판정 로직: 1) LottoSet의 숫자 6개를 복사 후 오름차순 정렬. 2) 공백(" ")으로 조인하여 정규화 문자열 생성(예: "1 3 12 25 34 41").
- * 3) LottoWinnerDataCache.contains(normalized) == true 이면 FAIL(false), 아니면 PASS(true).
+ * <p>판정 로직: 1) LottoSet의 숫자가 정확히 6개인지 확인. 2) 비트마스크 자체가 정규화 키이므로(순서 무관) 그대로
+ * LottoWinnerDataCache.contains(set) 조회. 3) true 이면 FAIL(false), 아니면 PASS(true).
  *
  * <p>비교 범위: - 보너스 번호는 비교 대상이 아님(과거 1등 6개만 비교).
  *
- * <p>주의: - 정규화 포맷은 LottoWinnerData.winnerData와 "정확히 동일"해야 매칭된다.
+ * <p>주의: - 정렬/문자열 조인/해시 계산 없이 long 비교만으로 끝난다(후보당 할당 없음).
  */
 @Component
 @Order(1)
@@ -42,20 +38,12 @@ public class NotEqualToPastFirstPrizeRule implements LottoValidationRule {
 
   @Override
   public boolean validate(LottoSet set) {
-    // 1) 입력 방어: null / 사이즈 체크
-    List<Integer> nums = set.getNumbers(); // List<Integer>
-    if (nums == null || nums.size() != 6) {
+    // 1) 입력 방어: 사이즈 체크
+    if (set.size() != LottoSet.PICK_COUNT) {
       throw new IllegalArgumentException("LottoSet must contain exactly 6 numbers");
     }
 
-    // 2) 방어적 복사 후 오름차순 정렬 (원본 훼손 금지)
-    List<Integer> copy = new ArrayList<>(nums);
-    Collections.sort(copy);
-
-    // 3) 정규화 문자열 생성: "1 3 12 25 34 41"
-    String normalized = copy.stream().map(String::valueOf).collect(Collectors.joining(" "));
-
-    // 4) 캐시에 존재하면 과거 1등과 완전 동일 → FAIL(false), 아니면 PASS(true)
-    return !cache.contains(normalized);
+    // 2) 캐시에 존재하면 과거 1등과 완전 동일 → FAIL(false), 아니면 PASS(true)
+    return !cache.contains(set);
   }
 }
@@ -0,0 +1,60 @@
+package com.lottery.lottery_service.lotto.validation.rule;
+
+import com.lottery.lottery_service.lotto.dto.LottoSet;
+
+/**
+ * 룰들이 공유하는 "번호 구간 비트마스크" 상수 모음.
+ *
+ * <p>{@link LottoSet#mask()}와 AND 후 popcount 한 번이면 구간별 개수가 나오므로, 룰 안에서 Map/Set/정렬 없이 판정할 수 있다.
+ */
+public final class NumberMasks {
+
+  /** 저(低) 구간 1~22 */
+  public static final long LOW = range(1, 22);
+
+  /** 홀수 번호 */
+  public static final long ODD = oddMask();
+
+  /** 3구간: [0]=1~15, [1]=16~30, [2]=31~45 */
+  private static final long[] ZONES = {range(1, 15), range(16, 30), range(31, 45)};
+
+  /** 끝자리(1의 자리) d(0~9)를 가진 번호들의 마스크 */
+  private static final long[] END_DIGITS = endDigitMasks();
+
+  private NumberMasks() {}
+
+  /** 3구간 중 i번째(0~2) 구간 마스크 */
+  public static long zone(int i) {
+    return ZONES[i];
+  }
+
+  /** 끝자리가 d(0~9)인 번호들의 마스크 */
+  public static long endDigit(int d) {
+    return END_DIGITS[d];
+  }
+
+  /** [from, to] 구간(양끝 포함)의 번호 마스크 */
+  public static long range(int from, int to) {
+    long m = 0L;
+    for (int n = from; n <= to; n++) {
+      m |= LottoSet.bit(n);
+    }
+    return m;
+  }
+
+  private static long oddMask() {
+    long m = 0L;
+    for (int n = LottoSet.MIN_NUMBER; n <= LottoSet.MAX_NUMBER; n += 2) {
+      m |= LottoSet.bit(n);
+    }
+    return m;
+  }
+
+  private static long[] endDigitMasks() {
+    long[] masks = new long[10];
+    for (int n = LottoSet.MIN_NUMBER; n <= LottoSet.MAX_NUMBER; n++) {
+      masks[n % 10] |= LottoSet.bit(n);
+    }
+    return masks;
+  }
+}
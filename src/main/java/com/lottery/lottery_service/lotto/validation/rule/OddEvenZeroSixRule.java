@@ -1,7 +1,6 @@
 package com.lottery.lottery_service.lotto.validation.rule;
 
 import com.lottery.lottery_service.lotto.dto.LottoSet;
-import java.util.List;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
@@ -27,15 +26,13 @@ public class OddEvenZeroSixRule implements LottoValidationRule {
 
   @Override
   public boolean validate(LottoSet set) {
-    List<Integer> nums = set.getNumbers();
-    if (nums == null || nums.size() != 6) return false;
-
-    int even = 0;
-    for (Integer n : nums) {
-      if (n == null) return false;
-      if ((n % 2) == 0) even++;
+    long mask = set.mask();
+    if (Long.bitCount(mask) != LottoSet.PICK_COUNT) {
+      return false;
     }
-    int odd = 6 - even;
+
+    int odd = Long.bitCount(mask & NumberMasks.ODD);
+    int even = LottoSet.PICK_COUNT - odd;
     // 극단 패턴만 컷
     return !(even == 0 || odd == 0);
   }
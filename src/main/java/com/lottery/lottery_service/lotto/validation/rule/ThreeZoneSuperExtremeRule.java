@@ -1,7 +1,6 @@
 package com.lottery.lottery_service.lotto.validation.rule;
 
 import com.lottery.lottery_service.lotto.dto.LottoSet;
-import java.util.List;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
@@ -27,18 +26,15 @@ public class ThreeZoneSuperExtremeRule implements LottoValidationRule {
 
   @Override
   public boolean validate(LottoSet set) {
-    List<Integer> nums = set.getNumbers();
-    if (nums == null || nums.size() != 6) return false;
-
-    int z1 = 0, z2 = 0, z3 = 0;
-    for (Integer n : nums) {
-      if (n == null) return false;
-      if (1 <= n && n <= 15) z1++;
-      else if (16 <= n && n <= 30) z2++;
-      else if (31 <= n && n <= 45) z3++;
-      else return false; // 범위 밖
+    long mask = set.mask();
+    if (Long.bitCount(mask) != LottoSet.PICK_COUNT) {
+      return false;
     }
-    // 슈퍼 극단만 컷(6–0–0)
-    return !(z1 == 6 || z2 == 6 || z3 == 6);
+
+    // 범위 밖 번호는 LottoSet 생성 시점에 이미 차단된다.
+    // 슈퍼 극단만 컷(6–0–0): 한 구간 마스크가 조합 전체를 덮으면 FAIL
+    return (mask & ~NumberMasks.zone(0)) != 0
+        && (mask & ~NumberMasks.zone(1)) != 0
+        && (mask & ~NumberMasks.zone(2)) != 0;
   }
 }
@@ -0,0 +1,402 @@
+package com.lottery.lottery_service.lotto.writebehind;
+
+import com.lottery.lottery_service.lotto.dto.LottoSet;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * [내부 모델] 추천 기록 write-behind용 로컬 저널. 메모리 맵 파일 하나를 링 버퍼로 쓴다.
+ *
+ * <p>파일 구조: 헤더({@value #HEADER_SIZE}바이트: 매직, 맨 앞 대기 레코드의 순번과 위치) 뒤에 {@code [길이][CRC32][순번][본문]}
+ * 레코드가 이어진다. 추가는 락 안에서 위치를 잡고 바로 쓰며, 디스크 반영(force)은 {@link #force()}가 모아서 한 번에 한다. 호출자는
+ * {@link #awaitForced(long, long)}로 자기 레코드가 force에 포함될 때까지 기다린다(그룹 fsync).
+ *
+ * <p>DB에 반영된 레코드는 헤더의 맨 앞 위치를 옮겨 표시하고, 그 앞 공간은 바로 다시 쓴다. 파일 끝에 레코드가 들어가지 않으면 끝 표시를 남기고 데이터
+ * 영역 처음으로 돌아간다. 따라서 대기 레코드가 계속 남아 있어도, 밀린 양이 파일 크기를 넘지 않는 한 저널은 차지 않는다.
+ *
+ * <p>재시작 시에는 헤더의 위치에서 시작해 순번이 1씩 이어지고 CRC가 맞는 레코드까지만 읽는다. 이전 바퀴에 쓰인 레코드는 순번이 맞지 않고, 쓰다 만
+ * 레코드는 CRC가 맞지 않으므로 무시된다.
+ *
+ * <p>맨 앞 위치 기록보다 DB 커밋이 먼저이므로, 그 사이에 죽으면 재시작 때 같은 레코드가 한 번 더 들어갈 수 있다(at-least-once).
+ */
+final class RecordJournal implements Closeable {
+
+  static final int HEADER_SIZE = 32;
+
+  /** 길이(int) + CRC(int) */
+  private static final int RECORD_OVERHEAD = 8;
+
+  private static final int MAGIC = 0x4C524A32; // "LRJ2"
+  private static final int HEAD_SEQ_OFFSET = 8;
+  private static final int HEAD_OFFSET = 16;
+
+  /** 길이 자리의 이 값은 "여기서 데이터 영역 처음으로 돌아간다"는 끝 표시다 */
+  private static final int WRAP = -1;
+
+  /** 비회원 기록의 member_id 자리 */
+  private static final long GUEST = -1L;
+
+  private static final byte[] ZEROS = new byte[4096];
+
+  private final FileChannel channel;
+  private final MappedByteBuffer buffer;
+  private final int capacity;
+
+  /** DB 반영 대기 레코드(추가 순서) */
+  private final ArrayDeque<Pending> pending = new ArrayDeque<>();
+
+  /** 맨 앞 대기 레코드의 위치와 순번. 대기 레코드가 없으면 다음에 쓸 위치/순번과 같다. */
+  private int head;
+
+  private long headSeq;
+
+  private int writePosition;
+  private long appendedSeq;
+  private long forcedSeq;
+  private boolean headerDirty;
+  private boolean sealed;
+
+  /** 추천 1번에 해당하는 저널 레코드 */
+  record Entry(
+      Long memberId, int round, String source, LocalDateTime recommendedAt, List<LottoSet> sets) {}
+
+  /** DB 반영 대기 레코드와 그 레코드가 끝나는 파일 위치 */
+  record Pending(Entry entry, int endPosition) {}
+
+  private RecordJournal(FileChannel channel, MappedByteBuffer buffer, int capacity) {
+    this.channel = channel;
+    this.buffer = buffer;
+    this.capacity = capacity;
+  }
+
+  /**
+   * 저널 파일을 연다. 파일이 없거나 비어 있으면 새로 만들고, 있으면 DB에 반영되지 않은 레코드를 대기열로 되살린다.
+   *
+   * @param path 저널 파일
+   * @param capacity 새로 만들 때의 파일 크기(바이트). 기존 저널은 기존 크기를 그대로 쓴다(끝 위치가 바뀌면 레코드를 따라갈 수 없다).
+   * @throws IOException 저널이 아닌 내용이 들어 있는 파일인 경우 등
+   */
+  static RecordJournal open(Path path, int capacity) throws IOException {
+    if (capacity < HEADER_SIZE + RECORD_OVERHEAD) {
+      throw new IllegalArgumentException("journal capacity is too small: " + capacity);
+    }
+    Path parent = path.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    FileChannel channel =
+        FileChannel.open(
+            path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    try {
+      int magic = readMagic(channel);
+      if (magic != 0 && magic != MAGIC) {
+        throw new IOException("not a recommendation journal (or an older format): " + path);
+      }
+      int size = magic == MAGIC ? (int) Math.min(channel.size(), Integer.MAX_VALUE) : capacity;
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+      RecordJournal journal = new RecordJournal(channel, buffer, size);
+      if (magic == MAGIC) {
+        journal.recover();
+      } else {
+        journal.initialize();
+      }
+      return journal;
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * 레코드를 추가하고 DB 반영 대기열에 넣는다. 디스크 반영은 기다리지 않는다.
+   *
+   * @return force 대기에 쓸 순번, 공간이 없거나 봉인된 저널이면 -1
+   */
+  long append(Entry entry) {
+    byte[] payload = encode(entry);
+    int length = Long.BYTES + payload.length;
+    int size = RECORD_OVERHEAD + length;
+    synchronized (this) {
+      if (sealed) {
+        return -1;
+      }
+      int pos = positionFor(size);
+      if (pos < 0) {
+        return -1;
+      }
+      if (pos != writePosition && writePosition + RECORD_OVERHEAD <= capacity) {
+        buffer.putInt(writePosition, WRAP);
+      }
+      long seq = appendedSeq + 1;
+      buffer.putLong(pos + RECORD_OVERHEAD, seq);
+      buffer.put(pos + RECORD_OVERHEAD + Long.BYTES, payload);
+      buffer.putInt(pos + Integer.BYTES, checksum(seq, payload));
+      buffer.putInt(pos, length);
+      writePosition = pos + size;
+      pending.addLast(new Pending(entry, writePosition));
+      appendedSeq = seq;
+      return seq;
+    }
+  }
+
+  /** 지금까지 추가된 레코드와 헤더 변경을 디스크에 반영하고 기다리는 호출자를 깨운다. force 중에도 추가는 막지 않는다. */
+  void force() {
+    long target;
+    synchronized (this) {
+      target = appendedSeq;
+      if (target == forcedSeq && !headerDirty) {
+        return;
+      }
+      headerDirty = false;
+    }
+    buffer.force();
+    synchronized (this) {
+      if (target > forcedSeq) {
+        forcedSeq = target;
+        notifyAll();
+      }
+    }
+  }
+
+  /**
+   * seq번 레코드가 force에 포함될 때까지 기다린다.
+   *
+   * @return 시간 안에 반영됐으면 true
+   */
+  synchronized boolean awaitForced(long seq, long timeoutNanos) throws InterruptedException {
+    long deadline = System.nanoTime() + timeoutNanos;
+    while (forcedSeq < seq) {
+      long remaining = deadline - System.nanoTime();
+      if (remaining <= 0) {
+        return false;
+      }
+      wait(remaining / 1_000_000, (int) (remaining % 1_000_000));
+    }
+    return true;
+  }
+
+  /** 앞에서부터 최대 max개의 대기 레코드(제거하지 않는다) */
+  synchronized List<Pending> peek(int max) {
+    List<Pending> out = new ArrayList<>(Math.min(max, pending.size()));
+    Iterator<Pending> it = pending.iterator();
+    while (it.hasNext() && out.size() < max) {
+      out.add(it.next());
+    }
+    return out;
+  }
+
+  /**
+   * 앞에서부터 count개가 DB에 반영됐음을 기록한다. 그 레코드들이 차지하던 공간은 바로 다시 쓸 수 있다.
+   *
+   * <p>헤더는 이 자리에서 force하지 않는다. 다음 {@link #force()}가 함께 반영하며, 그 전에 죽으면 해당 레코드가 재시작 때 다시 들어간다.
+   */
+  synchronized void complete(int count) {
+    Pending last = null;
+    for (int i = 0; i < count; i++) {
+      last = pending.removeFirst();
+    }
+    if (last == null) {
+      return;
+    }
+    head = last.endPosition();
+    headSeq += count;
+    headerDirty = true;
+    buffer.putLong(HEAD_SEQ_OFFSET, headSeq);
+    buffer.putLong(HEAD_OFFSET, head);
+  }
+
+  /** 이후 추가를 막고 이미 추가된 레코드를 디스크에 반영한다. 대기열은 그대로 남아 DB 반영을 계속할 수 있다. */
+  void seal() {
+    synchronized (this) {
+      sealed = true;
+    }
+    force();
+  }
+
+  /** DB 반영 대기 레코드 수 */
+  synchronized int pendingCount() {
+    return pending.size();
+  }
+
+  /** 대기 레코드가 차지한 바이트(파일 끝에서 건너뛴 자리 포함). 대기 레코드가 없으면 0 */
+  synchronized int usedBytes() {
+    if (pending.isEmpty()) {
+      return 0;
+    }
+    if (writePosition > head) {
+      return writePosition - head;
+    }
+    return capacity - head + writePosition - HEADER_SIZE;
+  }
+
+  @Override
+  public void close() throws IOException {
+    synchronized (this) {
+      sealed = true;
+    }
+    buffer.force();
+    channel.close();
+  }
+
+  /**
+   * size바이트 레코드를 쓸 위치. 지금 위치에 들어가지 않으면 데이터 영역 처음으로 돌아가고, 맨 앞 대기 레코드를 덮게 되면 -1이다.
+   */
+  private int positionFor(int size) {
+    int dataBytes = capacity - HEADER_SIZE;
+    if (size > dataBytes) {
+      return -1;
+    }
+    if (pending.isEmpty()) {
+      return writePosition + size <= capacity ? writePosition : HEADER_SIZE;
+    }
+    if (writePosition > head) {
+      // 대기 레코드가 [head, writePosition)에 있다: 뒤쪽이 모자라면 앞쪽 [HEADER_SIZE, head)를 쓴다
+      if (writePosition + size <= capacity) {
+        return writePosition;
+      }
+      return HEADER_SIZE + size <= head ? HEADER_SIZE : -1;
+    }
+    // 이미 한 바퀴 돌았다: 빈 곳은 [writePosition, head)뿐이다
+    return writePosition + size <= head ? writePosition : -1;
+  }
+
+  private void initialize() {
+    headSeq = 1;
+    head = HEADER_SIZE;
+    writePosition = HEADER_SIZE;
+    fill(0, capacity);
+    buffer.putLong(HEAD_SEQ_OFFSET, headSeq);
+    buffer.putLong(HEAD_OFFSET, head);
+    buffer.putInt(0, MAGIC);
+    buffer.force();
+  }
+
+  /** 맨 앞 위치부터 순번이 이어지는 레코드를 끝까지 읽어 대기열에 넣는다. */
+  private void recover() {
+    headSeq = buffer.getLong(HEAD_SEQ_OFFSET);
+    long storedHead = buffer.getLong(HEAD_OFFSET);
+    if (storedHead < HEADER_SIZE || storedHead > capacity) {
+      throw new IllegalStateException("corrupted journal header: head=" + storedHead);
+    }
+    head = (int) storedHead;
+    long expectedSeq = headSeq;
+    int pos = head;
+    while (true) {
+      int at = pos;
+      if (at + RECORD_OVERHEAD > capacity || buffer.getInt(at) == WRAP) {
+        at = HEADER_SIZE;
+      }
+      int length = buffer.getInt(at);
+      if (length < Long.BYTES || length > capacity - at - RECORD_OVERHEAD) {
+        break;
+      }
+      byte[] body = new byte[length];
+      buffer.get(at + RECORD_OVERHEAD, body);
+      ByteBuffer in = ByteBuffer.wrap(body);
+      long recordSeq = in.getLong();
+      byte[] payload = new byte[length - Long.BYTES];
+      in.get(payload);
+      if (recordSeq != expectedSeq
+          || buffer.getInt(at + Integer.BYTES) != checksum(recordSeq, payload)) {
+        break;
+      }
+      pos = at + RECORD_OVERHEAD + length;
+      pending.addLast(new Pending(decode(payload), pos));
+      expectedSeq++;
+    }
+    writePosition = pos;
+    appendedSeq = expectedSeq - 1;
+    forcedSeq = appendedSeq;
+    // 빈 공간에 남은 쓰다 만 레코드/이전 바퀴의 바이트가 나중에 순번이 맞아 읽히는 일이 없도록 비운다
+    if (pending.isEmpty() || writePosition > head) {
+      fill(writePosition, capacity);
+      fill(HEADER_SIZE, pending.isEmpty() ? writePosition : head);
+    } else {
+      fill(writePosition, head);
+    }
+    buffer.force();
+  }
+
+  private void fill(int from, int to) {
+    for (int pos = from; pos < to; pos += ZEROS.length) {
+      buffer.put(pos, ZEROS, 0, Math.min(ZEROS.length, to - pos));
+    }
+  }
+
+  private static int readMagic(FileChannel channel) throws IOException {
+    if (channel.size() < HEADER_SIZE) {
+      return 0;
+    }
+    ByteBuffer magic = ByteBuffer.allocate(Integer.BYTES);
+    channel.read(magic, 0);
+    return magic.getInt(0);
+  }
+
+  private static int checksum(long seq, byte[] payload) {
+    CRC32 crc = new CRC32();
+    crc.update(ByteBuffer.allocate(Long.BYTES).putLong(0, seq));
+    crc.update(payload);
+    return (int) crc.getValue();
+  }
+
+  /** 본문: member_id(비회원 -1), 회차, 추천 시각(초/나노), 방식(UTF-8), 세트 수, 세트별 비트마스크 */
+  static byte[] encode(Entry entry) {
+    byte[] source = entry.source().getBytes(StandardCharsets.UTF_8);
+    if (source.length > Short.MAX_VALUE || entry.sets().size() > Short.MAX_VALUE) {
+      throw new IllegalArgumentException("journal entry is too large");
+    }
+    int size =
+        Long.BYTES * 2
+            + Integer.BYTES * 2
+            + Short.BYTES * 2
+            + source.length
+            + entry.sets().size() * Long.BYTES;
+    ByteBuffer out = ByteBuffer.allocate(size);
+    out.putLong(entry.memberId() == null ? GUEST : entry.memberId());
+    out.putInt(entry.round());
+    out.putLong(entry.recommendedAt().toEpochSecond(ZoneOffset.UTC));
+    out.putInt(entry.recommendedAt().getNano());
+    out.putShort((short) source.length);
+    out.put(source);
+    out.putShort((short) entry.sets().size());
+    for (LottoSet set : entry.sets()) {
+      out.putLong(set.mask());
+    }
+    return out.array();
+  }
+
+  static Entry decode(byte[] payload) {
+    ByteBuffer in = ByteBuffer.wrap(payload);
+    long memberId = in.getLong();
+    int round = in.getInt();
+    LocalDateTime recommendedAt =
+        LocalDateTime.ofEpochSecond(in.getLong(), in.getInt(), ZoneOffset.UTC);
+    byte[] source = new byte[in.getShort()];
+    in.get(source);
+    int count = in.getShort();
+    List<LottoSet> sets = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      sets.add(LottoSet.ofMask(in.getLong()));
+    }
+    return new Entry(
+        memberId == GUEST ? null : memberId,
+        round,
+        new String(source, StandardCharsets.UTF_8),
+        recommendedAt,
+        sets);
+  }
+}
@@ -0,0 +1,325 @@
+package com.lottery.lottery_service.lotto.writebehind;
+
+import com.lottery.lottery_service.lotto.dto.LottoSet;
+import com.lottery.lottery_service.lotto.repository.LottoRecordJdbcWriter;
+import com.lottery.lottery_service.lotto.repository.LottoRecordJdbcWriter.RecommendationRow;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * [컴포넌트] 추천 기록 저장 경로. 기본은 동기 저장이고, 켜면 로컬 저널에 먼저 쓰고 DB에는 나중에 모아서 넣는다(write-behind).
+ *
+ * <p>write-behind 모드({@code lotto.record.write-behind.enabled=true}):
+ *
+ * <ul>
+ *   <li>요청 스레드는 {@link RecordJournal}에 레코드를 추가하고, 동기화 스레드가 {@code sync-interval-ms}마다 한 번 하는
+ *       force에 자기 레코드가 포함될 때까지만 기다린다. DB 커넥션은 쓰지 않는다.
+ *   <li>반영 스레드가 {@code flush-interval-ms}마다 밀린 레코드를 최대 {@code batch-size}건씩 한 트랜잭션으로 넣고 저널에 반영 위치를
+ *       기록한다. 반영된 공간은 바로 다시 쓰므로(링 버퍼) 저장이 쉬지 않아도 밀린 양이 {@code journal-size-mb}를 넘지 않으면 저널은 차지
+ *       않는다.
+ *   <li>시작할 때 반영되지 않은 저널 레코드를 먼저 DB에 넣고, 종료할 때 새 추가를 막은 뒤 남은 레코드를 모두 넣는다. DB가 안 되면 레코드는 저널에 남아
+ *       다음 시작 때 들어간다.
+ *   <li>저널이 가득 찼거나 종료 중이면 그 요청은 동기 저장(별도 트랜잭션)으로 처리한다.
+ *   <li>호출자의 트랜잭션 안에서 저장하면 저널 추가는 그 트랜잭션이 커밋된 뒤({@code afterCommit})에 한다. 추천 한도 차감 등 같은 트랜잭션의
+ *       작업이 롤백되면 저널에도 남지 않는다. 커밋은 됐는데 저널 추가와 동기 저장이 모두 실패하면 호출자에게 예외가 가고 커밋된 쪽만 남는다.
+ * </ul>
+ *
+ * <p>반영({@code drain})은 반영 스레드, 직접 반영, 종료 반영이 같은 락 아래에서 하나씩만 한다. 같은 배치를 두 번 넣거나 다른 스레드가 넣은
+ * 배치를 {@code complete}하지 않는다.
+ *
+ * <p>추천 응답 뒤에 DB 반영이 이뤄지므로, 방금 받은 추천이 내역 조회에 보이기까지 최대 반영 주기만큼 늦을 수 있다.
+ */
+@Slf4j
+@Component
+public class WriteBehindRecordWriter {
+
+  private final LottoRecordJdbcWriter jdbcWriter;
+  private final TransactionTemplate transactionTemplate;
+
+  /** 커밋 뒤 동기 저장용. 끝난 트랜잭션의 커넥션에 쓰지 않도록 새 트랜잭션을 연다. */
+  private final TransactionTemplate fallbackTransactionTemplate;
+
+  private final boolean enabled;
+  private final Path journalPath;
+  private final int journalBytes;
+  private final long syncIntervalMillis;
+  private final long flushIntervalMillis;
+  private final int batchSize;
+  private final long ackTimeoutNanos;
+
+  /** 열린 저널. null이면 동기 저장 */
+  private volatile RecordJournal journal;
+
+  private final LongAdder journaled = new LongAdder();
+  private final LongAdder flushed = new LongAdder();
+  private final LongAdder fallback = new LongAdder();
+
+  /** 반영(peek → insert → complete)과 저널 닫기를 한 스레드씩만 하게 하는 락 */
+  private final Object drainLock = new Object();
+
+  /** 저널을 닫았는지. drainLock 아래에서만 읽고 쓴다. */
+  private boolean journalClosed;
+
+  private final ScheduledExecutorService syncExecutor = daemonExecutor("lotto-record-journal-sync");
+  private final ScheduledExecutorService flushExecutor = daemonExecutor("lotto-record-flush");
+
+  public WriteBehindRecordWriter(
+      LottoRecordJdbcWriter jdbcWriter,
+      TransactionTemplate transactionTemplate,
+      @Value("${lotto.record.write-behind.enabled:false}") boolean enabled,
+      @Value("${lotto.record.write-behind.journal-path:./data/lotto-record.journal}")
+          String journalPath,
+      @Value("${lotto.record.write-behind.journal-size-mb:64}") int journalSizeMb,
+      @Value("${lotto.record.write-behind.sync-interval-ms:2}") long syncIntervalMillis,
+      @Value("${lotto.record.write-behind.flush-interval-ms:200}") long flushIntervalMillis,
+      @Value("${lotto.record.write-behind.batch-size:500}") int batchSize,
+      @Value("${lotto.record.write-behind.ack-timeout-ms:1000}") long ackTimeoutMillis) {
+    if (journalSizeMb < 1
+        || journalSizeMb > 1024
+        || syncIntervalMillis < 1
+        || flushIntervalMillis < 1
+        || batchSize < 1
+        || ackTimeoutMillis < 1) {
+      throw new IllegalArgumentException("write-behind settings are out of range");
+    }
+    this.jdbcWriter = jdbcWriter;
+    this.transactionTemplate = transactionTemplate;
+    this.fallbackTransactionTemplate =
+        new TransactionTemplate(transactionTemplate.getTransactionManager());
+    this.fallbackTransactionTemplate.setPropagationBehavior(
+        TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.enabled = enabled;
+    this.journalPath = Path.of(journalPath);
+    this.journalBytes = journalSizeMb * 1024 * 1024;
+    this.syncIntervalMillis = syncIntervalMillis;
+    this.flushIntervalMillis = flushIntervalMillis;
+    this.batchSize = batchSize;
+    this.ackTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(ackTimeoutMillis);
+  }
+
+  /** 저널을 열고 남은 레코드를 DB에 넣은 뒤 동기화/반영 스레드를 시작한다. */
+  @PostConstruct
+  public void start() {
+    if (!enabled) {
+      return;
+    }
+    RecordJournal opened;
+    try {
+      opened = RecordJournal.open(journalPath, journalBytes);
+    } catch (IOException e) {
+      throw new UncheckedIOException("추천 기록 저널을 열 수 없습니다: " + journalPath, e);
+    }
+    int replay = opened.pendingCount();
+    if (replay > 0) {
+      log.info("Replaying {} unflushed recommendation journal entries", replay);
+      drain(opened);
+    }
+    journal = opened;
+    syncExecutor.scheduleWithFixedDelay(
+        opened::force, syncIntervalMillis, syncIntervalMillis, TimeUnit.MILLISECONDS);
+    flushExecutor.scheduleWithFixedDelay(
+        () -> drain(opened), flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    log.info("Recommendation write-behind started: journal={}", journalPath.toAbsolutePath());
+  }
+
+  /** 새 추가를 막고 남은 레코드를 DB에 넣은 뒤 저널을 닫는다. */
+  @PreDestroy
+  public void shutdown() {
+    RecordJournal closing = journal;
+    journal = null;
+    syncExecutor.shutdownNow();
+    flushExecutor.shutdown();
+    if (closing == null) {
+      return;
+    }
+    try {
+      if (!flushExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+        log.warn("Recommendation journal flush still running; final drain waits for it");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    closing.seal();
+    synchronized (drainLock) {
+      drain(closing);
+      int left = closing.pendingCount();
+      if (left > 0) {
+        log.warn("{} recommendation journal entries left for replay on next start", left);
+      }
+      journalClosed = true;
+      try {
+        closing.close();
+      } catch (IOException e) {
+        log.error("Failed to close recommendation journal", e);
+      }
+    }
+  }
+
+  /**
+   * 추천 세트들을 저장한다. write-behind 모드면 저널 디스크 반영까지만 기다린다.
+   *
+   * <p>write-behind 모드에서 트랜잭션 안이면 저널 추가를 커밋 뒤로 미룬다. 롤백되면 아무것도 남지 않는다.
+   *
+   * @param memberId 회원 ID, 비회원이면 null
+   * @param round 회차
+   * @param source 추천 방식
+   * @param sets 저장할 세트
+   * @param recommendedAt 추천 시간
+   */
+  public void save(
+      Long memberId, int round, String source, List<LottoSet> sets, LocalDateTime recommendedAt) {
+    if (journal == null) {
+      jdbcWriter.insertRecommendations(memberId, round, source, sets, recommendedAt);
+      return;
+    }
+    RecordJournal.Entry entry =
+        new RecordJournal.Entry(memberId, round, source, recommendedAt, List.copyOf(sets));
+    if (TransactionSynchronizationManager.isActualTransactionActive()
+        && TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              journalOrInsert(entry, true);
+            }
+          });
+      return;
+    }
+    journalOrInsert(entry, false);
+  }
+
+  /** 저널에 추가하고 디스크 반영을 기다린다. 저널을 쓸 수 없으면 바로 DB에 넣는다. */
+  private void journalOrInsert(RecordJournal.Entry entry, boolean afterCommit) {
+    RecordJournal current = journal;
+    if (current != null) {
+      long seq = current.append(entry);
+      if (seq > 0) {
+        journaled.increment();
+        awaitForced(current, seq);
+        return;
+      }
+    }
+    fallback.increment();
+    if (afterCommit) {
+      fallbackTransactionTemplate.executeWithoutResult(status -> insert(entry));
+    } else {
+      insert(entry);
+    }
+  }
+
+  private void insert(RecordJournal.Entry entry) {
+    jdbcWriter.insertRecommendations(
+        entry.memberId(), entry.round(), entry.source(), entry.sets(), entry.recommendedAt());
+  }
+
+  /** 밀린 레코드를 지금 모두 DB에 넣는다(반영 스레드 주기와 무관, 동기). */
+  void flush() {
+    RecordJournal current = journal;
+    if (current != null) {
+      drain(current);
+    }
+  }
+
+  /**
+   * 밀린 레코드를 한 배치 넣는다.
+   *
+   * @return 넣은 저널 레코드 수(배치 크기와 같으면 더 있을 수 있다)
+   */
+  private int flushBatch(RecordJournal target) {
+    List<RecordJournal.Pending> batch = target.peek(batchSize);
+    if (batch.isEmpty()) {
+      return 0;
+    }
+    List<RecommendationRow> rows = new ArrayList<>(batch.size() * 5);
+    for (RecordJournal.Pending pending : batch) {
+      RecordJournal.Entry entry = pending.entry();
+      for (LottoSet set : entry.sets()) {
+        rows.add(
+            new RecommendationRow(
+                entry.memberId(), entry.round(), entry.source(), set, entry.recommendedAt()));
+      }
+    }
+    transactionTemplate.executeWithoutResult(status -> jdbcWriter.insertRows(rows));
+    target.complete(batch.size());
+    flushed.add(rows.size());
+    return batch.size();
+  }
+
+  /** DB 반영 대기 저널 레코드 수 */
+  public int pendingCount() {
+    RecordJournal current = journal;
+    return current == null ? 0 : current.pendingCount();
+  }
+
+  /** 누적 저널 추가 수 */
+  public long journaledCount() {
+    return journaled.sum();
+  }
+
+  /** 저널에서 DB로 넣은 누적 행 수 */
+  public long flushedRowCount() {
+    return flushed.sum();
+  }
+
+  /** 저널을 쓸 수 없어(가득 참/종료 중) 동기 저장으로 처리한 누적 요청 수 */
+  public long fallbackCount() {
+    return fallback.sum();
+  }
+
+  private void drain(RecordJournal target) {
+    synchronized (drainLock) {
+      if (!journalClosed) {
+        drainLocked(target);
+      }
+    }
+  }
+
+  private void drainLocked(RecordJournal target) {
+    try {
+      int done;
+      do {
+        done = flushBatch(target);
+      } while (done == batchSize); // 배치가 가득 찼으면 다음 주기를 기다리지 않는다
+    } catch (RuntimeException e) {
+      // 레코드는 저널 대기열에 남아 다음 주기에 다시 시도한다
+      log.error("Recommendation journal flush failed", e);
+    }
+  }
+
+  private void awaitForced(RecordJournal current, long seq) {
+    try {
+      if (!current.awaitForced(seq, ackTimeoutNanos)) {
+        // 레코드는 대기열에 있으므로 DB에는 들어간다. 다음 force 전에 죽을 때만 잃는다.
+        log.warn("Recommendation journal sync timed out: seq={}", seq);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static ScheduledExecutorService daemonExecutor(String name) {
+    return Executors.newSingleThreadScheduledExecutor(
+        r -> {
+          Thread t = new Thread(r, name);
+          t.setDaemon(true);
+          return t;
+        });
+  }
+}
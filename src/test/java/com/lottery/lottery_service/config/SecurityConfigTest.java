@@ -0,0 +1,54 @@
+package com.lottery.lottery_service.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+/**
+ * SecurityConfig의 메트릭 스크레이프 네트워크 제한 단위 테스트.
+ *
+ * <p>이 테스트 클래스의 역할:
+ *
+ * <ul>
+ *   <li>허용 네트워크(CIDR) 안의 IP만 /actuator/prometheus를 읽을 수 있는지 확인한다.
+ *   <li>기본값은 같은 호스트만, 빈 설정은 아무도 허용하지 않는지 고정한다.
+ * </ul>
+ */
+class SecurityConfigTest {
+
+  @Test
+  @DisplayName("허용 네트워크 안의 IP만 스크레이프할 수 있다")
+  void scrapeNetworkAccess_allowsOnlyConfiguredNetworks() {
+    AuthorizationManager<RequestAuthorizationContext> access =
+        SecurityConfig.scrapeNetworkAccess("10.0.0.0/8, 192.168.1.10/32");
+
+    assertThat(granted(access, "10.1.2.3")).isTrue();
+    assertThat(granted(access, "192.168.1.10")).isTrue();
+    assertThat(granted(access, "192.168.1.11")).isFalse();
+    assertThat(granted(access, "203.0.113.5")).isFalse();
+  }
+
+  @Test
+  @DisplayName("기본값은 같은 호스트만 허용하고, 빈 설정은 아무도 허용하지 않는다")
+  void scrapeNetworkAccess_defaultLoopbackAndEmptyDeniesAll() {
+    AuthorizationManager<RequestAuthorizationContext> loopback =
+        SecurityConfig.scrapeNetworkAccess(SecurityConfig.DEFAULT_SCRAPE_CIDRS);
+    AuthorizationManager<RequestAuthorizationContext> none = SecurityConfig.scrapeNetworkAccess("");
+
+    assertThat(granted(loopback, "127.0.0.1")).isTrue();
+    assertThat(granted(loopback, "::1")).isTrue();
+    assertThat(granted(loopback, "10.1.2.3")).isFalse();
+    assertThat(granted(none, "127.0.0.1")).isFalse();
+  }
+
+  private static boolean granted(
+      AuthorizationManager<RequestAuthorizationContext> access, String remoteAddr) {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/prometheus");
+    request.setRemoteAddr(remoteAddr);
+    return access.check(() -> null, new RequestAuthorizationContext(request)).isGranted();
+  }
+}
@@ -1,14 +1,19 @@
 package com.lottery.lottery_service.lotto.controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.oauth2Login;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -16,9 +21,16 @@ import com.lottery.lottery_service.auth.CustomOAuth2UserService;
 import com.lottery.lottery_service.config.SecurityConfig;
 import com.lottery.lottery_service.lotto.dto.LottoSet;
 import com.lottery.lottery_service.lotto.dto.request.PurchaseLottoRequest;
+import com.lottery.lottery_service.lotto.dto.response.LottoRecordPageResponse;
 import com.lottery.lottery_service.lotto.dto.response.LottoRecordResponse;
+import com.lottery.lottery_service.lotto.quota.InvalidAdRewardTokenException;
+import com.lottery.lottery_service.lotto.quota.QuotaExceededException;
+import com.lottery.lottery_service.lotto.quota.QuotaStatus;
+import com.lottery.lottery_service.lotto.service.LottoBulkRecommendationService;
 import com.lottery.lottery_service.lotto.service.LottoService;
 import com.lottery.lottery_service.member.repository.MemberRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
@@ -29,6 +41,8 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * LottoController의 웹 계층 계약을 검증하는 테스트 클래스.
@@ -50,7 +64,7 @@ import org.springframework.test.web.servlet.MockMvc;
  *   <li>여기서는 오직 "웹 계층 계약"만 본다.
  * </ul>
  */
-@WebMvcTest(controllers = LottoController.class)
+@WebMvcTest(controllers = LottoController.class, properties = "lotto.bulk.partner-member-ids=1")
 @Import(SecurityConfig.class)
 class LottoControllerWebTest {
 
@@ -65,6 +79,9 @@ class LottoControllerWebTest {
    */
   @MockBean private LottoService lottoService;
 
+  /** 대량 추천 서비스도 웹 테스트 대상이 아니므로 mock 처리한다(스트림 본문만 흉내 낸다). */
+  @MockBean private LottoBulkRecommendationService lottoBulkRecommendationService;
+
   /**
    * LottoController는 현재 생성자 주입으로 MemberRepository를 받는다.
    *
@@ -127,6 +144,54 @@ class LottoControllerWebTest {
     verify(lottoService).recommendAndSaveForMember(1L, "BASIC");
   }
 
+  /**
+   * 추천 한도 초과 시 429 응답.
+   *
+   * <p>이 테스트가 보장하는 것:
+   *
+   * <ul>
+   *   <li>서비스의 QuotaExceededException이 500이 아니라 429로 바뀌는지
+   *   <li>응답 본문에 막힌 한도와 현재 사용량이 들어가는지
+   * </ul>
+   */
+  @Test
+  @DisplayName("회원 추천 한도 초과: 429와 사용량을 반환한다")
+  void recommendForMember_quotaExceeded_returns429() throws Exception {
+    given(lottoService.recommendAndSaveForMember(1L, "BASIC"))
+        .willThrow(
+            new QuotaExceededException(
+                QuotaExceededException.Limit.DAILY,
+                new QuotaStatus(1112, LocalDate.of(2026, 10, 18), 5, 5, 25, 30)));
+
+    mockMvc
+        .perform(
+            post("/api/lotto/recommendations")
+                .with(oauth2Login().attributes(attributes -> attributes.put("memberId", 1L)))
+                .param("source", "BASIC"))
+        .andExpect(status().isTooManyRequests())
+        .andExpect(jsonPath("$.limit").value("DAILY"))
+        .andExpect(jsonPath("$.quota.remainingToday").value(0))
+        .andExpect(jsonPath("$.quota.remainingSets").value(5));
+  }
+
+  /** 광고 보상은 토큰을 서비스에 넘기고, 검증되지 않은 토큰이면 403으로 응답한다. */
+  @Test
+  @DisplayName("광고 보상 실패: 검증되지 않은 토큰은 403을 반환한다")
+  void grantAdReward_invalidToken_returns403() throws Exception {
+    given(lottoService.grantAdRewardForMember(1L, "forged"))
+        .willThrow(new InvalidAdRewardTokenException());
+
+    mockMvc
+        .perform(
+            post("/api/lotto/members/me/quota/ad-reward")
+                .with(oauth2Login().attributes(attributes -> attributes.put("memberId", 1L)))
+                .param("token", "forged"))
+        .andExpect(status().isForbidden())
+        .andExpect(jsonPath("$.message").exists());
+
+    verify(lottoService).grantAdRewardForMember(1L, "forged");
+  }
+
   /**
    * 회원 추천 API 비인증 접근 차단 케이스.
    *
@@ -143,6 +208,83 @@ class LottoControllerWebTest {
         .andExpect(status().is3xxRedirection());
   }
 
+  /**
+   * 대량 추천 API 성공 케이스.
+   *
+   * <p>이 테스트가 보장하는 것:
+   *
+   * <ul>
+   *   <li>대량 추천 URL이 /api/lotto/recommendations/bulk 인지
+   *   <li>principal의 memberId와 count/source 파라미터가 서비스로 전달되는지
+   *   <li>응답이 비동기 스트림으로 쓰이고, Content-Type이 application/x-ndjson 인지
+   * </ul>
+   */
+  @Test
+  @DisplayName("대량 추천 성공: 로그인 사용자는 NDJSON 스트림을 받는다")
+  void recommendBulkForMember_success() throws Exception {
+    String ndjson = "{\"numbers\":[1,2,3,4,5,6]}\n{\"numbers\":[7,8,9,10,11,12]}\n";
+    StreamingResponseBody body = out -> out.write(ndjson.getBytes(StandardCharsets.UTF_8));
+    given(lottoBulkRecommendationService.openMemberStream(1L, "AD", 2)).willReturn(body);
+
+    // StreamingResponseBody는 비동기로 쓰이므로 asyncDispatch로 결과를 받아 본다
+    MvcResult started =
+        mockMvc
+            .perform(
+                post("/api/lotto/recommendations/bulk")
+                    .with(oauth2Login().attributes(attributes -> attributes.put("memberId", 1L)))
+                    .param("count", "2")
+                    .param("source", "AD"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+    mockMvc
+        .perform(asyncDispatch(started))
+        .andExpect(status().isOk())
+        .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+        .andExpect(content().string(ndjson));
+
+    verify(lottoBulkRecommendationService).openMemberStream(1L, "AD", 2);
+  }
+
+  /** 제휴 회원 목록에 없는 회원은 403을 받고, 스트림은 열리지 않는다. */
+  @Test
+  @DisplayName("대량 추천 실패: 제휴 회원이 아니면 403을 반환한다")
+  void recommendBulkForMember_notPartner_forbidden() throws Exception {
+    mockMvc
+        .perform(
+            post("/api/lotto/recommendations/bulk")
+                .with(oauth2Login().attributes(attributes -> attributes.put("memberId", 2L)))
+                .param("count", "10"))
+        .andExpect(status().isForbidden());
+
+    verify(lottoBulkRecommendationService, never()).openMemberStream(any(), any(), anyInt());
+  }
+
+  /** 범위를 벗어난 count는 서비스가 스트림을 열기 전에 거절하므로, 500이 아니라 400과 사유로 끝나야 한다. */
+  @Test
+  @DisplayName("대량 추천 실패: count가 범위를 벗어나면 400을 반환한다")
+  void recommendBulkForMember_invalidCount_returns400() throws Exception {
+    given(lottoBulkRecommendationService.openMemberStream(1L, "BASIC", 0))
+        .willThrow(new IllegalArgumentException("대량 추천 개수는 1~10000 사이여야 합니다. 입력: 0"));
+
+    mockMvc
+        .perform(
+            post("/api/lotto/recommendations/bulk")
+                .with(oauth2Login().attributes(attributes -> attributes.put("memberId", 1L)))
+                .param("count", "0"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message").value("대량 추천 개수는 1~10000 사이여야 합니다. 입력: 0"));
+  }
+
+  /** 대량 추천도 회원 전용이므로 로그인 없이 호출할 수 없다. */
+  @Test
+  @DisplayName("대량 추천 실패: 비인증 사용자는 접근할 수 없다")
+  void recommendBulkForMember_unauthenticated() throws Exception {
+    mockMvc
+        .perform(post("/api/lotto/recommendations/bulk").param("count", "10"))
+        .andExpect(status().is3xxRedirection());
+  }
+
   /**
    * 회원 추천 내역 조회 성공 케이스.
    *
@@ -198,6 +340,57 @@ class LottoControllerWebTest {
         .andExpect(status().is3xxRedirection());
   }
 
+  /**
+   * 회원 추천 내역 페이지 조회 성공 케이스.
+   *
+   * <p>cursor/size 쿼리 파라미터가 그대로 서비스로 넘어가고, 응답에 items와 nextCursor가 담기는지 확인한다.
+   */
+  @Test
+  @DisplayName("회원 추천 내역 페이지 조회 성공: 커서와 크기를 넘기고 다음 커서를 돌려준다")
+  void getMyRecommendationPage_success() throws Exception {
+    LottoRecordPageResponse page =
+        LottoRecordPageResponse.builder()
+            .items(
+                List.of(
+                    LottoRecordResponse.builder()
+                        .round(1111)
+                        .numbers("1 2 3 4 5 6")
+                        .source("BASIC")
+                        .build()))
+            .nextCursor("1111.31")
+            .build();
+    given(lottoService.getRecommendationPageForMember(1L, "1112.39", 1)).willReturn(page);
+
+    mockMvc
+        .perform(
+            get("/api/lotto/members/me/recommendations/page")
+                .param("cursor", "1112.39")
+                .param("size", "1")
+                .with(oauth2Login().attributes(attributes -> attributes.put("memberId", 1L))))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.items.length()").value(1))
+        .andExpect(jsonPath("$.items[0].round").value(1111))
+        .andExpect(jsonPath("$.nextCursor").value("1111.31"));
+
+    verify(lottoService).getRecommendationPageForMember(1L, "1112.39", 1);
+  }
+
+  /** 위조/손상된 cursor나 범위를 벗어난 size는 클라이언트 잘못이므로 500이 아니라 400과 사유로 끝나야 한다. */
+  @Test
+  @DisplayName("회원 추천 내역 페이지 조회 실패: 잘못된 커서나 크기면 400을 반환한다")
+  void getMyRecommendationPage_invalidCursor_returns400() throws Exception {
+    given(lottoService.getRecommendationPageForMember(1L, "garbage", 10))
+        .willThrow(new IllegalArgumentException("커서 형식이 올바르지 않습니다: garbage"));
+
+    mockMvc
+        .perform(
+            get("/api/lotto/members/me/recommendations/page")
+                .param("cursor", "garbage")
+                .with(oauth2Login().attributes(attributes -> attributes.put("memberId", 1L))))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message").value("커서 형식이 올바르지 않습니다: garbage"));
+  }
+
   /**
    * 회원 구매 번호 저장 성공 케이스.
    *
@@ -0,0 +1,32 @@
+package com.lottery.lottery_service.lotto.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** HistoryCursor(추천 내역 페이지 커서) 문자열 형식 테스트. */
+class HistoryCursorTest {
+
+  @Test
+  @DisplayName("커서 문자열은 그대로 되읽힌다")
+  void toToken_parse_roundTrip() {
+    HistoryCursor cursor = new HistoryCursor(1111, 98765L);
+
+    assertThat(cursor.toToken()).isEqualTo("1111.98765");
+    assertThat(HistoryCursor.parse(cursor.toToken())).isEqualTo(cursor);
+  }
+
+  @Test
+  @DisplayName("비어 있으면 첫 페이지(null), 형식이 틀리면 예외")
+  void parse_emptyOrInvalid() {
+    assertThat(HistoryCursor.parse(null)).isNull();
+    assertThat(HistoryCursor.parse(" ")).isNull();
+
+    for (String token : new String[] {"1111", "1111.", ".5", "a.5", "1111.-5", "0.5"}) {
+      assertThatThrownBy(() -> HistoryCursor.parse(token))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+}
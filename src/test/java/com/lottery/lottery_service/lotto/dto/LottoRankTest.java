@@ -0,0 +1,44 @@
+package com.lottery.lottery_service.lotto.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * LottoRank(당첨 등수)의 단위 테스트.
+ *
+ * <p>당첨 번호 1 2 3 4 5 6 + 보너스 7 기준으로 일치 개수별 등수와 2등(5개 + 보너스) 판정을 고정한다.
+ */
+class LottoRankTest {
+
+  private static final long WINNING = LottoSet.of(1, 2, 3, 4, 5, 6).mask();
+  private static final long BONUS = LottoSet.bit(7);
+
+  @Test
+  @DisplayName("일치 개수와 보너스로 1~5등/낙첨을 가린다")
+  void of_matchCountAndBonus_mapsToRank() {
+    assertThat(rank(1, 2, 3, 4, 5, 6)).isEqualTo(LottoRank.FIRST);
+    assertThat(rank(1, 2, 3, 4, 5, 7)).isEqualTo(LottoRank.SECOND);
+    assertThat(rank(1, 2, 3, 4, 5, 45)).isEqualTo(LottoRank.THIRD);
+    assertThat(rank(1, 2, 3, 4, 7, 45)).isEqualTo(LottoRank.FOURTH);
+    assertThat(rank(1, 2, 3, 7, 44, 45)).isEqualTo(LottoRank.FIFTH);
+    assertThat(rank(1, 2, 7, 43, 44, 45)).isEqualTo(LottoRank.NONE);
+    assertThat(LottoRank.NONE.isWinning()).isFalse();
+    assertThat(LottoRank.SECOND.rank()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("등수 숫자로 찾고, 범위 밖이면 거절한다")
+  void fromRank_number_roundTrips() {
+    for (LottoRank rank : LottoRank.values()) {
+      assertThat(LottoRank.fromRank(rank.rank())).isEqualTo(rank);
+    }
+    assertThatThrownBy(() -> LottoRank.fromRank(6)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static LottoRank rank(int... numbers) {
+    return LottoRank.of(LottoSet.of(numbers).mask(), WINNING, BONUS);
+  }
+}
@@ -0,0 +1,108 @@
+package com.lottery.lottery_service.lotto.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * LottoSet(비트마스크 값 타입)의 단위 테스트.
+ *
+ * <p>이 테스트 클래스의 역할:
+ *
+ * <ul>
+ *   <li>번호 n이 비트 (n-1)에 매핑되는지, 순서와 무관하게 같은 값이 되는지 검증한다.
+ *   <li>저장 포맷("1 2 3 4 5 6") 파싱/출력이 서로 역함수인지 검증한다.
+ *   <li>JSON 응답 포맷({"numbers":[...]})이 기존과 동일하게 유지되는지 검증한다.
+ *   <li>범위/중복 위반이 생성 시점에 차단되는지 검증한다.
+ * </ul>
+ */
+class LottoSetTest {
+
+  /**
+   * 입력 순서와 무관하게 같은 조합은 같은 마스크/같은 값이어야 한다.
+   *
+   * <p>캐시 조회/Mockito 인자 매칭이 equals에 의존하므로 이 계약을 고정한다.
+   */
+  @Test
+  @DisplayName("순서가 달라도 같은 조합이면 동일한 값이다")
+  void of_differentOrder_equalValues() {
+    LottoSet a = new LottoSet(List.of(6, 1, 3, 2, 5, 4));
+    LottoSet b = LottoSet.of(1, 2, 3, 4, 5, 6);
+
+    assertThat(a).isEqualTo(b);
+    assertThat(a.hashCode()).isEqualTo(b.hashCode());
+    assertThat(a.mask()).isEqualTo(0b111111L);
+  }
+
+  /** contains/size/matchCount는 비트 연산 결과와 일치해야 한다. */
+  @Test
+  @DisplayName("포함 여부, 개수, 겹치는 개수를 계산한다")
+  void containsSizeMatchCount_returnBitwiseResults() {
+    LottoSet set = LottoSet.of(1, 12, 23, 34, 44, 45);
+
+    assertThat(set.contains(1)).isTrue();
+    assertThat(set.contains(45)).isTrue();
+    assertThat(set.contains(2)).isFalse();
+    assertThat(set.contains(0)).isFalse();
+    assertThat(set.contains(46)).isFalse();
+    assertThat(set.size()).isEqualTo(6);
+    assertThat(set.matchCount(LottoSet.of(1, 2, 3, 44, 45, 10))).isEqualTo(3);
+  }
+
+  /** 비트 순서가 곧 오름차순이어야 한다. */
+  @Test
+  @DisplayName("번호는 항상 오름차순으로 순회된다")
+  void toArray_returnsAscendingNumbers() {
+    LottoSet set = LottoSet.of(45, 3, 22, 1, 30, 17);
+
+    assertThat(set.toArray()).containsExactly(1, 3, 17, 22, 30, 45);
+    assertThat(set.getNumbers()).containsExactly(1, 3, 17, 22, 30, 45);
+  }
+
+  /** 저장 포맷 파싱과 출력은 서로 역함수여야 한다(DB 포맷 호환). */
+  @Test
+  @DisplayName("저장 포맷 문자열과 상호 변환된다")
+  void parseAndCanonicalString_roundTrip() {
+    LottoSet set = LottoSet.parse("1 3 12 25 34 41");
+
+    assertThat(set.toCanonicalString()).isEqualTo("1 3 12 25 34 41");
+    assertThat(LottoSet.parseMask("1 3 12 25 34 41")).isEqualTo(set.mask());
+  }
+
+  /** 범위 밖/중복 번호는 생성 시점에 예외로 막아야 한다. */
+  @Test
+  @DisplayName("범위 밖이나 중복 번호는 생성할 수 없다")
+  void create_invalidNumbers_throwsException() {
+    assertThatThrownBy(() -> LottoSet.of(0, 1, 2, 3, 4, 5))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> LottoSet.of(1, 2, 3, 4, 5, 46))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> LottoSet.of(1, 1, 2, 3, 4, 5))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("중복");
+    assertThatThrownBy(() -> LottoSet.parse("1 2 x 4 5 6"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> LottoSet.ofMask(1L << 45)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  /**
+   * JSON 응답 포맷은 기존 DTO와 동일하게 numbers 배열만 노출해야 한다.
+   *
+   * <p>내부 mask 값은 응답에 나가지 않는다.
+   */
+  @Test
+  @DisplayName("JSON으로는 numbers 배열만 직렬화/역직렬화된다")
+  void json_roundTrip_exposesOnlyNumbers() throws Exception {
+    ObjectMapper mapper = new ObjectMapper();
+
+    String json = mapper.writeValueAsString(LottoSet.of(7, 1, 40, 13, 22, 35));
+    LottoSet back = mapper.readValue(json, LottoSet.class);
+
+    assertThat(json).isEqualTo("{\"numbers\":[1,7,13,22,35,40]}");
+    assertThat(back).isEqualTo(LottoSet.of(1, 7, 13, 22, 35, 40));
+  }
+}
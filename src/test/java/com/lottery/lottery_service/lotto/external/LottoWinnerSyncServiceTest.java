@@ -0,0 +1,92 @@
+package com.lottery.lottery_service.lotto.external;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.lottery.lottery_service.lotto.entity.LottoWinnerData;
+import com.lottery.lottery_service.lotto.external.dto.DhlotteryDrawResponse;
+import com.lottery.lottery_service.lotto.repository.LottoWinnerDataRepository;
+import com.lottery.lottery_service.lotto.validation.cache.LottoWinnerDataCache;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+/**
+ * LottoWinnerSyncService(당첨 데이터 동기화)의 단위 테스트.
+ *
+ * <p>이 테스트 클래스의 역할:
+ *
+ * <ul>
+ *   <li>트랜잭션 안에서 저장한 회차는 커밋 뒤에만 당첨 캐시에 들어가는지 검증한다.
+ *   <li>롤백되면 캐시에 남지 않는지 확인한다.
+ * </ul>
+ *
+ * <p>트랜잭션 매니저 없이 동기화만 직접 열고, 커밋/롤백은 등록된 콜백을 불러 흉내 낸다.
+ */
+class LottoWinnerSyncServiceTest {
+
+  private final LottoWinnerDataRepository winnerRepo = mock(LottoWinnerDataRepository.class);
+  private final DhlotteryClient client = mock(DhlotteryClient.class);
+  private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+  private final LottoWinnerDataCache cache = new LottoWinnerDataCache(null);
+  private final LottoWinnerSyncService syncService =
+      new LottoWinnerSyncService(winnerRepo, client, cache, eventPublisher);
+
+  private final LottoWinnerData winner =
+      LottoWinnerData.builder().round(1).winnerData("10 23 29 33 37 40").bnusNo(16).build();
+
+  @BeforeEach
+  void setUp() {
+    DhlotteryDrawResponse dto = mock(DhlotteryDrawResponse.class);
+    given(dto.getDrwNo()).willReturn(1);
+    given(winnerRepo.findTopByOrderByRoundDesc()).willReturn(Optional.empty());
+    given(client.fetchRound(1)).willReturn(Optional.of(dto));
+    given(client.fetchRound(2)).willReturn(Optional.empty());
+    given(client.toEntity(dto)).willReturn(winner);
+    TransactionSynchronizationManager.initSynchronization();
+    TransactionSynchronizationManager.setActualTransactionActive(true);
+  }
+
+  @AfterEach
+  void tearDown() {
+    TransactionSynchronizationManager.clearSynchronization();
+    TransactionSynchronizationManager.setActualTransactionActive(false);
+  }
+
+  @Test
+  @DisplayName("저장한 회차는 커밋 뒤에만 당첨 캐시에 들어간다")
+  void syncMissingRoundsOnce_addsToCacheOnlyAfterCommit() {
+    // when
+    int saved = syncService.syncMissingRoundsOnce();
+
+    // then
+    assertThat(saved).isEqualTo(1);
+    verify(eventPublisher).publishEvent(new LottoWinnerSavedEvent(winner));
+    assertThat(cache.draws().latestRound()).isZero();
+
+    TransactionSynchronizationUtils.invokeAfterCommit(
+        TransactionSynchronizationManager.getSynchronizations());
+    assertThat(cache.draws().latestRound()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("롤백되면 당첨 캐시에 남지 않는다")
+  void syncMissingRoundsOnce_rolledBack_leavesCacheUnchanged() {
+    // when
+    syncService.syncMissingRoundsOnce();
+    TransactionSynchronizationUtils.invokeAfterCompletion(
+        TransactionSynchronizationManager.getSynchronizations(),
+        TransactionSynchronization.STATUS_ROLLED_BACK);
+
+    // then
+    assertThat(cache.draws().latestRound()).isZero();
+  }
+}
@@ -0,0 +1,95 @@
+package com.lottery.lottery_service.lotto.generation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.lottery.lottery_service.lotto.dto.LottoSet;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * LottoCombinations(colex 순위 ↔ 조합 변환)의 단위 테스트.
+ *
+ * <p>이 테스트 클래스의 역할:
+ *
+ * <ul>
+ *   <li>전체 조합 수와 순위 구간 양 끝의 조합을 고정한다.
+ *   <li>rank/unrank가 서로 역함수이고, Gosper's hack 순서가 순위 순서와 같음을 검증한다.
+ *   <li>무작위 조합 추출이 항상 유효한 6개 조합을 만들고 번호가 한쪽으로 치우치지 않음을 확인한다.
+ * </ul>
+ */
+class LottoCombinationsTest {
+
+  /** 순위 0은 가장 작은 조합, 마지막 순위는 가장 큰 조합이어야 한다. */
+  @Test
+  @DisplayName("순위 구간의 양 끝은 1~6, 40~45 조합이다")
+  void unrank_bounds_returnsSmallestAndLargestCombination() {
+    assertThat(LottoCombinations.TOTAL).isEqualTo(LottoCombinations.binomial(45, 6));
+    assertThat(LottoSet.ofMask(LottoCombinations.unrank(0)))
+        .isEqualTo(LottoSet.of(1, 2, 3, 4, 5, 6));
+    assertThat(LottoSet.ofMask(LottoCombinations.unrank(LottoCombinations.TOTAL - 1)))
+        .isEqualTo(LottoSet.of(40, 41, 42, 43, 44, 45));
+  }
+
+  /**
+   * 전체 조합을 Gosper's hack으로 순회하면 순위가 0부터 1씩 증가해야 한다.
+   *
+   * <p>인덱스 빌드가 이 성질(청크 시작만 unrank, 이후 next)에 의존한다.
+   */
+  @Test
+  @DisplayName("next 순서와 rank/unrank가 전체 공간에서 일치한다")
+  void rankUnrankNext_allCombinations_consistent() {
+    long mask = LottoCombinations.unrank(0);
+    for (int rank = 0; rank < LottoCombinations.TOTAL; rank++) {
+      // 800만 회 반복이므로 AssertJ 대신 직접 비교한다
+      if (Long.bitCount(mask) != LottoSet.PICK_COUNT
+          || LottoCombinations.rank(mask) != rank
+          || LottoCombinations.unrank(rank) != mask) {
+        throw new AssertionError("colex mismatch at rank " + rank);
+      }
+      mask = LottoCombinations.next(mask);
+    }
+  }
+
+  /** 범위 밖 순위는 예외로 막아야 한다. */
+  @Test
+  @DisplayName("범위 밖 순위는 unrank 할 수 없다")
+  void unrank_outOfRange_throwsException() {
+    assertThatThrownBy(() -> LottoCombinations.unrank(-1))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> LottoCombinations.unrank(LottoCombinations.TOTAL))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  /**
+   * 부분 Fisher–Yates 추출은 항상 1~45 중 서로 다른 6개를 뽑고, 번호별 출현 빈도가 고르게 나와야 한다.
+   *
+   * <p>번호별 기대 출현 수는 draws * 6 / 45 = 8,000회이며, 허용 범위(±10%)는 표준편차(약 86)의 9배 이상이라 우연히 실패하지 않는다.
+   */
+  @Test
+  @DisplayName("무작위 조합은 유효한 6개 조합이며 번호가 고르게 나온다")
+  void randomCombination_manyDraws_validAndUniform() {
+    // given
+    SplittableRandom random = new SplittableRandom(7L);
+    int draws = 60_000;
+    int[] counts = new int[LottoSet.MAX_NUMBER];
+
+    // when
+    for (int i = 0; i < draws; i++) {
+      long mask = LottoCombinations.randomCombination(random);
+      if (Long.bitCount(mask) != LottoSet.PICK_COUNT || (mask & ~LottoSet.FULL_MASK) != 0) {
+        throw new AssertionError("invalid combination mask: " + Long.toBinaryString(mask));
+      }
+      for (long m = mask; m != 0; m &= m - 1) {
+        counts[Long.numberOfTrailingZeros(m)]++;
+      }
+    }
+
+    // then
+    int expected = draws * LottoSet.PICK_COUNT / LottoSet.MAX_NUMBER;
+    for (int count : counts) {
+      assertThat(count).isBetween(expected * 9 / 10, expected * 11 / 10);
+    }
+  }
+}
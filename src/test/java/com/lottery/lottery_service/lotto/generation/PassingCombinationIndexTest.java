@@ -0,0 +1,112 @@
+package com.lottery.lottery_service.lotto.generation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.lottery.lottery_service.lotto.dto.LottoSet;
+import java.util.Random;
+import java.util.function.LongPredicate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * PassingCombinationIndex(통과 조합 비트맵 + rank/select)의 단위 테스트.
+ *
+ * <p>이 테스트 클래스의 역할:
+ *
+ * <ul>
+ *   <li>전수 평가 결과(통과 개수/포함 여부)가 판정 함수와 일치하는지 검증한다.
+ *   <li>select(r)가 "r번째 통과 조합"을 정확히 가리키는지 검증한다(추출 균등성의 근거).
+ *   <li>통과 조합이 극히 적거나 없을 때의 동작을 고정한다.
+ * </ul>
+ */
+class PassingCombinationIndexTest {
+
+  /** 7의 배수(7, 14, ..., 42) 마스크 */
+  private static final long SEVENS = multiplesOfSevenMask();
+
+  /** 7의 배수 번호를 하나도 포함하지 않는 조합만 통과(밀도가 들쭉날쭉한 판정 함수). */
+  private static final LongPredicate NO_MULTIPLE_OF_SEVEN = mask -> (mask & SEVENS) == 0;
+
+  /**
+   * 통과 개수와 select 결과가 판정 함수와 정확히 일치해야 한다.
+   *
+   * <p>이 테스트가 보장하는 것:
+   *
+   * <ul>
+   *   <li>passCount = C(39, 6) (7의 배수 6개를 뺀 39개 중 6개)
+   *   <li>통과 순위를 오름차순으로 훑으며 select(i)가 i번째 순위를 돌려준다.
+   * </ul>
+   */
+  @Test
+  @DisplayName("select는 r번째 통과 조합의 순위를 정확히 돌려준다")
+  void select_everyPassingRank_matchesPredicate() {
+    // given
+    PassingCombinationIndex index = PassingCombinationIndex.build(NO_MULTIPLE_OF_SEVEN);
+
+    // then
+    assertThat(index.passCount()).isEqualTo(LottoCombinations.binomial(39, 6));
+
+    int r = 0;
+    long mask = LottoCombinations.unrank(0);
+    for (int rank = 0; rank < LottoCombinations.TOTAL; rank++) {
+      boolean passes = NO_MULTIPLE_OF_SEVEN.test(mask);
+      if (passes != index.contains(rank) || (passes && index.select(r++) != rank)) {
+        throw new AssertionError("index mismatch at rank " + rank);
+      }
+      mask = LottoCombinations.next(mask);
+    }
+    assertThat(r).isEqualTo(index.passCount());
+  }
+
+  /** 추출한 조합은 항상 통과 조합이어야 한다. */
+  @Test
+  @DisplayName("sample은 통과 조합만 돌려준다")
+  void sample_returnsOnlyPassingCombinations() {
+    // given
+    PassingCombinationIndex index = PassingCombinationIndex.build(NO_MULTIPLE_OF_SEVEN);
+    Random random = new Random(42);
+
+    // when & then
+    for (int i = 0; i < 10_000; i++) {
+      long mask = index.sample(random);
+      assertThat(Long.bitCount(mask)).isEqualTo(LottoSet.PICK_COUNT);
+      assertThat(NO_MULTIPLE_OF_SEVEN.test(mask)).isTrue();
+    }
+  }
+
+  /** 통과 조합이 단 1개여도 루프 없이 그 조합을 뽑아야 한다. */
+  @Test
+  @DisplayName("통과 조합이 하나뿐이면 항상 그 조합을 뽑는다")
+  void sample_singlePassingCombination_alwaysReturnsIt() {
+    // given
+    long only = LottoSet.of(3, 9, 17, 28, 33, 41).mask();
+    PassingCombinationIndex index = PassingCombinationIndex.build(mask -> mask == only);
+
+    // then
+    assertThat(index.passCount()).isEqualTo(1);
+    assertThat(index.sample(new Random(1))).isEqualTo(only);
+    assertThat(index.contains(LottoCombinations.rank(only))).isTrue();
+  }
+
+  /** 통과 조합이 없으면(룰 설정 오류) 추출 시 예외로 알려야 한다. */
+  @Test
+  @DisplayName("통과 조합이 없으면 sample은 예외를 던진다")
+  void sample_noPassingCombination_throwsException() {
+    // given
+    PassingCombinationIndex index = PassingCombinationIndex.build(mask -> false);
+
+    // when & then
+    assertThat(index.passCount()).isZero();
+    assertThatThrownBy(() -> index.sample(new Random()))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  private static long multiplesOfSevenMask() {
+    long m = 0L;
+    for (int n = 7; n <= LottoSet.MAX_NUMBER; n += 7) {
+      m |= LottoSet.bit(n);
+    }
+    return m;
+  }
+}
@@ -0,0 +1,211 @@
+package com.lottery.lottery_service.lotto.generation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.lottery.lottery_service.lotto.dto.LottoSet;
+import com.lottery.lottery_service.lotto.validation.pipeline.LottoValidationPipeline;
+import com.lottery.lottery_service.lotto.validation.rule.LottoValidationRule;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * PassingCombinationSampler(룰 통과 조합 추출 엔진)의 단위 테스트.
+ *
+ * <p>이 테스트 클래스의 역할:
+ *
+ * <ul>
+ *   <li>룰이 아무리 엄격해도 요청한 개수를 정확히 돌려주는지 검증한다(기존 "재시도 상한" 문제 회귀 방지).
+ *   <li>재빌드 후에는 바뀐 룰 기준으로만 추출되는지 검증한다.
+ *   <li>재빌드 대기 중 재추출 상한에 걸려도 룰을 통과하지 못한 조합은 돌려주지 않는지 검증한다.
+ *   <li>백그라운드 재빌드와 요청 스레드 재빌드가 겹쳐 돌지 않는지 확인한다.
+ * </ul>
+ *
+ * <p>실제 도메인 룰 대신 통과 조합 수를 정확히 알 수 있는 fake rule을 사용한다.
+ */
+class PassingCombinationSamplerTest {
+
+  private static final long ONE_TO_FIVE = LottoSet.of(1, 2, 3, 4, 5).mask();
+
+  /**
+   * 통과 조합이 40개(1~5 고정 + 나머지 1개)뿐인 엄격한 룰에서도 정확히 5세트를 돌려줘야 한다.
+   *
+   * <p>무작위 생성 후 거절하는 방식이라면 약 20만 번에 한 번 통과하므로 사실상 채울 수 없는 조건이다.
+   */
+  @Test
+  @DisplayName("룰이 엄격해도 요청한 세트 수를 정확히 채운다")
+  void draw_strictRule_returnsRequestedCount() {
+    // given
+    PassingCombinationSampler sampler = samplerWith(new ContainsOneToFiveRule());
+    sampler.init();
+
+    // when
+    List<LottoSet> sets = sampler.draw(5, new Random(7));
+
+    // then
+    assertThat(sampler.passCount()).isEqualTo(40);
+    assertThat(sets).hasSize(5);
+    assertThat(sets).allSatisfy(set -> assertThat(set.mask() & ONE_TO_FIVE).isEqualTo(ONE_TO_FIVE));
+  }
+
+  /**
+   * 룰이 비활성화된 뒤 재빌드하면 전체 조합 공간에서 추출해야 한다.
+   *
+   * <p>이 테스트가 보장하는 것:
+   *
+   * <ul>
+   *   <li>rebuild()가 현재 룰 상태로 인덱스를 다시 만든다.
+   *   <li>교체된 스냅샷의 통과 개수가 즉시 반영된다.
+   * </ul>
+   */
+  @Test
+  @DisplayName("재빌드하면 바뀐 룰 기준으로 인덱스가 교체된다")
+  void rebuild_ruleDisabled_usesWholeSpace() {
+    // given
+    ContainsOneToFiveRule rule = new ContainsOneToFiveRule();
+    PassingCombinationSampler sampler = samplerWith(rule);
+    sampler.init();
+
+    // when
+    rule.enabled = false;
+    sampler.rebuild();
+
+    // then
+    assertThat(sampler.passCount()).isEqualTo(LottoCombinations.TOTAL);
+    assertThat(sampler.drawOne(new Random(7)).size()).isEqualTo(LottoSet.PICK_COUNT);
+  }
+
+  /**
+   * 재빌드가 아직 돌지 않은 상태에서 룰이 엄격해지면, 낡은 스냅샷(전체 조합)에서의 재추출은 거의 모두 실패한다.
+   *
+   * <p>이 테스트가 보장하는 것:
+   *
+   * <ul>
+   *   <li>재추출 상한에 걸린 횟수가 집계된다.
+   *   <li>그래도 돌려주는 조합은 현재 룰을 통과한다(실패한 조합을 그대로 돌려주지 않음).
+   *   <li>백그라운드 재빌드를 기다리지 못하면 요청 스레드에서 재빌드해 스냅샷이 바뀐다.
+   * </ul>
+   */
+  @Test
+  @DisplayName("재빌드 대기 중 재추출 상한에 걸려도 룰을 통과한 조합만 돌려준다")
+  void drawOne_staleRetryExhausted_neverReturnsFailingSet() throws Exception {
+    // given: 재빌드 스레드를 막아 두어 requestRebuild 이후에도 스냅샷이 낡은 채로 남게 한다
+    ContainsOneToFiveRule rule = new ContainsOneToFiveRule();
+    rule.enabled = false;
+    ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor();
+    CountDownLatch release = new CountDownLatch(1);
+    rebuildExecutor.execute(
+        () -> {
+          try {
+            release.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        });
+    PassingCombinationSampler sampler =
+        new PassingCombinationSampler(new LottoValidationPipeline(List.of(rule)), rebuildExecutor);
+    sampler.init();
+    rule.enabled = true;
+    sampler.requestRebuild();
+
+    try {
+      // when
+      LottoSet set = sampler.drawOne(new Random(7));
+
+      // then
+      assertThat(set.mask() & ONE_TO_FIVE).isEqualTo(ONE_TO_FIVE);
+      assertThat(sampler.staleRetryExhaustedCount()).isEqualTo(1);
+      assertThat(sampler.passCount()).isEqualTo(40);
+    } finally {
+      release.countDown();
+      rebuildExecutor.shutdownNow();
+    }
+  }
+
+  /**
+   * 백그라운드 재빌드가 도는 동안 다른 스레드의 재빌드는 기다려야 한다. 겹쳐 돌면 늦게 끝난 예전 세대의 인덱스가 새 스냅샷을 덮을 수 있다.
+   *
+   * <p>이 테스트가 보장하는 것:
+   *
+   * <ul>
+   *   <li>첫 재빌드가 끝나기 전에는 두 번째 재빌드가 락에서 기다린다.
+   *   <li>둘 다 끝나면 스냅샷은 마지막 룰 상태를 반영한다.
+   * </ul>
+   */
+  @Test
+  @DisplayName("백그라운드 재빌드가 도는 동안 다른 재빌드는 기다린다")
+  void rebuild_whileBackgroundRebuildRuns_waitsForIt() throws Exception {
+    // given
+    ContainsOneToFiveRule rule = new ContainsOneToFiveRule();
+    PassingCombinationSampler sampler = samplerWith(rule);
+    sampler.init();
+    CountDownLatch entered = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    rule.blockNextCall(entered, release);
+
+    // when: 백그라운드 재빌드가 평가 도중 멈춘 상태에서 다른 스레드가 재빌드한다
+    sampler.requestRebuild();
+    assertThat(entered.await(10, TimeUnit.SECONDS)).isTrue();
+    rule.enabled = false;
+    Thread second = new Thread(sampler::rebuild);
+    second.start();
+
+    // then
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (second.getState() != Thread.State.BLOCKED && System.nanoTime() < deadline) {
+      Thread.sleep(1);
+    }
+    assertThat(second.getState()).isEqualTo(Thread.State.BLOCKED);
+
+    release.countDown();
+    second.join(TimeUnit.SECONDS.toMillis(30));
+    assertThat(second.isAlive()).isFalse();
+    assertThat(sampler.passCount()).isEqualTo(LottoCombinations.TOTAL);
+    sampler.shutdown();
+  }
+
+  private static PassingCombinationSampler samplerWith(LottoValidationRule rule) {
+    return new PassingCombinationSampler(new LottoValidationPipeline(List.of(rule)));
+  }
+
+  /** 1~5를 모두 포함하는 조합만 통과시키는 테스트 전용 룰 */
+  private static class ContainsOneToFiveRule implements LottoValidationRule {
+    private volatile boolean enabled = true;
+    private final AtomicReference<CountDownLatch[]> block = new AtomicReference<>();
+
+    /** 다음 판정 1번을 entered 신호 후 release까지 멈춘다 */
+    void blockNextCall(CountDownLatch entered, CountDownLatch release) {
+      block.set(new CountDownLatch[] {entered, release});
+    }
+
+    @Override
+    public String id() {
+      return "CONTAINS_ONE_TO_FIVE";
+    }
+
+    @Override
+    public boolean enabled() {
+      return enabled;
+    }
+
+    @Override
+    public boolean validate(LottoSet set) {
+      CountDownLatch[] latches = block.getAndSet(null);
+      if (latches != null) {
+        latches[0].countDown();
+        try {
+          latches[1].await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      return (set.mask() & ONE_TO_FIVE) == ONE_TO_FIVE;
+    }
+  }
+}
@@ -0,0 +1,106 @@
+package com.lottery.lottery_service.lotto.generation.pool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * LongRingBuffer(lock-free MPMC 큐)의 단위 테스트.
+ *
+ * <p>이 테스트 클래스의 역할:
+ *
+ * <ul>
+ *   <li>단일 스레드에서 FIFO/가득 참/비어 있음 동작을 고정한다.
+ *   <li>여러 생산자/소비자가 동시에 써도 값이 사라지거나 두 번 나오지 않음을 확인한다.
+ * </ul>
+ */
+class LongRingBufferTest {
+
+  /** 용량은 2의 거듭제곱으로 올라가고, 가득 차면 offer가, 비면 poll이 바로 실패해야 한다. */
+  @Test
+  @DisplayName("가득 차면 offer 실패, 비면 EMPTY를 돌려주며 순서는 FIFO다")
+  void offerPoll_singleThread_fifoAndBounds() {
+    // given
+    LongRingBuffer buffer = new LongRingBuffer(3);
+
+    // when & then
+    assertThat(buffer.capacity()).isEqualTo(4);
+    for (long v = 0; v < 4; v++) {
+      assertThat(buffer.offer(v)).isTrue();
+    }
+    assertThat(buffer.offer(99L)).isFalse();
+    assertThat(buffer.size()).isEqualTo(4);
+
+    assertThat(buffer.poll()).isEqualTo(0L);
+    assertThat(buffer.offer(4L)).isTrue(); // 한 바퀴 돈 칸 재사용
+    assertThat(buffer.clear()).isEqualTo(4);
+    assertThat(buffer.poll()).isEqualTo(LongRingBuffer.EMPTY);
+  }
+
+  /** 생산자 4개가 서로 다른 값을 넣고 소비자 4개가 동시에 꺼내면, 넣은 값 하나하나가 정확히 한 번씩 나와야 한다. */
+  @Test
+  @DisplayName("다중 생산자/소비자 동시 사용 시 유실/중복이 없다")
+  void offerPoll_concurrent_noLossNoDuplicate() throws Exception {
+    // given
+    LongRingBuffer buffer = new LongRingBuffer(64);
+    int producers = 4;
+    int perProducer = 20_000;
+    int total = producers * perProducer;
+    AtomicIntegerArray seen = new AtomicIntegerArray(total);
+    AtomicInteger consumed = new AtomicInteger();
+    ExecutorService executor = Executors.newFixedThreadPool(producers * 2);
+
+    try {
+      // when
+      List<Future<?>> consumers = new ArrayList<>();
+      for (int p = 0; p < producers; p++) {
+        long base = (long) p * perProducer;
+        executor.submit(
+            () -> {
+              for (long v = base; v < base + perProducer; ) {
+                if (buffer.offer(v)) {
+                  v++;
+                } else {
+                  Thread.yield();
+                }
+              }
+            });
+      }
+      for (int c = 0; c < producers; c++) {
+        consumers.add(
+            executor.submit(
+                () -> {
+                  while (consumed.get() < total) {
+                    long v = buffer.poll();
+                    if (v == LongRingBuffer.EMPTY) {
+                      Thread.yield();
+                    } else {
+                      seen.incrementAndGet((int) v);
+                      consumed.incrementAndGet();
+                    }
+                  }
+                }));
+      }
+
+      for (Future<?> consumer : consumers) {
+        consumer.get(60, TimeUnit.SECONDS);
+      }
+
+      // then
+      for (int v = 0; v < total; v++) {
+        assertThat(seen.get(v)).as("value %d", v).isEqualTo(1);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
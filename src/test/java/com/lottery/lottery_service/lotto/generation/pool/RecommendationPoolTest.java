@@ -0,0 +1,184 @@
+package com.lottery.lottery_service.lotto.generation.pool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.lottery.lottery_service.lotto.dto.LottoSet;
+import com.lottery.lottery_service.lotto.generation.PassingCombinationSampler;
+import com.lottery.lottery_service.lotto.generation.random.RandomSource;
+import com.lottery.lottery_service.lotto.generation.weighted.StatisticsWeightedSampler;
+import com.lottery.lottery_service.lotto.validation.pipeline.LottoValidationPipeline;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * RecommendationPool(출처별 사전 생성 풀)의 단위 테스트.
+ *
+ * <p>이 테스트 클래스의 역할:
+ *
+ * <ul>
+ *   <li>보충된 조합을 요청 시 꺼내 주고, 모자라면 직접 뽑아 채우는지 검증한다.
+ *   <li>비우기(flush) 이전에 뽑힌 조합이 이후에 나가지 않는지 검증한다.
+ *   <li>seeded 모드/풀 없는 출처는 풀을 거치지 않는지 확인한다.
+ *   <li>STATS 출처는 가중 추천 엔진으로 채우는지 확인한다.
+ * </ul>
+ *
+ * <p>sampler/pipeline은 mock이며, 보충 스레드와 겹쳐도 안전하도록 sampler가 돌려줄 조합은 volatile 필드로 바꾼다.
+ */
+class RecommendationPoolTest {
+
+  private static final LottoSet OLD_SET = LottoSet.of(1, 2, 3, 4, 5, 6);
+  private static final LottoSet NEW_SET = LottoSet.of(40, 41, 42, 43, 44, 45);
+
+  /** sampler mock이 지금 돌려줄 조합 */
+  private volatile LottoSet current = OLD_SET;
+
+  private final PassingCombinationSampler sampler = mock(PassingCombinationSampler.class);
+  private final StatisticsWeightedSampler weightedSampler = mock(StatisticsWeightedSampler.class);
+  private final LottoValidationPipeline pipeline = mock(LottoValidationPipeline.class);
+  private final RandomSource randomSource = mock(RandomSource.class);
+  private final RandomGenerator random = new SplittableRandom(3L);
+
+  private RecommendationPool pool;
+
+  @AfterEach
+  void tearDown() {
+    if (pool != null) {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * 보충 후에는 풀에서 꺼내고, 풀이 비면 모자란 수만 요청 스레드에서 뽑아야 한다.
+   *
+   * <p>이 테스트가 보장하는 것:
+   *
+   * <ul>
+   *   <li>보충으로 풀이 용량까지 찬다.
+   *   <li>풀에 있는 만큼은 sampler.draw 없이 나간다.
+   *   <li>풀을 넘는 요청은 부족분만 sampler.draw로 채우고, 통계에 served/fallback으로 남는다.
+   * </ul>
+   */
+  @Test
+  @DisplayName("풀에서 먼저 꺼내고 부족분만 직접 뽑는다")
+  void take_afterRefill_servesFromPoolThenFallsBack() {
+    // given
+    pool = newPool(RandomSource.Mode.FAST, 4);
+    pool.refillAll();
+
+    // when
+    List<LottoSet> fromPool = pool.take("basic", 3, random);
+    List<LottoSet> mixed = pool.take("BASIC", 3, random);
+
+    // then
+    assertThat(fromPool).containsOnly(OLD_SET).hasSize(3);
+    assertThat(mixed).hasSize(3);
+    verify(sampler).draw(2, random);
+
+    RecommendationPool.PoolStats basic = stats("BASIC");
+    assertThat(basic.capacity()).isEqualTo(4);
+    assertThat(basic.served()).isEqualTo(4);
+    assertThat(basic.fallback()).isEqualTo(2);
+    assertThat(stats("AD").size()).isEqualTo(4);
+  }
+
+  /** flush 이전에 보충된 조합은, flush 이후 풀이 다시 차기 전이라도 나가면 안 된다. */
+  @Test
+  @DisplayName("flush 이전에 뽑힌 조합은 이후에 나가지 않는다")
+  void take_afterFlush_neverServesOldEpoch() {
+    // given
+    pool = newPool(RandomSource.Mode.FAST, 8);
+    pool.refillAll();
+
+    // when
+    current = NEW_SET; // 새 당첨 데이터 반영 이후 sampler가 주는 조합
+    pool.flush();
+    List<LottoSet> result = pool.take("EVENT", 8, random);
+
+    // then
+    assertThat(result).hasSize(8).containsOnly(NEW_SET);
+  }
+
+  /** seeded 모드는 회원별 재현을 위해 풀을 건너뛰고, 모르는 출처도 바로 뽑는다. */
+  @Test
+  @DisplayName("seeded 모드나 풀 없는 출처는 sampler에서 바로 뽑는다")
+  void take_seededModeOrUnknownSource_drawsDirectly() {
+    // given
+    pool = newPool(RandomSource.Mode.SEEDED, 4);
+    pool.start();
+
+    // when
+    pool.take("BASIC", 5, random);
+
+    // then
+    verify(sampler).draw(5, random);
+    verify(sampler, never()).drawOne(any(RandomGenerator.class));
+
+    RecommendationPool fastPool = newPool(RandomSource.Mode.FAST, 4);
+    try {
+      fastPool.take("PARTNER", 2, random);
+      verify(sampler).draw(2, random);
+    } finally {
+      fastPool.shutdown();
+    }
+  }
+
+  /** STATS/STATS_COLD 풀은 가중 추천 엔진으로 채우고, 부족분도 같은 엔진에서 방향에 맞게 뽑아야 한다. */
+  @Test
+  @DisplayName("STATS 출처는 가중 추천 엔진으로 채우고 뽑는다")
+  void take_statsSource_usesWeightedSampler() {
+    // given
+    given(weightedSampler.drawOne(any(StatisticsWeightedSampler.Bias.class), any()))
+        .willReturn(NEW_SET);
+    given(weightedSampler.draw(any(StatisticsWeightedSampler.Bias.class), anyInt(), any()))
+        .willAnswer(invocation -> List.of(NEW_SET));
+    pool = newPool(RandomSource.Mode.FAST, 2);
+    pool.refillAll();
+
+    // when
+    List<LottoSet> hot = pool.take("stats", 3, random);
+    List<LottoSet> cold = pool.take("STATS_COLD", 2, random);
+
+    // then
+    assertThat(hot).containsOnly(NEW_SET);
+    assertThat(cold).containsOnly(NEW_SET).hasSize(2);
+    verify(weightedSampler).draw(StatisticsWeightedSampler.Bias.HOT, 1, random);
+    verify(sampler, never()).draw(anyInt(), any(RandomGenerator.class));
+    assertThat(stats("BASIC").size()).isEqualTo(2);
+    assertThat(stats("STATS").served()).isEqualTo(2);
+  }
+
+  private RecommendationPool newPool(RandomSource.Mode mode, int capacity) {
+    given(randomSource.mode()).willReturn(mode);
+    given(randomSource.generator(null)).willReturn(new SplittableRandom(1L));
+    given(sampler.drawOne(any(RandomGenerator.class))).willAnswer(invocation -> current);
+    given(sampler.draw(anyInt(), any(RandomGenerator.class)))
+        .willAnswer(invocation -> copies(invocation.getArgument(0)));
+    given(pipeline.test(any(LottoSet.class))).willReturn(true);
+    // 저수위 0: 테스트 중에는 take가 백그라운드 보충을 깨우지 않는다
+    return new RecommendationPool(
+        sampler, weightedSampler, pipeline, randomSource, true, capacity, 0, 60_000L);
+  }
+
+  private List<LottoSet> copies(int n) {
+    List<LottoSet> out = new ArrayList<>(n);
+    for (int i = 0; i < n; i++) {
+      out.add(current);
+    }
+    return out;
+  }
+
+  private RecommendationPool.PoolStats stats(String source) {
+    return pool.stats().stream().filter(s -> s.source().equals(source)).findFirst().orElseThrow();
+  }
+}
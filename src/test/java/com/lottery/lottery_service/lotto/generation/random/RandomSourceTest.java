@@ -0,0 +1,97 @@
+package com.lottery.lottery_service.lotto.generation.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.random.RandomGenerator;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * RandomSource 구현체(모드별 난수원)의 단위 테스트.
+ *
+ * <p>이 테스트 클래스의 역할:
+ *
+ * <ul>
+ *   <li>seeded 모드가 "같은 시드 + 같은 회원 + 같은 순번"이면 같은 난수열을 주는지 검증한다(추천 재현의 근거).
+ *   <li>secure 모드가 버퍼 블록 경계를 넘어도 계속 값을 주는지 검증한다.
+ *   <li>설정 문자열 → 모드 변환 규칙을 고정한다.
+ * </ul>
+ */
+class RandomSourceTest {
+
+  /**
+   * 같은 시드의 두 난수원은 회원별 호출 순서만 같으면, 다른 회원 요청이 끼어들어도 같은 난수열을 줘야 한다.
+   *
+   * <p>이 테스트가 보장하는 것:
+   *
+   * <ul>
+   *   <li>회원 1의 첫 번째 요청 난수열은 두 인스턴스에서 동일하다.
+   *   <li>회원 2의 요청이 사이에 끼어도 회원 1의 두 번째 요청 난수열은 동일하다.
+   *   <li>reset() 후에는 처음 순번부터 다시 재현된다.
+   * </ul>
+   */
+  @Test
+  @DisplayName("seeded 모드는 회원별 추천 난수열을 재현한다")
+  void seeded_sameSeedAndMemberSequence_reproducesNumbers() {
+    // given
+    SeededRandomSource first = new SeededRandomSource(42L);
+    SeededRandomSource second = new SeededRandomSource(42L);
+
+    // when
+    long[] firstCall = longs(first.generator(1L));
+    long[] secondCallOfFirst = longs(first.generator(1L));
+
+    long[] firstCallReplay = longs(second.generator(1L));
+    longs(second.generator(2L)); // 다른 회원 요청이 끼어듦
+    long[] secondCallReplay = longs(second.generator(1L));
+
+    // then
+    assertThat(firstCallReplay).containsExactly(firstCall);
+    assertThat(secondCallReplay).containsExactly(secondCallOfFirst);
+    assertThat(secondCallOfFirst).isNotEqualTo(firstCall);
+
+    first.reset();
+    assertThat(longs(first.generator(1L))).containsExactly(firstCall);
+  }
+
+  /** 버퍼 블록 여러 개를 소비해도(보충 스레드 + 요청 스레드 직접 채움) 계속 값을 줘야 한다. */
+  @Test
+  @DisplayName("secure 모드는 버퍼 블록 경계를 넘어도 난수를 계속 제공한다")
+  void secure_consumesAcrossBlocks_keepsProducing() {
+    // given
+    SecureBufferedRandomSource source = new SecureBufferedRandomSource(1);
+
+    try {
+      // when
+      RandomGenerator random = source.generator(null);
+      long distinct =
+          LongStream.generate(random::nextLong)
+              .limit(SecureBufferedRandomSource.BLOCK_LONGS * 3L)
+              .distinct()
+              .count();
+
+      // then
+      assertThat(source.mode()).isEqualTo(RandomSource.Mode.SECURE);
+      assertThat(distinct).isEqualTo(SecureBufferedRandomSource.BLOCK_LONGS * 3L);
+      assertThat(random.nextInt(45)).isBetween(0, 44);
+    } finally {
+      source.close();
+    }
+  }
+
+  /** 설정값은 대소문자/공백을 무시하고, 모르는 값은 기동 시점에 예외로 알려야 한다. */
+  @Test
+  @DisplayName("모드 설정값을 해석하고 잘못된 값은 거부한다")
+  void modeFrom_parsesCaseInsensitively_rejectsUnknown() {
+    assertThat(RandomSource.Mode.from(" Fast ")).isEqualTo(RandomSource.Mode.FAST);
+    assertThat(RandomSource.Mode.from("seeded")).isEqualTo(RandomSource.Mode.SEEDED);
+    assertThatThrownBy(() -> RandomSource.Mode.from("quantum"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static long[] longs(RandomGenerator random) {
+    return random.longs(8).toArray();
+  }
+}
@@ -0,0 +1,80 @@
+package com.lottery.lottery_service.lotto.generation.weighted;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * AliasTable(Vose 별칭 테이블)의 단위 테스트.
+ *
+ * <p>이 테스트 클래스의 역할:
+ *
+ * <ul>
+ *   <li>추출 빈도가 가중치 비율을 따르는지 검증한다.
+ *   <li>제외 집합을 준 추출이 남은 칸의 가중치 비율을 따르는지 검증한다.
+ *   <li>잘못된 가중치는 만들 때 거절되는지 확인한다.
+ * </ul>
+ */
+class AliasTableTest {
+
+  private static final int SAMPLES = 400_000;
+
+  /** 가중치 1:2:3:4:10의 추출 빈도는 각각 5%/10%/15%/20%/50% 근처여야 한다. */
+  @Test
+  @DisplayName("추출 빈도가 가중치 비율을 따른다")
+  void sample_manyDraws_matchesWeightRatio() {
+    // given
+    double[] weights = {1, 2, 3, 4, 10};
+    AliasTable table = AliasTable.of(weights);
+    SplittableRandom random = new SplittableRandom(11L);
+
+    // when
+    int[] counts = new int[weights.length];
+    for (int i = 0; i < SAMPLES; i++) {
+      counts[table.sample(random)]++;
+    }
+
+    // then
+    assertThat(table.totalWeight()).isEqualTo(20.0);
+    for (int i = 0; i < weights.length; i++) {
+      assertThat(counts[i] / (double) SAMPLES).isCloseTo(weights[i] / 20.0, within(0.005));
+    }
+  }
+
+  /** 칸 4(가중치 10)와 칸 0을 빼면 남은 1~3칸이 2:3:4 비율로 나와야 하고, 뺀 칸은 나오지 않아야 한다. */
+  @Test
+  @DisplayName("제외 추출은 남은 칸의 가중치 비율을 따른다")
+  void sampleExcluding_manyDraws_skipsExcludedAndMatchesRemainingRatio() {
+    // given
+    AliasTable table = AliasTable.of(new double[] {1, 2, 3, 4, 10});
+    long excluded = 1L | 1L << 4;
+    SplittableRandom random = new SplittableRandom(5L);
+
+    // when
+    int[] counts = new int[5];
+    for (int i = 0; i < SAMPLES; i++) {
+      counts[table.sampleExcluding(excluded, 11.0, random)]++;
+    }
+
+    // then
+    assertThat(counts[0]).isZero();
+    assertThat(counts[4]).isZero();
+    assertThat(counts[1] / (double) SAMPLES).isCloseTo(2 / 9.0, within(0.005));
+    assertThat(counts[3] / (double) SAMPLES).isCloseTo(4 / 9.0, within(0.005));
+  }
+
+  @Test
+  @DisplayName("0 이하 가중치나 64칸 초과는 거절한다")
+  void of_invalidWeights_throws() {
+    assertThatThrownBy(() -> AliasTable.of(new double[] {1, 0, 2}))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> AliasTable.of(new double[] {1, Double.NaN}))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> AliasTable.of(new double[AliasTable.MAX_SIZE + 1]))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
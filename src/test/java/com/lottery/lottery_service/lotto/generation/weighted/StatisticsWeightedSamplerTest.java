@@ -0,0 +1,135 @@
+package com.lottery.lottery_service.lotto.generation.weighted;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.lottery.lottery_service.lotto.dto.LottoSet;
+import com.lottery.lottery_service.lotto.entity.LottoWinnerData;
+import com.lottery.lottery_service.lotto.external.LottoWinnerSavedEvent;
+import com.lottery.lottery_service.lotto.generation.PassingCombinationSampler;
+import com.lottery.lottery_service.lotto.statistics.DrawStatisticsEngine;
+import com.lottery.lottery_service.lotto.validation.cache.LottoWinnerDataCache;
+import com.lottery.lottery_service.lotto.validation.pipeline.LottoValidationPipeline;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * StatisticsWeightedSampler(출현 빈도 가중 추천 엔진)의 단위 테스트.
+ *
+ * <p>이 테스트 클래스의 역할:
+ *
+ * <ul>
+ *   <li>출처 이름이 가중 방향(HOT/COLD)으로 바뀌는지 확인한다.
+ *   <li>뽑은 조합이 항상 서로 다른 6개 번호이고, HOT/COLD가 출현 빈도 쪽으로 치우치는지 검증한다.
+ *   <li>새 회차가 반영되면 테이블이 다시 만들어지는지 검증한다.
+ *   <li>파이프라인이 모두 거절해도 반복 상한 뒤 균등 추출로 넘어가는지 검증한다.
+ * </ul>
+ */
+class StatisticsWeightedSamplerTest {
+
+  private static final LottoSet FALLBACK_SET = LottoSet.of(40, 41, 42, 43, 44, 45);
+
+  private final LottoValidationPipeline pipeline = mock(LottoValidationPipeline.class);
+  private final PassingCombinationSampler combinationSampler =
+      mock(PassingCombinationSampler.class);
+  private final LottoWinnerDataCache cache = new LottoWinnerDataCache(null);
+  private final DrawStatisticsEngine engine = new DrawStatisticsEngine(cache);
+  private final RandomGenerator random = new SplittableRandom(21L);
+
+  private StatisticsWeightedSampler sampler;
+
+  @BeforeEach
+  void setUp() {
+    // 1~6이 30회 연속 당첨된 극단적인 이력
+    for (int round = 1; round <= 30; round++) {
+      engine.apply(round, LottoSet.of(1, 2, 3, 4, 5, 6).mask(), 7);
+    }
+    given(combinationSampler.drawOne(any(RandomGenerator.class))).willReturn(FALLBACK_SET);
+    sampler = new StatisticsWeightedSampler(engine, pipeline, combinationSampler);
+  }
+
+  @Test
+  @DisplayName("STATS/STATS_COLD 출처만 가중 방향으로 바뀐다")
+  void biasOf_sourceName_mapsToBias() {
+    assertThat(StatisticsWeightedSampler.biasOf("stats"))
+        .isEqualTo(StatisticsWeightedSampler.Bias.HOT);
+    assertThat(StatisticsWeightedSampler.biasOf("STATS_COLD"))
+        .isEqualTo(StatisticsWeightedSampler.Bias.COLD);
+    assertThat(StatisticsWeightedSampler.biasOf("BASIC")).isNull();
+    assertThat(StatisticsWeightedSampler.biasOf(null)).isNull();
+  }
+
+  /**
+   * HOT은 1~6(가중치 31)을, COLD는 나머지(1~6의 31배)를 훨씬 자주 골라야 한다.
+   *
+   * <p>균등 추출이라면 한 세트에 1~6이 평균 0.8개 들어간다.
+   */
+  @Test
+  @DisplayName("HOT/COLD 방향으로 치우치며 항상 서로 다른 6개 번호를 뽑는다")
+  void draw_hotAndCold_biasedTowardHistory() {
+    // given
+    given(pipeline.test(any(LottoSet.class))).willReturn(true);
+    long oneToSix = LottoSet.of(1, 2, 3, 4, 5, 6).mask();
+
+    // when
+    List<LottoSet> hot = sampler.draw(StatisticsWeightedSampler.Bias.HOT, 2_000, random);
+    List<LottoSet> cold = sampler.draw(StatisticsWeightedSampler.Bias.COLD, 2_000, random);
+
+    // then
+    assertThat(hot).allSatisfy(set -> assertThat(set.size()).isEqualTo(6));
+    assertThat(averageShared(hot, oneToSix)).isGreaterThan(4.0);
+    assertThat(averageShared(cold, oneToSix)).isLessThan(0.1);
+    assertThat(sampler.fallbackCount()).isZero();
+  }
+
+  /** 새 회차로 통계 스냅샷이 바뀌면 다음 추출부터 새 가중치를 쓴다. */
+  @Test
+  @DisplayName("통계가 바뀌면 테이블을 다시 만든다")
+  void draw_afterNewRound_usesRebuiltWeights() {
+    // given
+    given(pipeline.test(any(LottoSet.class))).willReturn(true);
+    sampler.draw(StatisticsWeightedSampler.Bias.HOT, 1, random);
+    long recent = LottoSet.of(40, 41, 42, 43, 44, 45).mask();
+
+    // when: 40~45가 60회 더 당첨
+    for (int round = 31; round <= 90; round++) {
+      engine.onWinnerSaved(new LottoWinnerSavedEvent(winner(round, "40 41 42 43 44 45", 1)));
+    }
+    List<LottoSet> hot = sampler.draw(StatisticsWeightedSampler.Bias.HOT, 500, random);
+
+    // then
+    assertThat(averageShared(hot, recent)).isGreaterThan(2.0);
+  }
+
+  /** 파이프라인이 모두 거절하면 상한만큼만 시도하고 균등 추천 엔진의 통과 조합을 돌려준다. */
+  @Test
+  @DisplayName("검증 거절이 계속되면 상한 뒤 균등 추출로 넘어간다")
+  void drawOne_pipelineRejectsAll_fallsBackAfterLimit() {
+    // given
+    given(pipeline.test(any(LottoSet.class))).willReturn(false);
+
+    // when
+    LottoSet set = sampler.drawOne(StatisticsWeightedSampler.Bias.COLD, random);
+
+    // then
+    assertThat(set).isEqualTo(FALLBACK_SET);
+    assertThat(sampler.rejectionCount())
+        .isEqualTo(StatisticsWeightedSampler.VALIDATION_ATTEMPTS);
+    assertThat(sampler.fallbackCount()).isEqualTo(1);
+  }
+
+  /** 세트당 mask 번호가 평균 몇 개 들어 있는지 */
+  private static double averageShared(List<LottoSet> sets, long mask) {
+    return sets.stream().mapToLong(s -> Long.bitCount(s.mask() & mask)).average().orElse(0);
+  }
+
+  private static LottoWinnerData winner(int round, String numbers, int bonus) {
+    return LottoWinnerData.builder().round(round).winnerData(numbers).bnusNo(bonus).build();
+  }
+}
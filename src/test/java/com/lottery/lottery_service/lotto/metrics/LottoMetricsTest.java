@@ -0,0 +1,43 @@
+package com.lottery.lottery_service.lotto.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** LottoMetrics(추천 소요 시간 타이머)의 단위 테스트. */
+class LottoMetricsTest {
+
+  /** 출처는 대소문자를 무시해 묶고, 모르는 출처는 OTHER 하나로 모여 시계열이 늘지 않아야 한다. */
+  @Test
+  @DisplayName("출처를 정규화해 미리 만든 타이머에만 기록한다")
+  void recordRecommendation_normalizesSource_noNewTimers() {
+    // given
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    LottoMetrics metrics = new LottoMetrics(registry);
+    int timers = registry.find(LottoMetrics.RECOMMENDATION_TIMER).timers().size();
+
+    // when
+    long started = System.nanoTime();
+    metrics.recordRecommendation(LottoMetrics.CHANNEL_MEMBER, "basic", started);
+    metrics.recordRecommendation(LottoMetrics.CHANNEL_MEMBER, "BASIC", started);
+    metrics.recordRecommendation(LottoMetrics.CHANNEL_GUEST, "partner-123", started);
+    metrics.recordRecommendation(LottoMetrics.CHANNEL_GUEST, null, started);
+
+    // then
+    assertThat(timers).isEqualTo(12); // 2 channel × (BASIC/AD/EVENT/STATS/STATS_COLD/OTHER)
+    assertThat(registry.find(LottoMetrics.RECOMMENDATION_TIMER).timers()).hasSize(timers);
+    assertThat(timer(registry, LottoMetrics.CHANNEL_MEMBER, "BASIC").count()).isEqualTo(2);
+    assertThat(timer(registry, LottoMetrics.CHANNEL_GUEST, "OTHER").count()).isEqualTo(2);
+  }
+
+  private static Timer timer(SimpleMeterRegistry registry, String channel, String source) {
+    return registry
+        .get(LottoMetrics.RECOMMENDATION_TIMER)
+        .tag("channel", channel)
+        .tag("source", source)
+        .timer();
+  }
+}
@@ -0,0 +1,165 @@
+package com.lottery.lottery_service.lotto.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.lottery.lottery_service.lotto.dto.LottoRank;
+import com.lottery.lottery_service.lotto.entity.LottoNotificationOutbox.Status;
+import com.lottery.lottery_service.lotto.repository.LottoNotificationOutboxJdbcRepository;
+import com.lottery.lottery_service.lotto.repository.LottoNotificationOutboxJdbcRepository.OutboxUpdate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * WinnerNotificationDispatcher(당첨 알림 outbox 디스패처)의 단위 테스트.
+ *
+ * <p>이 테스트 클래스의 역할:
+ *
+ * <ul>
+ *   <li>선점한 배치를 발송 풀에서 보내고, 결과를 성공/재시도/최종 실패로 나눠 기록하는지 검증한다.
+ *   <li>백오프 범위(지터 포함)와 상한을 고정한다.
+ *   <li>등록되지 않은 채널은 기동 시 거절하는지 확인한다.
+ * </ul>
+ *
+ * <p>outbox 저장소는 mock이고, 채널은 중복 방지 키별로 동작을 정해 두는 테스트용 구현을 쓴다.
+ */
+class WinnerNotificationDispatcherTest {
+
+  private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 17, 21, 0);
+
+  private final LottoNotificationOutboxJdbcRepository outboxRepository =
+      mock(LottoNotificationOutboxJdbcRepository.class);
+  private final ScriptedSender sender = new ScriptedSender();
+
+  private WinnerNotificationDispatcher dispatcher;
+
+  @AfterEach
+  void tearDown() {
+    if (dispatcher != null) {
+      dispatcher.shutdown();
+    }
+  }
+
+  /**
+   * 성공은 SENT, 재시도 가능한 실패는 백오프 뒤 PENDING, 재시도 불가/한도 초과는 FAILED로 기록해야 한다.
+   *
+   * <p>이 테스트가 보장하는 것:
+   *
+   * <ul>
+   *   <li>선점한 모든 알림이 채널로 한 번씩 나간다.
+   *   <li>결과는 선점 토큰과 함께 한 번에 기록된다.
+   *   <li>재시도 시각은 기준 시각 이후이고, 누적 카운터가 결과와 맞는다.
+   * </ul>
+   */
+  @Test
+  @DisplayName("발송 결과를 성공/재시도/최종 실패로 나눠 기록한다")
+  void dispatchBatch_mixedResults_recordsEachOutcome() {
+    // given
+    sender.failures.put("winning-2", new NotificationSendException("timeout", true));
+    sender.failures.put("winning-3", new NotificationSendException("blocked", false));
+    sender.failures.put("winning-4", new IllegalStateException("connection reset"));
+    given(outboxRepository.claim(anyString(), eq(NOW), any(), eq(10)))
+        .willReturn(
+            List.of(
+                notification(1, 1), notification(2, 1), notification(3, 1), notification(4, 5)));
+    dispatcher = newDispatcher(NotificationChannel.LOG);
+
+    // when
+    int claimed = dispatcher.dispatchBatch(NOW);
+
+    // then
+    assertThat(claimed).isEqualTo(4);
+    assertThat(sender.delivered)
+        .containsOnlyKeys("winning-1", "winning-2", "winning-3", "winning-4");
+
+    ArgumentCaptor<String> token = ArgumentCaptor.forClass(String.class);
+    ArgumentCaptor<List<OutboxUpdate>> updates = ArgumentCaptor.forClass(List.class);
+    verify(outboxRepository).claim(token.capture(), eq(NOW), any(), anyInt());
+    verify(outboxRepository).finish(eq(token.getValue()), updates.capture());
+
+    Map<Long, OutboxUpdate> byId =
+        updates.getValue().stream()
+            .collect(Collectors.toMap(OutboxUpdate::id, Function.identity()));
+    assertThat(byId.get(1L).status()).isEqualTo(Status.SENT);
+    assertThat(byId.get(1L).sentAt()).isNotNull();
+    assertThat(byId.get(2L).status()).isEqualTo(Status.PENDING);
+    assertThat(byId.get(2L).nextAttemptAt()).isAfter(NOW);
+    assertThat(byId.get(2L).lastError()).isEqualTo("timeout");
+    assertThat(byId.get(3L).status()).isEqualTo(Status.FAILED);
+    assertThat(byId.get(4L).status()).isEqualTo(Status.FAILED); // 5번째 시도 = 한도
+
+    assertThat(dispatcher.sentCount()).isEqualTo(1);
+    assertThat(dispatcher.retryCount()).isEqualTo(1);
+    assertThat(dispatcher.failedCount()).isEqualTo(2);
+  }
+
+  /** 대기 시간은 base * 2^(attempt-1)의 절반~전체 사이이며, 시도가 많아도 상한을 넘지 않아야 한다. */
+  @Test
+  @DisplayName("백오프는 지수적으로 늘고 상한에서 멈춘다")
+  void backoffMillis_growsExponentiallyWithCap() {
+    SplittableRandom random = new SplittableRandom(7L);
+    for (int i = 0; i < 100; i++) {
+      assertThat(WinnerNotificationDispatcher.backoffMillis(1000, 1, random))
+          .isBetween(500L, 1000L);
+      assertThat(WinnerNotificationDispatcher.backoffMillis(1000, 4, random))
+          .isBetween(4000L, 8000L);
+      assertThat(WinnerNotificationDispatcher.backoffMillis(1000, 60, random))
+          .isBetween(
+              WinnerNotificationDispatcher.MAX_BACKOFF_MILLIS / 2,
+              WinnerNotificationDispatcher.MAX_BACKOFF_MILLIS);
+    }
+  }
+
+  @Test
+  @DisplayName("구현이 없는 채널을 고르면 기동하지 않는다")
+  void constructor_unregisteredChannel_throws() {
+    assertThatThrownBy(() -> newDispatcher(NotificationChannel.KAKAO))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  private WinnerNotificationDispatcher newDispatcher(NotificationChannel channel) {
+    return new WinnerNotificationDispatcher(
+        outboxRepository, List.of(sender), false, channel, 4, 10, 5, 1000L, 1000L);
+  }
+
+  private static WinnerNotification notification(long id, int attempt) {
+    return new WinnerNotification(
+        id, "winning-" + id, 10L, id, 1112, LottoRank.FIFTH, "1 2 3 40 41 42", attempt);
+  }
+
+  /** 키별로 정해 둔 예외를 던지고, 그 밖에는 성공하는 채널. 호출된 키를 모두 남긴다. */
+  private static final class ScriptedSender implements NotificationSender {
+    private final Map<String, RuntimeException> failures = new ConcurrentHashMap<>();
+    private final Map<String, Integer> delivered = new ConcurrentHashMap<>();
+
+    @Override
+    public NotificationChannel channel() {
+      return NotificationChannel.LOG;
+    }
+
+    @Override
+    public void send(WinnerNotification notification) {
+      delivered.merge(notification.idempotencyKey(), 1, Integer::sum);
+      RuntimeException failure = failures.get(notification.idempotencyKey());
+      if (failure != null) {
+        throw failure;
+      }
+    }
+  }
+}
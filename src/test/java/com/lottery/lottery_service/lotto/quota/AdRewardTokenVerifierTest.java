@@ -0,0 +1,74 @@
+package com.lottery.lottery_service.lotto.quota;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * AdRewardTokenVerifier(광고 시청 완료 토큰 검증기)의 단위 테스트.
+ *
+ * <p>이 테스트 클래스의 역할:
+ *
+ * <ul>
+ *   <li>같은 비밀키로 서명된 자기 토큰은 발급 시각을 돌려주며 통과하는지 확인한다.
+ *   <li>다른 회원의 토큰, 고친 토큰, 만료된 토큰, 비밀키 미설정은 모두 거절하는지 고정한다.
+ * </ul>
+ */
+class AdRewardTokenVerifierTest {
+
+  private static final long MEMBER = 7L;
+  private static final Instant NOW = Instant.parse("2026-10-18T03:00:00Z");
+  private static final Clock CLOCK = Clock.fixed(NOW, ZoneId.of("Asia/Seoul"));
+
+  private final AdRewardTokenVerifier verifier = new AdRewardTokenVerifier("secret", 600, CLOCK);
+
+  @Test
+  @DisplayName("자기 회원 ID로 서명된 유효한 토큰은 발급 시각을 돌려준다")
+  void verify_validToken_returnsIssuedAt() {
+    long issuedAt = NOW.toEpochMilli() - 1_000;
+
+    assertThat(verifier.verify(MEMBER, verifier.issue(MEMBER, issuedAt, "tx-1")))
+        .isEqualTo(issuedAt);
+  }
+
+  @Test
+  @DisplayName("다른 회원의 토큰이나 고친 토큰은 거절한다")
+  void verify_otherMemberOrTampered_throws() {
+    String token = verifier.issue(MEMBER, NOW.toEpochMilli(), "tx-1");
+    String tampered = token.replace("tx-1", "tx-2");
+
+    assertThatThrownBy(() -> verifier.verify(MEMBER + 1, token))
+        .isInstanceOf(InvalidAdRewardTokenException.class);
+    assertThatThrownBy(() -> verifier.verify(MEMBER, tampered))
+        .isInstanceOf(InvalidAdRewardTokenException.class);
+    assertThatThrownBy(() -> verifier.verify(MEMBER, "not-a-token"))
+        .isInstanceOf(InvalidAdRewardTokenException.class);
+  }
+
+  @Test
+  @DisplayName("유효 시간이 지났거나 미래에 발급된 토큰은 거절한다")
+  void verify_expiredOrFuture_throws() {
+    String expired = verifier.issue(MEMBER, NOW.toEpochMilli() - 601_000, "tx-1");
+    String future = verifier.issue(MEMBER, NOW.toEpochMilli() + 1_000, "tx-2");
+
+    assertThatThrownBy(() -> verifier.verify(MEMBER, expired))
+        .isInstanceOf(InvalidAdRewardTokenException.class);
+    assertThatThrownBy(() -> verifier.verify(MEMBER, future))
+        .isInstanceOf(InvalidAdRewardTokenException.class);
+  }
+
+  @Test
+  @DisplayName("비밀키가 없으면 어떤 토큰도 받지 않는다")
+  void verify_noSecret_rejectsEverything() {
+    AdRewardTokenVerifier unconfigured = new AdRewardTokenVerifier("", 600, CLOCK);
+    String token = verifier.issue(MEMBER, NOW.toEpochMilli(), "tx-1");
+
+    assertThatThrownBy(() -> unconfigured.verify(MEMBER, token))
+        .isInstanceOf(InvalidAdRewardTokenException.class);
+  }
+}
@@ -0,0 +1,260 @@
+package com.lottery.lottery_service.lotto.quota;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.lottery.lottery_service.lotto.repository.MemberRoundQuotaJdbcRepository;
+import com.lottery.lottery_service.lotto.repository.MemberRoundQuotaJdbcRepository.QuotaRow;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * RecommendationQuotaService(회원 추천 한도)의 단위 테스트.
+ *
+ * <p>이 테스트 클래스의 역할:
+ *
+ * <ul>
+ *   <li>조건부 UPDATE가 성공하면 추가 조회 없이 끝나는지 확인한다.
+ *   <li>회차 첫 추천은 행을 만들고, 거절은 사유와 사용량을 담아 던지는지 검증한다.
+ *   <li>한 번 거절된 회원은 DB를 거치지 않고 거절되며, 광고 보상이 그 상태를 지우는지 확인한다.
+ *   <li>광고 보상은 검증된 토큰만 받고, 재사용과 하루 상한을 구분해 거절하는지 검증한다.
+ *   <li>날짜가 지난 행은 일일 사용량을 0으로 보는지 고정한다.
+ * </ul>
+ *
+ * <p>한도 조건 자체는 SQL(WHERE 절)에 있으므로 저장소는 mock으로 두고 결과만 정해 준다.
+ */
+class RecommendationQuotaServiceTest {
+
+  private static final long MEMBER = 7L;
+  private static final int ROUND = 1112;
+  private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+  private static final LocalDate TODAY = LocalDate.of(2026, 10, 18);
+
+  private final MemberRoundQuotaJdbcRepository repository =
+      mock(MemberRoundQuotaJdbcRepository.class);
+
+  private static final Instant NOW = Instant.parse("2026-10-18T03:00:00Z");
+
+  private final AdRewardTokenVerifier verifier =
+      new AdRewardTokenVerifier("test-secret", 600, Clock.fixed(NOW, ZONE));
+
+  private RecommendationQuotaService service;
+
+  @BeforeEach
+  void setUp() {
+    service = new RecommendationQuotaService(repository, verifier, Clock.fixed(NOW, ZONE));
+  }
+
+  @Test
+  @DisplayName("한도 안이면 조건부 UPDATE 한 번으로 끝난다")
+  void acquire_withinLimit_singleUpdate() {
+    // given
+    givenConsume(true);
+
+    // when
+    service.acquire(MEMBER, ROUND, 5);
+
+    // then
+    verify(repository, never()).find(anyLong(), anyInt());
+    verify(repository, never()).insert(anyLong(), anyInt(), any(), any());
+  }
+
+  @Test
+  @DisplayName("회차 첫 추천이면 사용량 1번/5세트로 행을 만든다")
+  void acquire_firstOfRound_insertsRow() {
+    // given
+    givenConsume(false);
+    given(repository.find(MEMBER, ROUND)).willReturn(Optional.empty());
+    given(repository.insert(eq(MEMBER), eq(ROUND), any(), any())).willReturn(true);
+
+    // when
+    service.acquire(MEMBER, ROUND, 5);
+
+    // then
+    verify(repository).insert(eq(MEMBER), eq(ROUND), eq(new QuotaRow(TODAY, 1, 0, 5)), any());
+  }
+
+  /**
+   * 테이블이 거절하면 사유를 담아 던지고, 같은 회원의 다음 요청은 DB를 거치지 않고 거절해야 한다.
+   *
+   * <p>이 테스트가 보장하는 것:
+   *
+   * <ul>
+   *   <li>오늘 5번을 다 쓴 회원은 DAILY로 거절된다.
+   *   <li>두 번째 요청에서는 조건부 UPDATE가 다시 나가지 않는다.
+   *   <li>광고 보상을 받으면 메모리 거절이 풀려 다시 DB로 간다.
+   * </ul>
+   */
+  @Test
+  @DisplayName("거절된 회원은 메모리에서 바로 거절하고, 광고 보상이 이를 푼다")
+  void acquire_dailyExhausted_rejectsFromMemoryUntilAdReward() {
+    // given
+    givenConsume(false);
+    given(repository.find(MEMBER, ROUND)).willReturn(Optional.of(new QuotaRow(TODAY, 5, 0, 25)));
+
+    // when & then
+    assertThatThrownBy(() -> service.acquire(MEMBER, ROUND, 5))
+        .isInstanceOf(QuotaExceededException.class)
+        .satisfies(
+            e -> {
+              QuotaExceededException q = (QuotaExceededException) e;
+              assertThat(q.getLimit()).isEqualTo(QuotaExceededException.Limit.DAILY);
+              assertThat(q.getStatus().remainingSets()).isEqualTo(5);
+            });
+    assertThatThrownBy(() -> service.acquire(MEMBER, ROUND, 5))
+        .isInstanceOf(QuotaExceededException.class);
+    verify(repository, times(1))
+        .tryConsume(anyLong(), anyInt(), any(), anyInt(), anyInt(), anyInt(), any());
+    assertThat(service.fastRejectCount()).isEqualTo(1);
+    assertThat(service.dbRejectCount()).isEqualTo(1);
+
+    // when: 광고 보상
+    givenAddBonus(true);
+    given(repository.find(MEMBER, ROUND)).willReturn(Optional.of(new QuotaRow(TODAY, 5, 5, 25)));
+    QuotaStatus status = service.grantAdReward(MEMBER, ROUND, token(0));
+    givenConsume(true);
+    service.acquire(MEMBER, ROUND, 5);
+
+    // then
+    assertThat(status.dailyLimit()).isEqualTo(10);
+    assertThat(status.remainingToday()).isEqualTo(5);
+    verify(repository, times(2))
+        .tryConsume(anyLong(), anyInt(), any(), anyInt(), anyInt(), anyInt(), any());
+  }
+
+  @Test
+  @DisplayName("회차 세트 한도를 넘으면 ROUND로 거절한다")
+  void acquire_roundExhausted_throwsRoundLimit() {
+    // given
+    givenConsume(false);
+    given(repository.find(MEMBER, ROUND)).willReturn(Optional.of(new QuotaRow(TODAY, 1, 0, 30)));
+
+    // when & then
+    assertThatThrownBy(() -> service.acquire(MEMBER, ROUND, 5))
+        .isInstanceOf(QuotaExceededException.class)
+        .extracting(e -> ((QuotaExceededException) e).getLimit())
+        .isEqualTo(QuotaExceededException.Limit.ROUND);
+  }
+
+  @Test
+  @DisplayName("검증되지 않은 광고 토큰은 사용량을 건드리지 않고 거절한다")
+  void grantAdReward_unverifiedToken_throwsWithoutUpdate() {
+    String otherMembers = verifier.issue(MEMBER + 1, NOW.toEpochMilli(), "tx-1");
+
+    assertThatThrownBy(() -> service.grantAdReward(MEMBER, ROUND, otherMembers))
+        .isInstanceOf(InvalidAdRewardTokenException.class);
+    assertThatThrownBy(() -> service.grantAdReward(MEMBER, ROUND, "123.tx-1.forged"))
+        .isInstanceOf(InvalidAdRewardTokenException.class);
+    verify(repository, never())
+        .addBonus(anyLong(), anyInt(), any(), anyInt(), anyInt(), anyLong(), any());
+  }
+
+  /**
+   * 보상 UPDATE가 거절되면 행을 읽어 사유를 가려야 한다.
+   *
+   * <p>이 테스트가 보장하는 것:
+   *
+   * <ul>
+   *   <li>이미 쓴 토큰(마지막 토큰보다 이르거나 같은 발급 시각)은 403용 예외로 거절한다.
+   *   <li>새 토큰인데 거절됐으면 하루 상한이므로 AD_REWARD 한도로 거절한다.
+   *   <li>UPDATE에는 하루 상한과 토큰 발급 시각이 그대로 넘어간다.
+   * </ul>
+   */
+  @Test
+  @DisplayName("이미 쓴 토큰은 거절하고, 하루 광고 보상 상한을 넘으면 AD_REWARD로 거절한다")
+  void grantAdReward_rejectedUpdate_distinguishesReplayFromDailyCap() {
+    // given: 오늘 3번 받았고 마지막 토큰은 1분 전 발급
+    long lastToken = NOW.toEpochMilli() - 60_000;
+    givenAddBonus(false);
+    given(repository.find(MEMBER, ROUND))
+        .willReturn(Optional.of(new QuotaRow(TODAY, 5, 15, 25, 3, lastToken)));
+
+    // when & then: 같은 토큰 재사용
+    assertThatThrownBy(() -> service.grantAdReward(MEMBER, ROUND, token(-60_000)))
+        .isInstanceOf(InvalidAdRewardTokenException.class);
+
+    // when & then: 새 토큰이지만 상한
+    assertThatThrownBy(() -> service.grantAdReward(MEMBER, ROUND, token(0)))
+        .isInstanceOf(QuotaExceededException.class)
+        .extracting(e -> ((QuotaExceededException) e).getLimit())
+        .isEqualTo(QuotaExceededException.Limit.AD_REWARD);
+    verify(repository)
+        .addBonus(
+            MEMBER,
+            ROUND,
+            TODAY,
+            RecommendationQuotaService.AD_BONUS,
+            RecommendationQuotaService.DAILY_AD_REWARD_LIMIT,
+            NOW.toEpochMilli(),
+            TODAY.atTime(12, 0));
+  }
+
+  @Test
+  @DisplayName("회차 첫 광고 보상이면 보상 1회와 토큰 발급 시각으로 행을 만든다")
+  void grantAdReward_firstOfRound_insertsRow() {
+    // given
+    givenAddBonus(false);
+    given(repository.find(MEMBER, ROUND)).willReturn(Optional.empty());
+    given(repository.insert(eq(MEMBER), eq(ROUND), any(), any())).willReturn(true);
+
+    // when
+    service.grantAdReward(MEMBER, ROUND, token(0));
+
+    // then
+    verify(repository)
+        .insert(
+            eq(MEMBER),
+            eq(ROUND),
+            eq(
+                new QuotaRow(
+                    TODAY, 0, RecommendationQuotaService.AD_BONUS, 0, 1, NOW.toEpochMilli())),
+            any());
+  }
+
+  @Test
+  @DisplayName("날짜가 지난 행은 일일 사용량과 광고 보상을 0으로 본다")
+  void toStatus_previousDay_resetsDailyUsage() {
+    QuotaStatus status =
+        RecommendationQuotaService.toStatus(
+            ROUND, TODAY, new QuotaRow(TODAY.minusDays(1), 10, 5, 20));
+
+    assertThat(status.dailyUsed()).isZero();
+    assertThat(status.dailyLimit()).isEqualTo(RecommendationQuotaService.DAILY_LIMIT);
+    assertThat(status.roundSets()).isEqualTo(20);
+    assertThat(status.blockingLimit(5)).isNull();
+  }
+
+  /** 지금 기준 offsetMillis만큼 어긋난 시각에 발급된 토큰 */
+  private String token(long offsetMillis) {
+    return verifier.issue(MEMBER, NOW.toEpochMilli() + offsetMillis, "tx-" + offsetMillis);
+  }
+
+  private void givenAddBonus(boolean result) {
+    given(
+            repository.addBonus(
+                eq(MEMBER), eq(ROUND), eq(TODAY), anyInt(), anyInt(), anyLong(), any()))
+        .willReturn(result);
+  }
+
+  private void givenConsume(boolean result) {
+    given(
+            repository.tryConsume(
+                eq(MEMBER), eq(ROUND), eq(TODAY), anyInt(), anyInt(), anyInt(), any()))
+        .willReturn(result);
+  }
+}
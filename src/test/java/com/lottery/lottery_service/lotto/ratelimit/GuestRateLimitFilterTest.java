@@ -0,0 +1,205 @@
+package com.lottery.lottery_service.lotto.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.servlet.http.Cookie;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * GuestRateLimitFilter(비회원 API 요청 제한 필터)의 단위 테스트.
+ *
+ * <p>이 테스트 클래스의 역할:
+ *
+ * <ul>
+ *   <li>한도를 넘은 요청이 체인(컨트롤러)에 닿지 않고 429 + Retry-After로 끝나는지 확인한다.
+ *   <li>쿠키가 없으면 기기 쿠키를 발급하고, 있으면 그 쿠키 단위로 센다는 것을 검증한다.
+ *   <li>쿠키를 바꿔 가며 보내도 IP 한도에 걸리는지 고정한다.
+ *   <li>쿠키 없이 몰려오는 요청이 기기 버킷을 만들지 않고, 다른 클라이언트를 막지 않는지 확인한다.
+ *   <li>정리 스레드가 부르는 정리는 다시 가득 찬 버킷만 지우는지 확인한다.
+ *   <li>비회원 경로가 아니면 세지 않는다는 것을 확인한다.
+ * </ul>
+ */
+class GuestRateLimitFilterTest {
+
+  private static final String PATH = "/api/lotto/guests/recommendations";
+  private static final String DEVICE = "0f8fad5b-d9cb-469f-a165-70867728950e";
+  private static final long MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+  private final AtomicLong clock = new AtomicLong(1_000 * MINUTE);
+
+  private GuestRateLimitFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    // 기기: 버스트 2, 분당 2개 / IP: 버스트 3, 분당 3개
+    filter =
+        new GuestRateLimitFilter(
+            true,
+            new TokenBucketRateLimiter(2, MINUTE / 2, 100),
+            new TokenBucketRateLimiter(3, MINUTE / 3, 100),
+            clock::get,
+            60_000);
+  }
+
+  @Test
+  @DisplayName("기기 한도를 넘으면 체인을 부르지 않고 429와 Retry-After를 돌려준다")
+  void deviceLimitExceeded_rejectsBeforeChain() throws Exception {
+    // given
+    perform(request(DEVICE, "10.0.0.1"));
+    perform(request(DEVICE, "10.0.0.1"));
+
+    // when
+    MockFilterChain chain = new MockFilterChain();
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request(DEVICE, "10.0.0.1"), response, chain);
+
+    // then
+    assertThat(chain.getRequest()).isNull();
+    assertThat(response.getStatus()).isEqualTo(429);
+    assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("30");
+    assertThat(response.getContentAsString()).contains("message");
+  }
+
+  @Test
+  @DisplayName("쿠키가 없으면 기기 쿠키를 발급하고 요청은 통과시킨다")
+  void noCookie_issuesDeviceCookie() throws Exception {
+    // when
+    MockFilterChain chain = new MockFilterChain();
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request(null, "10.0.0.1"), response, chain);
+
+    // then
+    assertThat(chain.getRequest()).isNotNull();
+    assertThat(response.getHeader(HttpHeaders.SET_COOKIE))
+        .startsWith(GuestRateLimitFilter.DEVICE_COOKIE + "=")
+        .contains("HttpOnly");
+  }
+
+  @Test
+  @DisplayName("쿠키를 바꿔 가며 보내도 같은 IP면 IP 한도에서 막힌다")
+  void rotatingCookies_hitIpLimit() throws Exception {
+    // given: 요청마다 새 기기(쿠키 없음)
+    assertThat(perform(request(null, "10.0.0.2")).getStatus()).isEqualTo(200);
+    assertThat(perform(request(null, "10.0.0.2")).getStatus()).isEqualTo(200);
+    assertThat(perform(request(null, "10.0.0.2")).getStatus()).isEqualTo(200);
+
+    // when
+    MockHttpServletResponse rejected = perform(request(null, "10.0.0.2"));
+
+    // then
+    assertThat(rejected.getStatus()).isEqualTo(429);
+    assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("20");
+    assertThat(perform(request(null, "10.0.0.3")).getStatus()).isEqualTo(200);
+  }
+
+  /**
+   * 한 IP에서 쿠키 없이 많이 보내도 그 IP만 막혀야 한다.
+   *
+   * <p>이 테스트가 보장하는 것:
+   *
+   * <ul>
+   *   <li>쿠키 없는 요청은 IP 버킷으로만 세고 기기 버킷을 만들지 않는다.
+   *   <li>다른 IP의 쿠키 있는/없는 클라이언트는 그대로 통과한다.
+   * </ul>
+   */
+  @Test
+  @DisplayName("쿠키 없는 요청이 몰려도 기기 버킷을 만들지 않고 다른 클라이언트는 막지 않는다")
+  void manyCookielessRequests_doNotBlockOtherClients() throws Exception {
+    // given
+    int rejected = 0;
+    for (int i = 0; i < 1_000; i++) {
+      if (perform(request(null, "10.0.0.9")).getStatus() == 429) {
+        rejected++;
+      }
+    }
+
+    // when
+    MockHttpServletResponse withCookie = perform(request(DEVICE, "10.0.0.1"));
+    MockHttpServletResponse withoutCookie = perform(request(null, "10.0.0.3"));
+
+    // then
+    assertThat(rejected).isEqualTo(1_000 - 3);
+    assertThat(filter.deviceLimiter().size()).isEqualTo(1);
+    assertThat(withCookie.getStatus()).isEqualTo(200);
+    assertThat(withoutCookie.getStatus()).isEqualTo(200);
+  }
+
+  @Test
+  @DisplayName("시간이 지나면 다시 허용된다")
+  void afterRefill_allowsAgain() throws Exception {
+    // given
+    perform(request(DEVICE, "10.0.0.1"));
+    perform(request(DEVICE, "10.0.0.1"));
+    assertThat(perform(request(DEVICE, "10.0.0.1")).getStatus()).isEqualTo(429);
+
+    // when
+    clock.addAndGet(MINUTE / 2);
+
+    // then
+    assertThat(perform(request(DEVICE, "10.0.0.1")).getStatus()).isEqualTo(200);
+  }
+
+  @Test
+  @DisplayName("정리는 다시 가득 찬 기기/IP 버킷만 지운다")
+  void evictIdle_removesOnlyRefilledBuckets() throws Exception {
+    // given
+    perform(request(DEVICE, "10.0.0.1"));
+    clock.addAndGet(MINUTE);
+    perform(request(DEVICE, "10.0.0.2"));
+
+    // when: 10.0.0.1 버킷만 다시 가득 찼다(기기 버킷은 방금 썼다)
+    filter.evictIdle();
+
+    // then
+    assertThat(filter.ipLimiter().size()).isEqualTo(1);
+    assertThat(filter.deviceLimiter().size()).isEqualTo(1);
+
+    clock.addAndGet(MINUTE);
+    filter.evictIdle();
+    assertThat(filter.ipLimiter().size()).isZero();
+    assertThat(filter.deviceLimiter().size()).isZero();
+  }
+
+  @Test
+  @DisplayName("비회원 경로가 아니면 세지 않는다")
+  void otherPath_notLimited() throws Exception {
+    for (int i = 0; i < 10; i++) {
+      MockHttpServletRequest request = request(DEVICE, "10.0.0.1");
+      request.setRequestURI("/api/lotto/statistics/numbers");
+      assertThat(perform(request).getStatus()).isEqualTo(200);
+    }
+    assertThat(filter.deviceLimiter().size()).isZero();
+  }
+
+  @Test
+  @DisplayName("Retry-After는 초 단위로 올림하고 최소 1초다")
+  void retryAfterSeconds_roundsUp() {
+    assertThat(GuestRateLimitFilter.retryAfterSeconds(1)).isEqualTo(1);
+    assertThat(GuestRateLimitFilter.retryAfterSeconds(TimeUnit.SECONDS.toNanos(2))).isEqualTo(2);
+    assertThat(GuestRateLimitFilter.retryAfterSeconds(TimeUnit.SECONDS.toNanos(2) + 1))
+        .isEqualTo(3);
+  }
+
+  private MockHttpServletResponse perform(MockHttpServletRequest request) throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request, response, new MockFilterChain());
+    return response;
+  }
+
+  private static MockHttpServletRequest request(String device, String remoteAddr) {
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", PATH);
+    request.setRemoteAddr(remoteAddr);
+    if (device != null) {
+      request.setCookies(new Cookie(GuestRateLimitFilter.DEVICE_COOKIE, device));
+    }
+    return request;
+  }
+}
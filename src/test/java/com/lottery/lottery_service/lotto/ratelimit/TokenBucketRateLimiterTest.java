@@ -0,0 +1,141 @@
+package com.lottery.lottery_service.lotto.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * TokenBucketRateLimiter(키별 토큰 버킷)의 단위 테스트.
+ *
+ * <p>이 테스트 클래스의 역할:
+ *
+ * <ul>
+ *   <li>버스트만큼 허용한 뒤 거절하고, 남은 대기 시간을 정확히 돌려주는지 확인한다.
+ *   <li>시간이 지나면 간격마다 토큰 1개씩 다시 차는지 검증한다.
+ *   <li>가득 찬 버킷만 지워지고, 키 수 상한을 넘는 새 키는 공용 버킷을 쓰는지 고정한다.
+ *   <li>요청 경로는 버킷을 지우지 않고, 정리가 돈 뒤에야 새 키가 자리를 받는지 확인한다.
+ * </ul>
+ *
+ * <p>시각은 모두 인자로 넘기므로 실제 시간을 기다리지 않는다.
+ */
+class TokenBucketRateLimiterTest {
+
+  private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+  private static final long T0 = 1_000 * SECOND;
+
+  @Test
+  @DisplayName("버스트만큼 허용한 뒤 거절하고, 토큰 1개가 찰 때까지의 시간을 돌려준다")
+  void tryAcquire_burstThenReject() {
+    // given: 버스트 3, 초당 1개
+    TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(3, SECOND, 100);
+
+    // when & then
+    assertThat(limiter.tryAcquire("a", T0)).isZero();
+    assertThat(limiter.tryAcquire("a", T0)).isZero();
+    assertThat(limiter.tryAcquire("a", T0)).isZero();
+    assertThat(limiter.tryAcquire("a", T0)).isEqualTo(SECOND);
+    assertThat(limiter.tryAcquire("a", T0 + SECOND / 4)).isEqualTo(SECOND * 3 / 4);
+    assertThat(limiter.rejectedCount()).isEqualTo(2);
+
+    // 다른 키는 영향받지 않는다
+    assertThat(limiter.tryAcquire("b", T0)).isZero();
+  }
+
+  @Test
+  @DisplayName("간격마다 토큰이 1개씩 다시 차고, 버스트 이상은 쌓이지 않는다")
+  void tryAcquire_refillsOnePerInterval() {
+    // given
+    TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(2, SECOND, 100);
+    limiter.tryAcquire("a", T0);
+    limiter.tryAcquire("a", T0);
+
+    // when & then: 1초 뒤 1개
+    assertThat(limiter.tryAcquire("a", T0 + SECOND)).isZero();
+    assertThat(limiter.tryAcquire("a", T0 + SECOND)).isPositive();
+
+    // 한참 쉬어도 버스트(2)까지만
+    long later = T0 + 100 * SECOND;
+    assertThat(limiter.tryAcquire("a", later)).isZero();
+    assertThat(limiter.tryAcquire("a", later)).isZero();
+    assertThat(limiter.tryAcquire("a", later)).isPositive();
+  }
+
+  @Test
+  @DisplayName("가득 찬 버킷만 지우며, 지운 뒤에도 허용/거절 결과가 같다")
+  void evictIdle_removesOnlyFullBuckets() {
+    // given
+    TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(2, SECOND, 100);
+    limiter.tryAcquire("idle", T0);
+    limiter.tryAcquire("busy", T0 + 5 * SECOND);
+    limiter.tryAcquire("busy", T0 + 5 * SECOND);
+
+    // when
+    int removed = limiter.evictIdle(T0 + 5 * SECOND);
+
+    // then
+    assertThat(removed).isEqualTo(1);
+    assertThat(limiter.size()).isEqualTo(1);
+    assertThat(limiter.tryAcquire("busy", T0 + 5 * SECOND)).isPositive();
+    assertThat(limiter.tryAcquire("idle", T0 + 5 * SECOND)).isZero();
+  }
+
+  /**
+   * 키 수 상한에서 유휴 버킷이 없으면 새 키는 공용 버킷을 함께 써야 한다.
+   *
+   * <p>이 테스트가 보장하는 것:
+   *
+   * <ul>
+   *   <li>맵 크기는 상한을 넘지 않는다.
+   *   <li>새 키들이 공용 버킷 하나의 버스트를 나눠 쓴다.
+   *   <li>요청 경로는 유휴 버킷을 지우지 않는다(키 수에 비례하는 일을 요청 스레드에서 하지 않음).
+   *   <li>정리가 돌아 유휴 버킷이 지워지면 새 키가 다시 자기 버킷을 받는다.
+   * </ul>
+   */
+  @Test
+  @DisplayName("키 수 상한에 닿으면 새 키는 공용 버킷을 쓰고, 정리 뒤에는 자기 버킷을 받는다")
+  void tryAcquire_atCapacity_usesOverflowBucket() {
+    // given: 상한 2, 두 키 모두 사용 중
+    TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(2, SECOND, 2);
+    long now = System.nanoTime();
+    limiter.tryAcquire("a", now);
+    limiter.tryAcquire("b", now);
+
+    // when
+    long first = limiter.tryAcquire("c", now);
+    long second = limiter.tryAcquire("d", now);
+    long third = limiter.tryAcquire("e", now);
+
+    // then
+    assertThat(limiter.size()).isEqualTo(2);
+    assertThat(first).isZero();
+    assertThat(second).isZero();
+    assertThat(third).isPositive();
+    assertThat(limiter.overflowCount()).isEqualTo(3);
+
+    // when: a, b가 다시 가득 찬 뒤에도 정리 전까지는 공용 버킷
+    long later = now + 10 * SECOND;
+    assertThat(limiter.tryAcquire("f", later)).isZero();
+    assertThat(limiter.size()).isEqualTo(2);
+    assertThat(limiter.overflowCount()).isEqualTo(4);
+
+    // when: 정리 뒤
+    assertThat(limiter.evictIdle(later)).isEqualTo(2);
+    assertThat(limiter.tryAcquire("g", later)).isZero();
+
+    // then
+    assertThat(limiter.size()).isEqualTo(1);
+    assertThat(limiter.overflowCount()).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("0 이하 설정은 만들 때 거절한다")
+  void constructor_rejectsNonPositiveSettings() {
+    assertThatThrownBy(() -> new TokenBucketRateLimiter(0, SECOND, 10))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new TokenBucketRateLimiter(1, SECOND, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,143 @@
+package com.lottery.lottery_service.lotto.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.lottery.lottery_service.lotto.dto.LottoRank;
+import com.lottery.lottery_service.lotto.entity.LottoWinning;
+import com.lottery.lottery_service.lotto.notification.WinnerNotification;
+import com.lottery.lottery_service.lotto.repository.LottoNotificationOutboxJdbcRepository.OutboxUpdate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * LottoNotificationOutboxJdbcRepository(당첨 알림 outbox)의 저장소 테스트.
+ *
+ * <p>이 테스트 클래스의 역할:
+ *
+ * <ul>
+ *   <li>정산 청크의 INSERT가 회원 당첨만 PENDING으로 쌓는지 확인한다.
+ *   <li>선점(claim)이 기한이 된 행만 토큰을 박아 가져가고, 선점 중인 행은 만료 전까지 다른 배치가 가져가지 않는지 검증한다.
+ *   <li>결과 기록(finish)이 자기 토큰의 행만 바꾸고, 재시도 행은 다음 시도 시각까지 다시 선점되지 않는지 고정한다.
+ * </ul>
+ *
+ * <p>테스트 프로필의 H2(MySQL 모드)에 엔티티로 만든 스키마를 쓴다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(LottoNotificationOutboxJdbcRepository.class)
+class LottoNotificationOutboxJdbcRepositoryTest {
+
+  private static final LocalDateTime NOW = LocalDateTime.of(2025, 10, 4, 21, 0);
+
+  @Autowired private LottoNotificationOutboxJdbcRepository repository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Test
+  @DisplayName("회원 당첨만 발송 대기로 쌓고, 비회원 당첨은 건너뛴다")
+  void enqueueWinnings_membersOnly() {
+    // when
+    int queued =
+        repository.enqueueWinnings(
+            List.of(winning(10L, 1L, 1), winning(11L, null, 5), winning(12L, 2L, 3)), NOW);
+
+    // then
+    assertThat(queued).isEqualTo(2);
+    assertThat(
+            jdbcTemplate.queryForList(
+                "SELECT idempotency_key FROM lotto_notification_outbox"
+                    + " WHERE status = 'PENDING' ORDER BY id",
+                String.class))
+        .containsExactly("winning-10", "winning-12");
+  }
+
+  /**
+   * 선점 중인 행은 만료 전까지 다른 배치가 가져가지 않고, 만료 뒤에 가져간 배치가 생기면 예전 배치의 결과는 무시되어야 한다.
+   *
+   * <p>이 테스트가 보장하는 것:
+   *
+   * <ul>
+   *   <li>첫 선점은 기한이 된 행을 모두 가져가고 시도 횟수를 1로 올린다.
+   *   <li>만료 전 다른 토큰의 선점은 빈 목록이다.
+   *   <li>만료 뒤 다른 토큰이 다시 가져가면 시도 횟수가 2가 되고, 예전 토큰의 finish는 아무것도 바꾸지 않는다.
+   *   <li>새 토큰의 finish는 SENT와 발송 시각을 기록하고 토큰을 지운다.
+   * </ul>
+   */
+  @Test
+  @DisplayName("선점은 만료 전까지 독점이고, 만료 뒤 다른 배치가 가져가면 예전 배치의 결과는 무시된다")
+  void claimAndFinish_leaseAndToken() {
+    // given
+    repository.enqueueWinnings(List.of(winning(10L, 1L, 1), winning(12L, 2L, 3)), NOW);
+    LocalDateTime lease = NOW.plusMinutes(5);
+
+    // when
+    List<WinnerNotification> first = repository.claim("token-a", NOW, lease, 10);
+    List<WinnerNotification> during = repository.claim("token-b", NOW.plusMinutes(1), lease, 10);
+
+    // then
+    assertThat(first)
+        .extracting(
+            WinnerNotification::recordId, WinnerNotification::rank, WinnerNotification::attempt)
+        .containsExactly(tuple(10L, LottoRank.FIRST, 1), tuple(12L, LottoRank.THIRD, 1));
+    assertThat(during).isEmpty();
+
+    // when: 선점 만료 뒤 다른 배치가 1건만 가져간다
+    LocalDateTime expired = lease.plusSeconds(1);
+    List<WinnerNotification> retaken =
+        repository.claim("token-b", expired, expired.plusMinutes(5), 1);
+    long retakenId = retaken.get(0).outboxId();
+    repository.finish("token-a", List.of(OutboxUpdate.sent(retakenId, expired)));
+    repository.finish("token-b", List.of(OutboxUpdate.sent(retakenId, expired)));
+
+    // then
+    assertThat(retaken).extracting(WinnerNotification::attempt).containsExactly(2);
+    assertThat(
+            jdbcTemplate.queryForList(
+                "SELECT status, claim_token, sent_at FROM lotto_notification_outbox WHERE id = ?",
+                retakenId))
+        .singleElement()
+        .satisfies(
+            row -> {
+              assertThat(row.get("STATUS")).isEqualTo("SENT");
+              assertThat(row.get("CLAIM_TOKEN")).isNull();
+              assertThat(row.get("SENT_AT")).isNotNull();
+            });
+  }
+
+  @Test
+  @DisplayName("재시도로 돌려놓은 행은 다음 시도 시각이 되어야 다시 선점된다")
+  void finish_retry_reclaimableOnlyAfterNextAttempt() {
+    // given
+    repository.enqueueWinnings(List.of(winning(10L, 1L, 2)), NOW);
+    long id = repository.claim("token-a", NOW, NOW.plusMinutes(5), 10).get(0).outboxId();
+    LocalDateTime retryAt = NOW.plusMinutes(1);
+
+    // when
+    repository.finish("token-a", List.of(OutboxUpdate.retry(id, retryAt, "channel down")));
+
+    // then
+    assertThat(repository.claim("token-b", retryAt.minusSeconds(1), retryAt.plusMinutes(5), 10))
+        .isEmpty();
+    assertThat(repository.claim("token-b", retryAt, retryAt.plusMinutes(5), 10))
+        .extracting(WinnerNotification::outboxId, WinnerNotification::attempt)
+        .containsExactly(tuple(id, 2));
+  }
+
+  private static LottoWinning winning(long recordId, Long memberId, int rank) {
+    return LottoWinning.builder()
+        .recordId(recordId)
+        .memberId(memberId)
+        .round(1193)
+        .numbers("1 2 3 4 5 6")
+        .rank(rank)
+        .settledAt(NOW)
+        .build();
+  }
+}
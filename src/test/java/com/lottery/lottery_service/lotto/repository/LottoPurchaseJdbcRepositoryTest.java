@@ -0,0 +1,124 @@
+package com.lottery.lottery_service.lotto.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.lottery.lottery_service.lotto.repository.LottoPurchaseJdbcRepository.ExistingRecord;
+import com.lottery.lottery_service.member.entity.Member;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * LottoPurchaseJdbcRepository(구매 번호 저장)의 저장소 테스트.
+ *
+ * <p>이 테스트 클래스의 역할:
+ *
+ * <ul>
+ *   <li>수동 기록 INSERT가 uk_lotto_record_manual_entry에 걸리면 새 행 없이 purchased만 올리는지(ON DUPLICATE KEY
+ *       UPDATE) 검증한다.
+ *   <li>같은 번호의 추천 기록(manual_entry_key NULL)은 유니크 검사에서 빠져 수동 기록과 따로 남는지 확인한다.
+ *   <li>IN 조회와 purchased 일괄 UPDATE가 이미 구매한 행을 다시 세지 않는지 고정한다.
+ * </ul>
+ *
+ * <p>테스트 프로필의 H2(MySQL 모드)에 엔티티로 만든 스키마를 쓴다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(LottoPurchaseJdbcRepository.class)
+class LottoPurchaseJdbcRepositoryTest {
+
+  private static final int ROUND = 1193;
+  private static final String NUMBERS = "3 8 14 22 33 41";
+  private static final LocalDateTime NOW = LocalDateTime.of(2025, 10, 4, 9, 0);
+
+  @Autowired private LottoPurchaseJdbcRepository repository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private TestEntityManager entityManager;
+
+  private long memberId;
+
+  @BeforeEach
+  void setUp() {
+    memberId = entityManager.persistAndFlush(Member.newMember(null, "buyer", null)).getId();
+  }
+
+  /**
+   * 같은 수동 번호를 다시 저장하면 유니크 키에 걸려 기존 행의 purchased만 올라가야 한다.
+   *
+   * <p>이 테스트가 보장하는 것:
+   *
+   * <ul>
+   *   <li>첫 저장은 manual/purchased 행 1개를 만든다.
+   *   <li>다시 저장해도 행은 1개이고, 그사이 내려간 purchased가 다시 TRUE가 된다.
+   * </ul>
+   */
+  @Test
+  @DisplayName("같은 수동 번호를 다시 저장하면 새 행 없이 purchased만 올린다")
+  void upsertManual_duplicate_updatesPurchasedOnly() {
+    // given
+    repository.upsertManual(memberId, ROUND, List.of(NUMBERS), NOW);
+    jdbcTemplate.update("UPDATE lotto_record SET purchased = FALSE WHERE member_id = ?", memberId);
+
+    // when
+    repository.upsertManual(memberId, ROUND, List.of(NUMBERS, "1 2 3 4 5 6"), NOW.plusHours(1));
+
+    // then
+    assertThat(manualRows())
+        .extracting(ExistingRecord::numbers, ExistingRecord::purchased)
+        .containsExactlyInAnyOrder(tuple(NUMBERS, true), tuple("1 2 3 4 5 6", true));
+  }
+
+  /**
+   * 추천 기록은 manual_entry_key가 NULL이라 같은 번호의 수동 기록과 부딪히지 않고, 구매 표시는 아직 구매하지 않은 행만 바꿔야 한다.
+   *
+   * <p>이 테스트가 보장하는 것:
+   *
+   * <ul>
+   *   <li>같은 번호의 추천 기록이 있어도 수동 기록이 따로 1행 생긴다.
+   *   <li>IN 조회가 두 행을 모두 돌려준다.
+   *   <li>purchased 일괄 UPDATE는 이미 구매한 행을 세지 않는다.
+   * </ul>
+   */
+  @Test
+  @DisplayName("같은 번호의 추천 기록과 수동 기록은 따로 남고, 구매 표시는 안 산 행만 바꾼다")
+  void findExistingAndMarkPurchased_recommendationAndManualRows() {
+    // given
+    jdbcTemplate.update(
+        "INSERT INTO lotto_record (member_id, guest, numbers, round, recommended_at, manual,"
+            + " purchased, source) VALUES (?, FALSE, ?, ?, ?, FALSE, FALSE, 'BASIC')",
+        memberId,
+        NUMBERS,
+        ROUND,
+        NOW);
+    repository.upsertManual(memberId, ROUND, List.of(NUMBERS), NOW);
+
+    // when
+    List<ExistingRecord> existing =
+        repository.findExisting(memberId, ROUND, List.of(NUMBERS, "1 2 3 4 5 6"));
+
+    // then
+    assertThat(existing)
+        .extracting(ExistingRecord::numbers, ExistingRecord::purchased)
+        .containsExactlyInAnyOrder(tuple(NUMBERS, false), tuple(NUMBERS, true));
+    List<Long> ids = existing.stream().map(ExistingRecord::id).toList();
+    assertThat(repository.markPurchased(ids)).isEqualTo(1);
+    assertThat(repository.markPurchased(ids)).isZero();
+    assertThat(repository.findExisting(memberId, ROUND + 1, List.of(NUMBERS))).isEmpty();
+  }
+
+  private List<ExistingRecord> manualRows() {
+    return jdbcTemplate.query(
+        "SELECT id, numbers, purchased FROM lotto_record WHERE member_id = ? AND manual = TRUE",
+        (rs, rowNum) -> new ExistingRecord(rs.getLong(1), rs.getString(2), rs.getBoolean(3)),
+        memberId);
+  }
+}
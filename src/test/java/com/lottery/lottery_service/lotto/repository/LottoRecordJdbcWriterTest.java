@@ -0,0 +1,130 @@
+package com.lottery.lottery_service.lotto.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.lottery.lottery_service.lotto.dto.LottoSet;
+import com.lottery.lottery_service.lotto.repository.LottoRecordJdbcWriter.RecommendationRow;
+import com.lottery.lottery_service.member.entity.Member;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+
+/**
+ * LottoRecordJdbcWriter(추천 기록 multi-row INSERT)의 저장소 테스트.
+ *
+ * <p>이 테스트 클래스의 역할:
+ *
+ * <ul>
+ *   <li>세트 수가 문장 하나의 상한을 넘으면 {@value LottoRecordJdbcWriter#ROWS_PER_STATEMENT}행씩 끊어 문장 몇 개로
+ *       넣는지 검증한다.
+ *   <li>파라미터 자리가 행마다 밀리지 않아, 모든 행의 회원/비회원 구분과 번호/회차/방식이 그대로 저장되는지 확인한다.
+ * </ul>
+ *
+ * <p>테스트 프로필의 H2(MySQL 모드)에 엔티티로 만든 스키마를 쓴다. 문장 수는 실제 JdbcTemplate을 감싼 spy로 센다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class LottoRecordJdbcWriterTest {
+
+  private static final int ROUND = 1193;
+  private static final LocalDateTime AT = LocalDateTime.of(2025, 10, 4, 9, 0);
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private TestEntityManager entityManager;
+
+  private JdbcTemplate countingTemplate;
+  private LottoRecordJdbcWriter writer;
+  private long memberId;
+
+  @BeforeEach
+  void setUp() {
+    memberId = entityManager.persistAndFlush(Member.newMember(null, "writer", null)).getId();
+    countingTemplate = spy(jdbcTemplate);
+    writer = new LottoRecordJdbcWriter(countingTemplate);
+  }
+
+  /**
+   * 250세트는 100 + 100 + 50행짜리 문장 3개로 들어가고, 모든 행이 제자리에 저장되어야 한다.
+   *
+   * <p>이 테스트가 보장하는 것:
+   *
+   * <ul>
+   *   <li>반환값과 실제 행 수가 250이다.
+   *   <li>INSERT 문장은 3번만 나간다.
+   *   <li>행마다 번호가 순서대로, 회원 ID/guest=false/회차/방식이 그대로 저장된다.
+   * </ul>
+   */
+  @Test
+  @DisplayName("상한을 넘는 세트는 100행씩 끊어 문장 몇 개로 넣고, 모든 행이 제자리에 저장된다")
+  void insertRecommendations_chunksIntoMultiRowStatements() {
+    // given
+    List<LottoSet> sets = new ArrayList<>();
+    for (int i = 0; i < 250; i++) {
+      sets.add(LottoSet.of(1 + i % 40, 41, 42, 43, 44, 45));
+    }
+
+    // when
+    int inserted = writer.insertRecommendations(memberId, ROUND, "BULK", sets, AT);
+
+    // then
+    assertThat(inserted).isEqualTo(250);
+    verify(countingTemplate, times(3)).update(anyString(), any(PreparedStatementSetter.class));
+    List<String> numbers =
+        jdbcTemplate.queryForList(
+            "SELECT numbers FROM lotto_record WHERE member_id = ? AND round = ?"
+                + " AND guest = FALSE AND source = 'BULK' ORDER BY id",
+            String.class,
+            memberId,
+            ROUND);
+    assertThat(numbers)
+        .containsExactlyElementsOf(sets.stream().map(LottoSet::toCanonicalString).toList());
+  }
+
+  @Test
+  @DisplayName("회원/비회원/회차/방식이 섞인 행도 한 문장으로 각자 제자리에 저장된다")
+  void insertRows_mixedRows_singleStatement() {
+    // given
+    List<RecommendationRow> rows =
+        List.of(
+            new RecommendationRow(memberId, ROUND, "BASIC", LottoSet.of(1, 2, 3, 4, 5, 6), AT),
+            new RecommendationRow(null, ROUND + 1, "AD", LottoSet.of(7, 8, 9, 10, 11, 12), AT));
+
+    // when
+    int inserted = writer.insertRows(rows);
+
+    // then
+    assertThat(inserted).isEqualTo(2);
+    verify(countingTemplate).update(anyString(), any(PreparedStatementSetter.class));
+    assertThat(
+            jdbcTemplate.query(
+                "SELECT member_id, guest, round, source, numbers FROM lotto_record"
+                    + " WHERE round IN (?, ?) ORDER BY id",
+                (rs, rowNum) ->
+                    tuple(
+                        rs.getObject(1),
+                        rs.getBoolean(2),
+                        rs.getInt(3),
+                        rs.getString(4),
+                        rs.getString(5)),
+                ROUND,
+                ROUND + 1))
+        .containsExactly(
+            tuple(memberId, false, ROUND, "BASIC", "1 2 3 4 5 6"),
+            tuple(null, true, ROUND + 1, "AD", "7 8 9 10 11 12"));
+  }
+}
@@ -0,0 +1,148 @@
+package com.lottery.lottery_service.lotto.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.lottery.lottery_service.lotto.entity.LottoWinning;
+import com.lottery.lottery_service.member.entity.Member;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * LottoSettlementJdbcRepository(당첨 정산)의 저장소 테스트.
+ *
+ * <p>이 테스트 클래스의 역할:
+ *
+ * <ul>
+ *   <li>keyset 페이지(id > afterId ORDER BY id LIMIT n)를 이어 읽으면 회차 기록을 빠짐없이, 한 번씩만 ID 순으로 돌려주는지 검증한다.
+ *   <li>다른 회차 기록은 섞이지 않고, 비회원 기록의 회원 ID는 null로 넘어오는지 확인한다.
+ *   <li>당첨 내역 배치 INSERT가 비회원(null 회원) 행도 그대로 쓰는지 고정한다.
+ * </ul>
+ *
+ * <p>테스트 프로필의 H2(MySQL 모드)에 엔티티로 만든 스키마를 쓴다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(LottoSettlementJdbcRepository.class)
+class LottoSettlementJdbcRepositoryTest {
+
+  private static final int ROUND = 1193;
+  private static final LocalDateTime NOW = LocalDateTime.of(2025, 10, 4, 21, 0);
+
+  @Autowired private LottoSettlementJdbcRepository repository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private TestEntityManager entityManager;
+
+  private long memberId;
+
+  @BeforeEach
+  void setUp() {
+    memberId = entityManager.persistAndFlush(Member.newMember(null, "settler", null)).getId();
+  }
+
+  /**
+   * 정산은 마지막으로 읽은 ID를 다음 페이지의 afterId로 넘기며 회차를 끝까지 훑는다.
+   *
+   * <p>이 테스트가 보장하는 것:
+   *
+   * <ul>
+   *   <li>페이지를 이어 붙이면 그 회차의 기록 5건이 ID 오름차순으로 한 번씩 나온다.
+   *   <li>마지막 페이지 다음은 빈 페이지다.
+   *   <li>다른 회차(같은 회원) 기록은 나오지 않는다.
+   *   <li>비회원 기록의 회원 ID는 0이 아니라 null이다.
+   * </ul>
+   */
+  @Test
+  @DisplayName("keyset 페이지를 이어 읽으면 회차 기록을 ID 순으로 한 번씩만 돌려준다")
+  void scanTickets_keysetPages_coverRoundOnce() {
+    // given
+    List<Long> expected = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      expected.add(insertRecord(i % 2 == 0 ? memberId : null, ROUND, "1 2 3 4 5 " + (6 + i)));
+      insertRecord(memberId, ROUND + 1, "1 2 3 4 5 6");
+    }
+
+    // when
+    List<Long> scanned = new ArrayList<>();
+    List<Long> members = new ArrayList<>();
+    List<Integer> pageSizes = new ArrayList<>();
+    long afterId = 0;
+    while (true) {
+      List<Long> page = new ArrayList<>();
+      repository.scanTickets(
+          ROUND,
+          afterId,
+          2,
+          (recordId, member, numbers) -> {
+            page.add(recordId);
+            members.add(member);
+          });
+      pageSizes.add(page.size());
+      if (page.isEmpty()) {
+        break;
+      }
+      scanned.addAll(page);
+      afterId = page.get(page.size() - 1);
+    }
+
+    // then
+    assertThat(scanned).containsExactlyElementsOf(expected).isSorted();
+    assertThat(pageSizes).containsExactly(2, 2, 1, 0);
+    assertThat(members).containsExactly(memberId, null, memberId, null, memberId);
+  }
+
+  @Test
+  @DisplayName("당첨 내역은 비회원 행을 포함해 배치로 저장된다")
+  void insertWinnings_memberAndGuestRows() {
+    // when
+    repository.insertWinnings(
+        List.of(
+            LottoWinning.builder()
+                .recordId(10L)
+                .memberId(memberId)
+                .round(ROUND)
+                .numbers("1 2 3 4 5 6")
+                .rank(1)
+                .settledAt(NOW)
+                .build(),
+            LottoWinning.builder()
+                .recordId(11L)
+                .memberId(null)
+                .round(ROUND)
+                .numbers("1 2 3 4 5 7")
+                .rank(3)
+                .settledAt(NOW)
+                .build()));
+
+    // then
+    assertThat(
+            jdbcTemplate.query(
+                "SELECT record_id, member_id, prize_rank FROM lotto_winning"
+                    + " WHERE round = ? ORDER BY record_id",
+                (rs, rowNum) -> tuple(rs.getLong(1), rs.getObject(2), rs.getInt(3)),
+                ROUND))
+        .containsExactly(tuple(10L, memberId, 1), tuple(11L, null, 3));
+  }
+
+  private long insertRecord(Long member, int round, String numbers) {
+    jdbcTemplate.update(
+        "INSERT INTO lotto_record (member_id, guest, numbers, round, recommended_at, manual,"
+            + " purchased, source) VALUES (?, ?, ?, ?, ?, FALSE, FALSE, 'BASIC')",
+        member,
+        member == null,
+        numbers,
+        round,
+        NOW);
+    return jdbcTemplate.queryForObject("SELECT MAX(id) FROM lotto_record", Long.class);
+  }
+}
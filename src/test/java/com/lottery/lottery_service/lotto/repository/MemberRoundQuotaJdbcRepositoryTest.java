@@ -0,0 +1,129 @@
+package com.lottery.lottery_service.lotto.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.lottery.lottery_service.lotto.repository.MemberRoundQuotaJdbcRepository.QuotaRow;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+/**
+ * MemberRoundQuotaJdbcRepository(추천 사용량 조건부 UPDATE)의 저장소 테스트.
+ *
+ * <p>이 테스트 클래스의 역할:
+ *
+ * <ul>
+ *   <li>한도 조건을 WHERE에 둔 UPDATE가 한도 안에서만 1행을 바꾸는지 확인한다.
+ *   <li>날짜가 바뀐 행은 같은 UPDATE 안에서 일일 사용량/보상 수를 새로 세는지 검증한다. SET 절의 식이 모두 quota_day 대입보다 앞에 있어야
+ *       MySQL(왼쪽부터 새 값 반영)과 H2(옛 값 기준)의 결과가 같다.
+ *   <li>광고 보상이 상한과 토큰 발급 시각 순서를 지키는지 고정한다.
+ * </ul>
+ *
+ * <p>테스트 프로필의 H2(MySQL 모드)에 엔티티로 만든 스키마를 쓴다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(MemberRoundQuotaJdbcRepository.class)
+class MemberRoundQuotaJdbcRepositoryTest {
+
+  private static final long MEMBER = 7L;
+  private static final int ROUND = 1193;
+  private static final LocalDate DAY = LocalDate.of(2025, 10, 4);
+  private static final LocalDateTime NOW = DAY.atTime(9, 0);
+
+  @Autowired private MemberRoundQuotaJdbcRepository repository;
+
+  /**
+   * 일일 한도(기본 횟수 + 광고 보상)와 회차 세트 한도 중 하나라도 넘으면 UPDATE가 0행이어야 한다.
+   *
+   * <p>이 테스트가 보장하는 것:
+   *
+   * <ul>
+   *   <li>행이 없으면 false다(호출자가 insert로 첫 행을 만든다).
+   *   <li>같은 날 day_used가 일일 한도에 닿으면 거절하고 값은 그대로다.
+   *   <li>회차 세트 수가 한도를 넘게 되면 거절한다.
+   * </ul>
+   */
+  @Test
+  @DisplayName("한도 안에서만 사용량을 올리고, 한도에 걸리면 아무것도 바꾸지 않는다")
+  void tryConsume_withinLimitsOnly() {
+    // given
+    assertThat(repository.tryConsume(MEMBER, ROUND, DAY, 2, 5, 30, NOW)).isFalse();
+    assertThat(repository.insert(MEMBER, ROUND, new QuotaRow(DAY, 1, 0, 5), NOW)).isTrue();
+
+    // when & then: 일일 한도 2
+    assertThat(repository.tryConsume(MEMBER, ROUND, DAY, 2, 5, 30, NOW)).isTrue();
+    assertThat(repository.tryConsume(MEMBER, ROUND, DAY, 2, 5, 30, NOW)).isFalse();
+    assertThat(repository.find(MEMBER, ROUND)).contains(new QuotaRow(DAY, 2, 0, 10));
+
+    // 다음 날: 일일 한도는 풀렸지만 회차 한도 12
+    LocalDate next = DAY.plusDays(1);
+    assertThat(repository.tryConsume(MEMBER, ROUND, next, 2, 5, 12, NOW)).isFalse();
+    assertThat(repository.find(MEMBER, ROUND)).contains(new QuotaRow(DAY, 2, 0, 10));
+  }
+
+  /**
+   * 날짜가 바뀐 행의 첫 추천은 일일 사용량 1, 광고 보상 0으로 새로 시작해야 한다.
+   *
+   * <p>SET 절 순서가 틀리면(quota_day를 먼저 바꾸면) MySQL에서는 CASE가 새 날짜를 보고 전날 사용량에 이어 센다. H2는 옛 값 기준이라
+   * 그 차이를 재현하지 못하므로, 여기서는 두 DB가 같아야 하는 결과를 고정한다.
+   */
+  @Test
+  @DisplayName("날짜가 바뀌면 같은 UPDATE 안에서 일일 사용량과 광고 보상을 새로 센다")
+  void tryConsume_nextDay_resetsDailyCounters() {
+    // given: 전날 한도까지 쓰고 광고 보상 2번
+    assertThat(repository.insert(MEMBER, ROUND, new QuotaRow(DAY, 15, 10, 25, 2, 1_000L), NOW))
+        .isTrue();
+    assertThat(repository.tryConsume(MEMBER, ROUND, DAY, 5, 1, 30, NOW)).isFalse();
+
+    // when
+    LocalDate next = DAY.plusDays(1);
+    boolean consumed = repository.tryConsume(MEMBER, ROUND, next, 5, 1, 30, next.atTime(0, 1));
+
+    // then
+    assertThat(consumed).isTrue();
+    assertThat(repository.find(MEMBER, ROUND)).contains(new QuotaRow(next, 1, 0, 26, 0, 1_000L));
+  }
+
+  /**
+   * 광고 보상은 하루 상한 안이고, 토큰이 마지막으로 쓴 토큰보다 늦게 발급된 경우에만 반영되어야 한다.
+   *
+   * <p>이 테스트가 보장하는 것:
+   *
+   * <ul>
+   *   <li>반영되면 day_bonus와 day_ad_rewards가 함께 오르고 토큰 시각이 기록된다.
+   *   <li>같은(또는 더 이른) 토큰은 다시 쓸 수 없다.
+   *   <li>하루 상한에 닿으면 거절하고, 날짜가 바뀌면 다시 1부터 센다.
+   * </ul>
+   */
+  @Test
+  @DisplayName("광고 보상은 상한과 토큰 순서를 지키고, 날짜가 바뀌면 새로 센다")
+  void addBonus_respectsCapAndTokenOrder() {
+    // given
+    repository.insert(MEMBER, ROUND, new QuotaRow(DAY, 5, 0, 25), NOW);
+
+    // when & then
+    assertThat(repository.addBonus(MEMBER, ROUND, DAY, 5, 2, 100L, NOW)).isTrue();
+    assertThat(repository.addBonus(MEMBER, ROUND, DAY, 5, 2, 100L, NOW)).isFalse();
+    assertThat(repository.addBonus(MEMBER, ROUND, DAY, 5, 2, 200L, NOW)).isTrue();
+    assertThat(repository.addBonus(MEMBER, ROUND, DAY, 5, 2, 300L, NOW)).isFalse();
+    assertThat(repository.find(MEMBER, ROUND)).contains(new QuotaRow(DAY, 5, 10, 25, 2, 200L));
+
+    LocalDate next = DAY.plusDays(1);
+    assertThat(repository.addBonus(MEMBER, ROUND, next, 5, 2, 300L, NOW)).isTrue();
+    assertThat(repository.find(MEMBER, ROUND)).contains(new QuotaRow(next, 0, 5, 25, 1, 300L));
+  }
+
+  @Test
+  @DisplayName("같은 회원/회차의 첫 행은 한 번만 만들어진다")
+  void insert_duplicateKey_returnsFalse() {
+    assertThat(repository.insert(MEMBER, ROUND, new QuotaRow(DAY, 1, 0, 5), NOW)).isTrue();
+    assertThat(repository.insert(MEMBER, ROUND, new QuotaRow(DAY, 1, 0, 5), NOW)).isFalse();
+    assertThat(repository.find(MEMBER, ROUND)).contains(new QuotaRow(DAY, 1, 0, 5));
+  }
+}
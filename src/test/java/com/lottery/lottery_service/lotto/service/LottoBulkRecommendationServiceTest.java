@@ -0,0 +1,169 @@
+package com.lottery.lottery_service.lotto.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.lottery.lottery_service.lotto.dto.LottoSet;
+import com.lottery.lottery_service.lotto.generation.PassingCombinationSampler;
+import com.lottery.lottery_service.lotto.generation.random.RandomSource;
+import com.lottery.lottery_service.lotto.generation.weighted.StatisticsWeightedSampler;
+import com.lottery.lottery_service.lotto.repository.LottoRecordJdbcWriter;
+import com.lottery.lottery_service.member.repository.MemberRepository;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * LottoBulkRecommendationService(대량 추천 스트리밍)의 단위 테스트.
+ *
+ * <p>이 테스트 클래스의 역할:
+ *
+ * <ul>
+ *   <li>N개를 한 번에 만들지 않고 청크 단위로 추출/저장/출력하는지 검증한다.
+ *   <li>출력 형식(NDJSON, 한 줄 = LottoSet JSON)을 고정한다.
+ *   <li>STATS 계열 출처는 균등 추천 엔진이 아니라 가중 추천 엔진으로 뽑는지 확인한다.
+ *   <li>잘못된 요청은 스트림을 열기 전에 거부되는지 확인한다.
+ * </ul>
+ *
+ * <p>트랜잭션 경계 자체는 실제 TransactionTemplate에 mock 트랜잭션 매니저를 물려 콜백이 청크마다 실행되는지만 본다.
+ */
+class LottoBulkRecommendationServiceTest {
+
+  private static final int ROUND = 1193;
+
+  private LottoRecordJdbcWriter recordWriter;
+  private MemberRepository memberRepository;
+  private PassingCombinationSampler combinationSampler;
+  private StatisticsWeightedSampler weightedSampler;
+  private LottoBulkRecommendationService service;
+
+  @BeforeEach
+  void setUp() {
+    recordWriter = mock(LottoRecordJdbcWriter.class);
+    memberRepository = mock(MemberRepository.class);
+    combinationSampler = mock(PassingCombinationSampler.class);
+    weightedSampler = mock(StatisticsWeightedSampler.class);
+    RandomSource randomSource = mock(RandomSource.class);
+    given(randomSource.generator(1L)).willReturn(new SplittableRandom(1L));
+    LottoRoundCalendar roundCalendar = mock(LottoRoundCalendar.class);
+    given(roundCalendar.currentRound()).willReturn(ROUND);
+
+    service =
+        new LottoBulkRecommendationService(
+            recordWriter,
+            memberRepository,
+            combinationSampler,
+            weightedSampler,
+            randomSource,
+            roundCalendar,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)));
+  }
+
+  /**
+   * 청크 크기보다 많은 세트를 요청하면 청크 수만큼 나눠 저장하고, 저장한 세트를 순서대로 한 줄씩 출력해야 한다.
+   *
+   * <p>이 테스트가 보장하는 것:
+   *
+   * <ul>
+   *   <li>sampler에는 청크 크기 이하로만 요청한다(마지막 청크는 나머지 개수).
+   *   <li>청크마다 JDBC INSERT가 한 번씩 일어난다(엔티티를 만들지 않음).
+   *   <li>출력 줄 수는 요청 개수와 같고 각 줄은 {"numbers":[...]} 형식이다.
+   * </ul>
+   */
+  @Test
+  @DisplayName("대량 추천은 청크 단위로 저장하며 NDJSON으로 출력한다")
+  void streamForMember_moreThanOneChunk_savesAndWritesPerChunk() throws Exception {
+    // given
+    int count = LottoBulkRecommendationService.CHUNK_SIZE * 2 + 7;
+    given(combinationSampler.draw(anyInt(), any(RandomGenerator.class)))
+        .willAnswer(invocation -> sets(invocation.getArgument(0)));
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    // when
+    int written = service.streamForMember(1L, "EVENT", count, out);
+
+    // then
+    String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+    assertThat(written).isEqualTo(count);
+    assertThat(lines).hasSize(count);
+    assertThat(lines[0]).isEqualTo("{\"numbers\":[1,2,3,4,5,6]}");
+
+    verify(combinationSampler, times(2))
+        .draw(eq(LottoBulkRecommendationService.CHUNK_SIZE), anyRandom());
+    verify(combinationSampler).draw(eq(7), anyRandom());
+    verify(recordWriter, times(3))
+        .insertRecommendations(eq(1L), eq(ROUND), eq("EVENT"), anyList(), any(LocalDateTime.class));
+  }
+
+  /** STATS/STATS_COLD로 기록되는 대량 추천은 기록된 출처대로 가중 추천 엔진에서 뽑아야 한다. */
+  @Test
+  @DisplayName("STATS 계열 출처는 가중 추천 엔진으로 뽑는다")
+  void streamForMember_statsSource_usesWeightedSampler() throws Exception {
+    // given
+    given(
+            weightedSampler.draw(
+                any(StatisticsWeightedSampler.Bias.class), anyInt(), any(RandomGenerator.class)))
+        .willAnswer(invocation -> sets(invocation.getArgument(1)));
+
+    // when
+    service.streamForMember(1L, "STATS", 3, new ByteArrayOutputStream());
+    service.streamForMember(1L, "STATS_COLD", 2, new ByteArrayOutputStream());
+
+    // then
+    verify(weightedSampler).draw(eq(StatisticsWeightedSampler.Bias.HOT), eq(3), anyRandom());
+    verify(weightedSampler).draw(eq(StatisticsWeightedSampler.Bias.COLD), eq(2), anyRandom());
+    verify(combinationSampler, never()).draw(anyInt(), any(RandomGenerator.class));
+    verify(recordWriter)
+        .insertRecommendations(eq(1L), eq(ROUND), eq("STATS_COLD"), anyList(), any());
+  }
+
+  /** 개수 범위를 벗어나거나 회원이 없으면 스트림을 열지 않고 예외를 던져야 한다. */
+  @Test
+  @DisplayName("잘못된 개수나 없는 회원은 스트림을 열기 전에 거부한다")
+  void openMemberStream_invalidRequest_throwsBeforeStreaming() {
+    given(memberRepository.existsById(2L)).willReturn(false);
+
+    assertThatThrownBy(() -> service.openMemberStream(1L, "BASIC", 0))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(
+            () ->
+                service.openMemberStream(
+                    1L, "BASIC", LottoBulkRecommendationService.MAX_BULK_COUNT + 1))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> service.openMemberStream(2L, "BASIC", 10))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("존재하지 않는 회원");
+
+    verify(combinationSampler, never()).draw(anyInt(), any(RandomGenerator.class));
+  }
+
+  private static RandomGenerator anyRandom() {
+    return any(RandomGenerator.class);
+  }
+
+  private static List<LottoSet> sets(int n) {
+    List<LottoSet> out = new ArrayList<>(n);
+    for (int i = 0; i < n; i++) {
+      out.add(LottoSet.of(1, 2, 3, 4, 5, 6 + i % 40));
+    }
+    return out;
+  }
+}
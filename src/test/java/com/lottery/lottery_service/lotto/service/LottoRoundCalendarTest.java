@@ -0,0 +1,59 @@
+package com.lottery.lottery_service.lotto.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.lottery.lottery_service.lotto.entity.LottoWinnerData;
+import com.lottery.lottery_service.lotto.validation.cache.LottoWinnerDataCache;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * LottoRoundCalendar(판매 중 회차 계산기)의 단위 테스트.
+ *
+ * <p>이 테스트 클래스의 역할:
+ *
+ * <ul>
+ *   <li>추첨일 20:00 판매 마감을 기준으로 회차가 한 주마다 넘어가는지 고정한다(1112회 = 2024-03-23 추첨).
+ *   <li>추첨 데이터가 일정보다 앞서 있으면 이미 추첨된 회차를 돌려주지 않는지 확인한다.
+ * </ul>
+ */
+class LottoRoundCalendarTest {
+
+  @Test
+  @DisplayName("추첨일 판매 마감 전까지는 그 회차, 마감 뒤부터 다음 회차다")
+  void scheduledRound_advancesAtSalesCutoff() {
+    assertThat(LottoRoundCalendar.scheduledRound(LocalDateTime.of(2024, 3, 17, 9, 0)))
+        .isEqualTo(1112);
+    assertThat(LottoRoundCalendar.scheduledRound(LocalDateTime.of(2024, 3, 23, 19, 59)))
+        .isEqualTo(1112);
+    assertThat(LottoRoundCalendar.scheduledRound(LocalDateTime.of(2024, 3, 23, 20, 0)))
+        .isEqualTo(1113);
+    assertThat(LottoRoundCalendar.scheduledRound(LocalDateTime.of(2024, 3, 24, 0, 0)))
+        .isEqualTo(1113);
+    assertThat(LottoRoundCalendar.scheduledRound(LocalDateTime.of(2002, 12, 1, 0, 0))).isEqualTo(1);
+    assertThat(LottoRoundCalendar.scheduledRound(LocalDateTime.of(2002, 12, 7, 19, 0)))
+        .isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("한국 시간으로 계산하고, 이미 추첨된 회차보다 앞서지 않는다")
+  void currentRound_usesSeoulTimeAndNeverReturnsDrawnRound() {
+    // given: 2024-03-23 11:30 UTC = 20:30 KST → 일정상 1113회
+    Clock clock = Clock.fixed(Instant.parse("2024-03-23T11:30:00Z"), LottoRoundCalendar.ZONE);
+    LottoWinnerDataCache cache = new LottoWinnerDataCache(null);
+    LottoRoundCalendar calendar = new LottoRoundCalendar(cache, clock);
+
+    // when & then
+    assertThat(calendar.currentRound()).isEqualTo(1113);
+
+    cache.add(winner(1113));
+    assertThat(calendar.currentRound()).isEqualTo(1114);
+  }
+
+  private static LottoWinnerData winner(int round) {
+    return LottoWinnerData.builder().round(round).winnerData("1 2 3 4 5 6").bnusNo(7).build();
+  }
+}
@@ -0,0 +1,100 @@
+package com.lottery.lottery_service.lotto.service;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.lottery.lottery_service.lotto.dto.LottoSet;
+import com.lottery.lottery_service.lotto.generation.PassingCombinationSampler;
+import com.lottery.lottery_service.lotto.generation.pool.RecommendationPool;
+import com.lottery.lottery_service.lotto.validation.config.LottoRuleSettings;
+import com.lottery.lottery_service.lotto.validation.pipeline.LottoValidationPipeline;
+import java.util.Set;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * LottoRuleAdminService(운영 중 룰 설정 변경)의 단위 테스트.
+ *
+ * <p>통과 조합 확인 → 파이프라인 교체 → 인덱스 재빌드 요청 → 풀 비우기 순서와, 잘못되었거나 통과 조합이 없는 설정이 아무것도 바꾸지 않는지만
+ * 본다.
+ */
+@ExtendWith(MockitoExtension.class)
+class LottoRuleAdminServiceTest {
+
+  private static final LottoRuleSettings SETTINGS =
+      new LottoRuleSettings(Set.of("ThreeZoneSuperExtreme"), 10, 40, 5, 5, 4);
+
+  @Mock private LottoValidationPipeline pipeline;
+
+  @Mock private PassingCombinationSampler combinationSampler;
+
+  @Mock private RecommendationPool recommendationPool;
+
+  @InjectMocks private LottoRuleAdminService lottoRuleAdminService;
+
+  /** 파이프라인이 먼저 바뀌어야 재빌드/보충이 새 설정으로 판정한다. */
+  @Test
+  @DisplayName("설정 변경 시 파이프라인 교체 후 인덱스 재빌드와 풀 비우기를 요청한다")
+  void update_validSettings_swapsPipelineThenRebuildsDerivedStructures() {
+    // given
+    Predicate<LottoSet> tester = set -> true;
+    given(pipeline.bulkTester(SETTINGS)).willReturn(tester);
+    given(combinationSampler.countPassing(tester)).willReturn(1_000);
+
+    // when
+    lottoRuleAdminService.update(SETTINGS);
+
+    // then
+    InOrder order = inOrder(pipeline, combinationSampler, recommendationPool);
+    order.verify(combinationSampler).countPassing(tester);
+    order.verify(pipeline).reconfigure(SETTINGS);
+    order.verify(combinationSampler).requestRebuild();
+    order.verify(recommendationPool).flush();
+  }
+
+  /** 파이프라인이 설정을 거절하면 인덱스/풀도 그대로 두어야 한다. */
+  @Test
+  @DisplayName("잘못된 설정은 예외를 던지고 인덱스/풀을 건드리지 않는다")
+  void update_invalidSettings_throwsAndKeepsDerivedStructures() {
+    // given
+    willThrow(new IllegalArgumentException("unknown rule id: NOPE"))
+        .given(pipeline)
+        .bulkTester(SETTINGS);
+
+    // when & then
+    assertThatThrownBy(() -> lottoRuleAdminService.update(SETTINGS))
+        .isInstanceOf(IllegalArgumentException.class);
+    verify(pipeline, never()).reconfigure(any());
+    verifyNoInteractions(combinationSampler, recommendationPool);
+  }
+
+  /** 통과 조합이 하나도 없으면 적용하는 순간 모든 추천이 실패하므로, 파이프라인을 바꾸기 전에 거절해야 한다. */
+  @Test
+  @DisplayName("통과하는 조합이 없는 설정은 거절하고 아무것도 바꾸지 않는다")
+  void update_noPassingCombination_throwsAndKeepsPipeline() {
+    // given
+    Predicate<LottoSet> tester = set -> false;
+    given(pipeline.bulkTester(SETTINGS)).willReturn(tester);
+    given(combinationSampler.countPassing(tester)).willReturn(0);
+
+    // when & then
+    assertThatThrownBy(() -> lottoRuleAdminService.update(SETTINGS))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("no combination passes");
+    verify(pipeline, never()).reconfigure(any());
+    verify(combinationSampler, never()).requestRebuild();
+    verifyNoInteractions(recommendationPool);
+  }
+}
@@ -3,32 +3,46 @@ package com.lottery.lottery_service.lotto.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.doReturn;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.spy;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.lottery.lottery_service.lotto.dto.LottoSet;
 import com.lottery.lottery_service.lotto.dto.request.PurchaseLottoRequest;
+import com.lottery.lottery_service.lotto.dto.response.LottoRecordPageResponse;
 import com.lottery.lottery_service.lotto.dto.response.LottoRecordResponse;
-import com.lottery.lottery_service.lotto.entity.LottoRecord;
+import com.lottery.lottery_service.lotto.entity.LottoWinnerData;
+import com.lottery.lottery_service.lotto.generation.pool.RecommendationPool;
+import com.lottery.lottery_service.lotto.generation.random.RandomSource;
+import com.lottery.lottery_service.lotto.metrics.LottoMetrics;
+import com.lottery.lottery_service.lotto.quota.QuotaExceededException;
+import com.lottery.lottery_service.lotto.quota.QuotaStatus;
+import com.lottery.lottery_service.lotto.quota.RecommendationQuotaService;
+import com.lottery.lottery_service.lotto.repository.LottoPurchaseJdbcRepository;
 import com.lottery.lottery_service.lotto.repository.LottoRecordRepository;
-import com.lottery.lottery_service.lotto.validation.pipeline.LottoValidationPipeline;
-import com.lottery.lottery_service.lotto.validation.pipeline.LottoValidationResult;
-import com.lottery.lottery_service.member.entity.Member;
+import com.lottery.lottery_service.lotto.repository.LottoRecordView;
+import com.lottery.lottery_service.lotto.validation.cache.LottoWinnerDataCache;
+import com.lottery.lottery_service.lotto.writebehind.WriteBehindRecordWriter;
 import com.lottery.lottery_service.member.repository.MemberRepository;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 /**
  * LottoService의 도메인 정책을 검증하는 테스트 클래스.
@@ -37,12 +51,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
  *
  * <ul>
  *   <li>HTTP/보안/JSON 직렬화는 보지 않는다. (그건 LottoControllerWebTest의 책임)
- *   <li>서비스가 repository/pipeline을 어떻게 조합해서 도메인 규칙을 수행하는지 검증한다.
+ *   <li>서비스가 repository/추천 엔진을 어떻게 조합해서 도메인 규칙을 수행하는지 검증한다.
  *   <li>특히 구매 저장 로직의 update-or-insert 분기와 번호 정규화 정책을 고정한다.
  * </ul>
  *
- * <p>현재 LottoService는 추천 생성, 추천 저장, 구매 저장, 조회, validation pipeline 호출 책임을 함께 가진다. 그중 이번 1차 테스트 범위는
- * 랜덤이 없고 분기가 명확한 구매 저장/조회 로직부터 시작한다.
+ * <p>현재 LottoService는 추천 추출(RecommendationPool 위임), 추천 저장, 구매 저장, 조회 책임을 함께 가진다. 추천 번호 자체의
+ * 무작위성/룰 통과 여부는 pool/sampler 쪽 테스트의 책임이므로, 여기서는 pool을 mock으로 두고 저장 정책만 본다.
  */
 @ExtendWith(MockitoExtension.class)
 class LottoServiceTest {
@@ -51,65 +65,80 @@ class LottoServiceTest {
 
   @Mock private MemberRepository memberRepository;
 
-  @Mock private LottoValidationPipeline validationPipeline;
+  @Mock private RecommendationPool recommendationPool;
+
+  @Mock private RandomSource randomSource;
+
+  @Mock private LottoMetrics lottoMetrics;
+
+  /** 실제 캐시(저장소 없이). 조회 테스트에서 당첨 회차를 직접 넣는다. */
+  @Spy private LottoWinnerDataCache winnerDataCache = new LottoWinnerDataCache(null);
+
+  @Mock private RecommendationQuotaService quotaService;
+
+  @Mock private LottoPurchaseJdbcRepository purchaseRepository;
+
+  @Mock private WriteBehindRecordWriter recordWriter;
+
+  @Mock private LottoRoundCalendar roundCalendar;
 
   @InjectMocks private LottoService lottoService;
 
   /**
-   * 기존 동일 번호 기록이 존재하고 아직 purchased=false 라면, 새 레코드를 만들지 않고 기존 레코드의 purchased 값을 true로 갱신해야 한다.
+   * 구매 저장은 티켓 수와 관계없이 IN 조회 1번, 일괄 UPDATE 1번, 배치 INSERT 1번으로 끝나야 한다.
    *
    * <p>이 테스트가 보장하는 것:
    *
    * <ul>
-   *   <li>memberRepository.getReferenceById(memberId)를 통해 회원 참조를 가져온다.
-   *   <li>round + normalized numbers 기준으로 기존 기록을 조회한다.
-   *   <li>기존 기록이 있고 purchased=false 면 save(existing)를 호출한다.
-   *   <li>새 레코드는 생성하지 않는다.
+   *   <li>모든 입력이 canonical 포맷("1 2 3 4 5 6")으로 정규화된 뒤 한 번에 조회된다. 같은 번호 입력은 하나로 합쳐진다.
+   *   <li>기존 기록 중 purchased=false 인 것만 UPDATE 대상이 된다.
+   *   <li>이미 구매 상태인 기록은 다시 쓰지 않는다(idempotent).
+   *   <li>기록이 없는 번호만 수동 구매 기록으로 INSERT 된다.
    * </ul>
    */
   @Test
-  @DisplayName("기존 기록이 있으면 purchased 값을 true로 갱신한다")
-  void addPurchasedRecords_existingRecord_updatesPurchasedFlag() {
+  @DisplayName("구매 번호를 정규화해 한 번에 조회하고, 기존 기록은 일괄 갱신·새 번호는 배치 저장한다")
+  void addPurchasedRecords_mixedTickets_marksExistingAndInsertsNew() {
     // given
     Long memberId = 1L;
-    Member member = Member.newMember("test@example.com", "tester", null);
-
     PurchaseLottoRequest request = new PurchaseLottoRequest();
     request.setRound("1112");
-    request.setNumbersList(List.of("6, 1, 3, 2, 5, 4")); // 서비스 내부에서 "1 2 3 4 5 6"으로 정규화되어야 함
-
-    LottoRecord existing =
-        LottoRecord.builder()
-            .member(member)
-            .round(1112)
-            .numbers("1 2 3 4 5 6")
-            .recommendedAt(LocalDateTime.now().minusDays(1))
-            .manual(false)
-            .purchased(false)
-            .source("BASIC")
-            .build();
-
-    given(memberRepository.getReferenceById(memberId)).willReturn(member);
-    given(lottoRecordRepository.findByMemberAndRoundAndNumbers(member, 1112, "1 2 3 4 5 6"))
-        .willReturn(Optional.of(existing));
+    request.setNumbersList(
+        List.of(
+            "6, 1, 3, 2, 5, 4", // 기존 추천 기록(미구매)
+            "7 8 9 10 11 12", // 기존 기록(이미 구매)
+            "45,44,43,42,41,40", // 새 번호
+            "1 2 3 4 5 6")); // 첫 번째와 같은 번호
+
+    given(purchaseRepository.findExisting(eq(1L), eq(1112), any()))
+        .willReturn(
+            List.of(
+                new LottoPurchaseJdbcRepository.ExistingRecord(10L, "1 2 3 4 5 6", false),
+                new LottoPurchaseJdbcRepository.ExistingRecord(11L, "7 8 9 10 11 12", true)));
 
     // when
     lottoService.addPurchasedRecords(memberId, request);
 
     // then
-    assertThat(existing.isPurchased()).isTrue();
-    verify(lottoRecordRepository).save(existing);
+    verify(purchaseRepository)
+        .findExisting(
+            1L,
+            1112,
+            new LinkedHashSet<>(List.of("1 2 3 4 5 6", "7 8 9 10 11 12", "40 41 42 43 44 45")));
+    verify(purchaseRepository).markPurchased(List.of(10L));
+    verify(purchaseRepository)
+        .upsertManual(eq(1L), eq(1112), eq(List.of("40 41 42 43 44 45")), any());
+    verify(lottoRecordRepository, never()).save(any());
   }
 
   /**
-   * 기존 동일 번호 기록이 없다면, 서비스는 새 구매 레코드를 생성해 저장해야 한다.
+   * 기존 동일 번호 기록이 없다면, 서비스는 새 수동 구매 기록을 저장해야 한다.
    *
    * <p>이 테스트가 보장하는 것:
    *
    * <ul>
    *   <li>입력 번호 문자열이 canonical 포맷("1 2 3 4 5 6")으로 정규화된다.
-   *   <li>새 레코드는 manual=true, purchased=true, source="manual" 이어야 한다.
-   *   <li>member, round, numbers 필드가 정확히 채워져야 한다.
+   *   <li>UPDATE 대상은 없고, 회원/회차/번호가 그대로 INSERT로 넘어간다.
    * </ul>
    */
   @Test
@@ -117,32 +146,19 @@ class LottoServiceTest {
   void addPurchasedRecords_noExistingRecord_savesNewManualPurchasedRecord() {
     // given
     Long memberId = 1L;
-    Member member = Member.newMember("test@example.com", "tester", null);
-
     PurchaseLottoRequest request = new PurchaseLottoRequest();
     request.setRound("1112");
     request.setNumbersList(List.of("6, 1, 3, 2, 5, 4"));
 
-    given(memberRepository.getReferenceById(memberId)).willReturn(member);
-    given(lottoRecordRepository.findByMemberAndRoundAndNumbers(member, 1112, "1 2 3 4 5 6"))
-        .willReturn(Optional.empty());
-
-    ArgumentCaptor<LottoRecord> captor = ArgumentCaptor.forClass(LottoRecord.class);
+    given(purchaseRepository.findExisting(eq(1L), eq(1112), any())).willReturn(List.of());
 
     // when
     lottoService.addPurchasedRecords(memberId, request);
 
     // then
-    verify(lottoRecordRepository).save(captor.capture());
-
-    LottoRecord saved = captor.getValue();
-    assertThat(saved.getMember()).isEqualTo(member);
-    assertThat(saved.getRound()).isEqualTo(1112);
-    assertThat(saved.getNumbers()).isEqualTo("1 2 3 4 5 6");
-    assertThat(saved.isManual()).isTrue();
-    assertThat(saved.isPurchased()).isTrue();
-    assertThat(saved.getSource()).isEqualTo("manual");
-    assertThat(saved.getRecommendedAt()).isNotNull();
+    verify(purchaseRepository).markPurchased(List.of());
+    verify(purchaseRepository)
+        .upsertManual(eq(1L), eq(1112), eq(List.of("1 2 3 4 5 6")), any(LocalDateTime.class));
   }
 
   /**
@@ -156,37 +172,35 @@ class LottoServiceTest {
    *   <li>중복이 없는지
    * </ul>
    *
-   * <p>이 테스트는 private 메서드를 직접 호출하지 않고, 공개 서비스 메서드 addPurchasedRecords(...)를 통해 간접 검증한다.
+   * <p>정규화를 조회보다 먼저 하므로, 앞쪽 티켓이 정상이어도 DB에는 아무것도 나가지 않아야 한다.
    */
   @Test
   @DisplayName("잘못된 번호 문자열이면 예외를 던지고 저장하지 않는다")
   void addPurchasedRecords_invalidNumbers_throwsException() {
     // given
     Long memberId = 1L;
-    Member member = Member.newMember("test@example.com", "tester", null);
-
     PurchaseLottoRequest request = new PurchaseLottoRequest();
     request.setRound("1112");
-    request.setNumbersList(List.of("1, 2, 3, 4, 5, 5")); // 중복 번호
-
-    given(memberRepository.getReferenceById(memberId)).willReturn(member);
+    request.setNumbersList(List.of("1 2 3 4 5 6", "1, 2, 3, 4, 5, 5")); // 두 번째에 중복 번호
 
     // when & then
     assertThatThrownBy(() -> lottoService.addPurchasedRecords(memberId, request))
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessageContaining("중복");
 
-    verify(lottoRecordRepository, never()).save(any());
+    verify(purchaseRepository, never()).findExisting(anyLong(), anyInt(), any());
+    verify(purchaseRepository, never()).upsertManual(anyLong(), anyInt(), any(), any());
   }
 
   /**
-   * 회원 추천 내역 조회는 repository 결과를 그대로 DTO로 매핑해 반환해야 한다.
+   * 회원 추천 내역 조회는 repository projection을 그대로 DTO로 매핑해 반환해야 한다.
    *
    * <p>이 테스트가 보장하는 것:
    *
    * <ul>
-   *   <li>findAllByMemberIdOrderByRoundDesc(memberId)를 호출하는지
+   *   <li>엔티티가 아닌 findViewsByMemberId(memberId) projection 조회를 호출하는지
    *   <li>LottoRecordResponse.from(...) 규약에 맞춰 필드가 복사되는지
+   *   <li>추첨이 끝난 회차만 메모리의 당첨 번호로 등수가 붙고, 추첨 전 회차는 null로 남는지
    * </ul>
    */
   @Test
@@ -195,28 +209,17 @@ class LottoServiceTest {
     // given
     Long memberId = 1L;
 
-    LottoRecord first =
-        LottoRecord.builder()
-            .round(1112)
-            .numbers("1 2 3 4 5 6")
-            .recommendedAt(LocalDateTime.of(2026, 4, 21, 21, 0))
-            .manual(false)
-            .purchased(false)
-            .source("BASIC")
-            .build();
-
-    LottoRecord second =
-        LottoRecord.builder()
-            .round(1111)
-            .numbers("7 8 9 10 11 12")
-            .recommendedAt(LocalDateTime.of(2026, 4, 20, 21, 0))
-            .manual(true)
-            .purchased(true)
-            .source("manual")
-            .build();
-
-    given(lottoRecordRepository.findAllByMemberIdOrderByRoundDesc(memberId))
-        .willReturn(List.of(first, second));
+    LottoRecordView first =
+        new LottoRecordView(
+            2L, 1112, "1 2 3 4 5 6", LocalDateTime.of(2026, 4, 21, 21, 0), false, false, "BASIC");
+
+    LottoRecordView second =
+        new LottoRecordView(
+            1L, 1111, "7 8 9 10 11 12", LocalDateTime.of(2026, 4, 20, 21, 0), true, true, "manual");
+
+    given(lottoRecordRepository.findViewsByMemberId(memberId)).willReturn(List.of(first, second));
+    winnerDataCache.add(
+        LottoWinnerData.builder().round(1111).winnerData("7 8 9 10 11 13").bnusNo(12).build());
 
     // when
     List<LottoRecordResponse> result = lottoService.getRecommendationsForMember(memberId);
@@ -229,59 +232,71 @@ class LottoServiceTest {
     assertThat(result.get(0).isManual()).isFalse();
     assertThat(result.get(0).isPurchased()).isFalse();
     assertThat(result.get(0).getSource()).isEqualTo("BASIC");
+    assertThat(result.get(0).getRank()).isNull(); // 1112회는 아직 추첨 전
 
     assertThat(result.get(1).getRound()).isEqualTo(1111);
     assertThat(result.get(1).getNumbers()).isEqualTo("7 8 9 10 11 12");
     assertThat(result.get(1).isManual()).isTrue();
     assertThat(result.get(1).isPurchased()).isTrue();
     assertThat(result.get(1).getSource()).isEqualTo("manual");
+    assertThat(result.get(1).getRank()).isEqualTo(2); // 5개 + 보너스
 
-    verify(lottoRecordRepository).findAllByMemberIdOrderByRoundDesc(memberId);
+    verify(lottoRecordRepository).findViewsByMemberId(memberId);
   }
 
   /**
-   * 기존 기록이 이미 purchased=true 상태라면, 서비스는 중복 저장이나 재갱신을 하지 않고 그냥 지나가야 한다.
+   * 첫 페이지는 커서 없이 size+1건을 읽고, 남는 1건으로 다음 페이지 유무를 판단해야 한다.
    *
    * <p>이 테스트가 보장하는 것:
    *
    * <ul>
-   *   <li>동일 member + round + numbers 기록이 이미 존재한다.
-   *   <li>그 기록이 이미 purchased=true 이면 save(...)를 다시 호출하지 않는다.
-   *   <li>즉 구매 저장 로직이 idempotent하게 동작한다.
+   *   <li>저장소에는 size+1을 limit으로 넘긴다(전체 건수 쿼리 없음).
+   *   <li>응답에는 size건만 담고, 마지막 기록의 (회차, ID)가 nextCursor가 된다.
+   *   <li>다음 요청의 커서는 커서 이후 조회로 그대로 전달된다.
    * </ul>
    */
   @Test
-  @DisplayName("기존 기록이 이미 구매 상태면 다시 저장하지 않는다")
-  void addPurchasedRecords_existingPurchasedRecord_doesNotSaveAgain() {
+  @DisplayName("추천 내역 페이지: size+1건으로 다음 페이지를 판단하고 커서를 만든다")
+  void getRecommendationPageForMember_moreRows_returnsNextCursor() {
     // given
     Long memberId = 1L;
-    Member member = Member.newMember("test@example.com", "tester", null);
+    given(lottoRecordRepository.findFirstPageByMemberId(memberId, Limit.of(3)))
+        .willReturn(List.of(record(40L, 1112), record(39L, 1112), record(31L, 1111)));
 
-    PurchaseLottoRequest request = new PurchaseLottoRequest();
-    request.setRound("1112");
-    request.setNumbersList(List.of("6, 1, 3, 2, 5, 4"));
+    // when
+    LottoRecordPageResponse first = lottoService.getRecommendationPageForMember(memberId, null, 2);
 
-    LottoRecord existing =
-        LottoRecord.builder()
-            .member(member)
-            .round(1112)
-            .numbers("1 2 3 4 5 6")
-            .recommendedAt(LocalDateTime.now().minusDays(1))
-            .manual(false)
-            .purchased(true)
-            .source("BASIC")
-            .build();
-
-    given(memberRepository.getReferenceById(memberId)).willReturn(member);
-    given(lottoRecordRepository.findByMemberAndRoundAndNumbers(member, 1112, "1 2 3 4 5 6"))
-        .willReturn(Optional.of(existing));
+    // then
+    assertThat(first.getItems())
+        .extracting(LottoRecordResponse::getRound)
+        .containsExactly(1112, 1112);
+    assertThat(first.getNextCursor()).isEqualTo("1112.39");
 
-    // when
-    lottoService.addPurchasedRecords(memberId, request);
+    // when: 다음 페이지(마지막)
+    given(lottoRecordRepository.findPageByMemberIdBefore(memberId, 1112, 39L, Limit.of(3)))
+        .willReturn(List.of(record(31L, 1111)));
+    LottoRecordPageResponse second =
+        lottoService.getRecommendationPageForMember(memberId, first.getNextCursor(), 2);
 
     // then
-    assertThat(existing.isPurchased()).isTrue();
-    verify(lottoRecordRepository, never()).save(any(LottoRecord.class));
+    assertThat(second.getItems()).hasSize(1);
+    assertThat(second.getNextCursor()).isNull();
+  }
+
+  @Test
+  @DisplayName("추천 내역 페이지: 크기 범위나 커서 형식이 틀리면 조회 없이 거절한다")
+  void getRecommendationPageForMember_invalidInput_throws() {
+    assertThatThrownBy(() -> lottoService.getRecommendationPageForMember(1L, null, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(
+            () ->
+                lottoService.getRecommendationPageForMember(
+                    1L, null, LottoService.MAX_HISTORY_PAGE_SIZE + 1))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> lottoService.getRecommendationPageForMember(1L, "1112-39", 10))
+        .isInstanceOf(IllegalArgumentException.class);
+
+    verify(lottoRecordRepository, never()).findFirstPageByMemberId(any(), any());
   }
 
   /**
@@ -289,19 +304,23 @@ class LottoServiceTest {
    *
    * <ul>
    *   <li>번호 5세트를 생성하고
-   *   <li>guest=true, member=null, manual=false, purchased=false 로 저장하며
+   *   <li>회원 ID 없이(guest=true, member=null, manual=false, purchased=false) 저장하며
    *   <li>source는 입력값을 그대로 쓰고
-   *   <li>round는 현재 하드코딩된 1112를 사용한다.
+   *   <li>round는 {@link LottoRoundCalendar}가 정한 판매 중 회차를 사용한다.
    * </ul>
    *
-   * <p>랜덤 숫자 자체를 검증하는 테스트가 아니라, "guest 저장 정책"이 현재 구현대로 적용되는지 검증한다.
+   * <p>랜덤 숫자 자체를 검증하는 테스트가 아니라, "guest 저장 정책"이 현재 구현대로 적용되는지 검증한다. 번호는 회원과 같은 추천
+   * 풀(pool)에서 꺼낸다.
    */
   @Test
   @DisplayName("비회원 추천은 guest 전용 정책으로 5건 저장한다")
-  @SuppressWarnings("unchecked")
   void recommendAndSaveForGuest_savesGuestRecords() {
     // given
-    ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+    given(randomSource.generator(null)).willReturn(new SplittableRandom(1));
+    given(roundCalendar.currentRound()).willReturn(1193);
+    List<LottoSet> drawn = sampleSets();
+    given(recommendationPool.take(eq("BASIC"), eq(5), any(RandomGenerator.class)))
+        .willReturn(drawn);
 
     // when
     List<LottoSet> result = lottoService.recommendAndSaveForGuest("BASIC");
@@ -310,120 +329,97 @@ class LottoServiceTest {
     assertThat(result).hasSize(5);
     assertThat(result).allSatisfy(set -> assertThat(set.getNumbers()).hasSize(6));
 
-    verify(lottoRecordRepository).saveAll(captor.capture());
-
-    List<LottoRecord> savedRecords = (List<LottoRecord>) captor.getValue();
-    assertThat(savedRecords).hasSize(5);
-
-    assertThat(savedRecords)
-        .allSatisfy(
-            record -> {
-              assertThat(record.getMember()).isNull();
-              assertThat(record.isGuest()).isTrue();
-              assertThat(record.isManual()).isFalse();
-              assertThat(record.isPurchased()).isFalse();
-              assertThat(record.getSource()).isEqualTo("BASIC");
-              assertThat(record.getRound()).isEqualTo(1112);
-              assertThat(record.getRecommendedAt()).isNotNull();
-            });
+    // memberId=null 이 guest=true, member_id=NULL 로 저장된다
+    verify(recordWriter).save(isNull(), eq(1193), eq("BASIC"), eq(drawn), any(LocalDateTime.class));
   }
 
   /**
-   * 회원 추천은 내부적으로 후보를 1세트씩 만들고 validationPipeline을 통과한 세트만 모아 저장한다.
-   *
-   * <p>현재 구현은 Random을 내부에서 직접 생성하므로, 이 테스트에서는 service spy를 사용해 generateLottoNumbersSet(1)의 반환값을
-   * 제어한다.
+   * 회원 추천은 추천 풀에서 룰 통과 조합 5세트를 한 번에 꺼내 그대로 저장한다.
    *
    * <p>이 테스트가 보장하는 것:
    *
    * <ul>
-   *   <li>FAIL 후보는 저장 대상에서 제외된다.
-   *   <li>PASS 후보만 최종 저장된다.
-   *   <li>최종 저장 건수는 desired=5를 만족한다.
-   *   <li>현재 round 하드코딩 값 1112가 저장된다.
+   *   <li>요청 출처(source)의 풀에 정확히 5세트를 요청한다(검증 실패로 버리는 후보/재시도 없음).
+   *   <li>뽑힌 세트가 순서 그대로 저장/반환된다.
+   *   <li>회원은 존재 여부만 확인하고 엔티티를 읽지 않는다.
+   *   <li>판매 중 회차로 한도를 차감하고 저장한다.
    * </ul>
    */
   @Test
-  @DisplayName("회원 추천은 validation 통과 세트만 저장한다")
-  @SuppressWarnings("unchecked")
-  void recommendAndSaveForMember_validationPassOnly_savesFilteredSets() {
+  @DisplayName("회원 추천은 추천 엔진이 뽑은 5세트를 그대로 저장한다")
+  void recommendAndSaveForMember_takesFromPool_savesAllSets() {
     // given
     Long memberId = 1L;
-    Member member = Member.newMember("test@example.com", "tester", null);
-
-    LottoSet fail1 = new LottoSet(List.of(1, 2, 3, 4, 5, 6));
-    LottoSet pass1 = new LottoSet(List.of(7, 8, 9, 10, 11, 12));
-    LottoSet pass2 = new LottoSet(List.of(13, 14, 15, 16, 17, 18));
-    LottoSet fail2 = new LottoSet(List.of(19, 20, 21, 22, 23, 24));
-    LottoSet pass3 = new LottoSet(List.of(25, 26, 27, 28, 29, 30));
-    LottoSet pass4 = new LottoSet(List.of(31, 32, 33, 34, 35, 36));
-    LottoSet pass5 = new LottoSet(List.of(37, 38, 39, 40, 41, 42));
-
-    LottoService spyService =
-        spy(new LottoService(lottoRecordRepository, memberRepository, validationPipeline));
-
-    // recommendAndSaveForMember()가 generateLottoNumbersSet(1)을 반복 호출하므로 순차 반환값을 제어한다.
-    doReturn(List.of(fail1))
-        .doReturn(List.of(pass1))
-        .doReturn(List.of(pass2))
-        .doReturn(List.of(fail2))
-        .doReturn(List.of(pass3))
-        .doReturn(List.of(pass4))
-        .doReturn(List.of(pass5))
-        .when(spyService)
-        .generateLottoNumbersSet(1);
-
-    given(validationPipeline.validate(fail1))
-        .willReturn(LottoValidationResult.fail("RULE_A", "FAIL_A", List.of("RULE_A")));
-    given(validationPipeline.validate(pass1))
-        .willReturn(LottoValidationResult.pass(List.of("RULE_A", "RULE_B")));
-    given(validationPipeline.validate(pass2))
-        .willReturn(LottoValidationResult.pass(List.of("RULE_A", "RULE_B")));
-    given(validationPipeline.validate(fail2))
-        .willReturn(LottoValidationResult.fail("RULE_C", "FAIL_C", List.of("RULE_A", "RULE_C")));
-    given(validationPipeline.validate(pass3))
-        .willReturn(LottoValidationResult.pass(List.of("RULE_A", "RULE_B")));
-    given(validationPipeline.validate(pass4))
-        .willReturn(LottoValidationResult.pass(List.of("RULE_A", "RULE_B")));
-    given(validationPipeline.validate(pass5))
-        .willReturn(LottoValidationResult.pass(List.of("RULE_A", "RULE_B")));
-
-    given(memberRepository.findById(memberId)).willReturn(Optional.of(member));
-
-    ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+
+    // 회원 ID를 key로 난수원을 받아야 seeded 모드에서 회원별 재현이 가능하다
+    RandomGenerator memberRandom = new SplittableRandom(memberId);
+    given(randomSource.generator(memberId)).willReturn(memberRandom);
+
+    List<LottoSet> drawn = sampleSets();
+    given(recommendationPool.take("BASIC", 5, memberRandom)).willReturn(drawn);
+    given(memberRepository.existsById(memberId)).willReturn(true);
+    given(roundCalendar.currentRound()).willReturn(1193);
 
     // when
-    List<LottoSet> result = spyService.recommendAndSaveForMember(memberId, "BASIC");
+    List<LottoSet> result = lottoService.recommendAndSaveForMember(memberId, "BASIC");
 
     // then
-    assertThat(result).containsExactly(pass1, pass2, pass3, pass4, pass5);
-
-    verify(lottoRecordRepository).saveAll(captor.capture());
-
-    List<LottoRecord> savedRecords = (List<LottoRecord>) captor.getValue();
-    assertThat(savedRecords).hasSize(5);
-
-    assertThat(savedRecords)
-        .extracting(LottoRecord::getNumbers)
-        .containsExactly(
-            "7 8 9 10 11 12",
-            "13 14 15 16 17 18",
-            "25 26 27 28 29 30",
-            "31 32 33 34 35 36",
-            "37 38 39 40 41 42");
-
-    assertThat(savedRecords)
-        .allSatisfy(
-            record -> {
-              assertThat(record.getMember()).isEqualTo(member);
-              assertThat(record.isGuest()).isFalse();
-              assertThat(record.isManual()).isFalse();
-              assertThat(record.isPurchased()).isFalse();
-              assertThat(record.getSource()).isEqualTo("BASIC");
-              assertThat(record.getRound()).isEqualTo(1112);
-            });
-
-    verify(memberRepository).findById(memberId);
-    verify(validationPipeline, times(7)).validate(any(LottoSet.class));
+    assertThat(result).containsExactlyElementsOf(drawn);
+
+    verify(recordWriter)
+        .save(eq(memberId), eq(1193), eq("BASIC"), eq(drawn), any(LocalDateTime.class));
+    verify(memberRepository, never()).findById(any());
+    verify(recommendationPool).take("BASIC", 5, memberRandom);
+    verify(quotaService).acquire(memberId, 1193, 5);
+  }
+
+  /** 없는 회원이면 저장하지 않고 예외를 던져야 한다. */
+  @Test
+  @DisplayName("없는 회원의 추천은 저장하지 않는다")
+  void saveLottoForMember_unknownMember_throwsWithoutInsert() {
+    // given
+    given(memberRepository.existsById(2L)).willReturn(false);
+
+    // when & then
+    assertThatThrownBy(() -> lottoService.saveLottoForMember(2L, sampleSets(), 1112, "BASIC"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("존재하지 않는 회원");
+    verify(recordWriter, never()).save(any(), anyInt(), any(), any(), any());
+  }
+
+  /** 추천 한도를 넘으면 풀에서 꺼내거나 저장하지 않고 예외를 그대로 올려야 한다. */
+  @Test
+  @DisplayName("회원 추천 한도를 넘으면 추출/저장 없이 거절한다")
+  void recommendAndSaveForMember_quotaExceeded_throwsWithoutDrawing() {
+    // given
+    Long memberId = 1L;
+    QuotaExceededException exceeded =
+        new QuotaExceededException(
+            QuotaExceededException.Limit.DAILY,
+            new QuotaStatus(1193, LocalDate.of(2026, 10, 18), 5, 5, 25, 30));
+    given(roundCalendar.currentRound()).willReturn(1193);
+    willThrow(exceeded).given(quotaService).acquire(memberId, 1193, 5);
+
+    // when & then
+    assertThatThrownBy(() -> lottoService.recommendAndSaveForMember(memberId, "BASIC"))
+        .isSameAs(exceeded);
+    verify(recommendationPool, never()).take(any(), anyInt(), any());
+    verify(recordWriter, never()).save(any(), anyInt(), any(), any(), any());
+  }
+
+  /** pool mock이 돌려줄 고정 5세트 */
+  private static List<LottoSet> sampleSets() {
+    return List.of(
+        LottoSet.of(7, 8, 9, 10, 11, 12),
+        LottoSet.of(13, 14, 15, 16, 17, 18),
+        LottoSet.of(25, 26, 27, 28, 29, 30),
+        LottoSet.of(31, 32, 33, 34, 35, 36),
+        LottoSet.of(37, 38, 39, 40, 41, 42));
+  }
+
+  /** 페이지 조회용 기록(ID/회차만 의미 있음) */
+  private static LottoRecordView record(Long id, int round) {
+    return new LottoRecordView(
+        id, round, "1 2 3 4 5 6", LocalDateTime.of(2026, 4, 21, 21, 0), false, false, "BASIC");
   }
 }
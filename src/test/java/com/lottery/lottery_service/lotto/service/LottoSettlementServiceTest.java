@@ -0,0 +1,196 @@
+package com.lottery.lottery_service.lotto.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.lottery.lottery_service.lotto.dto.LottoRank;
+import com.lottery.lottery_service.lotto.dto.LottoSet;
+import com.lottery.lottery_service.lotto.entity.LottoSettlementProgress;
+import com.lottery.lottery_service.lotto.entity.LottoWinnerData;
+import com.lottery.lottery_service.lotto.entity.LottoWinning;
+import com.lottery.lottery_service.lotto.repository.LottoNotificationOutboxJdbcRepository;
+import com.lottery.lottery_service.lotto.repository.LottoSettlementJdbcRepository;
+import com.lottery.lottery_service.lotto.repository.LottoSettlementProgressRepository;
+import com.lottery.lottery_service.lotto.validation.cache.LottoWinnerDataCache;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * LottoSettlementService(회차 당첨 정산)의 단위 테스트.
+ *
+ * <p>이 테스트 클래스의 역할:
+ *
+ * <ul>
+ *   <li>keyset 페이지를 끝까지 읽으며 당첨 기록만 등수와 함께 저장하는지 검증한다.
+ *   <li>진행 커서가 있으면 그 다음 기록부터 이어서 정산하는지 검증한다.
+ *   <li>청크마다 당첨 내역을 알림 outbox에도 같이 넘기는지 확인한다.
+ *   <li>당첨 번호가 없는 회차는 거절하는지 확인한다.
+ * </ul>
+ *
+ * <p>lotto_record 테이블은 메모리 목록으로 흉내 내며(id 오름차순), 진행 커서 저장소도 맵 하나로 대신한다.
+ */
+class LottoSettlementServiceTest {
+
+  private static final int ROUND = 1112;
+
+  private final LottoSettlementJdbcRepository jdbcRepository =
+      mock(LottoSettlementJdbcRepository.class);
+  private final LottoSettlementProgressRepository progressRepository =
+      mock(LottoSettlementProgressRepository.class);
+  private final LottoNotificationOutboxJdbcRepository outboxRepository =
+      mock(LottoNotificationOutboxJdbcRepository.class);
+  private final LottoWinnerDataCache cache = new LottoWinnerDataCache(null);
+
+  /** lotto_record(round = ROUND) 행: {id, numbers} */
+  private final List<Object[]> records = new ArrayList<>();
+
+  private final List<LottoWinning> inserted = new ArrayList<>();
+  private LottoSettlementProgress stored;
+  private LottoSettlementService service;
+
+  @BeforeEach
+  void setUp() {
+    cache.add(
+        LottoWinnerData.builder().round(ROUND).winnerData("1 2 3 4 5 6").bnusNo(7).build());
+
+    willAnswer(
+            invocation -> {
+              long afterId = invocation.getArgument(1);
+              int limit = invocation.getArgument(2);
+              LottoSettlementJdbcRepository.TicketVisitor visitor = invocation.getArgument(3);
+              records.stream()
+                  .filter(r -> (long) r[0] > afterId)
+                  .limit(limit)
+                  .forEach(r -> visitor.visit((long) r[0], 10L, (String) r[1]));
+              return null;
+            })
+        .given(jdbcRepository)
+        .scanTickets(anyInt(), anyLong(), anyInt(), any());
+    willAnswer(
+            invocation -> {
+              inserted.addAll(invocation.getArgument(0));
+              return null;
+            })
+        .given(jdbcRepository)
+        .insertWinnings(any());
+    given(progressRepository.findById(ROUND)).willAnswer(invocation -> Optional.ofNullable(stored));
+    given(progressRepository.save(any()))
+        .willAnswer(invocation -> stored = invocation.getArgument(0));
+
+    service =
+        new LottoSettlementService(
+            jdbcRepository,
+            progressRepository,
+            outboxRepository,
+            cache,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)),
+            2);
+  }
+
+  /**
+   * 5건을 청크 2로 정산하면 세 번에 나눠 읽고, 당첨 4건만 등수와 함께 저장해야 한다.
+   *
+   * <p>이 테스트가 보장하는 것:
+   *
+   * <ul>
+   *   <li>1등/2등(5개 + 보너스)/3등/5등을 구분하고 낙첨은 저장하지 않는다.
+   *   <li>청크마다 커서가 마지막 id로 이동하고, 마지막 청크에서 완료 표시가 된다.
+   *   <li>청크에서 저장한 당첨 내역을 같은 청크에서 알림 outbox에 넘긴다.
+   * </ul>
+   */
+  @Test
+  @DisplayName("회차 기록을 청크로 끝까지 읽고 당첨 기록만 저장한다")
+  void settle_allChunks_storesWinnersWithRank() {
+    // given
+    record(1, "1 2 3 4 5 6");
+    record(2, "1 2 3 4 5 7");
+    record(3, "10 20 30 40 41 42");
+    record(4, "1 2 3 4 5 45");
+    record(5, "1 2 3 40 41 42");
+
+    // when
+    LottoSettlementService.SettlementResult result = service.settle(ROUND);
+
+    // then
+    assertThat(result.scanned()).isEqualTo(5);
+    assertThat(result.winners()).isEqualTo(4);
+    assertThat(inserted)
+        .extracting(LottoWinning::getRecordId, LottoWinning::getRank)
+        .containsExactly(
+            tuple(1L, LottoRank.FIRST.rank()),
+            tuple(2L, LottoRank.SECOND.rank()),
+            tuple(4L, LottoRank.THIRD.rank()),
+            tuple(5L, LottoRank.FIFTH.rank()));
+    assertThat(inserted).allSatisfy(w -> assertThat(w.getMemberId()).isEqualTo(10L));
+
+    assertThat(stored.getLastRecordId()).isEqualTo(5L);
+    assertThat(stored.getScannedCount()).isEqualTo(5L);
+    assertThat(stored.getWinnerCount()).isEqualTo(4L);
+    assertThat(stored.isCompleted()).isTrue();
+
+    ArgumentCaptor<List<LottoWinning>> enqueued = ArgumentCaptor.forClass(List.class);
+    verify(outboxRepository, times(3)).enqueueWinnings(enqueued.capture(), any());
+    assertThat(enqueued.getAllValues().stream().mapToInt(List::size).sum()).isEqualTo(4);
+  }
+
+  /** 커서가 3에 멈춰 있던 정산은 4번부터 이어서 해야 하며, 이미 커밋된 1~3은 다시 쓰지 않는다. */
+  @Test
+  @DisplayName("진행 커서 다음 기록부터 이어서 정산한다")
+  void settle_withProgress_resumesAfterCursor() {
+    // given
+    record(1, "1 2 3 4 5 6");
+    record(3, "1 2 3 4 5 6");
+    record(4, "1 2 3 4 40 41");
+    stored =
+        LottoSettlementProgress.builder()
+            .round(ROUND)
+            .lastRecordId(3L)
+            .scannedCount(2L)
+            .winnerCount(2L)
+            .updatedAt(LocalDateTime.now())
+            .build();
+
+    // when
+    LottoSettlementService.SettlementResult result = service.settle(ROUND);
+
+    // then
+    assertThat(result.resumedFromRecordId()).isEqualTo(3L);
+    assertThat(result.scanned()).isEqualTo(1);
+    assertThat(inserted).singleElement().satisfies(w -> assertThat(w.getRecordId()).isEqualTo(4L));
+    assertThat(stored.getWinnerCount()).isEqualTo(3L);
+    assertThat(stored.isCompleted()).isTrue();
+    verify(jdbcRepository).scanTickets(eq(ROUND), eq(3L), eq(2), any());
+    verify(jdbcRepository, never()).scanTickets(eq(ROUND), eq(0L), anyInt(), any());
+  }
+
+  @Test
+  @DisplayName("당첨 번호가 없는 회차는 정산하지 않는다")
+  void settle_unknownRound_throws() {
+    assertThatThrownBy(() -> service.settle(ROUND + 1))
+        .isInstanceOf(IllegalArgumentException.class);
+    verify(jdbcRepository, never()).insertWinnings(any());
+  }
+
+  private void record(long id, String numbers) {
+    records.add(new Object[] {id, LottoSet.parse(numbers).toCanonicalString()});
+  }
+}
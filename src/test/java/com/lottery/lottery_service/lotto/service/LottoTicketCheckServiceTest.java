@@ -0,0 +1,89 @@
+package com.lottery.lottery_service.lotto.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.lottery.lottery_service.lotto.dto.LottoSet;
+import com.lottery.lottery_service.lotto.dto.response.TicketCheckResponse;
+import com.lottery.lottery_service.lotto.entity.LottoWinnerData;
+import com.lottery.lottery_service.lotto.repository.LottoWinnerDataRepository;
+import com.lottery.lottery_service.lotto.validation.cache.LottoWinnerDataCache;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * LottoTicketCheckService(당첨 결과 확인)의 단위 테스트.
+ *
+ * <p>이 테스트 클래스의 역할:
+ *
+ * <ul>
+ *   <li>회차 당첨 번호/보너스로 세트별 일치 개수와 등수를 요청 순서대로 돌려주는지 검증한다.
+ *   <li>발표되지 않은 회차는 empty(→ 404)인지 확인한다.
+ *   <li>확인 경로에서 repository를 전혀 부르지 않는지 확인한다.
+ * </ul>
+ */
+class LottoTicketCheckServiceTest {
+
+  private final LottoWinnerDataRepository repo = mock(LottoWinnerDataRepository.class);
+  private final LottoWinnerDataCache cache = new LottoWinnerDataCache(repo);
+  private final LottoTicketCheckService service = new LottoTicketCheckService(cache);
+
+  @BeforeEach
+  void setUp() {
+    cache.add(
+        LottoWinnerData.builder().round(1112).winnerData("1 2 3 4 5 6").bnusNo(7).build());
+  }
+
+  /** 1등/2등/낙첨 세트를 한 번에 확인하면 요청 순서대로 결과가 나와야 한다. */
+  @Test
+  @DisplayName("세트별 일치 개수와 등수를 요청 순서대로 돌려준다")
+  void check_publishedRound_returnsRanksInOrder() {
+    // when
+    Optional<TicketCheckResponse> response =
+        service.check(
+            1112,
+            List.of(
+                LottoSet.of(1, 2, 3, 4, 5, 6),
+                LottoSet.of(1, 2, 3, 4, 5, 7),
+                LottoSet.of(10, 20, 30, 40, 41, 42)));
+
+    // then
+    assertThat(response).isPresent();
+    TicketCheckResponse body = response.get();
+    assertThat(body.getWinningNumbers()).containsExactly(1, 2, 3, 4, 5, 6);
+    assertThat(body.getBonusNumber()).isEqualTo(7);
+    assertThat(body.getResults())
+        .extracting(TicketCheckResponse.TicketResult::getRank)
+        .containsExactly(1, 2, 0);
+    assertThat(body.getResults().get(1).getMatchCount()).isEqualTo(5);
+    assertThat(body.getResults().get(1).isBonusMatched()).isTrue();
+    verifyNoInteractions(repo);
+  }
+
+  @Test
+  @DisplayName("발표되지 않은 회차는 empty를 돌려준다")
+  void check_unpublishedRound_returnsEmpty() {
+    assertThat(service.check(1113, List.of(LottoSet.of(1, 2, 3, 4, 5, 6)))).isEmpty();
+    assertThat(service.check(0, List.of(LottoSet.of(1, 2, 3, 4, 5, 6)))).isEmpty();
+  }
+
+  @Test
+  @DisplayName("번호가 6개가 아니거나 세트 수가 범위를 벗어나면 거절한다")
+  void check_invalidTickets_throws() {
+    assertThatThrownBy(() -> service.check(1112, List.of(LottoSet.of(1, 2, 3))))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> service.check(1112, List.of()))
+        .isInstanceOf(IllegalArgumentException.class);
+    List<LottoSet> tooMany =
+        Collections.nCopies(
+            LottoTicketCheckService.MAX_BATCH_SIZE + 1, LottoSet.of(1, 2, 3, 4, 5, 6));
+    assertThatThrownBy(() -> service.check(1112, tooMany))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
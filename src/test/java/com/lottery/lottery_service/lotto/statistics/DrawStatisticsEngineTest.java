@@ -0,0 +1,131 @@
+package com.lottery.lottery_service.lotto.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import com.lottery.lottery_service.lotto.entity.LottoWinnerData;
+import com.lottery.lottery_service.lotto.external.LottoWinnerSavedEvent;
+import com.lottery.lottery_service.lotto.repository.LottoWinnerDataRepository;
+import com.lottery.lottery_service.lotto.validation.cache.LottoWinnerDataCache;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * DrawStatisticsEngine(당첨 통계 메모리 집계)의 단위 테스트.
+ *
+ * <p>이 테스트 클래스의 역할:
+ *
+ * <ul>
+ *   <li>기동 시 당첨 캐시의 회차 배열로 출현/쌍/간격/분포를 정확히 집계하는지 검증한다.
+ *   <li>새 회차 이벤트는 그 회차만 더하고, 같은 회차가 다시 오면 무시하는지 검증한다.
+ * </ul>
+ *
+ * <p>캐시는 실제 객체를 쓰고 repository만 mock으로 둔다. 기동 이후 repository 호출이 없어야 한다(DB 미접근).
+ */
+class DrawStatisticsEngineTest {
+
+  private final LottoWinnerDataRepository repo = mock(LottoWinnerDataRepository.class);
+  private final LottoWinnerDataCache cache = new LottoWinnerDataCache(repo);
+  private DrawStatisticsEngine engine;
+
+  @BeforeEach
+  void setUp() {
+    given(repo.findAll())
+        .willReturn(
+            List.of(
+                winner(1, "1 2 3 4 5 6", 7), // 합 21, 차이값 5종, 홀수 3
+                winner(3, "1 10 20 30 40 45", 2))); // 합 146, 홀수 2
+    cache.reloadAll();
+    engine = new DrawStatisticsEngine(cache);
+    engine.init();
+  }
+
+  /**
+   * 기동 집계 결과가 두 회차의 번호로 손으로 센 값과 같아야 한다.
+   *
+   * <p>이 테스트가 보장하는 것:
+   *
+   * <ul>
+   *   <li>번호별 출현/보너스 횟수, 쌍 행렬은 대칭이다.
+   *   <li>간격은 최근 회차 기준이며, 한 번도 안 나온 번호는 집계 회차 전체다.
+   *   <li>합/AC/홀수 개수 분포가 회차마다 1씩 쌓인다.
+   * </ul>
+   */
+  @Test
+  @DisplayName("기동 시 캐시의 모든 회차를 집계한다")
+  void init_fromCacheDraws_aggregatesAllRounds() {
+    // when
+    DrawStatistics stats = engine.current();
+
+    // then
+    assertThat(stats.rounds()).isEqualTo(2);
+    assertThat(stats.latestRound()).isEqualTo(3);
+    assertThat(stats.hits(1)).isEqualTo(2);
+    assertThat(stats.hits(2)).isEqualTo(1);
+    assertThat(stats.hits(7)).isZero();
+    assertThat(stats.bonusHits(7)).isEqualTo(1);
+    assertThat(stats.bonusHits(2)).isEqualTo(1);
+
+    assertThat(stats.pairCount(1, 2)).isEqualTo(1);
+    assertThat(stats.pairCount(2, 1)).isEqualTo(1);
+    assertThat(stats.pairCount(1, 45)).isEqualTo(1);
+    assertThat(stats.pairCount(2, 45)).isZero();
+    assertThat(stats.pairCount(1, 1)).isZero();
+
+    assertThat(stats.gap(1)).isZero();
+    assertThat(stats.gap(2)).isEqualTo(2);
+    assertThat(stats.gap(7)).isEqualTo(3);
+
+    assertThat(stats.sumCount(21)).isEqualTo(1);
+    assertThat(stats.sumCount(146)).isEqualTo(1);
+    assertThat(stats.acCount(5)).isEqualTo(1);
+    assertThat(stats.oddCount(3)).isEqualTo(1);
+    assertThat(stats.oddCount(2)).isEqualTo(1);
+  }
+
+  /** 새 회차 이벤트는 통계에 한 번만 반영되고, 이전 스냅샷은 바뀌지 않아야 한다. */
+  @Test
+  @DisplayName("새 회차 이벤트는 한 번만 더해지고 DB를 읽지 않는다")
+  void onWinnerSaved_newRoundThenDuplicate_appliedOnce() {
+    // given
+    DrawStatistics before = engine.current();
+    LottoWinnerData round4 = winner(4, "2 3 4 5 6 7", 1);
+
+    // when
+    engine.onWinnerSaved(new LottoWinnerSavedEvent(round4));
+    engine.onWinnerSaved(new LottoWinnerSavedEvent(round4));
+
+    // then
+    DrawStatistics after = engine.current();
+    assertThat(after.rounds()).isEqualTo(3);
+    assertThat(after.latestRound()).isEqualTo(4);
+    assertThat(after.hits(7)).isEqualTo(1);
+    assertThat(after.bonusHits(1)).isEqualTo(1);
+    assertThat(after.pairCount(2, 3)).isEqualTo(2);
+    assertThat(after.gap(1)).isEqualTo(1);
+    assertThat(after.gap(7)).isZero();
+
+    assertThat(before.rounds()).isEqualTo(2);
+    assertThat(before.hits(7)).isZero();
+
+    verify(repo).findAll(); // 기동 시 캐시 로드 1회뿐
+    verifyNoMoreInteractions(repo);
+  }
+
+  private static LottoWinnerData winner(int round, String numbers, int bonus) {
+    return LottoWinnerData.builder()
+        .round(round)
+        .winnerData(numbers)
+        .bnusNo(bonus)
+        .totSellamnt(1000L)
+        .firstWinamnt(2000L)
+        .firstPrzwnerCo(3)
+        .firstAccumamnt(6000L)
+        .build();
+  }
+}
@@ -4,9 +4,17 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
+import com.lottery.lottery_service.lotto.dto.LottoRank;
+import com.lottery.lottery_service.lotto.dto.LottoSet;
 import com.lottery.lottery_service.lotto.entity.LottoWinnerData;
 import com.lottery.lottery_service.lotto.repository.LottoWinnerDataRepository;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,6 +31,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
  *   <li>DB 전체 로드 결과를 캐시에 올바르게 반영하는지 검증한다.
  *   <li>증분 추가(add)가 기존 캐시를 유지한 채 새 값을 포함시키는지 검증한다.
  *   <li>contains(...)가 현재 캐시 상태를 정확히 조회하는지 검증한다.
+ *   <li>회차별 당첨 번호/보너스 배열(draws)이 로드/추가와 함께 갱신되는지 검증한다.
+ *   <li>동시에 add해도 추가분이 사라지지 않는지 검증한다.
+ *   <li>리로드가 DB를 읽는 동안 들어온 add가 리로드 뒤에도 남는지 검증한다.
  * </ul>
  *
  * <p>중요:
@@ -30,7 +41,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
  * <ul>
  *   <li>이 테스트는 실제 DB를 사용하지 않는다.
  *   <li>Repository는 mock으로 두고, cache의 메모리 상태 전이만 검증한다.
- *   <li>동시성 자체를 직접 검증하지는 않지만, 원자적 교체 설계가 의도대로 동작하는지 확인한다.
+ *   <li>원자적 교체와 쓰기 직렬화 설계가 의도대로 동작하는지 확인한다.
  * </ul>
  */
 @ExtendWith(MockitoExtension.class)
@@ -78,7 +89,7 @@ class LottoWinnerDataCacheTest {
             .build();
 
     // reloadAll이 "교체" 동작인지 보기 위해 사전 값 하나를 넣어둔다.
-    cache.add("9 10 11 12 13 14");
+    cache.add(LottoSet.parse("9 10 11 12 13 14"));
 
     given(repo.findAll()).willReturn(List.of(round1111, round1112));
 
@@ -87,15 +98,15 @@ class LottoWinnerDataCacheTest {
 
     // then
     verify(repo).findAll();
-    assertThat(cache.contains("1 3 12 25 34 41")).isTrue();
-    assertThat(cache.contains("2 8 19 22 32 42")).isTrue();
+    assertThat(cache.contains(LottoSet.parse("1 3 12 25 34 41"))).isTrue();
+    assertThat(cache.contains(LottoSet.parse("2 8 19 22 32 42"))).isTrue();
 
     // 기존 임시 값은 유지되면 안 된다. reloadAll은 전량 교체이기 때문이다.
-    assertThat(cache.contains("9 10 11 12 13 14")).isFalse();
+    assertThat(cache.contains(LottoSet.parse("9 10 11 12 13 14"))).isFalse();
   }
 
   /**
-   * add(normalized)는 현재 캐시에 없는 새 canonical 문자열을 증분으로 추가해야 한다.
+   * add(set)는 현재 캐시에 없는 새 조합을 증분으로 추가해야 한다.
    *
    * <p>이 테스트가 보장하는 것:
    *
@@ -109,18 +120,18 @@ class LottoWinnerDataCacheTest {
   @DisplayName("증분 추가는 기존 캐시를 유지하면서 새 조합을 포함시킨다")
   void add_newNormalizedWinner_keepsOldEntriesAndAddsNewEntry() {
     // given
-    cache.add("1 3 12 25 34 41");
+    cache.add(LottoSet.parse("1 3 12 25 34 41"));
 
     // when
-    cache.add("2 8 19 22 32 42");
+    cache.add(LottoSet.parse("2 8 19 22 32 42"));
 
     // then
-    assertThat(cache.contains("1 3 12 25 34 41")).isTrue();
-    assertThat(cache.contains("2 8 19 22 32 42")).isTrue();
+    assertThat(cache.contains(LottoSet.parse("1 3 12 25 34 41"))).isTrue();
+    assertThat(cache.contains(LottoSet.parse("2 8 19 22 32 42"))).isTrue();
   }
 
   /**
-   * 같은 문자열을 여러 번 add(...) 해도 캐시는 Set 기반이므로 중복 저장 개념이 없어야 한다.
+   * 같은 조합을 여러 번 add(...) 해도 캐시는 집합 의미론을 가지므로 중복 저장 개념이 없어야 한다.
    *
    * <p>이 테스트가 보장하는 것:
    *
@@ -129,7 +140,7 @@ class LottoWinnerDataCacheTest {
    *   <li>Set 의미론을 깨뜨리지 않는다.
    * </ul>
    *
-   * <p>참고: 내부 Set의 size를 외부에서 직접 볼 수 없으므로, 이 테스트는 "중복 추가가 이상 동작을 만들지 않는다"는 관점으로 검증한다.
+   * <p>참고: 내부 배열의 크기를 외부에서 직접 볼 수 없으므로, 이 테스트는 "중복 추가가 이상 동작을 만들지 않는다"는 관점으로 검증한다.
    */
   @Test
   @DisplayName("같은 조합을 중복 추가해도 정상적으로 포함 상태를 유지한다")
@@ -138,11 +149,11 @@ class LottoWinnerDataCacheTest {
     String normalized = "1 3 12 25 34 41";
 
     // when
-    cache.add(normalized);
-    cache.add(normalized);
+    cache.add(LottoSet.parse(normalized));
+    cache.add(LottoSet.parse(normalized));
 
     // then
-    assertThat(cache.contains(normalized)).isTrue();
+    assertThat(cache.contains(LottoSet.parse(normalized))).isTrue();
   }
 
   /**
@@ -151,14 +162,14 @@ class LottoWinnerDataCacheTest {
    * <p>이 테스트가 보장하는 것:
    *
    * <ul>
-   *   <li>초기 캐시는 빈 Set이다.
+   *   <li>초기 캐시는 비어 있다.
    *   <li>존재하지 않는 값 조회 시 false를 반환한다.
    * </ul>
    */
   @Test
   @DisplayName("초기 빈 캐시에서는 어떤 조합도 포함하지 않는다")
   void contains_cacheIsEmpty_returnsFalse() {
-    assertThat(cache.contains("1 2 3 4 5 6")).isFalse();
+    assertThat(cache.contains(LottoSet.parse("1 2 3 4 5 6"))).isFalse();
   }
 
   /**
@@ -193,6 +204,144 @@ class LottoWinnerDataCacheTest {
 
     // then
     verify(repo).findAll();
-    assertThat(cache.contains("2 8 19 22 32 42")).isTrue();
+    assertThat(cache.contains(LottoSet.parse("2 8 19 22 32 42"))).isTrue();
+  }
+
+  /**
+   * 전체 로드와 회차 단위 추가는 회차 배열에도 당첨 번호/보너스를 남겨야 한다.
+   *
+   * <p>이 테스트가 보장하는 것:
+   *
+   * <ul>
+   *   <li>회차 번호로 당첨 마스크와 보너스 번호를 바로 찾는다.
+   *   <li>데이터가 없는 회차(중간 빈 회차 포함)는 0을 돌려준다.
+   *   <li>add(LottoWinnerData)는 포함 여부 조회와 회차 배열을 함께 갱신한다.
+   *   <li>rankOf는 회차 배열만으로 등수를 매기고, 추첨 전 회차는 null이다.
+   * </ul>
+   */
+  @Test
+  @DisplayName("회차별 당첨 번호와 보너스 번호를 회차로 바로 찾는다")
+  void draws_reloadThenAddRound_exposesMaskAndBonusPerRound() {
+    // given
+    given(repo.findAll()).willReturn(List.of(winner(1110, "1 3 12 25 34 41", 7)));
+    cache.reloadAll();
+
+    // when
+    cache.add(winner(1112, "2 8 19 22 32 42", 11));
+
+    // then
+    WinningDraws draws = cache.draws();
+    assertThat(draws.latestRound()).isEqualTo(1112);
+    assertThat(draws.count()).isEqualTo(2);
+    assertThat(draws.mask(1110)).isEqualTo(LottoSet.parseMask("1 3 12 25 34 41"));
+    assertThat(draws.bonus(1110)).isEqualTo(7);
+    assertThat(draws.bonusBit(1112)).isEqualTo(LottoSet.bit(11));
+    assertThat(draws.contains(1111)).isFalse();
+    assertThat(draws.mask(1111)).isZero();
+    assertThat(draws.bonus(9999)).isZero();
+    assertThat(cache.contains(LottoSet.parse("2 8 19 22 32 42"))).isTrue();
+
+    assertThat(draws.rankOf(1112, LottoSet.parseMask("2 8 19 22 32 11")))
+        .isEqualTo(LottoRank.SECOND);
+    assertThat(draws.rankOf(1110, LottoSet.parseMask("1 3 12 40 43 45")))
+        .isEqualTo(LottoRank.FIFTH);
+    assertThat(draws.rankOf(1111, LottoSet.parseMask("1 3 12 25 34 41"))).isNull();
+  }
+
+  /** 여러 스레드가 동시에 add해도 모든 조합이 남아 있어야 한다. */
+  @Test
+  @DisplayName("동시에 추가해도 추가분이 사라지지 않는다")
+  void add_concurrentWriters_keepsEveryEntry() throws Exception {
+    // given
+    int writers = 4;
+    int perWriter = 200;
+    ExecutorService executor = Executors.newFixedThreadPool(writers);
+
+    try {
+      // when
+      List<Future<?>> futures = new ArrayList<>();
+      for (int w = 0; w < writers; w++) {
+        int base = w * perWriter;
+        futures.add(
+            executor.submit(
+                () -> {
+                  for (int i = base; i < base + perWriter; i++) {
+                    cache.add(setOf(i));
+                  }
+                }));
+      }
+      for (Future<?> future : futures) {
+        future.get(30, TimeUnit.SECONDS);
+      }
+
+      // then
+      for (int i = 0; i < writers * perWriter; i++) {
+        assertThat(cache.contains(setOf(i))).as("set %d", i).isTrue();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * 리로드가 DB를 읽는 사이에 새 회차가 add되면, 리로드가 끝난 뒤 그 회차가 읽어 온 목록 위에 반영되어야 한다.
+   *
+   * <p>이 테스트가 보장하는 것:
+   *
+   * <ul>
+   *   <li>리로드 중의 add는 리로드가 끝날 때까지 기다린다.
+   *   <li>리로드가 읽은 회차와 그사이 add된 회차가 모두 남는다.
+   * </ul>
+   */
+  @Test
+  @DisplayName("리로드가 DB를 읽는 동안 들어온 추가분은 리로드 뒤에도 남는다")
+  void reloadAll_concurrentAdd_keepsAddedRound() throws Exception {
+    // given: findAll을 붙잡아 둔다
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    given(repo.findAll())
+        .willAnswer(
+            invocation -> {
+              loading.countDown();
+              release.await(10, TimeUnit.SECONDS);
+              return List.of(winner(1112, "2 8 19 22 32 42", 11));
+            });
+    Thread reload = new Thread(cache::reloadAll);
+    reload.start();
+    assertThat(loading.await(10, TimeUnit.SECONDS)).isTrue();
+
+    // when
+    Thread adder = new Thread(() -> cache.add(winner(1113, "3 7 15 19 25 44", 1)));
+    adder.start();
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (adder.getState() != Thread.State.BLOCKED && System.nanoTime() < deadline) {
+      Thread.sleep(1);
+    }
+    assertThat(adder.getState()).isEqualTo(Thread.State.BLOCKED);
+    release.countDown();
+    reload.join(10_000);
+    adder.join(10_000);
+
+    // then
+    assertThat(cache.draws().contains(1112)).isTrue();
+    assertThat(cache.draws().contains(1113)).isTrue();
+    assertThat(cache.contains(LottoSet.parse("3 7 15 19 25 44"))).isTrue();
+  }
+
+  /** i(0~999)마다 서로 다른 조합: 일/십/백의 자리를 각각 다른 구간의 번호로 쓴다. */
+  private static LottoSet setOf(int i) {
+    return LottoSet.of(1 + i % 10, 11 + i / 10 % 10, 21 + i / 100, 40, 41, 42);
+  }
+
+  private static LottoWinnerData winner(int round, String numbers, int bonus) {
+    return LottoWinnerData.builder()
+        .round(round)
+        .winnerData(numbers)
+        .bnusNo(bonus)
+        .totSellamnt(1000L)
+        .firstWinamnt(2000L)
+        .firstPrzwnerCo(3)
+        .firstAccumamnt(6000L)
+        .build();
   }
 }
@@ -0,0 +1,87 @@
+package com.lottery.lottery_service.lotto.validation.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.lottery.lottery_service.lotto.dto.LottoSet;
+import com.lottery.lottery_service.lotto.generation.LottoCombinations;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * SubsetIndex(k개 겹침 색인)의 단위 테스트.
+ *
+ * <p>이 테스트 클래스의 역할:
+ *
+ * <ul>
+ *   <li>색인 조회 결과가 "당첨 조합 전체를 훑어 popcount로 센 결과"와 항상 같은지 검증한다.
+ *   <li>나중에 추가한 당첨 조합(표 확장 포함)도 조회에 반영되는지 검증한다.
+ * </ul>
+ */
+class SubsetIndexTest {
+
+  /**
+   * k=4/5/6 모두 전수 비교와 같은 답을 내야 한다.
+   *
+   * <p>당첨 조합 절반은 생성 시, 나머지 절반은 addWinner로 넣어 표 확장 경로도 함께 지난다.
+   */
+  @Test
+  @DisplayName("색인 조회는 당첨 조합 전수 비교와 같은 결과를 낸다")
+  void sharesWithAny_randomCandidates_matchesLinearScan() {
+    // given
+    SplittableRandom random = new SplittableRandom(11L);
+    long[] winners = randomMasks(random, 400);
+    long[] candidates = randomMasks(random, 5_000);
+
+    for (int k = SubsetIndex.MIN_SHARED; k <= SubsetIndex.MAX_SHARED; k++) {
+      SubsetIndex index = new SubsetIndex(k, Arrays.copyOf(winners, 200));
+      for (int i = 200; i < winners.length; i++) {
+        index.addWinner(winners[i]);
+      }
+
+      // when & then
+      for (long candidate : candidates) {
+        assertThat(index.sharesWithAny(candidate))
+            .as("k=%d candidate=%s", k, LottoSet.ofMask(candidate))
+            .isEqualTo(linearScan(winners, candidate, k));
+      }
+      // 당첨 조합 자신은 항상 걸린다
+      assertThat(index.sharesWithAny(winners[399])).isTrue();
+    }
+  }
+
+  /** 5개 겹침 기준의 경계: 5개 겹치면 걸리고 4개면 통과한다. */
+  @Test
+  @DisplayName("5개 겹침 기준에서 5개는 걸리고 4개는 통과한다")
+  void sharesWithAny_fiveShared_boundary() {
+    // given
+    SubsetIndex index = new SubsetIndex(5, new long[] {LottoSet.parseMask("1 2 3 4 5 6")});
+
+    // when & then
+    assertThat(index.size()).isEqualTo(6);
+    assertThat(index.sharesWithAny(LottoSet.parseMask("1 2 3 4 5 45"))).isTrue();
+    assertThat(index.sharesWithAny(LottoSet.parseMask("2 3 4 5 6 40"))).isTrue();
+    assertThat(index.sharesWithAny(LottoSet.parseMask("1 2 3 4 44 45"))).isFalse();
+    assertThatThrownBy(() -> new SubsetIndex(3, new long[0]))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static long[] randomMasks(SplittableRandom random, int n) {
+    long[] out = new long[n];
+    for (int i = 0; i < n; i++) {
+      out[i] = LottoCombinations.randomCombination(random);
+    }
+    return out;
+  }
+
+  private static boolean linearScan(long[] winners, long candidate, int k) {
+    for (long winner : winners) {
+      if (Long.bitCount(winner & candidate) >= k) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
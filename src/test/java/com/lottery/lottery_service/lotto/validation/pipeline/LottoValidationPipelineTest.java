@@ -1,11 +1,20 @@
 package com.lottery.lottery_service.lotto.validation.pipeline;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.lottery.lottery_service.lotto.dto.LottoSet;
+import com.lottery.lottery_service.lotto.validation.config.LottoRuleSettings;
+import com.lottery.lottery_service.lotto.validation.rule.ArithmeticComplexityMax6Rule;
+import com.lottery.lottery_service.lotto.validation.rule.EndDigitDuplicateGte4Rule;
+import com.lottery.lottery_service.lotto.validation.rule.EndDigitSumRule;
 import com.lottery.lottery_service.lotto.validation.rule.LottoValidationRule;
+import com.lottery.lottery_service.lotto.validation.rule.LowHighZeroSixRule;
+import com.lottery.lottery_service.lotto.validation.rule.OddEvenZeroSixRule;
+import com.lottery.lottery_service.lotto.validation.rule.ThreeZoneSuperExtremeRule;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.annotation.Order;
@@ -20,6 +29,10 @@ import org.springframework.core.annotation.Order;
  *   <li>disabled 룰이 실행되지 않고 건너뛰어지는지 검증한다.
  *   <li>첫 FAIL에서 short-circuit 되는지 검증한다.
  *   <li>모든 활성 룰이 통과했을 때 PASS 결과가 조립되는지 검증한다.
+ *   <li>내장 룰이 한 번의 순회로 합쳐 판정(컴파일)되어도 실패 룰/사유/실행 목록이 같은지 검증한다.
+ *   <li>test()의 실행 순서를 고정(pin)할 수 있고, validate()의 귀속은 영향을 받지 않는지 검증한다.
+ *   <li>판정 수/룰별 거절 수가 메트릭 스냅샷에 누적되고, 인덱스 빌드용 판정은 빠지는지 검증한다.
+ *   <li>설정 변경(on/off, 임계값)이 다음 판정부터 한 번에 반영되고, 잘못된 설정은 기존 계획을 유지하는지 검증한다.
  * </ul>
  *
  * <p>중요:
@@ -168,6 +181,272 @@ class LottoValidationPipelineTest {
     assertThat(result.getExecutedRuleIds()).containsExactly("RULE_1", "RULE_2", "RULE_3");
   }
 
+  /**
+   * test(...)는 validate(...)와 같은 순서/같은 short-circuit으로 통과 여부만 돌려줘야 한다.
+   *
+   * <p>인덱스 빌드가 이 메서드로 전수 평가하므로, 판정 결과가 validate와 어긋나면 안 된다.
+   */
+  @Test
+  @DisplayName("test는 validate와 같은 순서로 판정하고 통과 여부만 반환한다")
+  void test_ruleFailsEarly_returnsFalseWithSameShortCircuit() {
+    // given
+    List<String> callTrace = new ArrayList<>();
+
+    LottoValidationPipeline failing =
+        new LottoValidationPipeline(
+            List.of(
+                new ThirdPassRule(callTrace),
+                new SecondFailRule(callTrace),
+                new FirstPassRule(callTrace)));
+    LottoValidationPipeline passing =
+        new LottoValidationPipeline(
+            List.of(new DisabledRule(callTrace), new FirstPassRule(callTrace)));
+    failing.pinCanonicalOrder(); // 호출 순서를 단정하므로 적응형 재정렬을 끈다
+
+    // when & then
+    assertThat(failing.test(SAMPLE_SET)).isFalse();
+    assertThat(callTrace).containsExactly("RULE_1", "RULE_2_FAIL");
+
+    callTrace.clear();
+    assertThat(passing.test(SAMPLE_SET)).isTrue();
+    assertThat(callTrace).containsExactly("RULE_1");
+  }
+
+  /**
+   * 내장 룰은 합쳐서 판정되더라도, 결과는 룰을 하나씩 실행한 것과 같아야 한다.
+   *
+   * <p>이 테스트가 보장하는 것:
+   *
+   * <ul>
+   *   <li>실패 룰 ID/사유코드가 해당 내장 룰의 값이다.
+   *   <li>실행 목록은 실패 지점까지의 룰 ID이며, 사이에 끼운 사용자 정의 룰도 순서대로 실행된다.
+   * </ul>
+   */
+  @Test
+  @DisplayName("내장 룰은 합쳐 판정해도 실패 룰과 실행 목록이 같다")
+  void validate_builtInRulesFused_attributesFirstFailingRule() {
+    // given
+    List<String> callTrace = new ArrayList<>();
+    LottoValidationPipeline pipeline =
+        new LottoValidationPipeline(
+            List.of(
+                new FirstPassRule(callTrace),
+                new EndDigitSumRule(),
+                new EndDigitDuplicateGte4Rule(),
+                new LowHighZeroSixRule(),
+                new OddEvenZeroSixRule(),
+                new ArithmeticComplexityMax6Rule(),
+                new ThreeZoneSuperExtremeRule()));
+
+    // 끝자리 합 33, 같은 끝자리 최대 3개, 저 4/고 2, 홀 3/짝 3 이지만 등차수열이라 AC = 5
+    LottoSet arithmetic = LottoSet.of(3, 8, 13, 18, 23, 28);
+
+    // when
+    LottoValidationResult result = pipeline.validate(arithmetic);
+
+    // then
+    assertThat(result.isPass()).isFalse();
+    assertThat(result.getFailedRuleId()).isEqualTo("ArithmeticComplexityMax6");
+    assertThat(result.getFailedReasonCode()).isEqualTo("AC_LE_6");
+    assertThat(callTrace).containsExactly("RULE_1");
+    assertThat(result.getExecutedRuleIds())
+        .containsExactly(
+            "RULE_1",
+            "EndDigitSum",
+            "EndDigitDupGte4",
+            "LowHighZeroSix",
+            "OddEvenZeroSix",
+            "ArithmeticComplexityMax6");
+    assertThat(pipeline.test(arithmetic)).isFalse();
+    assertThat(pipeline.test(LottoSet.of(1, 12, 19, 27, 34, 45))).isTrue();
+  }
+
+  /**
+   * test()의 순서를 고정하면 그 순서대로 실행되지만, validate()는 여전히 @Order 순서로 실패 룰을 귀속해야 한다.
+   *
+   * <p>이 테스트가 보장하는 것:
+   *
+   * <ul>
+   *   <li>pinOrder로 지정한 룰이 test()에서 먼저 실행된다(나머지는 @Order 순서로 뒤에 붙음).
+   *   <li>통과/실패 결과는 순서와 무관하게 같다.
+   *   <li>validate()의 실패 룰/실행 목록은 고정 순서의 영향을 받지 않는다.
+   * </ul>
+   */
+  @Test
+  @DisplayName("test 순서를 고정해도 validate는 @Order 순서로 귀속한다")
+  void pinOrder_testUsesPinnedOrder_validateStaysCanonical() {
+    // given
+    List<String> callTrace = new ArrayList<>();
+    LottoValidationPipeline pipeline =
+        new LottoValidationPipeline(
+            List.of(
+                new FirstPassRule(callTrace),
+                new SecondFailRule(callTrace),
+                new ThirdPassRule(callTrace)));
+
+    // when
+    pipeline.pinOrder(List.of("RULE_3"));
+    boolean passed = pipeline.test(SAMPLE_SET);
+
+    // then
+    assertThat(passed).isFalse();
+    assertThat(pipeline.currentTestOrder()).containsExactly("RULE_3", "RULE_1", "RULE_2_FAIL");
+    assertThat(callTrace).containsExactly("RULE_3", "RULE_1", "RULE_2_FAIL");
+
+    callTrace.clear();
+    LottoValidationResult result = pipeline.validate(SAMPLE_SET);
+    assertThat(result.getFailedRuleId()).isEqualTo("RULE_2_FAIL");
+    assertThat(result.getExecutedRuleIds()).containsExactly("RULE_1", "RULE_2_FAIL");
+    assertThat(callTrace).containsExactly("RULE_1", "RULE_2_FAIL");
+  }
+
+  /**
+   * validate/test 모두 판정 수에 더해지고, 거절은 처음 실패한 룰에만 귀속되어야 한다.
+   *
+   * <p>메트릭 스냅샷은 @Order 순서로 활성/비활성 구분 없이 룰마다 한 줄씩 나온다.
+   */
+  @Test
+  @DisplayName("판정 수와 룰별 거절 수가 누적된다")
+  void ruleMetrics_afterChecks_countsFirstFailingRuleOnly() {
+    // given
+    List<String> callTrace = new ArrayList<>();
+    LottoValidationPipeline pipeline =
+        new LottoValidationPipeline(
+            List.of(
+                new ThirdPassRule(callTrace),
+                new SecondFailRule(callTrace),
+                new FirstPassRule(callTrace)));
+
+    // when
+    pipeline.validate(SAMPLE_SET);
+    pipeline.test(SAMPLE_SET);
+    pipeline.test(SAMPLE_SET);
+
+    // then
+    assertThat(pipeline.checkCount()).isEqualTo(3);
+    assertThat(pipeline.ruleMetrics())
+        .extracting(LottoValidationPipeline.RuleMetrics::ruleId)
+        .containsExactly("RULE_1", "RULE_2_FAIL", "RULE_3");
+    assertThat(pipeline.ruleMetrics())
+        .extracting(LottoValidationPipeline.RuleMetrics::rejections)
+        .containsExactly(0L, 3L, 0L);
+  }
+
+  /**
+   * 인덱스 빌드용 판정기는 test()와 같은 결과를 내지만 판정 수/거절 수 메트릭에는 남지 않아야 한다.
+   *
+   * <p>이 테스트가 보장하는 것:
+   *
+   * <ul>
+   *   <li>bulkTester는 실패 룰이 있으면 false를 돌려준다.
+   *   <li>몇 번을 돌려도 checkCount와 룰별 거절 수가 늘지 않는다(메트릭은 추천 판정만 센다).
+   * </ul>
+   */
+  @Test
+  @DisplayName("대량 판정기는 같은 결과를 내고 메트릭에 남지 않는다")
+  void bulkTester_sameOutcome_doesNotRecordMetrics() {
+    // given
+    List<String> callTrace = new ArrayList<>();
+    LottoValidationPipeline pipeline =
+        new LottoValidationPipeline(
+            List.of(new FirstPassRule(callTrace), new SecondFailRule(callTrace)));
+
+    // when
+    boolean passed = true;
+    for (int i = 0; i < 1_000; i++) {
+      passed &= pipeline.bulkTester().test(SAMPLE_SET);
+    }
+
+    // then
+    assertThat(passed).isFalse();
+    assertThat(pipeline.test(SAMPLE_SET)).isFalse();
+    assertThat(pipeline.checkCount()).isEqualTo(1);
+    assertThat(pipeline.ruleMetrics())
+        .extracting(LottoValidationPipeline.RuleMetrics::rejections)
+        .containsExactly(0L, 1L);
+  }
+
+  /**
+   * 적용 전 설정으로 만든 판정기는 그 설정대로 판정하되, 현재 설정은 바꾸지 않아야 한다.
+   *
+   * <p>이 테스트가 보장하는 것:
+   *
+   * <ul>
+   *   <li>후보 설정의 임계값/비활성 목록으로 판정한다.
+   *   <li>현재 파이프라인의 판정과 설정은 그대로다.
+   *   <li>잘못된 후보 설정은 판정기를 만들 때 예외로 거절된다.
+   * </ul>
+   */
+  @Test
+  @DisplayName("후보 설정 판정기는 그 설정대로 판정하고 현재 설정은 바꾸지 않는다")
+  void bulkTester_candidateSettings_doesNotReconfigure() {
+    // given
+    LottoValidationPipeline pipeline =
+        new LottoValidationPipeline(
+            List.of(new EndDigitSumRule(), new ArithmeticComplexityMax6Rule()));
+    LottoSet arithmetic = LottoSet.of(3, 8, 13, 18, 23, 28); // AC = 5
+    LottoRuleSettings before = pipeline.currentSettings();
+    LottoRuleSettings relaxed = new LottoRuleSettings(Set.of(), 14, 42, 4, 4, 5);
+
+    // when
+    boolean candidatePass = pipeline.bulkTester(relaxed).test(arithmetic);
+
+    // then
+    assertThat(candidatePass).isTrue();
+    assertThat(pipeline.test(arithmetic)).isFalse();
+    assertThat(pipeline.currentSettings()).isEqualTo(before);
+    LottoRuleSettings badRange = new LottoRuleSettings(Set.of(), 40, 20, 4, 6, 5);
+    assertThatThrownBy(() -> pipeline.bulkTester(badRange))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  /**
+   * 재설정하면 새 임계값/비활성 목록이 다음 판정부터 모두 반영되어야 한다.
+   *
+   * <p>이 테스트가 보장하는 것:
+   *
+   * <ul>
+   *   <li>임계값을 바꾸면 내장 룰 판정(컴파일 경로)이 새 값을 쓴다.
+   *   <li>끈 룰은 실행 목록에서도 빠진다.
+   *   <li>범위를 벗어난 값이나 모르는 룰 ID는 예외로 거절되고 기존 설정이 그대로 남는다.
+   * </ul>
+   */
+  @Test
+  @DisplayName("재설정은 다음 판정부터 한 번에 반영되고, 잘못된 설정은 거절된다")
+  void reconfigure_newThresholdsAndDisabledRules_appliedAtomically() {
+    // given
+    LottoValidationPipeline pipeline =
+        new LottoValidationPipeline(
+            List.of(
+                new EndDigitSumRule(),
+                new EndDigitDuplicateGte4Rule(),
+                new ArithmeticComplexityMax6Rule(),
+                new ThreeZoneSuperExtremeRule()));
+    LottoSet arithmetic = LottoSet.of(3, 8, 13, 18, 23, 28); // AC = 5
+    assertThat(pipeline.test(arithmetic)).isFalse();
+
+    // when
+    LottoRuleSettings relaxed =
+        new LottoRuleSettings(Set.of("ThreeZoneSuperExtreme"), 14, 42, 4, 4, 5);
+    pipeline.reconfigure(relaxed);
+
+    // then
+    LottoValidationResult result = pipeline.validate(arithmetic);
+    assertThat(result.isPass()).isTrue();
+    assertThat(result.getExecutedRuleIds())
+        .containsExactly("EndDigitSum", "EndDigitDupGte4", "ArithmeticComplexityMax6");
+    assertThat(pipeline.currentSettings()).isEqualTo(relaxed);
+
+    LottoRuleSettings unknownRule = new LottoRuleSettings(Set.of("NOPE"), 14, 42, 4, 6, 5);
+    LottoRuleSettings badRange = new LottoRuleSettings(Set.of(), 40, 20, 4, 6, 5);
+    assertThatThrownBy(() -> pipeline.reconfigure(unknownRule))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> pipeline.reconfigure(badRange))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThat(pipeline.currentSettings()).isEqualTo(relaxed);
+    assertThat(pipeline.test(arithmetic)).isTrue();
+  }
+
   // ---------------------------------------------------------------------------
   // 아래는 테스트 전용 fake rule 구현체들이다.
   // 실제 도메인 룰이 아니라, 파이프라인의 실행 순서/스킵/중단 동작을 검증하기 위한 더미 객체다.
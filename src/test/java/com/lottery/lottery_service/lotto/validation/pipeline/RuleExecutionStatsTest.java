@@ -0,0 +1,69 @@
+package com.lottery.lottery_service.lotto.validation.pipeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * RuleExecutionStats(단계별 비용/거절률 → 실행 순서)의 단위 테스트.
+ *
+ * <p>이 테스트 클래스의 역할:
+ *
+ * <ul>
+ *   <li>재정렬 주기에 도달했을 때만 새 순서를 계산하는지 검증한다.
+ *   <li>"평균 비용 / 거절률"이 낮은 단계가 앞에 오고, 거절한 적 없는 단계는 기준 순서대로 뒤에 남는지 검증한다.
+ * </ul>
+ */
+class RuleExecutionStatsTest {
+
+  private static final int[] CANONICAL = {0, 1, 2, 3};
+
+  /**
+   * 싸고 잘 거절하는 단계가 앞으로 와야 한다.
+   *
+   * <p>단계별 (비용, 거절률) → 점수: 0=(100ns, 10%) → 1000, 1=(10ns, 50%) → 20, 2=(50ns, 0%) → ∞,
+   * 3=(20ns, 10%) → 200
+   */
+  @Test
+  @DisplayName("평균 비용 대비 거절률이 좋은 단계부터 실행하도록 재정렬한다")
+  void completeSample_reorderInterval_sortsByCostPerRejection() {
+    // given
+    RuleExecutionStats stats = new RuleExecutionStats(CANONICAL.length);
+    int[] reordered = null;
+
+    // when
+    for (int sample = 0; sample < RuleExecutionStats.REORDER_INTERVAL; sample++) {
+      stats.record(0, 100, sample % 10 == 0);
+      stats.record(1, 10, sample % 2 == 0);
+      stats.record(2, 50, false);
+      stats.record(3, 20, sample % 10 == 0);
+      int[] result = stats.completeSample(CANONICAL);
+      if (sample < RuleExecutionStats.REORDER_INTERVAL - 1) {
+        assertThat(result).isNull();
+      } else {
+        reordered = result;
+      }
+    }
+
+    // then
+    assertThat(reordered).containsExactly(1, 3, 0, 2);
+  }
+
+  /** 측정 기록이 없으면 기준 순서를 그대로 유지해야 한다. */
+  @Test
+  @DisplayName("통계가 없으면 기준 순서를 유지한다")
+  void completeSample_noRecords_keepsCanonicalOrder() {
+    // given
+    RuleExecutionStats stats = new RuleExecutionStats(CANONICAL.length);
+    int[] reordered = null;
+
+    // when
+    for (int sample = 0; sample < RuleExecutionStats.REORDER_INTERVAL; sample++) {
+      reordered = stats.completeSample(CANONICAL);
+    }
+
+    // then
+    assertThat(reordered).containsExactly(0, 1, 2, 3);
+  }
+}
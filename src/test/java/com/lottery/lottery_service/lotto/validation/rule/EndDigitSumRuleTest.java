@@ -57,16 +57,20 @@ class EndDigitSumRuleTest {
   /**
    * 경계값도 정확히 검증한다.
    *
-   * <p>하한 14, 상한 42는 모두 포함 범위이므로 통과해야 한다.
+   * <p>하한 14, 상한 42는 모두 포함 범위이므로 통과해야 한다. LottoSet은 중복 번호를 허용하지 않으므로 서로 다른 번호로 경계 합을 만든다.
    */
   @Test
   @DisplayName("끝자리 합 경계값 14와 42는 모두 통과한다")
   void validate_endDigitSumOnBoundary_returnsTrue() {
-    LottoSet minBoundary = new LottoSet(List.of(1, 1, 2, 3, 3, 4)); // 합 14
-    LottoSet maxBoundary = new LottoSet(List.of(7, 7, 7, 7, 7, 7)); // 합 42
+    LottoSet minBoundary = new LottoSet(List.of(1, 2, 3, 4, 10, 14)); // 합 14
+    LottoSet maxBoundary = new LottoSet(List.of(1, 7, 8, 9, 18, 19)); // 합 42
+    LottoSet belowMin = new LottoSet(List.of(1, 2, 3, 4, 10, 13)); // 합 13
+    LottoSet aboveMax = new LottoSet(List.of(2, 7, 8, 9, 18, 19)); // 합 43
 
     assertThat(rule.validate(minBoundary)).isTrue();
     assertThat(rule.validate(maxBoundary)).isTrue();
+    assertThat(rule.validate(belowMin)).isFalse();
+    assertThat(rule.validate(aboveMax)).isFalse();
   }
 
   /**
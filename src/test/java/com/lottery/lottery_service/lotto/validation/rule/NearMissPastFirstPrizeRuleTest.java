@@ -0,0 +1,71 @@
+package com.lottery.lottery_service.lotto.validation.rule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.lottery.lottery_service.lotto.dto.LottoSet;
+import com.lottery.lottery_service.lotto.validation.cache.LottoWinnerDataCache;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * NearMissPastFirstPrizeRule의 단위 테스트.
+ *
+ * <p>이 테스트 클래스의 역할:
+ *
+ * <ul>
+ *   <li>과거 1등과 k개 이상 겹치면 FAIL, 미만이면 PASS 하는지 검증한다.
+ *   <li>캐시에 나중에 추가된 회차도 바로 반영되는지 검증한다.
+ *   <li>입력 자체가 잘못되었거나 기준이 범위를 벗어나면 예외를 던지는지 검증한다.
+ * </ul>
+ *
+ * <p>캐시는 DB 없이(repository null) 메모리에만 채운 실제 객체를 쓴다.
+ */
+class NearMissPastFirstPrizeRuleTest {
+
+  private final LottoWinnerDataCache cache = new LottoWinnerDataCache(null);
+
+  /** 기본 기준(5개)에서 5개 이상 겹치면 불허, 4개 이하면 허용해야 한다. */
+  @Test
+  @DisplayName("과거 1등과 5개 이상 겹치면 실패하고 4개면 통과한다")
+  void validate_defaultThreshold_rejectsFiveOrMoreShared() {
+    // given
+    cache.add(LottoSet.parse("2 8 19 22 32 42"));
+    NearMissPastFirstPrizeRule rule = new NearMissPastFirstPrizeRule(cache);
+
+    // when & then
+    assertThat(rule.validate(LottoSet.parse("2 8 19 22 32 45"))).isFalse();
+    assertThat(rule.validate(LottoSet.parse("2 8 19 22 32 42"))).isFalse();
+    assertThat(rule.validate(LottoSet.parse("2 8 19 22 33 45"))).isTrue();
+  }
+
+  /** 룰이 만들어진 뒤 캐시에 추가된 회차도 다음 판정부터 반영되어야 한다(색인 증분 갱신). */
+  @Test
+  @DisplayName("캐시에 새 회차가 추가되면 바로 반영된다")
+  void validate_winnerAddedLater_rejectsFromNextCheck() {
+    // given
+    NearMissPastFirstPrizeRule rule = new NearMissPastFirstPrizeRule(cache, 4);
+    LottoSet candidate = LottoSet.parse("1 3 12 25 40 44");
+    assertThat(rule.validate(candidate)).isTrue();
+
+    // when
+    cache.add(LottoSet.parse("1 3 12 25 34 41"));
+
+    // then
+    assertThat(rule.validate(candidate)).isFalse();
+    assertThat(rule.minShared()).isEqualTo(4);
+  }
+
+  /** 6개가 아닌 입력이나 범위를 벗어난 기준은 예외로 거절한다. */
+  @Test
+  @DisplayName("입력 크기나 기준이 잘못되면 예외를 던진다")
+  void validate_invalidInputOrThreshold_throws() {
+    NearMissPastFirstPrizeRule rule = new NearMissPastFirstPrizeRule(cache);
+
+    assertThatThrownBy(() -> rule.validate(new LottoSet(List.of(1, 2, 3, 4, 5))))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new NearMissPastFirstPrizeRule(cache, 3))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
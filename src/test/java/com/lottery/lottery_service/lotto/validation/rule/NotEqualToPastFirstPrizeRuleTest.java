@@ -21,8 +21,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
  * <p>이 테스트 클래스의 역할:
  *
  * <ul>
- *   <li>입력 번호 6개를 정렬 + 공백 조인 포맷으로 정규화하는지 검증한다.
- *   <li>정규화 문자열이 캐시에 존재하면 FAIL(false) 하는지 검증한다.
+ *   <li>입력 순서와 무관하게 같은 조합(비트마스크)으로 캐시를 조회하는지 검증한다.
+ *   <li>조합이 캐시에 존재하면 FAIL(false) 하는지 검증한다.
  *   <li>캐시에 없으면 PASS(true) 하는지 검증한다.
  *   <li>입력 자체가 잘못되었을 때 예외를 던지는지 검증한다.
  * </ul>
@@ -32,7 +32,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
  * <ul>
  *   <li>이 테스트는 실제 DB를 보지 않는다.
  *   <li>이 테스트는 실제 캐시 로딩을 보지 않는다.
- *   <li>캐시의 contains(normalized) 호출 계약만 검증한다.
+ *   <li>캐시의 contains(set) 호출 계약만 검증한다.
  * </ul>
  */
 @ExtendWith(MockitoExtension.class)
@@ -48,8 +48,8 @@ class NotEqualToPastFirstPrizeRuleTest {
    * <p>이 테스트가 보장하는 것:
    *
    * <ul>
-   *   <li>입력 번호가 정렬되어 "1 2 3 4 5 6" 형태로 정규화된다.
-   *   <li>cache.contains(normalized)가 false면 validate(...)는 true를 반환한다.
+   *   <li>입력 순서와 무관하게 {1,2,3,4,5,6} 조합으로 조회된다.
+   *   <li>cache.contains(set)가 false면 validate(...)는 true를 반환한다.
    * </ul>
    */
   @Test
@@ -58,14 +58,14 @@ class NotEqualToPastFirstPrizeRuleTest {
     // given
     LottoSet set = new LottoSet(List.of(6, 1, 3, 2, 5, 4));
 
-    given(cache.contains("1 2 3 4 5 6")).willReturn(false);
+    given(cache.contains(LottoSet.parse("1 2 3 4 5 6"))).willReturn(false);
 
     // when
     boolean result = rule.validate(set);
 
     // then
     assertThat(result).isTrue();
-    verify(cache).contains("1 2 3 4 5 6");
+    verify(cache).contains(LottoSet.parse("1 2 3 4 5 6"));
   }
 
   /**
@@ -74,8 +74,8 @@ class NotEqualToPastFirstPrizeRuleTest {
    * <p>이 테스트가 보장하는 것:
    *
    * <ul>
-   *   <li>입력 순서가 달라도 내부에서 정렬 후 비교한다.
-   *   <li>cache.contains(normalized)가 true면 validate(...)는 false를 반환한다.
+   *   <li>입력 순서가 달라도 같은 조합으로 비교한다.
+   *   <li>cache.contains(set)가 true면 validate(...)는 false를 반환한다.
    * </ul>
    */
   @Test
@@ -84,14 +84,14 @@ class NotEqualToPastFirstPrizeRuleTest {
     // given
     LottoSet set = new LottoSet(List.of(41, 12, 25, 3, 34, 1));
 
-    given(cache.contains("1 3 12 25 34 41")).willReturn(true);
+    given(cache.contains(LottoSet.parse("1 3 12 25 34 41"))).willReturn(true);
 
     // when
     boolean result = rule.validate(set);
 
     // then
     assertThat(result).isFalse();
-    verify(cache).contains("1 3 12 25 34 41");
+    verify(cache).contains(LottoSet.parse("1 3 12 25 34 41"));
   }
 
   /**
@@ -117,20 +117,20 @@ class NotEqualToPastFirstPrizeRuleTest {
   }
 
   /**
-   * numbers 자체가 null이면 예외를 던져야 한다.
+   * 빈 조합이면 예외를 던져야 한다.
    *
    * <p>이 테스트가 보장하는 것:
    *
    * <ul>
-   *   <li>null 입력도 방어적으로 차단한다.
+   *   <li>null 목록은 LottoSet 생성 단계에서 이미 차단되므로, 룰이 받을 수 있는 최소 입력(빈 조합)을 방어한다.
    *   <li>캐시 조회 전에 예외가 발생한다.
    * </ul>
    */
   @Test
-  @DisplayName("숫자 목록이 null이면 예외를 던진다")
-  void validate_numbersIsNull_throwsException() {
+  @DisplayName("빈 조합이면 예외를 던진다")
+  void validate_emptySet_throwsException() {
     // given
-    LottoSet set = new LottoSet(null);
+    LottoSet set = LottoSet.ofMask(0L);
 
     // when & then
     assertThatThrownBy(() -> rule.validate(set))
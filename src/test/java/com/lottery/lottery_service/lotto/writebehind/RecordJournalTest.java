@@ -0,0 +1,224 @@
+package com.lottery.lottery_service.lotto.writebehind;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.lottery.lottery_service.lotto.dto.LottoSet;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * RecordJournal(추천 기록 로컬 저널)의 단위 테스트.
+ *
+ * <p>이 테스트 클래스의 역할:
+ *
+ * <ul>
+ *   <li>추가한 레코드가 다시 열었을 때 그대로(비회원 null, 나노초 포함) 되살아나는지 확인한다.
+ *   <li>DB 반영 표시 이후의 레코드만 되살리고, 반영된 공간은 대기 레코드가 남아 있어도 다시 쓰는지 검증한다(링 버퍼).
+ *   <li>쓰다 만 레코드와 이전 바퀴의 남은 바이트는 무시하는지, 공간이 없으면 추가를 거부하는지 고정한다.
+ * </ul>
+ *
+ * <p>실제 파일을 임시 디렉터리에 만들어 닫고 다시 여는 방식으로 재시작을 흉내 낸다.
+ */
+class RecordJournalTest {
+
+  private static final int CAPACITY = 64 * 1024;
+
+  @TempDir Path dir;
+
+  @Test
+  @DisplayName("닫았다 다시 열면 반영되지 않은 레코드가 추가 순서대로 되살아난다")
+  void open_afterAppend_recoversPendingEntries() throws Exception {
+    // given
+    Path file = dir.resolve("journal");
+    RecordJournal.Entry guest = entry(null, "BASIC", LocalDateTime.of(2026, 10, 17, 20, 0, 1, 123));
+    RecordJournal.Entry member = entry(7L, "광고", LocalDateTime.of(2026, 10, 17, 20, 0, 2));
+    try (RecordJournal journal = RecordJournal.open(file, CAPACITY)) {
+      assertThat(journal.append(guest)).isEqualTo(1);
+      assertThat(journal.append(member)).isEqualTo(2);
+    }
+
+    // when
+    try (RecordJournal reopened = RecordJournal.open(file, CAPACITY)) {
+      // then
+      assertThat(reopened.pendingCount()).isEqualTo(2);
+      assertThat(reopened.peek(10))
+          .extracting(RecordJournal.Pending::entry)
+          .containsExactly(guest, member);
+    }
+  }
+
+  @Test
+  @DisplayName("일부만 반영하면 나머지만 되살리고, 모두 반영한 뒤 추가한 것만 되살린다")
+  void complete_marksFlushedPositionAndSequence() throws Exception {
+    // given
+    Path file = dir.resolve("journal");
+    RecordJournal.Entry first = entry(1L, "BASIC", LocalDateTime.of(2026, 10, 17, 20, 0));
+    RecordJournal.Entry second = entry(2L, "BASIC", LocalDateTime.of(2026, 10, 17, 20, 1));
+    RecordJournal.Entry third = entry(3L, "AD", LocalDateTime.of(2026, 10, 17, 20, 2));
+    try (RecordJournal journal = RecordJournal.open(file, CAPACITY)) {
+      journal.append(first);
+      journal.append(second);
+      journal.complete(1);
+    }
+
+    try (RecordJournal journal = RecordJournal.open(file, CAPACITY)) {
+      assertThat(journal.peek(10)).extracting(RecordJournal.Pending::entry).containsExactly(second);
+
+      // when: 남은 것까지 반영한 뒤 하나 더 추가
+      journal.complete(1);
+      assertThat(journal.usedBytes()).isZero();
+      assertThat(journal.append(third)).isEqualTo(3);
+    }
+
+    // then: 이미 반영된 first/second는 다시 읽히지 않는다
+    try (RecordJournal journal = RecordJournal.open(file, CAPACITY)) {
+      assertThat(journal.peek(10)).extracting(RecordJournal.Pending::entry).containsExactly(third);
+    }
+  }
+
+  /**
+   * 대기 레코드가 한 번도 비지 않는 상태로 파일 크기의 몇 배를 쓰고 반영해도 저널이 차지 않아야 한다.
+   *
+   * <p>이 테스트가 보장하는 것:
+   *
+   * <ul>
+   *   <li>반영된 앞쪽 공간을 다시 쓰므로, 밀린 양이 파일 크기보다 작으면 추가가 거부되지 않는다.
+   *   <li>여러 바퀴를 돈 뒤 다시 열어도 아직 반영되지 않은 레코드만 순서대로 되살아난다(이전 바퀴 바이트 무시).
+   * </ul>
+   */
+  @Test
+  @DisplayName("대기 레코드가 계속 남아 있어도 반영된 공간을 다시 써서 저널이 차지 않는다")
+  void append_continuousLoadWhileFlushing_neverFills() throws Exception {
+    // given: 레코드 약 40개가 들어가는 파일
+    Path file = dir.resolve("journal");
+    int recordSize = 8 + 8 + RecordJournal.encode(entry(0L, "BASIC", at(0))).length;
+    int capacity = RecordJournal.HEADER_SIZE + recordSize * 40 + recordSize / 2;
+    int appended = 0;
+
+    try (RecordJournal journal = RecordJournal.open(file, capacity)) {
+      // when: 10개씩 추가하고 7개씩 반영 → 대기열이 비지 않은 채 늘다가, 25개 근처에서 추가/반영 속도를 맞춘다
+      for (int round = 0; round < 200; round++) {
+        int batch = journal.pendingCount() < 25 ? 10 : 7;
+        for (int i = 0; i < batch; i++) {
+          assertThat(journal.append(entry((long) appended, "BASIC", at(appended))))
+              .as("append #%d", appended)
+              .isPositive();
+          appended++;
+        }
+        journal.complete(7);
+        assertThat(journal.pendingCount()).isPositive();
+      }
+      journal.force();
+
+      // then
+      assertThat(appended).isGreaterThan(40 * 10);
+      assertThat(journal.usedBytes()).isLessThanOrEqualTo(capacity - RecordJournal.HEADER_SIZE);
+    }
+
+    int expectedPending = appended - 200 * 7;
+    try (RecordJournal reopened = RecordJournal.open(file, capacity)) {
+      List<RecordJournal.Pending> pending = reopened.peek(Integer.MAX_VALUE);
+      assertThat(pending).hasSize(expectedPending);
+      assertThat(pending.get(0).entry().memberId()).isEqualTo((long) (appended - expectedPending));
+      assertThat(pending.get(expectedPending - 1).entry().memberId())
+          .isEqualTo((long) (appended - 1));
+    }
+  }
+
+  @Test
+  @DisplayName("CRC가 맞지 않는 레코드부터는 되살리지 않는다")
+  void open_tornRecord_stopsBeforeIt() throws Exception {
+    // given
+    Path file = dir.resolve("journal");
+    RecordJournal.Entry first = entry(1L, "BASIC", LocalDateTime.of(2026, 10, 17, 20, 0));
+    int secondStart;
+    try (RecordJournal journal = RecordJournal.open(file, CAPACITY)) {
+      journal.append(first);
+      secondStart = RecordJournal.HEADER_SIZE + journal.usedBytes();
+      journal.append(entry(2L, "BASIC", LocalDateTime.of(2026, 10, 17, 20, 1)));
+    }
+    try (RandomAccessFile raw = new RandomAccessFile(file.toFile(), "rw")) {
+      long offset = secondStart + 20; // 본문 한가운데
+      raw.seek(offset);
+      int original = raw.read();
+      raw.seek(offset);
+      raw.write(original ^ 0xFF);
+    }
+
+    // when
+    try (RecordJournal journal = RecordJournal.open(file, CAPACITY)) {
+      // then: 첫 레코드만 남고, 그 뒤부터 다시 쓴다
+      assertThat(journal.peek(10)).extracting(RecordJournal.Pending::entry).containsExactly(first);
+      assertThat(RecordJournal.HEADER_SIZE + journal.usedBytes()).isEqualTo(secondStart);
+    }
+  }
+
+  @Test
+  @DisplayName("공간이 없거나 봉인된 저널은 추가를 거부한다")
+  void append_fullOrSealed_returnsMinusOne() throws Exception {
+    // given: 레코드 하나가 겨우 들어가는 크기
+    RecordJournal.Entry entry = entry(1L, "BASIC", LocalDateTime.of(2026, 10, 17, 20, 0));
+    int oneRecord = RecordJournal.HEADER_SIZE + 8 + 8 + RecordJournal.encode(entry).length;
+
+    try (RecordJournal journal = RecordJournal.open(dir.resolve("small"), oneRecord)) {
+      // when & then
+      assertThat(journal.append(entry)).isEqualTo(1);
+      assertThat(journal.append(entry)).isEqualTo(-1);
+    }
+    try (RecordJournal journal = RecordJournal.open(dir.resolve("sealed"), CAPACITY)) {
+      journal.seal();
+      assertThat(journal.append(entry)).isEqualTo(-1);
+    }
+  }
+
+  @Test
+  @DisplayName("저널이 아닌 내용이 든 파일은 덮어쓰지 않고 열기를 거부한다")
+  void open_foreignFile_throws() throws Exception {
+    // given
+    Path file = dir.resolve("foreign");
+    Files.write(file, new byte[RecordJournal.HEADER_SIZE * 2]);
+    try (RandomAccessFile raw = new RandomAccessFile(file.toFile(), "rw")) {
+      raw.writeInt(0x12345678);
+    }
+
+    // when & then
+    assertThatThrownBy(() -> RecordJournal.open(file, CAPACITY)).isInstanceOf(IOException.class);
+    assertThat(Files.size(file)).isEqualTo(RecordJournal.HEADER_SIZE * 2);
+  }
+
+  @Test
+  @DisplayName("force 전에는 대기가 시간 초과로 끝나고, force 뒤에는 바로 끝난다")
+  void awaitForced_waitsForGroupForce() throws Exception {
+    try (RecordJournal journal = RecordJournal.open(dir.resolve("journal"), CAPACITY)) {
+      // given
+      long seq = journal.append(entry(1L, "BASIC", LocalDateTime.of(2026, 10, 17, 20, 0)));
+
+      // when & then
+      assertThat(journal.awaitForced(seq, TimeUnit.MILLISECONDS.toNanos(10))).isFalse();
+      journal.force();
+      assertThat(journal.awaitForced(seq, 0)).isTrue();
+    }
+  }
+
+  private static LocalDateTime at(int minutes) {
+    return LocalDateTime.of(2026, 10, 17, 20, 0).plusMinutes(minutes);
+  }
+
+  private static RecordJournal.Entry entry(Long memberId, String source, LocalDateTime at) {
+    return new RecordJournal.Entry(
+        memberId,
+        1112,
+        source,
+        at,
+        List.of(LottoSet.of(1, 2, 3, 4, 5, 6), LottoSet.of(40, 41, 42, 43, 44, 45)));
+  }
+}
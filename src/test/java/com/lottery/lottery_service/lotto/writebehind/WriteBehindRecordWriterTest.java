@@ -0,0 +1,307 @@
+package com.lottery.lottery_service.lotto.writebehind;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.lottery.lottery_service.lotto.dto.LottoSet;
+import com.lottery.lottery_service.lotto.repository.LottoRecordJdbcWriter;
+import com.lottery.lottery_service.lotto.repository.LottoRecordJdbcWriter.RecommendationRow;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * WriteBehindRecordWriter(추천 기록 저장 경로)의 단위 테스트.
+ *
+ * <p>이 테스트 클래스의 역할:
+ *
+ * <ul>
+ *   <li>기본(꺼짐) 모드에서는 요청 스레드에서 바로 DB에 넣는지 확인한다.
+ *   <li>켜진 모드에서는 저장 시 DB를 건드리지 않고, 반영 시 여러 추천을 행 단위로 한 번에 넣는지 검증한다.
+ *   <li>트랜잭션 안의 저장은 커밋 뒤에만 저널에 들어가는지 검증한다.
+ *   <li>종료 때 DB가 안 되면 레코드가 저널에 남고, 다음 시작 때 다시 들어가는지 고정한다.
+ *   <li>반영 스레드가 배치를 넣는 동안의 다른 반영은 기다렸다가 이어서 하므로 같은 배치가 두 번 들어가지 않는지 확인한다.
+ *   <li>반영 스레드가 도는 동안 저널 크기의 몇 배를 계속 저장해도 동기 저장으로 밀려나지 않는지 확인한다.
+ * </ul>
+ *
+ * <p>반영 주기는 길게 두고 {@code flush()}로 직접 반영한다. 디스크 반영(force) 스레드만 실제로 돈다(연속 저장 테스트는 반영 스레드도 돈다).
+ */
+class WriteBehindRecordWriterTest {
+
+  private static final LocalDateTime AT = LocalDateTime.of(2026, 10, 17, 20, 0);
+
+  @TempDir Path dir;
+
+  @Test
+  @DisplayName("write-behind가 꺼져 있으면 바로 DB에 저장한다")
+  void save_disabled_insertsSynchronously() {
+    // given
+    LottoRecordJdbcWriter jdbcWriter = mock(LottoRecordJdbcWriter.class);
+    WriteBehindRecordWriter writer = writer(jdbcWriter, false);
+    writer.start();
+
+    // when
+    writer.save(1L, 1112, "BASIC", sets(), AT);
+
+    // then
+    verify(jdbcWriter).insertRecommendations(1L, 1112, "BASIC", sets(), AT);
+    assertThat(writer.journaledCount()).isZero();
+    writer.shutdown();
+  }
+
+  /**
+   * 켜진 모드의 저장은 저널까지만 쓰고, 반영은 여러 추천을 풀어 행 목록 하나로 넣어야 한다.
+   *
+   * <p>이 테스트가 보장하는 것:
+   *
+   * <ul>
+   *   <li>save 시점에는 JDBC Writer를 호출하지 않는다(DB 커넥션 없음).
+   *   <li>반영 시 회원/비회원 추천 2건(세트 4개)이 {@code insertRows} 한 번으로 들어간다.
+   *   <li>반영 뒤 대기 레코드가 0이 된다.
+   * </ul>
+   */
+  @Test
+  @DisplayName("write-behind 모드는 저널에 쓰고 나중에 모아서 DB에 넣는다")
+  @SuppressWarnings("unchecked")
+  void save_enabled_journalsThenFlushesRows() {
+    // given
+    LottoRecordJdbcWriter jdbcWriter = mock(LottoRecordJdbcWriter.class);
+    WriteBehindRecordWriter writer = writer(jdbcWriter, true);
+    writer.start();
+
+    // when
+    writer.save(1L, 1112, "BASIC", sets(), AT);
+    writer.save(null, 1112, "AD", sets(), AT);
+
+    // then
+    verifyNoInteractions(jdbcWriter);
+    assertThat(writer.pendingCount()).isEqualTo(2);
+
+    writer.flush();
+
+    ArgumentCaptor<List<RecommendationRow>> captor = ArgumentCaptor.forClass(List.class);
+    verify(jdbcWriter).insertRows(captor.capture());
+    assertThat(captor.getValue())
+        .extracting(RecommendationRow::memberId, RecommendationRow::source)
+        .containsExactly(
+            tuple(1L, "BASIC"), tuple(1L, "BASIC"), tuple(null, "AD"), tuple(null, "AD"));
+    assertThat(writer.pendingCount()).isZero();
+    assertThat(writer.flushedRowCount()).isEqualTo(4);
+    writer.shutdown();
+  }
+
+  /**
+   * 트랜잭션 안의 저장은 커밋 뒤에만 저널에 들어가야 한다(한도 차감과 같은 트랜잭션이 롤백되면 기록도 남지 않음).
+   *
+   * <p>트랜잭션 매니저 없이 동기화만 직접 열고, 커밋/롤백은 등록된 콜백을 불러 흉내 낸다.
+   */
+  @Test
+  @DisplayName("트랜잭션 안의 저장은 커밋 뒤에만 저널에 들어가고 롤백되면 남지 않는다")
+  void save_insideTransaction_journalsOnlyAfterCommit() {
+    // given
+    LottoRecordJdbcWriter jdbcWriter = mock(LottoRecordJdbcWriter.class);
+    WriteBehindRecordWriter writer = writer(jdbcWriter, true);
+    writer.start();
+
+    try {
+      // when: 롤백
+      TransactionSynchronizationManager.initSynchronization();
+      TransactionSynchronizationManager.setActualTransactionActive(true);
+      writer.save(1L, 1112, "BASIC", sets(), AT);
+      TransactionSynchronizationUtils.invokeAfterCompletion(
+          TransactionSynchronizationManager.getSynchronizations(),
+          TransactionSynchronization.STATUS_ROLLED_BACK);
+      endTransaction();
+
+      // then
+      assertThat(writer.pendingCount()).isZero();
+
+      // when: 커밋
+      TransactionSynchronizationManager.initSynchronization();
+      TransactionSynchronizationManager.setActualTransactionActive(true);
+      writer.save(2L, 1112, "BASIC", sets(), AT);
+      assertThat(writer.pendingCount()).isZero();
+      TransactionSynchronizationUtils.invokeAfterCommit(
+          TransactionSynchronizationManager.getSynchronizations());
+      endTransaction();
+
+      // then
+      assertThat(writer.pendingCount()).isEqualTo(1);
+      assertThat(writer.journaledCount()).isEqualTo(1);
+      verifyNoInteractions(jdbcWriter);
+    } finally {
+      if (TransactionSynchronizationManager.isSynchronizationActive()) {
+        endTransaction();
+      }
+      writer.shutdown();
+    }
+  }
+
+  @Test
+  @DisplayName("종료 때 DB에 넣지 못한 레코드는 다음 시작 때 다시 넣는다")
+  void shutdown_databaseDown_replaysOnNextStart() {
+    // given: 첫 인스턴스는 DB 반영이 계속 실패한다
+    LottoRecordJdbcWriter downWriter = mock(LottoRecordJdbcWriter.class);
+    given(downWriter.insertRows(anyList()))
+        .willThrow(new DataAccessResourceFailureException("db down"));
+    WriteBehindRecordWriter first = writer(downWriter, true);
+    first.start();
+    first.save(1L, 1112, "BASIC", sets(), AT);
+    first.shutdown();
+
+    // when
+    LottoRecordJdbcWriter upWriter = mock(LottoRecordJdbcWriter.class);
+    WriteBehindRecordWriter second = writer(upWriter, true);
+    second.start();
+
+    // then
+    verify(upWriter).insertRows(anyList());
+    assertThat(second.pendingCount()).isZero();
+    second.shutdown();
+  }
+
+  /**
+   * 저장이 쉬지 않아 대기 레코드가 비는 순간이 거의 없어도, 반영된 공간을 다시 쓰므로 1MB 저널이 차지 않아야 한다.
+   *
+   * <p>8개 스레드가 저널 크기의 1.5배 남짓을 저장하는 동안 반영 스레드가 1ms마다 돈다.
+   */
+  @Test
+  @DisplayName("반영하는 동안 저널 크기보다 많이 저장해도 저널이 차지 않는다")
+  void save_continuousLoadWhileFlushing_neverFallsBack() throws Exception {
+    // given
+    LottoRecordJdbcWriter jdbcWriter = mock(LottoRecordJdbcWriter.class);
+    WriteBehindRecordWriter writer = writer(jdbcWriter, true, 1);
+    writer.start();
+    int threads = 8;
+    int savesPerThread = 3_000; // 레코드 65바이트 × 24,000 ≈ 1.5MB
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+    // when
+    List<Future<?>> futures = new ArrayList<>();
+    for (int t = 0; t < threads; t++) {
+      long memberId = t;
+      futures.add(
+          executor.submit(
+              () -> {
+                for (int i = 0; i < savesPerThread; i++) {
+                  writer.save(memberId, 1112, "BASIC", sets(), AT);
+                }
+              }));
+    }
+    for (Future<?> future : futures) {
+      future.get(60, TimeUnit.SECONDS);
+    }
+    executor.shutdown();
+    writer.flush();
+
+    // then
+    assertThat(writer.fallbackCount()).isZero();
+    assertThat(writer.journaledCount()).isEqualTo((long) threads * savesPerThread);
+    assertThat(writer.pendingCount()).isZero();
+    assertThat(writer.flushedRowCount()).isEqualTo((long) threads * savesPerThread * 2);
+    verify(jdbcWriter, never()).insertRecommendations(any(), anyInt(), any(), anyList(), any());
+    writer.shutdown();
+  }
+
+  /**
+   * 반영 스레드가 배치를 넣는 도중에 다른 반영(직접 반영/종료 반영)이 오면, 같은 배치를 다시 넣지 않고 끝나기를 기다려야 한다.
+   *
+   * <p>이 테스트가 보장하는 것:
+   *
+   * <ul>
+   *   <li>반영 스레드의 insert가 끝나지 않는 동안 직접 반영은 락에서 기다린다.
+   *   <li>풀려난 뒤에도 레코드 1건은 DB에 한 번만 들어가고 대기 레코드는 0이다.
+   * </ul>
+   */
+  @Test
+  @DisplayName("반영 중에 온 다른 반영은 기다리며 같은 배치를 두 번 넣지 않는다")
+  void flush_whileBackgroundFlushRuns_waitsAndInsertsOnce() throws Exception {
+    // given: 반영 스레드의 첫 insert를 붙잡아 둔다
+    LottoRecordJdbcWriter jdbcWriter = mock(LottoRecordJdbcWriter.class);
+    CountDownLatch entered = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    given(jdbcWriter.insertRows(anyList()))
+        .willAnswer(
+            invocation -> {
+              entered.countDown();
+              release.await(10, TimeUnit.SECONDS);
+              return 2;
+            });
+    WriteBehindRecordWriter writer = writer(jdbcWriter, true, 1);
+    writer.start();
+    writer.save(1L, 1112, "BASIC", sets(), AT);
+    assertThat(entered.await(10, TimeUnit.SECONDS)).isTrue();
+
+    // when
+    Thread manual = new Thread(writer::flush);
+    manual.start();
+    awaitState(manual, Thread.State.BLOCKED);
+    release.countDown();
+    manual.join(10_000);
+
+    // then
+    verify(jdbcWriter, times(1)).insertRows(anyList());
+    assertThat(writer.pendingCount()).isZero();
+    writer.shutdown();
+  }
+
+  private static void awaitState(Thread thread, Thread.State state) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (thread.getState() != state && System.nanoTime() < deadline) {
+      Thread.sleep(1);
+    }
+    assertThat(thread.getState()).isEqualTo(state);
+  }
+
+  private static void endTransaction() {
+    TransactionSynchronizationManager.clearSynchronization();
+    TransactionSynchronizationManager.setActualTransactionActive(false);
+  }
+
+  private WriteBehindRecordWriter writer(LottoRecordJdbcWriter jdbcWriter, boolean enabled) {
+    return writer(jdbcWriter, enabled, 60_000);
+  }
+
+  private WriteBehindRecordWriter writer(
+      LottoRecordJdbcWriter jdbcWriter, boolean enabled, long flushIntervalMillis) {
+    return new WriteBehindRecordWriter(
+        jdbcWriter,
+        new TransactionTemplate(mock(PlatformTransactionManager.class)),
+        enabled,
+        dir.resolve("lotto-record.journal").toString(),
+        1,
+        1,
+        flushIntervalMillis,
+        500,
+        1_000);
+  }
+
+  private static List<LottoSet> sets() {
+    return List.of(LottoSet.of(1, 2, 3, 4, 5, 6), LottoSet.of(7, 8, 9, 10, 11, 12));
+  }
+}